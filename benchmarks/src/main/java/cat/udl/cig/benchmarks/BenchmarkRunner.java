@@ -0,0 +1,32 @@
+package cat.udl.cig.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the <i>GC profiler</i>, so every result also
+ * reports the allocation rate, {@code gc.alloc.rate.norm}, in bytes per
+ * operation. It accepts the usual JMH options:
+ * <pre>
+ * mvn install -DskipTests
+ * cd benchmarks
+ * mvn package
+ * java -jar target/benchmarks.jar PrimeFieldBenchmark -p bits=256
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
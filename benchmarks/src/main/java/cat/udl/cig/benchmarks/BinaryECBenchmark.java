@@ -0,0 +1,59 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.structures.ecc.BinaryECPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmetic of the <i>BinaryECPoints</i> of the NIST binary curve
+ * <i>B-163</i>.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryECBenchmark {
+
+    private BinaryECPoint p;
+
+    private BinaryECPoint q;
+
+    private BigInteger scalar;
+
+    @Setup
+    public void setUp() {
+        BinaryECPoint generator = Fixtures.b163Generator();
+        BigInteger order = Fixtures.B163_ORDER;
+        p = generator.pow(new BigInteger(order.bitLength(), Fixtures.random(1)).mod(order));
+        q = generator.pow(new BigInteger(order.bitLength(), Fixtures.random(2)).mod(order));
+        scalar = new BigInteger(order.bitLength(), Fixtures.random(3)).mod(order);
+    }
+
+    @Benchmark
+    public BinaryECPoint multiply() {
+        return p.multiply(q);
+    }
+
+    @Benchmark
+    public BinaryECPoint square() {
+        return p.square();
+    }
+
+    @Benchmark
+    public BinaryECPoint pow() {
+        return p.pow(scalar);
+    }
+}
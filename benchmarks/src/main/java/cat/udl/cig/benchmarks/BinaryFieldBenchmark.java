@@ -0,0 +1,68 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.structures.BinaryField;
+import cat.udl.cig.structures.BinaryFieldElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmetic of the <i>BinaryFieldElements</i> of the fields of the NIST
+ * binary curves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryFieldBenchmark {
+
+    @Param({"163", "233", "571"})
+    public int degree;
+
+    private BinaryFieldElement x;
+
+    private BinaryFieldElement y;
+
+    private BigInteger exponent;
+
+    @Setup
+    public void setUp() {
+        BinaryField field = Fixtures.nistBinaryField(degree);
+        x = field.getRandomElement();
+        y = field.getRandomElement();
+        exponent = new BigInteger(degree, Fixtures.random(3));
+    }
+
+    @Benchmark
+    public BinaryFieldElement multiply() {
+        return x.multiply(y);
+    }
+
+    @Benchmark
+    public BinaryFieldElement square() {
+        return x.square();
+    }
+
+    @Benchmark
+    public BinaryFieldElement inverse() {
+        return x.inverse();
+    }
+
+    @Benchmark
+    public BinaryFieldElement pow() {
+        return x.pow(exponent);
+    }
+}
@@ -0,0 +1,61 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.cryptography.signers.ECDSA;
+import cat.udl.cig.cryptography.signers.Signature;
+import cat.udl.cig.cryptography.signers.SignerVerifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signature and verification of <i>ECDSA</i> over the NIST prime curves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ECDSABenchmark {
+
+    private static final String MESSAGE = "The quick brown fox jumps over the lazy dog";
+
+    @Param({"P-192", "P-256", "P-521"})
+    public String curve;
+
+    private ECDSA signer;
+
+    private SignerVerifier verifier;
+
+    private Signature signature;
+
+    @Setup
+    public void setUp() {
+        signer = new ECDSA(Fixtures.nistPrimeCurve(curve));
+        verifier = signer.getVerifier();
+        signature = signer.sign(MESSAGE);
+        if (!verifier.verifySignature(MESSAGE, signature)) {
+            throw new IllegalStateException("The signature is not valid");
+        }
+    }
+
+    @Benchmark
+    public Signature sign() {
+        return signer.sign(MESSAGE);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return verifier.verifySignature(MESSAGE, signature);
+    }
+}
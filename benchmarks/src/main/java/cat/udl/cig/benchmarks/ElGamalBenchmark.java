@@ -0,0 +1,59 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.cryptography.cryptosystems.ElGamalCypher;
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.ElGamalCiphertext;
+import cat.udl.cig.structures.IntegerPrimeOrderSubgroup;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encryption of the <i>ElGamalCypher</i> in a subgroup of
+ * \(\mathbb{F}_{p}^{*}\) of 256-bit prime order, with and without the
+ * <i>FixedBaseTables</i> of {@link ElGamalCypher#precompute()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ElGamalBenchmark {
+
+    @Param({"1024", "2048"})
+    public int bits;
+
+    @Param({"false", "true"})
+    public boolean precomputed;
+
+    private ElGamalCypher cypher;
+
+    private PrimeFieldElement message;
+
+    @Setup
+    public void setUp() {
+        IntegerPrimeOrderSubgroup subgroup = Fixtures.subgroup(256, bits);
+        PrimeFieldElement generator = subgroup.getGenerator();
+        cypher = new ElGamalCypher(subgroup, generator, subgroup.powGenerator(subgroup.getRandomExponent()));
+        if (precomputed) {
+            cypher.precompute();
+        }
+        message = subgroup.getRandomElement();
+    }
+
+    @Benchmark
+    public ElGamalCiphertext encrypt() {
+        return cypher.encrypt(message);
+    }
+}
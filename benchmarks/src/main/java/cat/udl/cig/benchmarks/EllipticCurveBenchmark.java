@@ -0,0 +1,63 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.structures.ecc.ECPrimeOrderSubgroup;
+import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmetic of the <i>EllipticCurvePoints</i> of the NIST prime curves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EllipticCurveBenchmark {
+
+    @Param({"P-192", "P-256", "P-521"})
+    public String curve;
+
+    private EllipticCurvePoint p;
+
+    private EllipticCurvePoint q;
+
+    private BigInteger scalar;
+
+    @Setup
+    public void setUp() {
+        ECPrimeOrderSubgroup subgroup = Fixtures.nistPrimeCurve(curve);
+        BigInteger order = subgroup.getSize();
+        p = subgroup.getGenerator().pow(new BigInteger(order.bitLength(), Fixtures.random(1)).mod(order));
+        q = subgroup.getGenerator().pow(new BigInteger(order.bitLength(), Fixtures.random(2)).mod(order));
+        scalar = new BigInteger(order.bitLength(), Fixtures.random(3)).mod(order);
+    }
+
+    @Benchmark
+    public EllipticCurvePoint multiply() {
+        return p.multiply(q);
+    }
+
+    @Benchmark
+    public EllipticCurvePoint square() {
+        return p.square();
+    }
+
+    @Benchmark
+    public EllipticCurvePoint pow() {
+        return p.pow(scalar);
+    }
+}
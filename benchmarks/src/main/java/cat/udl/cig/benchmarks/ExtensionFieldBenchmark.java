@@ -0,0 +1,62 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.structures.ExtensionField;
+import cat.udl.cig.structures.ExtensionFieldElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmetic of the <i>ExtensionFieldElements</i> of \(\mathbb{F}_{p^2}\).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtensionFieldBenchmark {
+
+    @Param({"64", "256"})
+    public int bits;
+
+    private ExtensionFieldElement x;
+
+    private ExtensionFieldElement y;
+
+    private BigInteger exponent;
+
+    @Setup
+    public void setUp() {
+        ExtensionField field = ExtensionField.ExtensionFieldP2(Fixtures.prime(bits));
+        x = field.getRandomElement();
+        y = field.getRandomElement();
+        exponent = new BigInteger(2 * bits, Fixtures.random(3));
+    }
+
+    @Benchmark
+    public ExtensionFieldElement multiply() {
+        return x.multiply(y);
+    }
+
+    @Benchmark
+    public ExtensionFieldElement inverse() {
+        return x.inverse();
+    }
+
+    @Benchmark
+    public ExtensionFieldElement pow() {
+        return x.pow(exponent);
+    }
+}
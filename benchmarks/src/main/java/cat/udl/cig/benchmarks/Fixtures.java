@@ -0,0 +1,162 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.operations.wrapper.data.Pair;
+import cat.udl.cig.structures.BinaryField;
+import cat.udl.cig.structures.BinaryFieldElement;
+import cat.udl.cig.structures.IntegerPrimeOrderSubgroup;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.ecc.BinaryEC;
+import cat.udl.cig.structures.ecc.BinaryECPoint;
+import cat.udl.cig.structures.ecc.ECPrimeOrderSubgroup;
+import cat.udl.cig.structures.ecc.EllipticCurve;
+import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * The groups used by the benchmarks. The random ones are built from a fixed
+ * seed, so every run measures the same parameters.
+ */
+final class Fixtures {
+
+    private static final long SEED = 0x636967L;
+
+    /**
+     * The order of the base point of <i>B-163</i>.
+     */
+    static final BigInteger B163_ORDER = new BigInteger("040000000000000000000292fe77e70c12a4234c33", 16);
+
+    private Fixtures() {
+    }
+
+    /**
+     * Returns a <i>Random</i> seeded with the fixed seed and {@code salt}.
+     */
+    static Random random(final long salt) {
+        return new Random(SEED + salt);
+    }
+
+    /**
+     * Returns a prime of {@code bits} bits.
+     */
+    static BigInteger prime(final int bits) {
+        return BigInteger.probablePrime(bits, random(bits));
+    }
+
+    /**
+     * Returns the subgroup of prime order \(q\), of {@code orderBits} bits, of
+     * \(\mathbb{F}_{p}^{*}\), where \(p = kq + 1\) has {@code primeBits}
+     * bits.
+     */
+    static IntegerPrimeOrderSubgroup subgroup(final int orderBits, final int primeBits) {
+        Random random = random(((long) orderBits << 16) + primeBits);
+        BigInteger q = BigInteger.probablePrime(orderBits, random);
+        BigInteger p;
+        do {
+            BigInteger k = new BigInteger(primeBits - orderBits, random).setBit(primeBits - orderBits - 1)
+                    .clearBit(0);
+            p = k.multiply(q).add(BigInteger.ONE);
+        } while (p.bitLength() != primeBits || !p.isProbablePrime(40));
+        BigInteger cofactor = p.subtract(BigInteger.ONE).divide(q);
+        BigInteger g = BigInteger.ONE;
+        for (BigInteger h = BigInteger.TWO; g.equals(BigInteger.ONE); h = h.add(BigInteger.ONE)) {
+            g = h.modPow(cofactor, p);
+        }
+        return new IntegerPrimeOrderSubgroup(p, q, g);
+    }
+
+    /**
+     * Returns the subgroup generated by the base point of the NIST prime
+     * curve {@code name}: <i>P-192</i>, <i>P-256</i> or <i>P-521</i>.
+     */
+    static ECPrimeOrderSubgroup nistPrimeCurve(final String name) {
+        BigInteger p, b, order, gx, gy;
+        switch (name) {
+            case "P-192":
+                p = new BigInteger("fffffffffffffffffffffffffffffffeffffffffffffffff", 16);
+                b = new BigInteger("64210519e59c80e70fa7e9ab72243049feb8deecc146b9b1", 16);
+                order = new BigInteger("ffffffffffffffffffffffff99def836146bc9b1b4d22831", 16);
+                gx = new BigInteger("188da80eb03090f67cbf20eb43a18800f4ff0afd82ff1012", 16);
+                gy = new BigInteger("07192b95ffc8da78631011ed6b24cdd573f977a11e794811", 16);
+                break;
+            case "P-256":
+                p = new BigInteger("ffffffff00000001000000000000000000000000ffffffffffffffffffffffff", 16);
+                b = new BigInteger("5ac635d8aa3a93e7b3ebbd55769886bc651d06b0cc53b0f63bce3c3e27d2604b", 16);
+                order = new BigInteger("ffffffff00000000ffffffffffffffffbce6faada7179e84f3b9cac2fc632551", 16);
+                gx = new BigInteger("6b17d1f2e12c4247f8bce6e563a440f277037d812deb33a0f4a13945d898c296", 16);
+                gy = new BigInteger("4fe342e2fe1a7f9b8ee7eb4a7c0f9e162bce33576b315ececbb6406837bf51f5", 16);
+                break;
+            case "P-521":
+                p = BigInteger.ONE.shiftLeft(521).subtract(BigInteger.ONE);
+                b = new BigInteger("0051953eb9618e1c9a1f929a21a0b68540eea2da725b99b315f3b8b489918ef109e156193951ec7e937b1652c0bd3bb1bf073573df883d2c34f1ef451fd46b503f00", 16);
+                order = new BigInteger("01fffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffa51868783bf2f966b7fcc0148f709a5d03bb5c9b8899c47aebb6fb71e91386409", 16);
+                gx = new BigInteger("00c6858e06b70404e9cd9e3ecb662395b4429c648139053fb521f828af606b4d3dbaa14b5e77efe75928fe1dc127a2ffa8de3348b3c1856a429bf97e7e31c2e5bd66", 16);
+                gy = new BigInteger("011839296a789a3bc0045c8a5fb42c7d1bd998f54449579b446817afbd17273e662c97ee72995ef42640c550b9013fad0761353c7086a272c24088be94769fd16650", 16);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown curve " + name);
+        }
+        PrimeField field = new PrimeField(p);
+        Pair<EllipticCurve, EllipticCurvePoint> pair = EllipticCurve.EllipticCurveGeneratorOnlyOneSubgroup(field,
+                field.toElement(BigInteger.valueOf(-3)), field.toElement(b), order,
+                field.toElement(gx), field.toElement(gy));
+        return new ECPrimeOrderSubgroup(pair.getKey(), order, pair.getValue());
+    }
+
+    /**
+     * Returns the <i>BinaryField</i> \(\mathbb{F}_{2^m}\) of the NIST binary
+     * curves of degree {@code m}: 163, 233, 283, 409 or 571.
+     */
+    static BinaryField nistBinaryField(final int m) {
+        int[] middle;
+        switch (m) {
+            case 163:
+                middle = new int[]{7, 6, 3};
+                break;
+            case 233:
+                middle = new int[]{74};
+                break;
+            case 283:
+                middle = new int[]{12, 7, 5};
+                break;
+            case 409:
+                middle = new int[]{87};
+                break;
+            case 571:
+                middle = new int[]{10, 5, 2};
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown degree " + m);
+        }
+        BitSet polynomial = new BitSet(m + 1);
+        polynomial.set(m);
+        polynomial.set(0);
+        for (int i : middle) {
+            polynomial.set(i);
+        }
+        return new BinaryField(polynomial);
+    }
+
+    /**
+     * Returns the base point of the NIST binary curve <i>B-163</i>, whose
+     * order is {@link #B163_ORDER}.
+     */
+    static BinaryECPoint b163Generator() {
+        BinaryField field = nistBinaryField(163);
+        BinaryEC curve = new BinaryEC(field, field.getMultiplicativeIdentity(),
+                binaryElement(field, "020a601907b8c953ca1481eb10512f78744a3205fd"), B163_ORDER.shiftLeft(1));
+        return new BinaryECPoint(curve, binaryElement(field, "03f0eba16286a2d57ea0991168d4994637e8343e36"),
+                binaryElement(field, "00d51fbc6c71a0094fa2cdd545b11c5c0c797324f1"));
+    }
+
+    private static BinaryFieldElement binaryElement(final BinaryField field, final String hex) {
+        BigInteger value = new BigInteger(hex, 16);
+        BitSet bits = new BitSet(field.getDimension());
+        for (int i = 0; i < value.bitLength(); i++) {
+            bits.set(i, value.testBit(i));
+        }
+        return new BinaryFieldElement(field, bits);
+    }
+}
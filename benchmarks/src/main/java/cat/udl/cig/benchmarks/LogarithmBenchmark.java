@@ -0,0 +1,102 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.IntegerPrimeOrderSubgroup;
+import cat.udl.cig.utils.discretelogarithm.BSGSTerrOrder;
+import cat.udl.cig.utils.discretelogarithm.BabyStepGiantStep;
+import cat.udl.cig.utils.discretelogarithm.BabyStepGiantStepTerr;
+import cat.udl.cig.utils.discretelogarithm.BruteForce;
+import cat.udl.cig.utils.discretelogarithm.HashedAlgorithm;
+import cat.udl.cig.utils.discretelogarithm.LogarithmAlgorithm;
+import cat.udl.cig.utils.discretelogarithm.PohligHellman;
+import cat.udl.cig.utils.discretelogarithm.PollardsKangaroo;
+import cat.udl.cig.utils.discretelogarithm.PollardsLambda;
+import cat.udl.cig.utils.discretelogarithm.PollardsRho;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every <i>LogarithmAlgorithm</i> in a subgroup of \(\mathbb{F}_{p}^{*}\) of
+ * prime order \(q\), where \(p\) has 64 bits. The tables of the algorithms
+ * that have them are built once, at the first call, so the warmup leaves
+ * them built. <i>BabyStepGiantStepTerr</i> and <i>BSGSTerrOrder</i> compute
+ * the order of \(\alpha\) instead of a logarithm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LogarithmBenchmark {
+
+    @Param({"16", "20", "24"})
+    public int orderBits;
+
+    @Param({"BruteForce", "BabyStepGiantStep", "BabyStepGiantStepTerr", "BSGSTerrOrder", "HashedAlgorithm",
+            "PohligHellman", "PollardsLambda", "PollardsRho", "PollardsKangaroo"})
+    public String algorithm;
+
+    private LogarithmAlgorithm logarithm;
+
+    private GroupElement beta;
+
+    @Setup
+    public void setUp() {
+        IntegerPrimeOrderSubgroup subgroup = Fixtures.subgroup(orderBits, 64);
+        GroupElement alpha = subgroup.getGenerator();
+        BigInteger order = subgroup.getSize();
+        BigInteger steps = order.sqrt().add(BigInteger.ONE);
+        switch (algorithm) {
+            case "BruteForce":
+                logarithm = new BruteForce(alpha, order);
+                break;
+            case "BabyStepGiantStep":
+                logarithm = new BabyStepGiantStep(alpha, order);
+                break;
+            case "BabyStepGiantStepTerr":
+                logarithm = new BabyStepGiantStepTerr(alpha, steps);
+                break;
+            case "BSGSTerrOrder":
+                logarithm = new BSGSTerrOrder(alpha, steps, steps.add(BigInteger.ONE));
+                break;
+            case "HashedAlgorithm":
+                HashedAlgorithm.loadHashedInstance(alpha, order, steps);
+                logarithm = HashedAlgorithm.getHashedInstance();
+                break;
+            case "PohligHellman":
+                logarithm = new PohligHellman(alpha, order);
+                break;
+            case "PollardsLambda":
+                logarithm = new PollardsLambda(alpha, order, order);
+                break;
+            case "PollardsRho":
+                logarithm = new PollardsRho(alpha, order);
+                break;
+            case "PollardsKangaroo":
+                logarithm = new PollardsKangaroo(alpha, BigInteger.ZERO, order);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + algorithm);
+        }
+        beta = alpha.pow(new BigInteger(orderBits, Fixtures.random(1)).mod(order));
+    }
+
+    @Benchmark
+    public Optional<BigInteger> logarithm() {
+        return logarithm.algorithm(beta);
+    }
+}
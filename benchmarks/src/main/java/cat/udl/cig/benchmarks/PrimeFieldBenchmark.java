@@ -0,0 +1,85 @@
+package cat.udl.cig.benchmarks;
+
+import cat.udl.cig.structures.MontgomeryPrimeField;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.RingElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arithmetic of the <i>PrimeFieldElements</i>, with and without
+ * <i>Montgomery Form</i>. The batch inversion inverts 64 elements at once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimeFieldBenchmark {
+
+    private static final int BATCH = 64;
+
+    @Param({"64", "256", "2048"})
+    public int bits;
+
+    @Param({"false", "true"})
+    public boolean montgomery;
+
+    private RingElement x;
+
+    private RingElement y;
+
+    private BigInteger exponent;
+
+    private List<RingElement> batch;
+
+    private PrimeField field;
+
+    @Setup
+    public void setUp() {
+        BigInteger p = Fixtures.prime(bits);
+        field = montgomery ? new MontgomeryPrimeField(p) : new PrimeField(p);
+        x = field.toElement(new BigInteger(bits, Fixtures.random(1)).mod(p));
+        y = field.toElement(new BigInteger(bits, Fixtures.random(2)).mod(p));
+        exponent = new BigInteger(bits, Fixtures.random(3));
+        batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            batch.add(field.toElement(new BigInteger(bits, Fixtures.random(4 + i)).mod(p)));
+        }
+    }
+
+    @Benchmark
+    public RingElement multiply() {
+        return x.multiply(y);
+    }
+
+    @Benchmark
+    public RingElement inverse() {
+        return x.inverse();
+    }
+
+    @Benchmark
+    public List<? extends RingElement> batchInverse() {
+        return field.batchInverse(batch);
+    }
+
+    @Benchmark
+    public RingElement pow() {
+        return x.pow(exponent);
+    }
+}
@@ -4,6 +4,8 @@ import cat.udl.cig.exceptions.ConstructionException;
 import cat.udl.cig.structures.ExtensionField;
 import cat.udl.cig.structures.ExtensionFieldElement;
 import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.QuadraticExtensionField;
+import cat.udl.cig.structures.QuadraticExtensionFieldElement;
 import cat.udl.cig.structures.ecc.EllipticCurve;
 import cat.udl.cig.utils.Polynomial;
 
@@ -14,7 +16,7 @@ public class MainClass {
 
     public static void main(String[] args) {
         BigInteger p = BigInteger.valueOf(3);
-        PrimeField primeField = new PrimeField(p);
+        PrimeField primeField = PrimeField.of(p);
         ExtensionField field = ExtensionField.ExtensionFieldP2(p);
         ExtensionFieldElement A = field.buildElement().setPolynomial(new Polynomial.PolynomialBuilder()
                 .addTerm(1, primeField.buildElement().setValue(2).build().orElseThrow())
@@ -34,12 +36,12 @@ public class MainClass {
 
     public static void searchEllipticCurve(List<Integer> primes) {
         for (Integer prime : primes) {
-            ExtensionField field = ExtensionField.ExtensionFieldP2(BigInteger.valueOf(prime));
+            QuadraticExtensionField field = QuadraticExtensionField.of(BigInteger.valueOf(prime));
             System.out.println("Field: " + field.getCharacteristic() + "^2");
             for (int i = 0; i < field.getSize().intValue(); i++) {
-                ExtensionFieldElement elA = field.getRandomElement();
+                QuadraticExtensionFieldElement elA = field.getRandomElement();
                 for (int j = 0; j < field.getSize().intValue(); j++) {
-                    ExtensionFieldElement elB = field.getRandomElement();
+                    QuadraticExtensionFieldElement elB = field.getRandomElement();
                     try {
                         EllipticCurve ec = new EllipticCurve(field, elA, elB);
                         System.out.println(ec);
@@ -29,10 +29,21 @@ public class ElGamal implements HomomorphicCryptosystem {
     private final BigInteger secretKey;
 
     public ElGamal(final MultiplicativeSubgroup gr) {
+        this(gr, gr.getRandomElement());
+    }
+
+    /**
+     * Creates an <i>ElGamal</i> cryptosystem with a random secret key and
+     * the given generator, so several key pairs can share its precomputed
+     * tables.
+     *
+     * @param gr the <i>MultiplicativeSubgroup</i> of the messages.
+     * @param g  the generator \(g\) of the public key \(y = g^x\).
+     */
+    public ElGamal(final MultiplicativeSubgroup gr, final GroupElement g) {
         secretKey = gr.getRandomExponent();
-        GroupElement g = gr.getRandomElement();
 
-        cypher = new ElGamalCypher(gr, (RingElement) g, g.pow(secretKey));
+        cypher = new ElGamalCypher(gr, (RingElement) g, gr.pow(g, secretKey));
     }
 
 
@@ -45,7 +56,10 @@ public class ElGamal implements HomomorphicCryptosystem {
     @Override
     public GroupElement decrypt(final Ciphertext cyphertext) {
         ElGamalCiphertext input = (ElGamalCiphertext) cyphertext;
-        return input.getElement().getGroupElementB().divide(input.getElement().getGroupElementA().pow(secretKey));
+        // The group decides how the secret key is applied, for instance, with
+        // the Montgomery ladder of an ECPrimeOrderSubgroup.
+        return input.getElement().getGroupElementB().divide(
+                cypher.getGroup().pow(input.getElement().getGroupElementA(), secretKey));
 
     }
 
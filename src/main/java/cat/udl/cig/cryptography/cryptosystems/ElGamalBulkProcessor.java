@@ -0,0 +1,314 @@
+package cat.udl.cig.cryptography.cryptosystems;
+
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.ElGamalCiphertext;
+import cat.udl.cig.structures.GroupElement;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Encrypts, re-encrypts and decrypts large amounts of messages with
+ * <i>ElGamal</i>. The messages are split in chunks, which are processed in
+ * parallel in an <i>ExecutorService</i>.
+ * <ul>
+ * <li>The <i>FixedBaseTables</i> of the generator \(g\) and the public key
+ * \(y\) are built once and shared by all the threads.</li>
+ * <li>Every thread draws the exponents \(r\) from its own
+ * <i>SecureRandom</i>.</li>
+ * <li>The {@link Stream} methods keep, at most, a bounded number of chunks in
+ * memory, so their inputs may be larger than the heap. The order of the
+ * input is kept in all the methods.</li>
+ * </ul>
+ *
+ * @see ElGamalCypher#precompute()
+ */
+public class ElGamalBulkProcessor {
+
+    /**
+     * The default number of messages of every chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final ElGamalCypher cypher;
+
+    /**
+     * The <i>ElGamal</i> cryptosystem that decrypts, or {@code null} if
+     * {@code this} processor only knows the public parameters.
+     */
+    private final ElGamal cryptosystem;
+
+    private final ExecutorService executor;
+
+    private final int chunkSize;
+
+    /**
+     * The maximum number of chunks submitted and not consumed by the
+     * {@link Stream} methods.
+     */
+    private final int maxChunksInFlight;
+
+    private final ThreadLocal<SecureRandom> randoms = ThreadLocal.withInitial(SecureRandom::new);
+
+    /**
+     * Creates a processor that encrypts and re-encrypts with {@code cypher}
+     * in the common <i>ForkJoinPool</i>.
+     *
+     * @param cypher the public parameters of <i>ElGamal</i>.
+     */
+    public ElGamalBulkProcessor(final ElGamalCypher cypher) {
+        this(cypher, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a processor that encrypts and re-encrypts with {@code cypher}.
+     *
+     * @param cypher    the public parameters of <i>ElGamal</i>.
+     * @param executor  the <i>ExecutorService</i> where the chunks are run.
+     * @param chunkSize the number of messages of every chunk.
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     */
+    public ElGamalBulkProcessor(final ElGamalCypher cypher, final ExecutorService executor, final int chunkSize) {
+        this(cypher, null, executor, chunkSize);
+    }
+
+    /**
+     * Creates a processor that also decrypts with {@code cryptosystem}, in
+     * the common <i>ForkJoinPool</i>.
+     *
+     * @param cryptosystem the <i>ElGamal</i> cryptosystem.
+     */
+    public ElGamalBulkProcessor(final ElGamal cryptosystem) {
+        this(cryptosystem, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a processor that also decrypts with {@code cryptosystem}.
+     *
+     * @param cryptosystem the <i>ElGamal</i> cryptosystem.
+     * @param executor     the <i>ExecutorService</i> where the chunks are
+     *                     run.
+     * @param chunkSize    the number of messages of every chunk.
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive.
+     */
+    public ElGamalBulkProcessor(final ElGamal cryptosystem, final ExecutorService executor, final int chunkSize) {
+        this(cryptosystem.getCypher(), cryptosystem, executor, chunkSize);
+    }
+
+    private ElGamalBulkProcessor(final ElGamalCypher cypher, final ElGamal cryptosystem,
+                                 final ExecutorService executor, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive.");
+        }
+        this.cypher = cypher;
+        this.cryptosystem = cryptosystem;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.maxChunksInFlight = 2 * Math.max(1, parallelism);
+        cypher.precompute();
+    }
+
+    /**
+     * Encrypts all the {@code messages}, each one with a new random
+     * exponent.
+     *
+     * @param messages the plain texts.
+     * @return the ciphertexts, in the same order.
+     */
+    public List<ElGamalCiphertext> encrypt(final List<? extends GroupElement> messages) {
+        return map(messages, this::encrypt);
+    }
+
+    /**
+     * Encrypts the {@code messages} as they are consumed.
+     *
+     * @param messages the plain texts.
+     * @return the lazy stream of the ciphertexts, in the same order.
+     * @see #encrypt(List)
+     */
+    public Stream<ElGamalCiphertext> encrypt(final Stream<? extends GroupElement> messages) {
+        return map(messages, this::encrypt);
+    }
+
+    /**
+     * Re-encrypts all the {@code ciphertexts}: \((a g^r, b y^r)\), with a
+     * new random exponent \(r\) for each one. The plain texts do not change.
+     *
+     * @param ciphertexts the ciphertexts \((a, b)\).
+     * @return the new ciphertexts, in the same order.
+     */
+    public List<ElGamalCiphertext> reencrypt(final List<ElGamalCiphertext> ciphertexts) {
+        return map(ciphertexts, this::reencrypt);
+    }
+
+    /**
+     * Re-encrypts the {@code ciphertexts} as they are consumed.
+     *
+     * @param ciphertexts the ciphertexts \((a, b)\).
+     * @return the lazy stream of the new ciphertexts, in the same order.
+     * @see #reencrypt(List)
+     */
+    public Stream<ElGamalCiphertext> reencrypt(final Stream<ElGamalCiphertext> ciphertexts) {
+        return map(ciphertexts, this::reencrypt);
+    }
+
+    /**
+     * Decrypts all the {@code ciphertexts}.
+     *
+     * @param ciphertexts the ciphertexts.
+     * @return the plain texts, in the same order.
+     * @throws IllegalStateException if {@code this} processor has been
+     *                               created without the secret key.
+     * @see ElGamal#decrypt(cat.udl.cig.cryptography.cryptosystems.ciphertexts.Ciphertext)
+     */
+    public List<GroupElement> decrypt(final List<ElGamalCiphertext> ciphertexts) {
+        checkDecryption();
+        return map(ciphertexts, cryptosystem::decrypt);
+    }
+
+    /**
+     * Decrypts the {@code ciphertexts} as they are consumed.
+     *
+     * @param ciphertexts the ciphertexts.
+     * @return the lazy stream of the plain texts, in the same order.
+     * @throws IllegalStateException if {@code this} processor has been
+     *                               created without the secret key.
+     * @see #decrypt(List)
+     */
+    public Stream<GroupElement> decrypt(final Stream<ElGamalCiphertext> ciphertexts) {
+        checkDecryption();
+        return map(ciphertexts, cryptosystem::decrypt);
+    }
+
+    private void checkDecryption() {
+        if (cryptosystem == null) {
+            throw new IllegalStateException("The processor has not the secret key.");
+        }
+    }
+
+    private ElGamalCiphertext encrypt(final GroupElement message) {
+        return cypher.encrypt(message, randomExponent());
+    }
+
+    private ElGamalCiphertext reencrypt(final ElGamalCiphertext ciphertext) {
+        return ciphertext.HomomorphicOperation(
+                cypher.encrypt(cypher.getGroup().getMultiplicativeIdentity(), randomExponent()));
+    }
+
+    /**
+     * Returns a uniform exponent in \([0, n)\), drawn from the
+     * <i>SecureRandom</i> of the current thread.
+     */
+    private BigInteger randomExponent() {
+        final BigInteger order = cypher.getGroup().getSize();
+        final SecureRandom random = randoms.get();
+        BigInteger r;
+        do {
+            r = new BigInteger(order.bitLength(), random);
+        } while (r.compareTo(order) >= 0);
+        return r;
+    }
+
+    /**
+     * Applies {@code operation} to all the {@code inputs}, one task per
+     * chunk.
+     */
+    private <T, R> List<R> map(final List<? extends T> inputs, final Function<T, R> operation) {
+        List<Future<List<R>>> chunks = new ArrayList<>(inputs.size() / chunkSize + 1);
+        for (int from = 0; from < inputs.size(); from += chunkSize) {
+            chunks.add(submit(inputs.subList(from, Math.min(from + chunkSize, inputs.size())), operation));
+        }
+        List<R> results = new ArrayList<>(inputs.size());
+        for (Future<List<R>> chunk : chunks) {
+            results.addAll(join(chunk));
+        }
+        return results;
+    }
+
+    /**
+     * Applies {@code operation} to the {@code inputs} as the result is
+     * consumed, with at most {@link #maxChunksInFlight} chunks submitted
+     * ahead.
+     */
+    private <T, R> Stream<R> map(final Stream<? extends T> inputs, final Function<T, R> operation) {
+        final Iterator<? extends T> source = inputs.iterator();
+        final Iterator<R> results = new Iterator<>() {
+
+            private final ArrayDeque<Future<List<R>>> pending = new ArrayDeque<>();
+
+            private Iterator<R> current = List.<R>of().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    fill();
+                    if (pending.isEmpty()) {
+                        return false;
+                    }
+                    current = join(pending.poll()).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+
+            private void fill() {
+                while (pending.size() < maxChunksInFlight && source.hasNext()) {
+                    List<T> chunk = new ArrayList<>(chunkSize);
+                    while (chunk.size() < chunkSize && source.hasNext()) {
+                        chunk.add(source.next());
+                    }
+                    pending.add(submit(chunk, operation));
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED), false)
+                .onClose(inputs::close);
+    }
+
+    private <T, R> Future<List<R>> submit(final List<? extends T> chunk, final Function<T, R> operation) {
+        return executor.submit(() -> {
+            List<R> results = new ArrayList<>(chunk.size());
+            for (T input : chunk) {
+                results.add(operation.apply(input));
+            }
+            return results;
+        });
+    }
+
+    private static <R> List<R> join(final Future<List<R>> chunk) {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a chunk.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
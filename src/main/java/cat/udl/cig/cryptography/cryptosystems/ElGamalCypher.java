@@ -24,6 +24,10 @@ public class ElGamalCypher implements HomomorphicCypher {
 
     private final GroupElement publicKey;
 
+    private FixedBaseTable generatorTable;
+
+    private FixedBaseTable publicKeyTable;
+
     public ElGamalCypher(final MultiplicativeSubgroup gr,
                          final RingElement g, final GroupElement y) {
         group = gr;
@@ -31,6 +35,27 @@ public class ElGamalCypher implements HomomorphicCypher {
         publicKey = y;
     }
 
+    /**
+     * Builds the <i>FixedBaseTables</i> of the generator and the public key,
+     * so every following encryption computes \(g^r\) and \(y^r\) with them.
+     * If the generator is the one of the <i>MultiplicativeSubgroup</i>, the
+     * table of the subgroup is used.
+     *
+     * @see FixedBaseTable
+     * @see MultiplicativeSubgroup#precomputeGenerator()
+     */
+    public void precompute() {
+        int bits = group.getSize().bitLength();
+        if (generator.equals(group.getGenerator())) {
+            group.precomputeGenerator();
+        } else if (generatorTable == null) {
+            generatorTable = generator.buildFixedBaseTable(bits);
+        }
+        if (publicKeyTable == null) {
+            publicKeyTable = publicKey.buildFixedBaseTable(bits);
+        }
+    }
+
     @Override
     public RingElement getPublicKey() {
         return (RingElement) publicKey;
@@ -55,8 +80,27 @@ public class ElGamalCypher implements HomomorphicCypher {
     @Override
     public ElGamalCiphertext encrypt(final GroupElement message,
                                      final BigInteger r) {
-        PairGroupElement result = new PairGroupElement(generator.pow(r), (RingElement) publicKey.pow(r).multiply(message));
+        PairGroupElement result = new PairGroupElement(powGenerator(r), (RingElement) powPublicKey(r).multiply(message));
         return new ElGamalCiphertext(result);
     }
 
+    private RingElement powGenerator(final BigInteger r) {
+        FixedBaseTable table = generatorTable;
+        if (table != null) {
+            return (RingElement) table.pow(r);
+        }
+        if (generator.equals(group.getGenerator())) {
+            return (RingElement) group.powGenerator(r);
+        }
+        return generator.pow(r);
+    }
+
+    private GroupElement powPublicKey(final BigInteger r) {
+        FixedBaseTable table = publicKeyTable;
+        if (table != null) {
+            return table.pow(r);
+        }
+        return publicKey.pow(r);
+    }
+
 }
@@ -0,0 +1,109 @@
+package cat.udl.cig.cryptography.cryptosystems;
+
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.Ciphertext;
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.ElGamalCiphertext;
+import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.MultiplicativeSubgroup;
+import cat.udl.cig.utils.discretelogarithm.DecodingTable;
+
+import java.math.BigInteger;
+
+/**
+ * <i>Exponential ElGamal</i>: the message \(m\) is encrypted as \((g^r, g^m
+ * y^r)\), so the product of two ciphertexts encrypts the sum of their
+ * messages. The decryption gives \(g^m\), whose exponent is looked up in a
+ * <i>DecodingTable</i> of the generator \(g\) of the
+ * <i>MultiplicativeSubgroup</i>. The table is immutable, so it can be shared
+ * by all the instances of the same subgroup and by all the threads.
+ *
+ * @see ElGamal
+ * @see DecodingTable
+ */
+public class ExponentialElGamal {
+
+    private final ElGamal elGamal;
+
+    private final MultiplicativeSubgroup group;
+
+    private final DecodingTable table;
+
+    /**
+     * Creates the cryptosystem with a new <i>DecodingTable</i> of the
+     * messages in \([0, range)\).
+     *
+     * @param gr    the <i>MultiplicativeSubgroup</i>, whose generator is
+     *              \(g\).
+     * @param range the number of messages that can be decrypted.
+     * @throws IllegalArgumentException if {@code range} is not positive.
+     */
+    public ExponentialElGamal(final MultiplicativeSubgroup gr, final long range) {
+        this(gr, new DecodingTable(gr.getGenerator(), range));
+    }
+
+    /**
+     * Creates the cryptosystem with a random secret key and a shared
+     * <i>DecodingTable</i>.
+     *
+     * @param gr    the <i>MultiplicativeSubgroup</i>, whose generator is
+     *              \(g\).
+     * @param table the <i>DecodingTable</i> of \(g\).
+     * @throws IllegalArgumentException if the table is not the one of the
+     *                                  generator of {@code gr}.
+     */
+    public ExponentialElGamal(final MultiplicativeSubgroup gr, final DecodingTable table) {
+        if (!table.getAlpha().equals(gr.getGenerator())) {
+            throw new IllegalArgumentException("The table must be the one of the generator of the group.");
+        }
+        this.group = gr;
+        this.table = table;
+        this.elGamal = new ElGamal(gr, gr.getGenerator());
+    }
+
+    /**
+     * Encrypts \(m\) with a random exponent.
+     *
+     * @param message the message \(m\).
+     * @return the ciphertext \((g^r, g^m y^r)\).
+     */
+    public ElGamalCiphertext encrypt(final BigInteger message) {
+        return encrypt(message, group.getRandomExponent());
+    }
+
+    /**
+     * Encrypts \(m\) with the exponent \(r\).
+     *
+     * @param message the message \(m\).
+     * @param r       the random exponent \(r\).
+     * @return the ciphertext \((g^r, g^m y^r)\).
+     */
+    public ElGamalCiphertext encrypt(final BigInteger message, final BigInteger r) {
+        return elGamal.getCypher().encrypt(group.powGenerator(message), r);
+    }
+
+    /**
+     * Decrypts the {@code ciphertext} and decodes its message.
+     *
+     * @param ciphertext the ciphertext \((g^r, g^m y^r)\), or the product of
+     *                   several of them.
+     * @return the message \(m\).
+     * @throws ArithmeticException if \(m\) is not in the range of the
+     *                             <i>DecodingTable</i>.
+     */
+    public BigInteger decrypt(final Ciphertext ciphertext) {
+        GroupElement power = elGamal.decrypt(ciphertext);
+        return table.algorithm(power).orElseThrow(
+                () -> new ArithmeticException("The message is not in the range of the decoding table."));
+    }
+
+    public ElGamal getElGamal() {
+        return elGamal;
+    }
+
+    public ElGamalCypher getCypher() {
+        return elGamal.getCypher();
+    }
+
+    public DecodingTable getDecodingTable() {
+        return table;
+    }
+}
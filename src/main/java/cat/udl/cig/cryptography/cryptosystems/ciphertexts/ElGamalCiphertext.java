@@ -11,11 +11,13 @@
 package cat.udl.cig.cryptography.cryptosystems.ciphertexts;
 
 import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.PairGroup;
 import cat.udl.cig.structures.PairGroupElement;
 import cat.udl.cig.structures.Ring;
 import cat.udl.cig.structures.RingElement;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  *
@@ -62,6 +64,30 @@ public class ElGamalCiphertext implements HomomorphicCiphertext {
 
     @Override
     public PairGroupElement getElement() {
-        return null;
+        return pairGroupElement;
+    }
+
+    /**
+     * Returns the fixed-width encodings of both components of {@code this}
+     * ciphertext, in this order.
+     *
+     * @return the encoding of {@code this} ciphertext.
+     * @see PairGroupElement#toBytes()
+     */
+    public byte[] toBytes() {
+        return pairGroupElement.toBytes();
+    }
+
+    /**
+     * Decodes a ciphertext encoded by {@link #toBytes()}.
+     *
+     * @param ring  the <i>Ring</i> of both components.
+     * @param bytes the encoding of the ciphertext.
+     * @return the ciphertext, or empty if {@code bytes} is not the encoding
+     * of two elements of {@code ring}.
+     * @see PairGroup#fromBytes(byte[])
+     */
+    public static Optional<ElGamalCiphertext> fromBytes(final Ring ring, final byte[] bytes) {
+        return new PairGroup(ring, ring).fromBytes(bytes).map(ElGamalCiphertext::new);
     }
 }
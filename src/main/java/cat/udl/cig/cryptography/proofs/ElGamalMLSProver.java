@@ -12,6 +12,7 @@ package cat.udl.cig.cryptography.proofs;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.List;
 
 import cat.udl.cig.cryptography.cryptosystems.ElGamalCypher;
 import cat.udl.cig.cryptography.cryptosystems.ciphertexts.Ciphertext;
@@ -68,14 +69,14 @@ public class ElGamalMLSProver implements MLSProver {
                 wlist[i] = cipher.getGroup().getRandomExponent();
 
                 elementA =
-                        (RingElement) cipher.getGenerator().pow(wlist[i])
-                        .multiply(elementA.pow(ulist[i]));
+                        (RingElement) cipher.getGroup().multiExp(List.of(cipher.getGenerator(), elementA),
+                                List.of(wlist[i], ulist[i]));
 
                 elementB =
                     elementB.divide((GroupElement) vmessages.get(i));
                 elementB =
-                        (RingElement) cipher.getPublicKey().pow(wlist[i])
-                        .multiply(elementB.pow(ulist[i]));
+                        (RingElement) cipher.getGroup().multiExp(List.of(cipher.getPublicKey(), elementB),
+                                List.of(wlist[i], ulist[i]));
 
                 ciphertexts[i] = new ElGamalCiphertext(new PairGroupElement(elementA, elementB));
 
@@ -11,6 +11,7 @@
 package cat.udl.cig.cryptography.proofs;
 
 import java.math.BigInteger;
+import java.util.List;
 
 import cat.udl.cig.cryptography.cryptosystems.ElGamalCypher;
 import cat.udl.cig.cryptography.cryptosystems.ciphertexts.Ciphertext;
@@ -76,15 +77,14 @@ public class ElGamalMLSVerifier implements MLSVerifier {
             GroupElement BElem =
                     ((PairGroupElement) data.getCiphertextToBeProven().getElement()).getGroupElementB();
 
-            AElem = AElem.pow(ulist[i]);
-            AElem = cipher.getGenerator().pow(wlist[i]).multiply(AElem);
+            AElem = cipher.getGroup().multiExp(List.of(cipher.getGenerator(), AElem),
+                    List.of(wlist[i], ulist[i]));
 
             BElem =
                 BElem.divide((GroupElement) data.getPossibleMessages()
                         .get(i));
-            BElem =
-                cipher.getPublicKey().pow(wlist[i])
-                    .multiply(BElem.pow(ulist[i]));
+            BElem = cipher.getGroup().multiExp(List.of(cipher.getPublicKey(), BElem),
+                    List.of(wlist[i], ulist[i]));
 
             Boolean cond1 = !((PairGroupElement)ABlist[i].getElement()).getGroupElementA().equals(AElem);
             Boolean cond2 = !((PairGroupElement)ABlist[i].getElement()).getGroupElementB().equals(BElem);
@@ -0,0 +1,291 @@
+package cat.udl.cig.cryptography.signers;
+
+import cat.udl.cig.cryptography.hashes.SHA1;
+import cat.udl.cig.structures.PrimeFieldElement;
+import cat.udl.cig.structures.ecc.ECPoint;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Verifies large batches of <i>ECDSA</i> signatures, for one or several
+ * public keys \( Q_i \) of the same generator \( P \) of order \( q \).
+ * <p>
+ * The signatures \( (R_i, s_i) \) created by
+ * {@link ECDSA#signRecoverable(Object)} must satisfy \( u_{1,i} P + u_{2,i}
+ * Q_i - R_i = \mathcal{O} \), so they are checked together with the random
+ * linear combination \( \sum_i z_i (u_{1,i} P + u_{2,i} Q_i - R_i) =
+ * \mathcal{O} \), where \( z_i \) has {@link #RANDOMIZER_BITS} random bits.
+ * The coefficients of \( P \) and of every key are added up, so the whole
+ * batch is one multi-scalar multiplication. If the check fails, the batch is
+ * split in halves until the invalid signatures are found.
+ * <p>
+ * The random linear combination is only sound if every \( R_i \) belongs
+ * to the subgroup of \( P \): a component of small order could cancel out
+ * for some \( z_i \). On the curves of cofactor 1, every point does. On
+ * the curves of cofactor \( h > 1 \), the combination is multiplied by
+ * \( h \) once per check, which clears those components without a scalar
+ * multiplication per signature. So, like the cofactored verification of
+ * <i>EdDSA</i>, a signature whose \( R \) differs from \( u_1 P + u_2 Q
+ * \) by a point of order dividing \( h \) is accepted, although the
+ * <i>ECDSAVerifier</i> rejects it. Only the owner of the secret key can
+ * build one. The points \( R_i \) of another curve are reported as invalid
+ * before the batch is checked.
+ * <p>
+ * The signatures \( (r_i, s_i) \), which do not keep \( R_i \), are verified
+ * one by one, in parallel, in the given <i>ForkJoinPool</i>.
+ *
+ * @see ECDSAVerifier
+ */
+public class BatchECDSAVerifier {
+
+    /**
+     * The number of bits of the random coefficients \( z_i \). A batch with
+     * invalid signatures passes the check with probability \( 2^{-128} \).
+     */
+    public static final int RANDOMIZER_BITS = 128;
+
+    /**
+     * The generator \( P \) of all the public keys.
+     */
+    private final ECPoint P;
+
+    /**
+     * The order \( q \) of {@code P}.
+     */
+    private final BigInteger order;
+
+    /**
+     * The cofactor \( h = \#E / q \) of the curve of {@code P}.
+     */
+    private final BigInteger cofactor;
+
+    private final ForkJoinPool pool;
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Creates a batch verifier for the public keys generated by \( P \),
+     * whose per-signature checks run in the common <i>ForkJoinPool</i>.
+     *
+     * @param P the generator of the <i>ECDSA</i> signers.
+     */
+    public BatchECDSAVerifier(final ECPoint P) {
+        this(P, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a batch verifier for the public keys generated by \( P \).
+     *
+     * @param P    the generator of the <i>ECDSA</i> signers.
+     * @param pool the <i>ForkJoinPool</i> where the signatures are
+     *             prepared and the per-signature checks are run.
+     */
+    public BatchECDSAVerifier(final ECPoint P, final ForkJoinPool pool) {
+        this.P = P;
+        this.order = P.getOrder();
+        this.cofactor = P.getCurve().getSize().divide(order);
+        this.pool = pool;
+    }
+
+    /**
+     * Checks whether all the signatures are valid.
+     *
+     * @param messages   the signed messages.
+     * @param signatures the <i>Signature</i> of every message.
+     * @param publicKeys the public key of the signer of every message.
+     * @return {@code true} if all the signatures are valid.
+     * @throws IllegalArgumentException if the lists have different sizes.
+     * @see #findInvalid(List, List, List)
+     */
+    public boolean verifyAll(final List<?> messages, final List<Signature> signatures,
+                             final List<? extends ECPoint> publicKeys) {
+        return findInvalid(messages, signatures, publicKeys).isEmpty();
+    }
+
+    /**
+     * Returns the positions of the invalid signatures. The signatures \(
+     * (R_i, s_i) \) are verified with the random linear combination and the
+     * bisection of the failing batches. The signatures \( (r_i, s_i) \) are
+     * verified one by one, in parallel.
+     *
+     * @param messages   the signed messages.
+     * @param signatures the <i>Signature</i> of every message.
+     * @param publicKeys the public key of the signer of every message.
+     * @return the positions of the invalid signatures, in increasing order.
+     * @throws IllegalArgumentException if the lists have different sizes.
+     */
+    public List<Integer> findInvalid(final List<?> messages, final List<Signature> signatures,
+                                     final List<? extends ECPoint> publicKeys) {
+        checkSizes(messages, signatures, publicKeys);
+        final Entry[] entries = pool.submit(() -> IntStream.range(0, signatures.size()).parallel()
+                .mapToObj(i -> prepare(i, messages.get(i), signatures.get(i), publicKeys.get(i)))
+                .toArray(Entry[]::new)).join();
+        List<Integer> invalid = new ArrayList<>();
+        List<Entry> batch = new ArrayList<>(entries.length);
+        List<Integer> single = new ArrayList<>();
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] == null) {
+                invalid.add(i);
+            } else if (entries[i].R == null) {
+                single.add(i);
+            } else {
+                batch.add(entries[i]);
+            }
+        }
+        if (!batch.isEmpty() && !check(batch)) {
+            locate(batch, invalid);
+        }
+        final ECDSAVerifier[] verifiers = new ECDSAVerifier[entries.length];
+        for (int i : single) {
+            verifiers[i] = new ECDSAVerifier(P, publicKeys.get(i));
+        }
+        invalid.addAll(pool.submit(() -> single.parallelStream()
+                .filter(i -> !verifiers[i].verifySignature(messages.get(i), signatures.get(i)))
+                .collect(Collectors.toList())).join());
+        Collections.sort(invalid);
+        return invalid;
+    }
+
+    /**
+     * Verifies every signature on its own, in parallel. It is the mode of
+     * the signatures \( (r_i, s_i) \), whose \( R_i \) is not known.
+     *
+     * @param messages   the signed messages.
+     * @param signatures the <i>Signature</i> of every message.
+     * @param publicKeys the public key of the signer of every message.
+     * @return {@code valid[i]} is {@code true} if the {@code i}-th
+     * signature is valid.
+     * @throws IllegalArgumentException if the lists have different sizes.
+     * @see ECDSAVerifier#verifySignature(Object, Signature)
+     */
+    public boolean[] verifyEach(final List<?> messages, final List<Signature> signatures,
+                                final List<? extends ECPoint> publicKeys) {
+        checkSizes(messages, signatures, publicKeys);
+        final boolean[] valid = new boolean[signatures.size()];
+        pool.submit(() -> IntStream.range(0, valid.length).parallel().forEach(i -> valid[i] =
+                new ECDSAVerifier(P, publicKeys.get(i)).verifySignature(messages.get(i), signatures.get(i))))
+                .join();
+        return valid;
+    }
+
+    private static void checkSizes(final List<?> messages, final List<Signature> signatures,
+                                   final List<? extends ECPoint> publicKeys) {
+        if (messages.size() != signatures.size() || publicKeys.size() != signatures.size()) {
+            throw new IllegalArgumentException("There must be one message and one public key for each signature.");
+        }
+    }
+
+    /**
+     * Computes \( u_1 = e s^{-1} \) and \( u_2 = r s^{-1} \) of a signature.
+     *
+     * @return the prepared signature, or {@code null} if \( r \) or \( s \)
+     * are not in \( [1, q - 1] \) or if \( R \) is not on the curve of
+     * \( P \).
+     */
+    private Entry prepare(final int index, final Object message, final Signature signature,
+                          final ECPoint publicKey) {
+        ECPoint R = signature.getA() instanceof ECPoint ? (ECPoint) signature.getA() : null;
+        BigInteger r = R != null ? R.getX().getIntValue().mod(order)
+                : ((PrimeFieldElement) signature.getA()).getValue();
+        BigInteger s = ((PrimeFieldElement) signature.getB()).getValue();
+        if ((R != null && R.isInfinity()) || r.signum() <= 0 || r.compareTo(order) >= 0
+                || s.signum() <= 0 || s.compareTo(order) >= 0) {
+            return null;
+        }
+        if (R != null && !R.getCurve().equals(P.getCurve())) {
+            return null;
+        }
+        BigInteger w = s.modInverse(order);
+        BigInteger e = SHA1.hashToInteger(SHA1.getHash(message.toString()));
+        return new Entry(index, e.multiply(w).mod(order), r.multiply(w).mod(order), publicKey, R);
+    }
+
+    /**
+     * Checks \( h \sum_i z_i (u_{1,i} P + u_{2,i} Q_i - R_i) =
+     * \mathcal{O} \) with new random \( z_i \).
+     */
+    private boolean check(final List<Entry> batch) {
+        BigInteger generatorExponent = BigInteger.ZERO;
+        Map<ECPoint, BigInteger> keyExponents = new LinkedHashMap<>();
+        List<ECPoint> bases = new ArrayList<>(batch.size() + 2);
+        List<BigInteger> exponents = new ArrayList<>(batch.size() + 2);
+        for (Entry entry : batch) {
+            BigInteger z = randomizer();
+            generatorExponent = generatorExponent.add(z.multiply(entry.u1));
+            keyExponents.merge(entry.Q, z.multiply(entry.u2), BigInteger::add);
+            bases.add(entry.R);
+            exponents.add(order.subtract(z.mod(order)));
+        }
+        bases.add(P);
+        exponents.add(generatorExponent.mod(order));
+        for (Map.Entry<ECPoint, BigInteger> key : keyExponents.entrySet()) {
+            bases.add(key.getKey());
+            exponents.add(key.getValue().mod(order));
+        }
+        ECPoint sum = (ECPoint) P.getGroup().multiExp(bases, exponents);
+        return (cofactor.equals(BigInteger.ONE) ? sum : sum.pow(cofactor)).isInfinity();
+    }
+
+    /**
+     * Returns a uniformly random \( z \in [1, 2^{128} - 1] \).
+     */
+    private BigInteger randomizer() {
+        BigInteger z;
+        do {
+            z = new BigInteger(RANDOMIZER_BITS, random);
+        } while (z.signum() == 0);
+        return z;
+    }
+
+    /**
+     * Adds the positions of the invalid signatures of {@code batch}, which
+     * has failed the check, splitting it in halves. If the first half
+     * passes, the second one is known to fail without checking it.
+     */
+    private void locate(final List<Entry> batch, final List<Integer> invalid) {
+        if (batch.size() == 1) {
+            invalid.add(batch.get(0).index);
+            return;
+        }
+        final int half = batch.size() / 2;
+        final List<Entry> first = batch.subList(0, half);
+        final List<Entry> second = batch.subList(half, batch.size());
+        final boolean firstFails = !check(first);
+        if (firstFails) {
+            locate(first, invalid);
+        }
+        if (!firstFails || !check(second)) {
+            locate(second, invalid);
+        }
+    }
+
+    /**
+     * A signature \( (R, s) \) or \( (r, s) \) ready to be checked.
+     */
+    private static final class Entry {
+
+        private final int index;
+        private final BigInteger u1;
+        private final BigInteger u2;
+        private final ECPoint Q;
+        private final ECPoint R;
+
+        private Entry(final int index, final BigInteger u1, final BigInteger u2, final ECPoint Q,
+                      final ECPoint R) {
+            this.index = index;
+            this.u1 = u1;
+            this.u2 = u2;
+            this.Q = Q;
+            this.R = R;
+        }
+    }
+}
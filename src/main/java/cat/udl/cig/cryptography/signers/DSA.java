@@ -62,7 +62,7 @@ public class DSA extends Signer {
             q = new BigInteger(qbits, new Random());
             BigInteger p = new BigInteger(pbits, new Random());
             p = p.nextProbablePrime();
-            F = new PrimeField(p);
+            F = PrimeField.of(p);
 
             BigInteger z = p.subtract(BigInteger.ONE).divide(q);
 
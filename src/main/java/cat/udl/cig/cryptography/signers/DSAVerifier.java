@@ -7,6 +7,7 @@
 package cat.udl.cig.cryptography.signers;
 
 import java.math.BigInteger;
+import java.util.List;
 
 import cat.udl.cig.cryptography.hashes.SHA1;
 import cat.udl.cig.structures.PrimeFieldElement;
@@ -91,7 +92,7 @@ public class DSAVerifier implements SignerVerifier {
         // try {
         BigInteger u1 = imhash.multiply(w).mod(q);
         BigInteger u2 = r.getValue().multiply(w).mod(q);
-        BigInteger v1 = g.pow(u1).multiply(y.pow(u2)).getValue();
+        BigInteger v1 = g.getGroup().multiExp(List.of(g, y), List.of(u1, u2)).getIntValue();
         v1 = v1.mod(q);
 
         if (v1.compareTo(r.getValue()) == 0) {
@@ -28,6 +28,22 @@ public class ECDSA extends Signer {
      */
     private final ECPoint generator;
 
+    /**
+     * The <i>ECPrimeOrderSubgroup</i> generated by {@code generator}. Its
+     * <i>FixedBaseTable</i>, if it has been built, is used to compute \( k
+     * \cdot P \).
+     *
+     * @see ECPrimeOrderSubgroup#precomputeGenerator()
+     */
+    private final ECPrimeOrderSubgroup subgroup;
+
+    /**
+     * The <i>PrimeField</i> \( \mathbb{F}_{q} \) of the scalars, where \( q
+     * \) is the order of the generator point {@code P}. The components \( r
+     * \) and \( s \) of the <i>Signature</i> belong to it.
+     */
+    private final PrimeField scalars;
+
     /**
      * A <i>PrimeFieldElement</i> that is the private key of {@code this}
      * <i>ECDSA</i> signer. The private key \( d \) is randomly chosen in the
@@ -58,27 +74,62 @@ public class ECDSA extends Signer {
         // F = ellipticCurve.getRing();
         // securityBits = F.getSize().bitLength();
 
-        generator = E.getRandomElement();
+        subgroup = E;
+
+        scalars = PrimeField.of(E.getSize());
+
+        generator = E.getGenerator();
 
         privateKey = E.getRandomExponent();
 
-        publicKey = generator.pow(privateKey);
+        publicKey = E.powGenerator(privateKey);
 
         verifier = new ECDSAVerifier(generator, publicKey);
 
         // }
     }
 
+    /**
+     * Returns the public key \( Q = d \cdot P \) of {@code this}
+     * <i>ECDSA</i> signer.
+     *
+     * @return the <i>ECPoint</i> \( Q \).
+     */
+    public ECPoint getPublicKey() {
+        return publicKey;
+    }
+
     @Override
     public Signature sign(final Object message) {
-        ECPoint kP;
+        return sign(message, false);
+    }
+
+    /**
+     * Signs the {@code message} keeping the whole point \( R = k \cdot P
+     * \) instead of its coordinate \( r = x(R) \bmod q \), so the
+     * <i>Signature</i> is \( (R, s) \). With \( R \), the signatures can
+     * be verified together by the <i>BatchECDSAVerifier</i>. The
+     * <i>ECDSAVerifier</i> accepts both forms.
+     *
+     * @param message
+     *            an Object containing the message to be signed.
+     * @return a <i>Signature</i> whose first item is the <i>ECPoint</i> \( R
+     *         \) and whose second item is \( s \).
+     * @see BatchECDSAVerifier
+     */
+    public Signature signRecoverable(final Object message) {
+        return sign(message, true);
+    }
+
+    private Signature sign(final Object message, final boolean recoverable) {
+        ECPoint kP = null;
         BigInteger r = BigInteger.ZERO, s = BigInteger.ZERO;
         BigInteger k, invK, imhash;
         String mhash;
         while (r.equals(BigInteger.ZERO)) {
             k = F.getRandomExponent();
 
-            kP = generator.pow(k);
+            kP = subgroup.powGenerator(k);
             r = kP.getX().getIntValue().mod(F.getSize());
 
             invK = k.modInverse(F.getSize());
@@ -94,7 +145,7 @@ public class ECDSA extends Signer {
             }
         }
 
-        return new Signature(new PrimeFieldElement((PrimeField) F, r),
-            new PrimeFieldElement((PrimeField) F, s));
+        return new Signature(recoverable ? kP : new PrimeFieldElement(scalars, r),
+            new PrimeFieldElement(scalars, s));
     }
 }
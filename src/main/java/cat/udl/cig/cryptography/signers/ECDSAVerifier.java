@@ -7,6 +7,7 @@
 package cat.udl.cig.cryptography.signers;
 
 import java.math.BigInteger;
+import java.util.List;
 
 import cat.udl.cig.cryptography.hashes.SHA1;
 import cat.udl.cig.structures.ecc.ECPoint;
@@ -54,20 +55,30 @@ public class ECDSAVerifier implements SignerVerifier {
         this.Q = Q;
     }
 
+    /**
+     * Verifies the {@code signature} \( (r, s) \) or, if it has been created
+     * with {@link ECDSA#signRecoverable(Object)}, \( (R, s) \). In the
+     * latter, \( r = x(R) \bmod q \) and \( u_1 P + u_2 Q \) must be \( R
+     * \) itself.
+     *
+     * @see SignerVerifier#verifySignature(Object, Signature)
+     */
     @Override
     public boolean verifySignature(final Object message,
             final Signature signature) {
-        BigInteger r = ((PrimeFieldElement) signature.getA()).getValue();
-        BigInteger s = ((PrimeFieldElement) signature.getB()).getValue();
         BigInteger order = P.getOrder();
+        ECPoint R = signature.getA() instanceof ECPoint ? (ECPoint) signature.getA() : null;
+        BigInteger r = R != null ? R.getX().getIntValue().mod(order)
+            : ((PrimeFieldElement) signature.getA()).getValue();
+        BigInteger s = ((PrimeFieldElement) signature.getB()).getValue();
         BigInteger w, u1, u2, v, imhash;
         String mhash;
-        ECPoint P1, Q1, PQ;
+        ECPoint PQ;
 
         if (r.compareTo(BigInteger.ONE) == -1
             || r.compareTo(order.subtract(BigInteger.ONE)) == 1
             || s.compareTo(BigInteger.ONE) == -1
-            || r.compareTo(order.subtract(BigInteger.ONE)) == 1) {
+            || s.compareTo(order.subtract(BigInteger.ONE)) == 1) {
             return false;
         }
 
@@ -78,14 +89,16 @@ public class ECDSAVerifier implements SignerVerifier {
         u1 = imhash.multiply(w).mod(order);
         u2 = r.multiply(w).mod(order);
 
-        P1 = P.pow(u1);
-        Q1 = Q.pow(u2);
-        PQ = P1.multiply(Q1);
+        PQ = (ECPoint) P.getGroup().multiExp(List.of(P, Q), List.of(u1, u2));
 
         if (PQ.isInfinity()) {
             return false;
         }
 
+        if (R != null) {
+            return PQ.equals(R);
+        }
+
         v = PQ.getX().getIntValue().mod(order);
 
         return (v.compareTo(r) == 0);
@@ -0,0 +1,76 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.IncorrectRingElementException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Computes the inverses of several elements of a <i>Ring</i> with
+ * <i>Montgomery's trick</i>: the prefix products \(c_i = a_0 a_1 \cdots a_i\)
+ * are accumulated, only \(c_{n-1}\) is inverted, and every \(a_i^{-1} =
+ * c_{i-1} c_i^{-1}\) is recovered going backwards, with \(c_{i-1}^{-1} =
+ * c_i^{-1} a_i\). So \(n\) inverses cost one inversion and \(3(n - 1)\)
+ * multiplications.
+ *
+ * @see Ring#batchInverse(List)
+ */
+public final class BatchInversion {
+
+    private BatchInversion() {
+    }
+
+    /**
+     * Computes the inverses of all the {@code elements} of the <i>Ring</i>
+     * {@code ring}.
+     *
+     * @param ring     the <i>Ring</i> of the {@code elements}.
+     * @param elements the elements \(a_i\) to be inverted.
+     * @param <E>      the type of the elements.
+     * @return the list of the inverses \(a_i^{-1}\), in the same order.
+     * @throws IncorrectRingElementException if any element does not belong
+     *                                       to {@code ring}.
+     * @throws ArithmeticException           if any element is zero.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends RingElement> List<E> batchInverse(final Ring ring, final List<? extends E> elements) {
+        final int n = elements.size();
+        if (n == 0) {
+            return new ArrayList<>();
+        }
+        RingElement[] prefix = new RingElement[n];
+        for (int i = 0; i < n; i++) {
+            RingElement element = elements.get(i);
+            checkElement(ring, element, i);
+            prefix[i] = i == 0 ? element : prefix[i - 1].multiply(element);
+        }
+        RingElement inverse = prefix[n - 1].inverse();
+        RingElement[] inverses = new RingElement[n];
+        for (int i = n - 1; i > 0; i--) {
+            inverses[i] = inverse.multiply(prefix[i - 1]);
+            inverse = inverse.multiply(elements.get(i));
+        }
+        inverses[0] = inverse;
+        return new ArrayList<>((List<E>) Arrays.asList(inverses));
+    }
+
+    /**
+     * Checks that the element {@code index} of a batch can be inverted.
+     *
+     * @param ring    the <i>Ring</i> of the batch.
+     * @param element the element to be inverted.
+     * @param index   the position of the element in the batch.
+     * @throws IncorrectRingElementException if {@code element} does not
+     *                                       belong to {@code ring}.
+     * @throws ArithmeticException           if {@code element} is zero.
+     */
+    public static void checkElement(final Ring ring, final RingElement element, final int index) {
+        if (!ring.containsElement(element)) {
+            throw new IncorrectRingElementException("The element " + index + " does not belong to the ring.");
+        }
+        if (element.equals(ring.getAdditiveIdentity())) {
+            throw new ArithmeticException("The element " + index + " is zero and it has no inverse.");
+        }
+    }
+}
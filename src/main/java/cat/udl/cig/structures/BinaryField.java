@@ -7,6 +7,7 @@ import cat.udl.cig.utils.bfarithmetic.Irreducibility;
 
 import java.math.BigInteger;
 import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
@@ -29,6 +30,21 @@ public class BinaryField implements Ring {
      */
     private final BitSet reducingPolynomial;
 
+    /**
+     * The exponents \(t\) of the reducing polynomial \(f(x) = x^n +
+     * \sum_{t} x^t\), except \(n\). It is used for the word-level reduction of
+     * the elements.
+     */
+    private final int[] reductionExponents;
+
+    /**
+     * The constants \(0\), \(1\) and \(3 = 1\) of {@code this}
+     * <i>BinaryField</i>. The elements are immutable, so they are shared by
+     * every call to {@link #ZERO()}, {@link #ONE()} and {@link #THREE()}.
+     */
+    private final BinaryFieldElement zero;
+    private final BinaryFieldElement one;
+
     /**
      * Creates a <i>BinaryField</i> with
      * {@code this.reducingPolynomial = reducingPoly}. This constructor does not
@@ -60,10 +76,14 @@ public class BinaryField implements Ring {
         if (check && !Irreducibility.isIrreducible(reducingPolynomial)) {
             this.reducingPolynomial = null;
             n = 0;
+            reductionExponents = new int[0];
         } else {
             this.reducingPolynomial = reducingPolynomial;
             n = reducingPolynomial.length() - 1;
+            reductionExponents = computeReductionExponents(reducingPolynomial, n);
         }
+        zero = new BinaryFieldElement(this, new BitSet());
+        one = new BinaryFieldElement(this, BitSetManipulation.longToBitSet(1));
     }
 
     /**
@@ -77,7 +97,13 @@ public class BinaryField implements Ring {
     public BinaryField(final BinaryField F) {
         n = F.n;
         reducingPolynomial = (BitSet) F.reducingPolynomial.clone();
+        reductionExponents = F.reductionExponents;
+        zero = new BinaryFieldElement(this, new BitSet());
+        one = new BinaryFieldElement(this, BitSetManipulation.longToBitSet(1));
+    }
 
+    private static int[] computeReductionExponents(final BitSet reducingPolynomial, final int n) {
+        return reducingPolynomial.get(0, n).stream().toArray();
     }
 
     @Override
@@ -103,13 +129,12 @@ public class BinaryField implements Ring {
     }
 
     public BinaryFieldElement getAdditiveIdentity() {
-        return new BinaryFieldElement(this, new BitSet());
+        return zero;
     }
 
     @Override
     public BinaryFieldElement getMultiplicativeIdentity() {
-        return new BinaryFieldElement(this,
-                BitSetManipulation.longToBitSet(1));
+        return one;
     }
 
     /**
@@ -131,6 +156,26 @@ public class BinaryField implements Ring {
         return reducingPolynomial;
     }
 
+    /**
+     * Returns the number of 64-bit words needed to store an element of this
+     * <i>BinaryField</i>.
+     *
+     * @return \(\lceil n / 64 \rceil\).
+     */
+    int getWordLength() {
+        return (n + 63) / 64;
+    }
+
+    /**
+     * Returns the exponents \(t\) of the reducing polynomial \(f(x) = x^n +
+     * \sum_{t} x^t\), except \(n\).
+     *
+     * @return the exponents in increasing order.
+     */
+    int[] getReductionExponents() {
+        return reductionExponents;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -191,6 +236,15 @@ public class BinaryField implements Ring {
         return (BinaryFieldElement) x.pow(pow);
     }
 
+    /**
+     * @see Ring#batchInverse(List)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<? extends BinaryFieldElement> batchInverse(final List<? extends RingElement> elements) {
+        return BatchInversion.batchInverse(this, (List<? extends BinaryFieldElement>) elements);
+    }
+
     @Override
     public BigInteger getCharacteristic() {
         return BigInteger.TWO;
@@ -201,24 +255,50 @@ public class BinaryField implements Ring {
         return groupElement.getGroup().equals(this);
     }
 
+    /**
+     * Returns \(\lceil n / 8 \rceil\), the length of the big-endian
+     * encoding of the polynomials of degree less than \(n\).
+     *
+     * @see Ring#getEncodingLength()
+     */
+    @Override
+    public int getEncodingLength() {
+        return (n + 7) / 8;
+    }
+
+    /**
+     * Decodes the polynomial whose coefficients are the bits of the
+     * big-endian integer of {@link #getEncodingLength()} bytes. It is empty
+     * if the degree is not less than \(n\).
+     *
+     * @see Ring#fromBytes(byte[])
+     */
     @Override
     public Optional<? extends BinaryFieldElement> fromBytes(byte[] bytes) {
-        throw new NotImplementedException();
+        if (bytes.length != getEncodingLength()) {
+            return Optional.empty();
+        }
+        BigInteger value = new BigInteger(1, bytes);
+        if (value.bitLength() > n) {
+            return Optional.empty();
+        }
+        return buildElement().setBitSet(BitSetManipulation.bigIntegerToBitSet(value)).build();
     }
 
     @Override
     public BinaryFieldElement ZERO() {
-        return this.getAdditiveIdentity();
+        return zero;
     }
 
     @Override
     public BinaryFieldElement ONE() {
-        return this.getMultiplicativeIdentity();
+        return one;
     }
 
     @Override
     public BinaryFieldElement THREE() {
-        return this.getMultiplicativeIdentity().add(this.getMultiplicativeIdentity()).add(this.getMultiplicativeIdentity());
+        // 3 = 1 + 1 + 1 = 1 in characteristic 2
+        return one;
     }
 
     /**
@@ -2,6 +2,7 @@ package cat.udl.cig.structures;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Objects;
 
@@ -11,8 +12,9 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Models a <i>Binary Field Element</i>. This <i>Binary Field Element</i> has a
- * value \(k\), represented by a <i>BitSet</i>, and belongs to a
- * <i>BinaryField</i> /(F/). Any attempt to operate an instance of
+ * value \(k\), represented by fixed-length 64-bit words, and belongs to a
+ * <i>BinaryField</i> /(F/). The value is only converted to a <i>BitSet</i> at
+ * the API edge. Any attempt to operate an instance of
  * <i>BinaryFieldElement</i> with an instance of a different kind of
  * <i>RingElement</i> causes an runtime exception.
  *
@@ -29,9 +31,12 @@ public class BinaryFieldElement implements RingElement {
     private final BinaryField F;
 
     /**
-     * A BitSet that encapsulates the value of this <i>Binary Field Element</i>.
+     * The words that encapsulate the value of this <i>Binary Field Element</i>,
+     * least significant first. Its length is always
+     * {@code F.getWordLength()} and they are never modified once the element
+     * is created.
      */
-    private final BitSet k; // as vector of bits representing a polynomial
+    private final long[] k; // as vector of bits representing a polynomial
 
     /**
      * Creates a <i>BinaryFieldElement</i> with value \(k\) and belonging to the
@@ -50,7 +55,20 @@ public class BinaryFieldElement implements RingElement {
      */
     public BinaryFieldElement(@NotNull final BinaryField F, @NotNull final BitSet k) {
         this.F = F;
-        this.k = k.get(0, F.getDimension());
+        this.k = Arrays.copyOf(k.get(0, F.getDimension()).toLongArray(), F.getWordLength());
+    }
+
+    /**
+     * Creates a <i>BinaryFieldElement</i> from its words. The words must be
+     * already reduced and are not copied.
+     *
+     * @param F the <i>BinaryField</i> to which {@code this}
+     *          <i>BinaryFieldElement</i> will belong.
+     * @param k the reduced words of the value, least significant first.
+     */
+    BinaryFieldElement(@NotNull final BinaryField F, @NotNull final long[] k) {
+        this.F = F;
+        this.k = k;
     }
 
     /**
@@ -62,7 +80,7 @@ public class BinaryFieldElement implements RingElement {
      */
     public BinaryFieldElement(final BinaryFieldElement q) {
         F = new BinaryField(q.F);
-        k = (BitSet) q.k.clone();
+        k = q.k.clone();
     }
 
     /*
@@ -88,12 +106,23 @@ public class BinaryFieldElement implements RingElement {
 
     @Override
     public BitSet getValue() {
-        return (BitSet) k.clone();
+        return BitSet.valueOf(k);
     }
 
     @Override
     public BigInteger getIntValue() {
-        return BitSetManipulation.bitSetToBigInteger(k);
+        return BitSetManipulation.bitSetToBigInteger(getValue());
+    }
+
+    /**
+     * Returns the bits of {@code this} element as a big-endian integer of
+     * {@link BinaryField#getEncodingLength()} bytes, as in <i>SEC 1</i>.
+     *
+     * @see GroupElement#toBytes()
+     */
+    @Override
+    public byte[] toBytes() {
+        return PrimeField.toFixedBytes(getIntValue(), F.getEncodingLength());
     }
 
     @Override
@@ -106,8 +135,11 @@ public class BinaryFieldElement implements RingElement {
          */
 
         if (belongsToSameGroup(q)) {
-            BitSet new_value = (BitSet) k.clone();
-            new_value.xor(((BinaryFieldElement) q).getValue());
+            long[] qWords = ((BinaryFieldElement) q).k;
+            long[] new_value = new long[k.length];
+            for (int i = 0; i < k.length; i++) {
+                new_value[i] = k[i] ^ qWords[i];
+            }
             return new BinaryFieldElement(F, new_value);
 
         } else {
@@ -150,32 +182,97 @@ public class BinaryFieldElement implements RingElement {
                 "RingElement q is not a "
                     + "correct instance of BitFieldElement");
         }
-        // a*b = p
-        BitSet a = getValue();
-        BitSet b = (BitSet) q.getValue();
-        BitSet p = new BitSet();
-        Boolean carry;
-        BitSet modifiedReducingPolynomial;
-        modifiedReducingPolynomial =
-            (BitSet) F.getReducingPolynomial().clone();
-        modifiedReducingPolynomial.clear(F.getDimension());
-
-        for (int i = 0; i < F.getDimension() && !a.isEmpty()
-            && !b.isEmpty(); i++) {
-            if (b.get(0)) {
-                p.xor(a);
+        return new BinaryFieldElement(F, reduce(combMultiply(k, ((BinaryFieldElement) q).k)));
+    }
+
+    /**
+     * Computes the product \(a(x) b(x)\) without reduction with the
+     * left-to-right comb method with windows of 4 bits. The 16 multiples
+     * \(u(x) b(x)\), where \(\deg u < 4\), are computed first.
+     *
+     * @param a the words of the first operand.
+     * @param b the words of the second operand.
+     * @return the \(2 \cdot\) {@code a.length} words of \(a(x) b(x)\).
+     */
+    private static long[] combMultiply(final long[] a, final long[] b) {
+        final int words = a.length;
+        long[][] table = new long[16][words + 1];
+        for (int i = 0; i < words; i++) {
+            table[1][i] = b[i];
+        }
+        for (int u = 2; u < 16; u += 2) {
+            long carry = 0;
+            long[] half = table[u >>> 1];
+            for (int i = 0; i <= words; i++) {
+                table[u][i] = (half[i] << 1) | carry;
+                carry = half[i] >>> 63;
+            }
+            for (int i = 0; i <= words; i++) {
+                table[u + 1][i] = table[u][i] ^ table[1][i];
+            }
+        }
+        long[] c = new long[2 * words];
+        for (int nibble = 15; nibble >= 0; nibble--) {
+            for (int j = 0; j < words; j++) {
+                long[] multiple = table[(int) (a[j] >>> (4 * nibble)) & 0xF];
+                for (int i = 0; i <= words && j + i < c.length; i++) {
+                    c[j + i] ^= multiple[i];
+                }
             }
-            b = BitSetManipulation.rightShift(b);
-            carry = a.get(F.getDimension() - 1);
-            a = BitSetManipulation.leftShift(a);
-            a.clear(F.getDimension());
-            if (carry) {
-                a.xor(modifiedReducingPolynomial);
+            if (nibble != 0) {
+                long carry = 0;
+                for (int i = 0; i < c.length; i++) {
+                    long word = c[i];
+                    c[i] = (word << 4) | carry;
+                    carry = word >>> 60;
+                }
             }
+        }
+        return c;
+    }
 
+    /**
+     * Reduces the polynomial \(c(x)\) modulo the reducing polynomial \(f(x) =
+     * x^n + \sum_{t} x^t\) word by word. Every word \(w\) of bits of degree
+     * at least \(n\) is cleared and \(w \cdot x^{t - n}\) is added for each
+     * \(t\), so trinomials and pentanomials only need 2 and 4 additions per
+     * word.
+     *
+     * @param c the words of the polynomial. They are modified.
+     * @return the {@code F.getWordLength()} words of \(c(x) \bmod f(x)\).
+     */
+    private long[] reduce(final long[] c) {
+        final int n = F.getDimension();
+        final int[] exponents = F.getReductionExponents();
+        final int topWord = n >>> 6;
+        for (int j = c.length - 1; j >= topWord; j--) {
+            final long mask = (j == topWord) ? (-1L << (n & 63)) : -1L;
+            long w;
+            while ((w = c[j] & mask) != 0) {
+                c[j] ^= w;
+                for (int t : exponents) {
+                    xorShifted(c, w, 64 * j - n + t);
+                }
+            }
         }
+        return Arrays.copyOf(c, F.getWordLength());
+    }
 
-        return new BinaryFieldElement(F, p);
+    /**
+     * Computes \(c(x) = c(x) + w \cdot x^{s}\), where \(s\) can be negative
+     * if the lowest \(-s\) bits of \(w\) are zero.
+     */
+    private static void xorShifted(final long[] c, final long w, final int s) {
+        if (s < 0) {
+            c[0] ^= w >>> (-s);
+            return;
+        }
+        final int word = s >>> 6;
+        final int bit = s & 63;
+        c[word] ^= w << bit;
+        if (bit != 0 && word + 1 < c.length) {
+            c[word + 1] ^= w >>> (64 - bit);
+        }
     }
 
     @Override
@@ -191,7 +288,7 @@ public class BinaryFieldElement implements RingElement {
                 "RingElement q is not a "
                     + "correct instance of BitFieldElement");
         }
-        if (((BinaryFieldElement) q).k.isEmpty()) {
+        if (((BinaryFieldElement) q).isZero()) {
             throw new IncorrectRingElementException(
                 "RingElement q cannot be 0");
         }
@@ -222,7 +319,7 @@ public class BinaryFieldElement implements RingElement {
     @Override
     public BinaryFieldElement inverse() {// throws IncorrectRingElementException
         // {
-        long[] u = getValue().toLongArray();
+        long[] u = k.clone();
         long[] v = F.getReducingPolynomial().toLongArray();
         long[] g1 = new long[1]; // 1
         g1[0] = 1L;
@@ -300,58 +397,36 @@ public class BinaryFieldElement implements RingElement {
 
     /**
      * Computes a \(n\) bits left shift, where the binary number is represented
-     * as a long[]
+     * as a long[]. The whole words are moved by \(\lfloor n / 64 \rfloor\)
+     * positions and the rest of the shift, \(n \bmod 64\), is done at the
+     * same time, as in the reduction.
      *
      * @param aLong
      *            a long[] representing a binary number
      * @param n
      *            the number of bits that will be shifted to the left.
-     * @return a long[] that contains a binary number which is the result of
-     *         applying \(n\) bits left shift to the parameter {@code aLong}.
+     * @return a new long[], just long enough to contain the binary number
+     *         which is the result of applying \(n\) bits left shift to the
+     *         parameter {@code aLong}.
      */
     private long[] longLeftShift(final long[] aLong, final int n) {
-        long[] tmp = new long[aLong.length];
-        System.arraycopy(aLong, 0, tmp, 0, aLong.length);
-        for (int i = 0; i < n; i++) {
-            tmp = longLeftShift(tmp);
-        }
-        return tmp;
-    }
-
-    /**
-     * Computes a bit left shift, where the binary number is represented as a
-     * long[]
-     *
-     * @param aLong
-     *            a long[] representing a binary number
-     * @return a long[] that contains a binary number which is the result of
-     *         applying a bit left shift to the parameter {@code aLong}.
-     */
-    private long[] longLeftShift(long[] aLong) {
-        final long maskOfCarry = -9223372036854775808L;
-        boolean carry = false;
-        for (int i = 0; i < aLong.length; ++i) {
-            if (carry) {
-                carry = ((aLong[i] & maskOfCarry) != 0);
-                aLong[i] <<= 1;
-                ++aLong[i];
-            } else {
-                carry = ((aLong[i] & maskOfCarry) != 0);
-                aLong[i] <<= 1;
+        final int words = n >>> 6;
+        final int bits = n & 63;
+        long[] result = new long[Math.max(1, (degree(aLong) + n + 63) >>> 6)];
+        for (int i = 0; i < aLong.length && i + words < result.length; i++) {
+            result[i + words] |= aLong[i] << bits;
+            if (bits != 0 && i + words + 1 < result.length) {
+                result[i + words + 1] |= aLong[i] >>> (64 - bits);
             }
         }
-        if (carry) {
-            long[] tmp = new long[aLong.length + 1];
-            System.arraycopy(aLong, 0, tmp, 0, aLong.length);
-            ++tmp[aLong.length];
-            aLong = tmp;
-        }
-        return aLong;
+        return result;
     }
 
     /**
      * Computes {@code this^k (mod p)}, where \(p\) is the irreducible
-     * polynomial.
+     * polynomial. It uses the <i>sliding window</i> method, whose window
+     * grows with the bit length of \(k\), so most of the work are the cheap
+     * squarings.
      *
      * @param k
      *            a <i>BigInteger</i> representing the exponent of the
@@ -369,20 +444,31 @@ public class BinaryFieldElement implements RingElement {
          * "initialized"); }
          */
 
-        // BitSet temp = new BitSet();
-        // temp.set(0);
-        BinaryFieldElement result = F.getMultiplicativeIdentity();
-        BinaryFieldElement b = new BinaryFieldElement(this);
-
         // k mod ((2^m) -1)
         k = k.mod(F.getSize().subtract(BigInteger.ONE));
+        if (k.signum() == 0) {
+            return F.getMultiplicativeIdentity();
+        }
 
-        while (k.bitLength() != 0) {
-            if (k.testBit(0)) {
-                result = result.multiply(b);
+        final int w = WindowedExponentiation.window(k.bitLength());
+        BinaryFieldElement[] powers = new BinaryFieldElement[1 << (w - 1)];
+        powers[0] = this;
+        if (powers.length > 1) {
+            BinaryFieldElement squared = square();
+            for (int i = 1; i < powers.length; i++) {
+                powers[i] = powers[i - 1].multiply(squared);
+            }
+        }
+        int[] digits = WindowedExponentiation.slidingWindow(k, w);
+        BinaryFieldElement result = null;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (result != null) {
+                result = result.square();
+            }
+            if (digits[i] != 0) {
+                BinaryFieldElement power = powers[digits[i] >>> 1];
+                result = result == null ? power : result.multiply(power);
             }
-            k = k.shiftRight(1);
-            b = b.square();
         }
         return result;
     }
@@ -405,33 +491,14 @@ public class BinaryFieldElement implements RingElement {
          * "initialized"); }
          */
 
-        BitSet temp = new BitSet();
-        temp.set(0);
-        BinaryFieldElement result = new BinaryFieldElement(F, temp);
-        BinaryFieldElement b = new BinaryFieldElement(F, getValue());
-
-        BitSet q = (BitSet) q1.clone();
-        BigInteger value = BitSetManipulation.bitSetToBigInteger(q);
-        if (value.compareTo(F.getSize().subtract(BigInteger.ONE)) > 0) {
-            q =
-                BitSetManipulation.bigIntegerToBitSet(value.mod(F
-                    .getSize().subtract(BigInteger.ONE)));
-        }
-
-        while (!q.isEmpty()) {
-            if (q.get(0)) {
-                result = result.multiply(b);
-            }
-            q = BitSetManipulation.rightShift(q);
-            b = b.square();
-        }
-        return result;
+        return pow(BitSetManipulation.bitSetToBigInteger(q1));
     }
 
     /**
-     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement. It is
-     * optimized for trinomials of the form \(x^m + x^n +1\), where \(n &#60;=
-     * \text{floor}(m/2)\)
+     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement. The
+     * square of a binary polynomial is obtained by interleaving its bits with
+     * zeros, so it is done word by word and then reduced with
+     * {@link #reduce(long[])}.
      *
      * @return a BinaryFieldElement representing \(q^2\).
      * @throws IncorrectRingElementException
@@ -439,257 +506,35 @@ public class BinaryFieldElement implements RingElement {
      */
     public BinaryFieldElement square()
             throws IncorrectRingElementException {
-        /*
-         * if(!isInitialized()) { throw new
-         * IncorrectRingElementException("BitFieldElement not " +
-         * "initialized"); }
-         */
-
-        BitSet P = F.getReducingPolynomial();
-        int m = P.length() - 1;
-        int n = P.nextSetBit(1);
-        // P has to be trinomial of the form x^m + x^n +1, where n<=floor(m/2)
-        // is trinomial? has the 1 term? is the size correct?
-        if (P.cardinality() != 3 || !P.get(0) || m != F.getDimension()
-                // n has to be at most m/2
-                || n > (m / 2)) {
-            if (P.cardinality() == 3) {
-                return squareTrinomialGeneral();
-            }
-            return multiply(this);
-        }
-
-        if (m % 2 == 0b0) { // m even
-            if (n == m / 2) { // n = m/2
-                return squareType2();
-            }
-            return squareType1(); // n < m/2
-        }
-        // m odd
-        // n even
-        if (n % 2 == 0b0) {
-            return squareType4();
-        } // n odd
-        return squareType3();
-    }
-
-    /**
-     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement. It is
-     * optimized for trinomials of the form \(x^m + x^n +1\), where \(m\) is
-     * even and \(n\) is odd, \(n &#60; m/2\) Method from "Low Complexity
-     * Bit-Parallel Square Root Computation over GF(2^m) for all Trinomials", by
-     * F. Rodríguez, G. Morales, J. López. NOTE: There's an error in the
-     * original paper, formula 18, for the squaring of type I polynomials, in
-     * the case of i odd, i < n. It should be (m-((n-i)/2)), instad of
-     * (m+1-((n+i)/2))
-     *
-     * @return a BinaryFieldElement representing \(q^2\).
-     */
-    private BinaryFieldElement squareType1() {
-        BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
-        int m = P.length() - 1;
-        int n = P.nextSetBit(1);
-        BitSet c = new BitSet(m);
-        int j;
-        for (int i = 0; i < m; i += 2) {
-            if (((i < n || i >= n * 2) && (a.get(i / 2) ^ a
-                .get((m + i) / 2)))
-                || (i > n && (i < (n * 2) && (a.get(i / 2)
-                    ^ a.get((m + i) / 2) ^ a.get(m - n + (i / 2)))))) {
-                c.set(i);
-            }
-            j = i + 1;
-            if (j < m && (j < n && (a.get(m - ((n - j) / 2))))
-                || (j >= n && (a.get((m - n + j) / 2)))) {
-                c.set(j);
-            }
-        }
-        /*
-         * for (int i = 0; i < m; i++) { if (i%2 == 0b0) { //i even if (n < i &&
-         * i < (n*2) ) { //n < i < 2n if (a.get(i/2) ^ a.get((m+i)/2) ^
-         * a.get(m-n+(i/2))) c.set(i); continue; } //i<n or i>=2n if (a.get(i/2)
-         * ^ a.get((m+i)/2)) c.set(i); continue; } //i odd if (i<n) { //i<n if
-         * (a.get(m-((n-i)/2))) c.set(i); continue; } //i>=n if
-         * (a.get((m-n+i)/2)) c.set(i); }
-         */
-        return new BinaryFieldElement(F, c);
-    }
-
-    /**
-     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement. It is
-     * optimized for trinomials of the form \(x^m + x^n +1\), where \(m\) is
-     * even and \(n\) is odd, \(n = m/2\) Method from "Low Complexity
-     * Bit-Parallel Square Root Computation over GF(2^m) for all Trinomials", by
-     * F. Rodríguez, G. Morales, J. López. NOTE: There's an error in the
-     * original paper, formula 19, for the squaring of type II polynomials, in
-     * the case of i odd, i < n. It should be (m-((n-i)/2)), instad of
-     * (m+1-((n+i)/2))
-     *
-     * @return a BinaryFieldElement representing \(q^2\).
-     */
-    private BinaryFieldElement squareType2() {
-        BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
-        int m = P.length() - 1;
-        int n = P.nextSetBit(1);
-        BitSet c = new BitSet(m);
-        int j;
-        for (int i = 0; i < m; i += 2) {
-            if ((i < n && (a.get(i / 2) ^ a.get((m + i) / 2)))
-                || (i > n && a.get(i / 2))) {
-                c.set(i);
-            }
-            j = i + 1;
-            if (j < m
-                && ((j < n && a.get(m - ((n - j) / 2))) || (j >= n && (a
-                    .get((n + j) / 2))))) {
-                c.set(j);
-            }
-        }
-        /*
-         * for (int i = 0; i < m; i++) { if (i%2 == 0b0) { //i even if (i < n) {
-         * //i<n if (a.get(i/2) ^ a.get((m+i)/2) ) c.set(i); continue; } //i>n
-         * if (a.get(i/2)) c.set(i); continue; } //i odd if (i < n) { //i<n if
-         * (a.get(m-((n-i)/2))) c.set(i); continue; } //i>=n if (a.get((n+i)/2))
-         * c.set(i); }
-         */
-        return new BinaryFieldElement(F, c);
-    }
-
-    /**
-     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement. It is
-     * optimized for trinomials of the form \(x^m + x^n +1\), where \(m\) is odd
-     * and \(n\) is odd, \(n &#60; (m + 1)/2\) Method from "Low Complexity
-     * Bit-Parallel Square Root Computation over GF(2^m) for all Trinomials", by
-     * F. Rodríguez, G. Morales, J. López.
-     *
-     * @return a BinaryFieldElement representing \(q^2\).
-     */
-    private BinaryFieldElement squareType3() {
-        BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
-        int m = P.length() - 1;
-        int n = P.nextSetBit(1);
-        int j;
-        BitSet c = new BitSet(m);
-        for (int i = 0; i < m; i += 2) {
-            if ((i < n && a.get(i / 2))
-                || (i > n
-                    && (i < (n * 2) && (a.get(i / 2)
-                        ^ a.get((i / 2) + ((m - n) / 2)) ^ a.get((i / 2)
-                        + m - n))) || i >= 2 * n
-                    && (a.get(i / 2) ^ a.get((i / 2) + ((m - n) / 2))))) {
-                c.set(i);
-            }
-            j = i + 1;
-            if (j < m
-                && ((j < n && (a.get((m + j) / 2) ^ a
-                    .get(((m * 2) + j - n) / 2))) || (j >= n && a
-                    .get((m + j) / 2)))) {
-                c.set(j);
-            }
+        long[] c = new long[2 * k.length];
+        for (int i = 0; i < k.length; i++) {
+            c[2 * i] = interleaveZeros(k[i]);
+            c[2 * i + 1] = interleaveZeros(k[i] >>> 32);
         }
-
-        /*
-         * for (int i = 0; i < m; i++) { if (i%2 == 0b0) { //i even if (i < n) {
-         * //i<n if (a.get(i/2)) c.set(i); continue; } //i>n if (i<(n*2)) {
-         * //n<i<2n if (a.get(i/2) ^ a.get((i/2)+((m-n)/2)) ^ a.get((i/2)+m-n))
-         * c.set(i); continue; } //i>=2n if (a.get(i/2) ^
-         * a.get((i/2)+((m-n)/2))) c.set(i); continue; } //i odd if (i < n) {
-         * //i<n if (a.get((m+i)/2) ^ a.get(((m*2)+i-n)/2 )) c.set(i); continue;
-         * } //i>=n if (a.get((m+i)/2)) c.set(i); }
-         */
-
-        return new BinaryFieldElement(F, c);
+        return new BinaryFieldElement(F, reduce(c));
     }
 
     /**
-     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement. It is
-     * optimized for trinomials of the form \(x^m + x^n +1\), where \(m\) is odd
-     * and \(n\) is even, \(n &#60; (m + 1)/2\) Method from "Low Complexity
-     * Bit-Parallel Square Root Computation over GF(2^m) for all Trinomials", by
-     * F. Rodríguez, G. Morales, J. López.
-     *
-     * @return a BinaryFieldElement representing \(q^2\).
+     * Spreads the lowest 32 bits of {@code x} to the even positions of a
+     * long.
      */
-    private BinaryFieldElement squareType4() {
-        BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
-        int m = P.length() - 1;
-        int n = P.nextSetBit(1);
-        BitSet c = new BitSet(m);
-        int j;
-
-        for (int i = 0; i < m; i += 2) {
-            if (i < n
-                && (a.get(i / 2) ^ a.get((i / 2) + m - (n / 2)))
-                || (i >= n && i < 2 * n && (a.get(i / 2) ^ a.get((i / 2)
-                    + m - n))) || (i >= 2 * n && a.get(i / 2))) {
-                c.set(i);
-            }
-            j = i + 1;
-            if (j < m
-                && ((j < n && a.get((m + j) / 2)) || (j > n && (a
-                    .get((m + j) / 2) ^ a.get((m + j - n) / 2))))) {
-                c.set(j);
-            }
-        }
-        /*
-         * for (int i = 0; i < m; i++) { if (i%2 == 0b0) { //i even if (i < n) {
-         * //i<n if (a.get(i/2) ^ a.get((i/2)+m-(n/2))) c.set(i); continue; }
-         * //i>=n if (i < (n*2)) { //n<=i<2n if (a.get(i/2) ^ a.get((i/2)+m-n))
-         * c.set(i); continue; } //i>=2n if (a.get(i/2)) c.set(i); continue; }
-         * //i odd if (i < n) { //i<n if (a.get((m+i)/2)) c.set(i); continue; }
-         * //i>n if (a.get((m+i)/2) ^ a.get((m+i-n)/2)) c.set(i); }
-         */
-        return new BinaryFieldElement(F, c);
+    private static long interleaveZeros(long x) {
+        x &= 0xFFFFFFFFL;
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
     }
 
-    // Auxiliar method for squareXOR.
-    private BitSet getAugmentedVector(final BitSet a) {
-        BitSet augmented = new BitSet(a.length() * 2);
-        for (int i = 0; i < a.length() * 2; i += 2) {
-            if (a.get(i / 2)) {
-                augmented.set(i);
+    private boolean isZero() {
+        for (long word : k) {
+            if (word != 0L) {
+                return false;
             }
         }
-        return augmented;
-    }
-
-    // Auxiliar method for squareTrinomialGeneral.
-    private BitSet squareXOR(final BitSet a, final int m, final int n) {
-        BitSet augmented = getAugmentedVector(a);
-        BitSet W = augmented.get(0, m);
-        BitSet X = augmented.get(m, 2 * m);
-        BitSet Y =
-            BitSetManipulation.leftShift(augmented.get(m, 2 * m - n), n);
-        BitSet Z = augmented.get(2 * m - n, 2 * m);
-        BitSet Z2 =
-            BitSetManipulation.leftShift(augmented.get(2 * m - n, 2 * m),
-                n);
-        Z.xor(Z2);
-
-        W.xor(X);
-        W.xor(Y);
-        W.xor(Z);
-
-        return W;
-    }
-
-    /**
-     * Computes \(q^2\), where \(q\) is {@code this} BinaryFieldElement, when
-     * the reducing polynomial is a trinomial. Only used if the trinomial is not
-     * any of the 4 special polynomials for squaring (see squareType1 to 4).
-     * Method from "Low Complexity Bit-Parallel Square Root Computation over
-     * GF(2^m) for all Trinomials", by F. Rodríguez, G. Morales, J. López.
-     *
-     * @return a BinaryFieldElement representing \(q^2\).
-     */
-    private BinaryFieldElement squareTrinomialGeneral() {
-        BitSet P = F.getReducingPolynomial();
-        return new BinaryFieldElement(F, squareXOR(k, P.length() - 1,
-            P.nextSetBit(1)));
+        return true;
     }
 
     /**
@@ -765,7 +610,7 @@ public class BinaryFieldElement implements RingElement {
      */
     private BinaryFieldElement squareRootType1() {
         BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
+        final BitSet a = getValue();
         final int m = P.length() - 1;
         final int n = P.nextSetBit(1);
         BitSet d = new BitSet(m);
@@ -804,7 +649,7 @@ public class BinaryFieldElement implements RingElement {
      */
     private BinaryFieldElement squareRootType2() {
         BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
+        final BitSet a = getValue();
         final int m = P.length() - 1;
         BitSet d = new BitSet(m);
         boolean doubleiBit;
@@ -838,7 +683,7 @@ public class BinaryFieldElement implements RingElement {
      */
     private BinaryFieldElement squareRootType3() {
         BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
+        final BitSet a = getValue();
         final int m = P.length() - 1;
         final int n = P.nextSetBit(1);
         BitSet d = new BitSet(m);
@@ -885,7 +730,7 @@ public class BinaryFieldElement implements RingElement {
      */
     private BinaryFieldElement squareRootType4() {
         BitSet P = F.getReducingPolynomial();
-        final BitSet a = k;
+        final BitSet a = getValue();
         final int m = P.length() - 1;
         final int n = P.nextSetBit(1);
         BitSet d = new BitSet(m);
@@ -976,12 +821,12 @@ public class BinaryFieldElement implements RingElement {
         if (o == null || getClass() != o.getClass()) return false;
         BinaryFieldElement that = (BinaryFieldElement) o;
         return Objects.equals(F, that.F) &&
-                Objects.equals(k, that.k);
+                Arrays.equals(k, that.k);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(F, k);
+        return 31 * Objects.hashCode(F) + Arrays.hashCode(k);
     }
 
     /**
@@ -992,9 +837,7 @@ public class BinaryFieldElement implements RingElement {
      *         <i>BinaryFieldElement</i>.
      */
     public String toBinString() {
-        if (k == null) {
-            return "";
-        }
+        final BitSet k = getValue();
         String output = "";
         for (int i = k.length() - 1; i >= 0; i--) {
             if (k.get(i)) {
@@ -1021,9 +864,7 @@ public class BinaryFieldElement implements RingElement {
      *         <i>BinaryFieldElement</i>.
      */
     public String toPolynomialString() {
-        if (k == null) {
-            return "";
-        }
+        final BitSet k = getValue();
         if (k.length() == 0) {
             return "0";
         }
@@ -1057,15 +898,6 @@ public class BinaryFieldElement implements RingElement {
 
     @NotNull
     public BigInteger getSubstitutionMaxSizeValue() {
-        BigInteger result = BigInteger.ZERO;
-        long[] d = F.getReducingPolynomial().toLongArray();
-        int degree = degree(d);
-        for (int i = 0; i <= degree; i++) {
-            if (this.k.get(i)) {
-                BigInteger op = (BigInteger.TWO).pow(i);
-                result = result.add(op);
-            }
-        }
-        return result;
+        return getIntValue();
     }
 }
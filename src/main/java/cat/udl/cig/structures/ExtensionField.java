@@ -1,12 +1,13 @@
 package cat.udl.cig.structures;
 
 import cat.udl.cig.exceptions.ConstructionException;
-import cat.udl.cig.exceptions.NotImplementedException;
 import cat.udl.cig.structures.builder.ExtensionFieldElementBuilder;
 import cat.udl.cig.utils.Polynomial;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
@@ -21,6 +22,12 @@ import java.util.Random;
  */
 public class ExtensionField implements Ring {
 
+    /**
+     * The <i>ExtensionFields</i> created by {@link #ExtensionFieldP2(BigInteger)},
+     * by characteristic.
+     */
+    private static final Interner<BigInteger, ExtensionField> INTERNED_P2 = new Interner<>();
+
     /**
      * A BigInteger that encapsulates the characteristic of this <i>Field</i>.
      */
@@ -39,6 +46,23 @@ public class ExtensionField implements Ring {
      */
     private final Polynomial reducingPolynomial; /* Irreducible polynomial */
 
+    /**
+     * The constants \(0\), \(1\) and \(3\) of {@code this}
+     * <i>ExtensionField</i>. The elements are immutable, so they are shared
+     * by every call to {@link #ZERO()}, {@link #ONE()} and {@link #THREE()}.
+     */
+    private final ExtensionFieldElement zero;
+    private final ExtensionFieldElement one;
+    private final ExtensionFieldElement three;
+
+    /**
+     * The coefficients of \(x^{n + i} \bmod f(x)\), for \(0 \leq i \leq n -
+     * 2\), where \(f(x)\) is the reducing polynomial. The product of two
+     * reduced polynomials has degree at most \(2n - 2\), so it is reduced
+     * with a single pass over this table.
+     */
+    private final BigInteger[][] reductionTable;
+
     /**
      * Creates an <i>ExtensionField</i> with characteristic \(p = p\), exponent
      * \(n = n\) and \(\text{reducingPolynomial} = \text{reducingPoly}\). This
@@ -68,24 +92,52 @@ public class ExtensionField implements Ring {
         } else {
             throw new ConstructionException();
         }
-        field = new PrimeField(p);
+        field = PrimeField.of(p);
+        reductionTable = computeReductionTable(reducingPolynomial, p, n);
+        zero = constant(field.ZERO());
+        one = constant(field.ONE());
+        three = constant(field.THREE());
     }
 
+    /**
+     * Returns the <i>ExtensionField</i> \(\mathbb{F}_{p^2}\). The fields are
+     * interned, so the reducing polynomial is only searched the first time
+     * and every call with the same \(p\) returns the same instance while
+     * it is reachable.
+     *
+     * @param p the characteristic. It must be positive and a prime number.
+     * @return the <i>ExtensionField</i> \(\mathbb{F}_{p^2}\).
+     * @throws ConstructionException if \(p\) is not a prime number.
+     */
     public static ExtensionField ExtensionFieldP2(BigInteger p) {
-        return new ExtensionField(p, 2, searchIrreduciblePolynomial(p));
+        return INTERNED_P2.intern(p, q -> new ExtensionField(q, 2, searchIrreduciblePolynomial(q)));
     }
 
     private static Polynomial searchIrreduciblePolynomial(BigInteger p) {
-        PrimeField field = new PrimeField(p);
-        Optional<PrimeFieldElement> one = field.buildElement().setValue(BigInteger.ONE).build();
-        if (one.isEmpty())
-            throw new ConstructionException();
-        Polynomial.PolynomialBuilder polynomialBuilder = new Polynomial.PolynomialBuilder().addTerm(2, one.get());
+        PrimeField field = PrimeField.of(p);
+        // x^2 - beta is irreducible when beta is a quadratic non-residue
+        PrimeFieldElement independentTerm = field.toElement(searchNonResidue(p)).opposite();
+        return new Polynomial.PolynomialBuilder()
+                .addTerm(2, field.getMultiplicativeIdentity())
+                .addTerm(0, independentTerm)
+                .build();
+    }
+
+    /**
+     * Returns the first quadratic non-residue \(\beta = -c\), for \(c = 1, 2,
+     * \ldots, p - 2\), so \(x^2 + c\) is the reducing polynomial used by
+     * {@link #ExtensionFieldP2(BigInteger)}.
+     *
+     * @param p the characteristic. It must be an odd prime.
+     * @return the quadratic non-residue \(\beta\).
+     * @throws ConstructionException if there is no such \(\beta\).
+     */
+    static BigInteger searchNonResidue(BigInteger p) {
+        PrimeField field = PrimeField.of(p);
         for (BigInteger i = BigInteger.valueOf(1); !i.equals(p.subtract(BigInteger.ONE)); i = i.add(BigInteger.ONE)) {
-            Polynomial polynomial = polynomialBuilder.addTerm(0, new PrimeFieldElement(field, i)).build();
-            PrimeFieldElement independentTerm = polynomial.getCoefficient(0);
-            if (independentTerm.opposite().isQuadraticNonResidue()) {
-                return polynomial;
+            PrimeFieldElement beta = new PrimeFieldElement(field, i).opposite();
+            if (beta.isQuadraticNonResidue()) {
+                return beta.getValue();
             }
         }
         throw new ConstructionException("Cannot find any irreducble polynomial");
@@ -108,6 +160,75 @@ public class ExtensionField implements Ring {
          * } else { n = 0; reducingPolynomial = null; }
          */
         field = F.field;
+        reductionTable = F.reductionTable;
+        zero = constant(field.ZERO());
+        one = constant(field.ONE());
+        three = constant(field.THREE());
+    }
+
+    private static BigInteger[][] computeReductionTable(final Polynomial f, final BigInteger p, final int n) {
+        BigInteger[][] table = new BigInteger[Math.max(0, n - 1)][];
+        if (n < 2) {
+            return table;
+        }
+        // x^n = -(f_0 + f_1 x + ... + f_{n-1} x^{n-1}) / f_n
+        BigInteger inverse = f.getCoefficient(n).getValue().modInverse(p).negate();
+        table[0] = new BigInteger[n];
+        for (int j = 0; j < n; j++) {
+            table[0][j] = f.getCoefficient(j).getValue().multiply(inverse).mod(p);
+        }
+        // x^{n + i} = x * x^{n + i - 1}
+        for (int i = 1; i < n - 1; i++) {
+            BigInteger top = table[i - 1][n - 1];
+            table[i] = new BigInteger[n];
+            for (int j = 0; j < n; j++) {
+                BigInteger shifted = j == 0 ? BigInteger.ZERO : table[i - 1][j - 1];
+                table[i][j] = shifted.add(top.multiply(table[0][j])).mod(p);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Computes \(a(x) b(x) \bmod f(x)\), where \(a\) and \(b\) are already
+     * reduced. The coefficients are multiplied as BigIntegers, and the product
+     * is reduced once with the precomputed powers \(x^{n + i} \bmod f(x)\).
+     *
+     * @param a a reduced polynomial, of degree less than \(n\).
+     * @param b a reduced polynomial, of degree less than \(n\).
+     * @return the reduced product.
+     */
+    Polynomial multiplyReduced(final Polynomial a, final Polynomial b) {
+        final BigInteger[] u = a.toArray();
+        final BigInteger[] v = b.toArray();
+        final int degree = u.length + v.length - 2;
+        BigInteger[] product = new BigInteger[Math.max(n, degree + 1)];
+        Arrays.fill(product, BigInteger.ZERO);
+        for (int i = 0; i < u.length; i++) {
+            if (u[i].signum() == 0) {
+                continue;
+            }
+            for (int j = 0; j < v.length; j++) {
+                product[i + j] = product[i + j].add(u[i].multiply(v[j]));
+            }
+        }
+        for (int k = degree; k >= n; k--) {
+            BigInteger c = product[k].mod(p);
+            if (c.signum() == 0) {
+                continue;
+            }
+            BigInteger[] power = reductionTable[k - n];
+            for (int j = 0; j < n; j++) {
+                product[j] = product[j].add(c.multiply(power[j]));
+            }
+        }
+        return new Polynomial(Arrays.copyOf(product, n), field);
+    }
+
+    private ExtensionFieldElement constant(final PrimeFieldElement value) {
+        ArrayList<PrimeFieldElement> coefficients = new ArrayList<>();
+        coefficients.add(value);
+        return new ExtensionFieldElement(this, new Polynomial(coefficients));
     }
 
     /**
@@ -156,7 +277,7 @@ public class ExtensionField implements Ring {
         Random rnd = new Random();
         String val;
         PrimeFieldElement elem;
-        PrimeField F = new PrimeField(p);
+        PrimeField F = field;
         for (int i = 0; i < n - 1; i++) {
             val = String.valueOf(rnd.nextInt());
             elem = new PrimeFieldElement(F, new BigInteger(val));
@@ -176,38 +297,12 @@ public class ExtensionField implements Ring {
     }
 
     public ExtensionFieldElement getAdditiveIdentity() {
-        /*
-         * if(!isInitialized()) { return new ExtensionFieldElement(this, new
-         * Polynomial()); }
-         */
-
-        ArrayList<PrimeFieldElement> coefficients =
-                new ArrayList<PrimeFieldElement>();
-        PrimeField F = new PrimeField(p);
-        PrimeFieldElement elem = new PrimeFieldElement(F, BigInteger.ZERO);
-        coefficients.add(elem);
-
-        Polynomial poly = new Polynomial(coefficients);
-
-        return new ExtensionFieldElement(this, poly);
+        return zero;
     }
 
     @Override
     public ExtensionFieldElement getMultiplicativeIdentity() {
-        /*
-         * if(!isInitialized()) { return new ExtensionFieldElement(this, new
-         * Polynomial()); }
-         */
-
-        ArrayList<PrimeFieldElement> coefficients =
-                new ArrayList<PrimeFieldElement>();
-        PrimeField F = new PrimeField(p);
-        PrimeFieldElement elem = new PrimeFieldElement(F, BigInteger.ONE);
-        coefficients.add(elem);
-
-        Polynomial poly = new Polynomial(coefficients);
-
-        return new ExtensionFieldElement(this, poly);
+        return one;
     }
 
     @Override
@@ -249,6 +344,15 @@ public class ExtensionField implements Ring {
         return (ExtensionFieldElement) x.pow(pow);
     }
 
+    /**
+     * @see Ring#batchInverse(List)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<? extends ExtensionFieldElement> batchInverse(final List<? extends RingElement> elements) {
+        return BatchInversion.batchInverse(this, (List<? extends ExtensionFieldElement>) elements);
+    }
+
     @Override
     public BigInteger getCharacteristic() {
         return this.p;
@@ -259,27 +363,56 @@ public class ExtensionField implements Ring {
         return groupElement.getGroup().equals(this);
     }
 
+    /**
+     * Returns the length of the \(n\) coefficients of the elements, each
+     * one encoded as a <i>PrimeFieldElement</i>.
+     *
+     * @see Ring#getEncodingLength()
+     */
+    @Override
+    public int getEncodingLength() {
+        return n * field.getEncodingLength();
+    }
+
+    /**
+     * Decodes the coefficients of \(x^{n - 1}, \ldots, x, 1\), in this
+     * order.
+     *
+     * @see Ring#fromBytes(byte[])
+     * @see ExtensionFieldElement#toBytes()
+     */
     @Override
     public Optional<? extends ExtensionFieldElement> fromBytes(byte[] bytes) {
-        throw new NotImplementedException();
+        final int length = field.getEncodingLength();
+        if (bytes.length != n * length) {
+            return Optional.empty();
+        }
+        ArrayList<PrimeFieldElement> coefficients = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            int from = (n - 1 - i) * length;
+            Optional<? extends PrimeFieldElement> coefficient =
+                    field.fromBytes(Arrays.copyOfRange(bytes, from, from + length));
+            if (coefficient.isEmpty()) {
+                return Optional.empty();
+            }
+            coefficients.add(coefficient.get());
+        }
+        return Optional.of(new ExtensionFieldElement(this, new Polynomial(coefficients, field), true));
     }
 
     @Override
     public ExtensionFieldElement ZERO() {
-        Polynomial.PolynomialBuilder pBuilder = new Polynomial.PolynomialBuilder();
-        return this.buildElement().setPolynomial(pBuilder.addTerm(0, field.ZERO()).build()).build().orElseThrow();
+        return zero;
     }
 
     @Override
     public ExtensionFieldElement ONE() {
-        Polynomial.PolynomialBuilder pBuilder = new Polynomial.PolynomialBuilder();
-        return this.buildElement().setPolynomial(pBuilder.addTerm(0, field.ONE()).build()).build().orElseThrow();
+        return one;
     }
 
     @Override
     public ExtensionFieldElement THREE() {
-        Polynomial.PolynomialBuilder pBuilder = new Polynomial.PolynomialBuilder();
-        return this.buildElement().setPolynomial(pBuilder.addTerm(0, field.THREE()).build()).build().orElseThrow();
+        return three;
     }
 
     /**
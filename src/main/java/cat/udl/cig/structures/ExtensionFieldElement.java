@@ -40,7 +40,8 @@ public class ExtensionFieldElement implements RingElement {
      * <i>ExtensionField</i> {@code Fpn} is not initialized, then the created
      * <i>ExtensionFieldElement</i> also remains uninitialized. That is
      * {@code this.Fpn = null} and {@code this.polynomial = null}. This
-     * constructor does not make a deep compy of \(Fpn\).
+     * constructor does not make a deep compy of \(Fpn\). The polynomial is
+     * only reduced if its degree is not less than the exponent \(n\).
      *
      * @param Fpn        the <i>ExtensionField</i> to which {@code this}
      *                   <i>ExtensionFieldElement</i> will belong.
@@ -51,15 +52,37 @@ public class ExtensionFieldElement implements RingElement {
     public ExtensionFieldElement(final ExtensionField Fpn,
                                  final Polynomial polynomial) {
         // if(Fpn != null && Fpn.isInitialized() && polynomial != null) {
-        this.Fpn = Fpn;
-        this.polynomial =
-                polynomial.euclideanDivision(Fpn.getReducingPolynomial(), polynomial.getField())
-                        .getValue();
+        this(Fpn, polynomial, isReduced(Fpn, polynomial));
         /*
          * } else { this.Fpn = null; this.polynomial = null; }
          */
     }
 
+    /**
+     * Creates an <i>ExtensionFieldElement</i> with value polynomial and
+     * belonging to the <i>ExtensionField</i> \(Fpn\). Neither \(Fpn\) nor
+     * the polynomial are copied, since both are immutable.
+     *
+     * @param Fpn        the <i>ExtensionField</i> to which {@code this}
+     *                   <i>ExtensionFieldElement</i> will belong.
+     * @param polynomial a Polynomial representing the value for {@code this}
+     *                   <i>ExtensionFieldElement</i>.
+     * @param reduced    indicates if the polynomial is already reduced modulo
+     *                   the reducing polynomial of \(Fpn\).
+     */
+    ExtensionFieldElement(final ExtensionField Fpn, final Polynomial polynomial,
+                          final boolean reduced) {
+        this.Fpn = Fpn;
+        this.polynomial = reduced ? polynomial
+                : polynomial.euclideanDivision(Fpn.getReducingPolynomial(), polynomial.getField())
+                .getValue();
+    }
+
+    private static boolean isReduced(final ExtensionField Fpn, final Polynomial polynomial) {
+        return polynomial.getDegree() >= 0 && polynomial.getDegree() < Fpn.getExponent()
+                && polynomial.getCoefficient(0).getGroup().equals(Fpn.getReducingPolynomial().getField());
+    }
+
     /**
      * Creates a copy of the <i>ExtensionFieldElement</i> \(q\). If \(q\) is
      * null or uninitialized, {@code this} instance remains uninitialized.
@@ -68,8 +91,8 @@ public class ExtensionFieldElement implements RingElement {
      */
     public ExtensionFieldElement(final ExtensionFieldElement q) {
         // if(q != null)&& q.isInitialized()) {
-        Fpn = new ExtensionField(q.Fpn);
-        polynomial = new Polynomial(q.polynomial);
+        Fpn = q.Fpn;
+        polynomial = q.polynomial;
         /*
          * } else { this.Fpn = null; this.polynomial = null; }
          */
@@ -119,13 +142,31 @@ public class ExtensionFieldElement implements RingElement {
         return value;
     }
 
+    /**
+     * Returns the coefficients of \(x^{n - 1}, \ldots, x, 1\), in this
+     * order, each one encoded as a <i>PrimeFieldElement</i>.
+     *
+     * @see ExtensionField#getEncodingLength()
+     */
+    @Override
+    public byte[] toBytes() {
+        final int n = Fpn.getExponent();
+        final int length = Fpn.getField().getEncodingLength();
+        byte[] bytes = new byte[n * length];
+        for (int i = 0; i <= polynomial.getDegree() && i < n; i++) {
+            byte[] coefficient = polynomial.getCoefficient(i).toBytes();
+            System.arraycopy(coefficient, 0, bytes, (n - 1 - i) * length, length);
+        }
+        return bytes;
+    }
+
     @Override
     public ExtensionFieldElement add(final RingElement q)
             throws IncorrectRingElementException {
         if (belongsToSameGroup(q)) {
             ExtensionFieldElement q1 = (ExtensionFieldElement) q;
             Polynomial r = polynomial.add(q1.polynomial);
-            return new ExtensionFieldElement(Fpn, r);
+            return new ExtensionFieldElement(Fpn, r, true);
         } else {
             throw new IncorrectRingElementException(
                     "RingElement q is not a "
@@ -139,7 +180,7 @@ public class ExtensionFieldElement implements RingElement {
         if (belongsToSameGroup(q)) {
             ExtensionFieldElement q1 = (ExtensionFieldElement) q;
             Polynomial r = polynomial.subtract(q1.polynomial);
-            return new ExtensionFieldElement(Fpn, r);
+            return new ExtensionFieldElement(Fpn, r, true);
         } else {
             throw new IncorrectRingElementException(
                     "RingElement q is not a "
@@ -152,10 +193,8 @@ public class ExtensionFieldElement implements RingElement {
             throws IncorrectRingElementException {
         if (belongsToSameGroup(q)) {
             ExtensionFieldElement q1 = (ExtensionFieldElement) q;
-            Polynomial r =
-                    polynomial.multiply(q1.polynomial,
-                            Fpn.getReducingPolynomial());
-            return new ExtensionFieldElement(Fpn, r);
+            Polynomial r = Fpn.multiplyReduced(polynomial, q1.polynomial);
+            return new ExtensionFieldElement(Fpn, r, true);
         } else {
             throw new IncorrectRingElementException(
                     "RingElement q is not a "
@@ -168,10 +207,10 @@ public class ExtensionFieldElement implements RingElement {
             throws IncorrectRingElementException {
         if (belongsToSameGroup(q)) {
             ExtensionFieldElement q1 = (ExtensionFieldElement) q;
-            Polynomial r =
-                    polynomial.divide(q1.polynomial,
-                            Fpn.getReducingPolynomial());
-            return new ExtensionFieldElement(Fpn, r);
+            if (q1.isZero()) {
+                throw new ArithmeticException("Division by zero");
+            }
+            return multiply(q1.inverse());
         } else {
             throw new IncorrectRingElementException(
                     "RingElement q is not a "
@@ -187,7 +226,7 @@ public class ExtensionFieldElement implements RingElement {
          * IncorrectRingElementException("FiniteFieldElement not " +
          * "initialized"); }
          */
-        return new ExtensionFieldElement(Fpn, polynomial.opposite());
+        return new ExtensionFieldElement(Fpn, polynomial.opposite(), true);
     }
 
     @Override
@@ -202,9 +241,35 @@ public class ExtensionFieldElement implements RingElement {
                 .getReducingPolynomial()));
     }
 
+    /**
+     * Returns if {@code this} is zero, either represented by the empty
+     * <i>Polynomial</i> of degree -1 or by the constant \(0\).
+     *
+     * @return {@code true} if {@code this} is the additive identity.
+     */
+    private boolean isZero() {
+        return polynomial.getDegree() < 0
+                || (polynomial.getDegree() == 0 && polynomial.getCoefficient(0).getValue().signum() == 0);
+    }
+
     @Override
     public ExtensionFieldElement pow(final BigInteger k) {// throws
-        return new ExtensionFieldElement(Fpn, polynomial.pow(k, Fpn.getReducingPolynomial()));
+        if (isZero()) {
+            // 0^k is 0 for k > 0, not 0^(k mod (q - 1))
+            if (k.signum() < 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+            return k.signum() == 0 ? Fpn.getMultiplicativeIdentity() : this;
+        }
+        BigInteger exponent = k.mod(Fpn.getSize().subtract(BigInteger.ONE));
+        Polynomial result = Fpn.getMultiplicativeIdentity().polynomial;
+        for (int i = exponent.bitLength() - 1; i >= 0; i--) {
+            result = Fpn.multiplyReduced(result, result);
+            if (exponent.testBit(i)) {
+                result = Fpn.multiplyReduced(result, polynomial);
+            }
+        }
+        return new ExtensionFieldElement(Fpn, result, true);
     }
 
     @Override
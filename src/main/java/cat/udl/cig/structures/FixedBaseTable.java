@@ -0,0 +1,148 @@
+package cat.udl.cig.structures;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Models a <i>Fixed-Base Precomputation Table</i> of a <i>GroupElement</i>
+ * \(g\). The exponent \(k\) is split into windows of \(w\) bits, \(k =
+ * \sum_{i} k_i 2^{w i}\), and the table stores \(g^{j 2^{w i}}\) for every
+ * window \(i\) and \(1 \leq j < 2^w\). Then, \(g^k = \prod_{i} g^{k_i 2^{w
+ * i}}\) is computed without squarings, with at most one multiplication per
+ * window.
+ * <p>
+ * The table is built once and it is immutable, so it can be shared between
+ * threads.
+ *
+ * @see GroupElement#buildFixedBaseTable(int)
+ */
+public class FixedBaseTable {
+
+    /**
+     * The default number of bits of each window.
+     */
+    public static final int DEFAULT_WINDOW = 4;
+
+    /**
+     * The base \(g\) of the table.
+     */
+    private final GroupElement base;
+
+    /**
+     * The maximum bit length of the exponents computed with the table.
+     * Longer exponents fall back to {@code base.pow(k)}.
+     */
+    private final int maxBits;
+
+    /**
+     * The number of bits \(w\) of each window.
+     */
+    private final int window;
+
+    /**
+     * {@code table[i][j]} \(= g^{j 2^{w i}}\). The entry {@code j = 0} is not
+     * used.
+     */
+    private final GroupElement[][] table;
+
+    /**
+     * Creates the table of the <i>GroupElement</i> {@code base} for exponents
+     * of at most {@code maxBits} bits, with windows of
+     * {@link #DEFAULT_WINDOW} bits.
+     *
+     * @param base    the base \(g\) of the table.
+     * @param maxBits the maximum bit length of the exponents.
+     */
+    public FixedBaseTable(final GroupElement base, final int maxBits) {
+        this(base, maxBits, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates the table of the <i>GroupElement</i> {@code base} for exponents
+     * of at most {@code maxBits} bits, with windows of {@code window} bits.
+     * It needs \((2^w - 1) \lceil maxBits / w \rceil\) multiplications.
+     *
+     * @param base    the base \(g\) of the table.
+     * @param maxBits the maximum bit length of the exponents.
+     * @param window  the number of bits \(w\) of each window.
+     * @throws IllegalArgumentException if {@code maxBits} or {@code window}
+     *                                  are not positive, or if the window is
+     *                                  longer than 8 bits.
+     */
+    public FixedBaseTable(final GroupElement base, final int maxBits, final int window) {
+        if (maxBits <= 0 || window <= 0 || window > 8) {
+            throw new IllegalArgumentException("The number of bits must be positive and the window between 1 and 8.");
+        }
+        this.base = base;
+        this.maxBits = maxBits;
+        this.window = window;
+        final int rows = (maxBits + window - 1) / window;
+        final int columns = 1 << window;
+        table = new GroupElement[rows][columns];
+        GroupElement rowBase = base;
+        for (int i = 0; i < rows; i++) {
+            table[i][1] = rowBase;
+            for (int j = 2; j < columns; j++) {
+                table[i][j] = table[i][j - 1].multiply(rowBase);
+            }
+            rowBase = table[i][columns - 1].multiply(rowBase);
+        }
+    }
+
+    /**
+     * Computes \(g^k\), where \(g\) is the base of {@code this} table.
+     *
+     * @param k a BigInteger representing the exponent.
+     * @return \(g^k\). If \(k\) is negative or longer than the maximum
+     * bit length of {@code this} table, it is computed with
+     * {@code base.pow(k)}.
+     */
+    public GroupElement pow(final BigInteger k) {
+        if (k.signum() < 0 || k.bitLength() > maxBits) {
+            return base.pow(k);
+        }
+        List<GroupElement> factors = new ArrayList<>();
+        for (int i = 0; i * window < k.bitLength(); i++) {
+            int digit = 0;
+            for (int b = window - 1; b >= 0; b--) {
+                digit = (digit << 1) | (k.testBit(i * window + b) ? 1 : 0);
+            }
+            if (digit != 0) {
+                factors.add(table[i][digit]);
+            }
+        }
+        if (factors.isEmpty()) {
+            return base.pow(BigInteger.ZERO);
+        }
+        return product(factors);
+    }
+
+    /**
+     * Computes the product of the precomputed {@code factors}. It can be
+     * overridden by groups with a cheaper way to accumulate several
+     * elements.
+     *
+     * @param factors the non-empty list of table entries to multiply.
+     * @return the product of all the {@code factors}.
+     */
+    protected GroupElement product(final List<GroupElement> factors) {
+        GroupElement result = factors.get(0);
+        for (int i = 1; i < factors.size(); i++) {
+            result = result.multiply(factors.get(i));
+        }
+        return result;
+    }
+
+    public GroupElement getBase() {
+        return base;
+    }
+
+    public int getMaxBits() {
+        return maxBits;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+}
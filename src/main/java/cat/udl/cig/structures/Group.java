@@ -13,6 +13,7 @@ package cat.udl.cig.structures;
 import cat.udl.cig.structures.builder.GroupElementBuilder;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -81,6 +82,24 @@ public interface Group extends GroupElementFactory {
      */
     public GroupElement pow(GroupElement x, BigInteger pow);
 
+    /**
+     * Returns the <i>Multi-Exponentiation</i> \(\prod_{i} x_i^{k_i}\). The
+     * squarings are shared by all the terms, so it is cheaper than computing
+     * every power independently.
+     *
+     * @param bases
+     *            the elements \(x_i\) of {@code this} <i>Group</i>.
+     * @param exponents
+     *            the exponents \(k_i\), one for each base.
+     * @return a group element being \(\prod_{i} x_i^{k_i}\).
+     * @throws IllegalArgumentException
+     *             if {@code bases} and {@code exponents} have different
+     *             sizes.
+     * @see MultiExponentiation
+     */
+    default GroupElement multiExp(List<? extends GroupElement> bases, List<BigInteger> exponents) {
+        return MultiExponentiation.multiExp(this, bases, exponents);
+    }
 
     public boolean containsElement(GroupElement groupElement);
 }
@@ -119,6 +119,19 @@ public interface GroupElement extends Comparable<GroupElement> {
     public GroupElement pow(BigInteger k)
             throws IncorrectRingElementException;
 
+    /**
+     * Builds a <i>FixedBaseTable</i> with {@code this} <i>GroupElement</i> as
+     * base, so \(p^{k}\) can be computed faster for exponents of at most
+     * {@code maxBits} bits.
+     *
+     * @param maxBits
+     *            the maximum bit length of the exponents.
+     * @return a new <i>FixedBaseTable</i> of {@code this}.
+     * @see FixedBaseTable
+     */
+    default FixedBaseTable buildFixedBaseTable(int maxBits) {
+        return new FixedBaseTable(this, maxBits);
+    }
 
     default byte[] toBytes() throws UnsupportedOperationException {
         throw new UnsupportedOperationException();
@@ -8,6 +8,8 @@ import cat.udl.cig.structures.builder.IntegerPrimeOrderElementBuilder;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -26,10 +28,12 @@ public class IntegerPrimeOrderSubgroup implements MultiplicativeSubgroup {
 
     private final PrimeFieldElement generator;
 
+    private FixedBaseTable generatorTable;
+
     public IntegerPrimeOrderSubgroup(final BigInteger m,
             final BigInteger exponentFieldSize, final BigInteger g) {
         if (g.modPow(exponentFieldSize, m).equals(BigInteger.ONE)) {
-            field = new PrimeField(m);
+            field = PrimeField.of(m);
             cardinality = exponentFieldSize;
             generator = new PrimeFieldElement(field, g);
         } else {
@@ -58,7 +62,29 @@ public class IntegerPrimeOrderSubgroup implements MultiplicativeSubgroup {
 
     @Override
     public PrimeFieldElement getRandomElement() {
-        return generator.pow(getRandomExponent());
+        return powGenerator(getRandomExponent());
+    }
+
+    /**
+     * @see MultiplicativeSubgroup#precomputeGenerator()
+     */
+    @Override
+    public void precomputeGenerator() {
+        if (generatorTable == null) {
+            generatorTable = generator.buildFixedBaseTable(cardinality.bitLength());
+        }
+    }
+
+    /**
+     * @see MultiplicativeSubgroup#powGenerator(BigInteger)
+     */
+    @Override
+    public PrimeFieldElement powGenerator(final BigInteger k) {
+        FixedBaseTable table = generatorTable;
+        if (table == null) {
+            return generator.pow(k);
+        }
+        return (PrimeFieldElement) table.pow(k);
     }
 
     /**
@@ -105,6 +131,22 @@ public class IntegerPrimeOrderSubgroup implements MultiplicativeSubgroup {
         return (PrimeFieldElement) x.pow(pow);
     }
 
+    /**
+     * The exponents are reduced modulo the order of {@code this} subgroup,
+     * so negative exponents do not need any inversion.
+     *
+     * @see Group#multiExp(List, List)
+     */
+    @Override
+    public PrimeFieldElement multiExp(final List<? extends GroupElement> bases, final List<BigInteger> exponents) {
+        MultiExponentiation.checkSizes(bases, exponents);
+        List<BigInteger> reduced = new ArrayList<>(exponents.size());
+        for (BigInteger k : exponents) {
+            reduced.add(k.signum() < 0 || k.compareTo(cardinality) >= 0 ? k.mod(cardinality) : k);
+        }
+        return (PrimeFieldElement) MultiExponentiation.multiExp(this, bases, reduced);
+    }
+
     @Override
     public boolean containsElement(GroupElement groupElement) {
         return groupElement.getGroup().equals(this);
@@ -0,0 +1,84 @@
+package cat.udl.cig.structures;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Interns the structures that are expensive to build, such as the fields
+ * whose modulus is tested for primality, so every request with the same key
+ * returns the same instance. The values are weakly referenced: an interned
+ * structure is kept while it is reachable, for instance through any of its
+ * elements, and it is discarded by the garbage collector afterwards. So,
+ * building structures from many different keys does not retain them.
+ * <p>
+ * It can be shared between threads. If several threads intern the same key
+ * at the same time, the structure may be built more than once, but only one
+ * instance is returned to all of them.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the interned structures.
+ */
+final class Interner<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The entries whose structure has been discarded.
+     */
+    private final ReferenceQueue<V> discarded = new ReferenceQueue<>();
+
+    /**
+     * Returns the structure interned with {@code key}, building it with
+     * {@code factory} if there is none.
+     *
+     * @param key     the key of the structure.
+     * @param factory builds the structure from {@code key}.
+     * @return the interned structure.
+     */
+    V intern(final K key, final Function<? super K, ? extends V> factory) {
+        expunge();
+        while (true) {
+            Entry<K, V> entry = entries.get(key);
+            V value = entry != null ? entry.get() : null;
+            if (value != null) {
+                return value;
+            }
+            V created = factory.apply(key);
+            Entry<K, V> fresh = new Entry<>(key, created, discarded);
+            if (entry == null ? entries.putIfAbsent(key, fresh) == null : entries.replace(key, entry, fresh)) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of keys with an entry, including the ones whose
+     * structure has been discarded but not expunged yet.
+     *
+     * @return the number of entries.
+     */
+    int size() {
+        expunge();
+        return entries.size();
+    }
+
+    private void expunge() {
+        Object reference;
+        while ((reference = discarded.poll()) != null) {
+            Entry<?, ?> entry = (Entry<?, ?>) reference;
+            entries.remove(entry.key, entry);
+        }
+    }
+
+    private static final class Entry<K, V> extends WeakReference<V> {
+
+        private final K key;
+
+        Entry(final K key, final V value, final ReferenceQueue<V> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
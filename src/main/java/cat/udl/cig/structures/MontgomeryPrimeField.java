@@ -0,0 +1,406 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.ConstructionException;
+import cat.udl.cig.exceptions.IncorrectRingElementException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Models a <i>Prime Field</i> \(\mathbb{F}_{p}\) whose elements are stored in
+ * <i>Montgomery Form</i>. That is, an element \(a\) is stored as \(a R \bmod
+ * p\), where \(R = 2^{64 n}\) and \(n\) is the number of 64-bit words needed
+ * to store \(p\). The words are kept in a fixed-length {@code long[]}, least
+ * significant word first, so additions and multiplications are done without
+ * BigInteger.
+ * <p>
+ * It is the same mathematical field as the <i>PrimeField</i> with the same
+ * characteristic, so both are equal and their elements can be operated
+ * together.
+ *
+ * @see PrimeField
+ * @see MontgomeryPrimeFieldElement
+ */
+public class MontgomeryPrimeField extends PrimeField {
+
+    /**
+     * The <i>MontgomeryPrimeFields</i> created by {@link #of(BigInteger)}, by
+     * characteristic.
+     */
+    private static final Interner<BigInteger, MontgomeryPrimeField> INTERNED = new Interner<>();
+
+    /**
+     * The number of 64-bit words of every element of {@code this} field.
+     */
+    final int words;
+
+    /**
+     * The characteristic \(p\) as words, least significant first.
+     */
+    final long[] modulus;
+
+    /**
+     * The value \(-p^{-1} \bmod 2^{64}\).
+     */
+    final long modulusInverse;
+
+    /**
+     * The value \(R^2 \bmod p\), used to convert to the <i>Montgomery
+     * Form</i>.
+     */
+    private final long[] rSquared;
+
+    /**
+     * The value \(1\) in <i>Montgomery Form</i>, that is, \(R \bmod p\).
+     */
+    private final long[] montgomeryOne;
+
+    /**
+     * The constants \(0\), \(1\) and \(3\) in <i>Montgomery Form</i>.
+     */
+    private final MontgomeryPrimeFieldElement zero;
+    private final MontgomeryPrimeFieldElement one;
+    private final MontgomeryPrimeFieldElement three;
+
+    /**
+     * Creates a <i>MontgomeryPrimeField</i> which characteristic is \(p = m\).
+     *
+     * @param m the characteristic of {@code this} newly created
+     *          <i>MontgomeryPrimeField</i>. It must be positive, odd and a
+     *          prime number.
+     * @throws ConstructionException if \(m\) is not an odd prime.
+     */
+    public MontgomeryPrimeField(final BigInteger m) {
+        this(PrimeField.of(m));
+    }
+
+    /**
+     * Creates a <i>MontgomeryPrimeField</i> with the same characteristic than
+     * the <i>PrimeField</i> \(F\). This constructor trusts that \(F\) is a
+     * well-defined <i>PrimeField</i>.
+     *
+     * @param F the <i>PrimeField</i> to be represented in <i>Montgomery
+     *          Form</i>.
+     * @throws ConstructionException if the characteristic of \(F\) is 2.
+     */
+    public MontgomeryPrimeField(final PrimeField F) {
+        super(F);
+        if (!p.testBit(0)) {
+            throw new ConstructionException("m must be an odd prime");
+        }
+        words = (p.bitLength() + 63) / 64;
+        modulus = toWords(p, words);
+        modulusInverse = computeModulusInverse(modulus[0]);
+        BigInteger r = BigInteger.ONE.shiftLeft(64 * words);
+        rSquared = toWords(r.multiply(r).mod(p), words);
+        montgomeryOne = toWords(r.mod(p), words);
+        zero = new MontgomeryPrimeFieldElement(this, new long[words]);
+        one = new MontgomeryPrimeFieldElement(this, montgomeryOne.clone());
+        three = toElement(BigInteger.valueOf(3L));
+    }
+
+    /**
+     * Returns the <i>MontgomeryPrimeField</i> which characteristic is \(p =
+     * m\). The fields are interned, so every call with the same \(m\)
+     * returns the same instance while it is reachable.
+     *
+     * @param m the characteristic of the <i>MontgomeryPrimeField</i>. It must
+     *          be positive, odd and a prime number.
+     * @return the <i>MontgomeryPrimeField</i> \(\mathbb{F}_{m}\).
+     * @throws ConstructionException if \(m\) is not an odd prime.
+     * @see PrimeField#of(BigInteger)
+     */
+    public static MontgomeryPrimeField of(final BigInteger m) {
+        return INTERNED.intern(m, MontgomeryPrimeField::new);
+    }
+
+    /**
+     * @see PrimeField#toElement(BigInteger)
+     */
+    @Override
+    public MontgomeryPrimeFieldElement toElement(final BigInteger k) {
+        return new MontgomeryPrimeFieldElement(this, toMontgomery(k));
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement getRandomElement() {
+        return (MontgomeryPrimeFieldElement) super.getRandomElement();
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement getAdditiveIdentity() {
+        return zero;
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement getMultiplicativeIdentity() {
+        return one;
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement ZERO() {
+        return zero;
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement ONE() {
+        return one;
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement THREE() {
+        return three;
+    }
+
+    /**
+     * The elements are multiplied in <i>Montgomery Form</i>, so only the
+     * final inversion leaves it. The <i>PrimeFieldElements</i> of a
+     * <i>PrimeField</i> with the same modulus are converted first.
+     *
+     * @see Ring#batchInverse(List)
+     */
+    @Override
+    public List<? extends MontgomeryPrimeFieldElement> batchInverse(final List<? extends RingElement> elements) {
+        List<MontgomeryPrimeFieldElement> converted = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            RingElement element = elements.get(i);
+            if (!containsElement(element)) {
+                throw new IncorrectRingElementException("The element " + i + " does not belong to the ring.");
+            }
+            converted.add(element instanceof MontgomeryPrimeFieldElement
+                    ? (MontgomeryPrimeFieldElement) element : toElement(element.getIntValue()));
+        }
+        return BatchInversion.batchInverse(this, converted);
+    }
+
+    @Override
+    public String toString() {
+        return "MontgomeryPrimeField of size " + p.toString() + "("
+                + p.bitLength() + " bits).";
+    }
+
+    /**
+     * Converts the value \(k\) to its <i>Montgomery Form</i> \(k R \bmod p\).
+     *
+     * @param k a BigInteger.
+     * @return the words of \(k R \bmod p\).
+     */
+    long[] toMontgomery(final BigInteger k) {
+        BigInteger value = k;
+        if (value.signum() < 0 || value.compareTo(p) >= 0) {
+            value = value.mod(p);
+        }
+        return multiply(toWords(value, words), rSquared);
+    }
+
+    /**
+     * Converts the words \(a R \bmod p\) back to the value \(a\).
+     *
+     * @param a the words of an element in <i>Montgomery Form</i>.
+     * @return the BigInteger \(a\).
+     */
+    BigInteger fromMontgomery(final long[] a) {
+        long[] one = new long[words];
+        one[0] = 1L;
+        long[] value = multiply(a, one);
+        byte[] bytes = new byte[words * 8 + 1];
+        for (int i = 0; i < words; i++) {
+            long word = value[i];
+            for (int j = 0; j < 8; j++) {
+                bytes[bytes.length - 1 - (i * 8 + j)] = (byte) (word >>> (8 * j));
+            }
+        }
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * Computes \(a + b \bmod p\).
+     */
+    long[] add(final long[] a, final long[] b) {
+        long[] result = new long[words];
+        long carry = 0;
+        for (int i = 0; i < words; i++) {
+            long sum = a[i] + b[i];
+            long carryOut = Long.compareUnsigned(sum, a[i]) < 0 ? 1 : 0;
+            long total = sum + carry;
+            carryOut += Long.compareUnsigned(total, sum) < 0 ? 1 : 0;
+            result[i] = total;
+            carry = carryOut;
+        }
+        if (carry != 0 || compare(result, modulus) >= 0) {
+            subtractInPlace(result, modulus);
+        }
+        return result;
+    }
+
+    /**
+     * Computes \(a - b \bmod p\).
+     */
+    long[] subtract(final long[] a, final long[] b) {
+        long[] result = a.clone();
+        if (subtractInPlace(result, b) != 0) {
+            addInPlace(result, modulus);
+        }
+        return result;
+    }
+
+    /**
+     * Computes \(-a \bmod p\).
+     */
+    long[] opposite(final long[] a) {
+        if (isZero(a)) {
+            return new long[words];
+        }
+        long[] result = modulus.clone();
+        subtractInPlace(result, a);
+        return result;
+    }
+
+    /**
+     * Computes the <i>Montgomery Product</i> \(a b R^{-1} \bmod p\) with the
+     * <i>Coarsely Integrated Operand Scanning</i> method.
+     */
+    long[] multiply(final long[] a, final long[] b) {
+        final int n = words;
+        long[] t = new long[n + 2];
+        for (int i = 0; i < n; i++) {
+            long carry = 0;
+            final long bi = b[i];
+            for (int j = 0; j < n; j++) {
+                long lo = a[j] * bi;
+                long hi = unsignedMultiplyHigh(a[j], bi);
+                long sum = t[j] + lo;
+                hi += Long.compareUnsigned(sum, lo) < 0 ? 1 : 0;
+                long total = sum + carry;
+                hi += Long.compareUnsigned(total, sum) < 0 ? 1 : 0;
+                t[j] = total;
+                carry = hi;
+            }
+            long sum = t[n] + carry;
+            t[n + 1] = Long.compareUnsigned(sum, carry) < 0 ? 1 : 0;
+            t[n] = sum;
+
+            final long m = t[0] * modulusInverse;
+            long lo = m * modulus[0];
+            carry = unsignedMultiplyHigh(m, modulus[0]);
+            carry += Long.compareUnsigned(t[0] + lo, lo) < 0 ? 1 : 0;
+            for (int j = 1; j < n; j++) {
+                lo = m * modulus[j];
+                long hi = unsignedMultiplyHigh(m, modulus[j]);
+                long s = t[j] + lo;
+                hi += Long.compareUnsigned(s, lo) < 0 ? 1 : 0;
+                long total = s + carry;
+                hi += Long.compareUnsigned(total, s) < 0 ? 1 : 0;
+                t[j - 1] = total;
+                carry = hi;
+            }
+            sum = t[n] + carry;
+            t[n - 1] = sum;
+            t[n] = t[n + 1] + (Long.compareUnsigned(sum, carry) < 0 ? 1 : 0);
+        }
+        long[] result = new long[n];
+        System.arraycopy(t, 0, result, 0, n);
+        if (t[n] != 0 || compare(result, modulus) >= 0) {
+            subtractInPlace(result, modulus);
+        }
+        return result;
+    }
+
+    /**
+     * Computes \(a^k\) in <i>Montgomery Form</i>, where \(k \geq 0\), with
+     * the <i>sliding window</i> method.
+     *
+     * @see WindowedExponentiation#slidingWindow(BigInteger, int)
+     */
+    long[] pow(final long[] a, final BigInteger k) {
+        if (k.signum() == 0) {
+            return montgomeryOne.clone();
+        }
+        final int w = WindowedExponentiation.window(k.bitLength());
+        long[][] powers = new long[1 << (w - 1)][];
+        powers[0] = a;
+        if (powers.length > 1) {
+            long[] squared = multiply(a, a);
+            for (int i = 1; i < powers.length; i++) {
+                powers[i] = multiply(powers[i - 1], squared);
+            }
+        }
+        int[] digits = WindowedExponentiation.slidingWindow(k, w);
+        long[] result = null;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (result != null) {
+                result = multiply(result, result);
+            }
+            if (digits[i] != 0) {
+                long[] power = powers[digits[i] >>> 1];
+                result = result == null ? power.clone() : multiply(result, power);
+            }
+        }
+        return result;
+    }
+
+    boolean isZero(final long[] a) {
+        for (long word : a) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int compare(final long[] a, final long[] b) {
+        for (int i = a.length - 1; i >= 0; i--) {
+            int comparison = Long.compareUnsigned(a[i], b[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    private static long subtractInPlace(final long[] a, final long[] b) {
+        long borrow = 0;
+        for (int i = 0; i < a.length; i++) {
+            long diff = a[i] - b[i];
+            long borrowOut = Long.compareUnsigned(a[i], b[i]) < 0 ? 1 : 0;
+            long total = diff - borrow;
+            borrowOut += Long.compareUnsigned(diff, borrow) < 0 ? 1 : 0;
+            a[i] = total;
+            borrow = borrowOut;
+        }
+        return borrow;
+    }
+
+    private static void addInPlace(final long[] a, final long[] b) {
+        long carry = 0;
+        for (int i = 0; i < a.length; i++) {
+            long sum = a[i] + b[i];
+            long carryOut = Long.compareUnsigned(sum, a[i]) < 0 ? 1 : 0;
+            long total = sum + carry;
+            carryOut += Long.compareUnsigned(total, sum) < 0 ? 1 : 0;
+            a[i] = total;
+            carry = carryOut;
+        }
+    }
+
+    private static long unsignedMultiplyHigh(final long a, final long b) {
+        return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+    }
+
+    private static long computeModulusInverse(final long p0) {
+        long inverse = p0;
+        for (int i = 0; i < 5; i++) {
+            inverse *= 2 - p0 * inverse;
+        }
+        return -inverse;
+    }
+
+    private static long[] toWords(final BigInteger value, final int words) {
+        long[] result = new long[words];
+        for (int i = 0; i < words; i++) {
+            result[i] = value.shiftRight(64 * i).longValue();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,195 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.IncorrectRingElementException;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Models a <i>Prime Field Element</i> stored in <i>Montgomery Form</i>. The
+ * value \(a R \bmod p\) is kept as fixed-length {@code long[]} words of its
+ * <i>MontgomeryPrimeField</i>, and the value \(a\) is only computed when it
+ * is requested by {@link #getValue()}, {@link #getIntValue()} or
+ * {@link #toBytes()}.
+ * <p>
+ * It can be operated with any <i>PrimeFieldElement</i> of the same field.
+ * Operands that are not in <i>Montgomery Form</i> are converted first.
+ *
+ * @see PrimeFieldElement
+ * @see MontgomeryPrimeField
+ */
+public class MontgomeryPrimeFieldElement extends PrimeFieldElement {
+
+    /**
+     * The <i>MontgomeryPrimeField</i> in which this element is defined.
+     */
+    private final MontgomeryPrimeField field;
+
+    /**
+     * The words of \(a R \bmod p\), least significant first. They are never
+     * modified once the element is created.
+     */
+    private final long[] words;
+
+    /**
+     * The value \(a\), computed the first time it is requested.
+     */
+    private BigInteger value;
+
+    MontgomeryPrimeFieldElement(final MontgomeryPrimeField field, final long[] words) {
+        super(field, null, true);
+        this.field = field;
+        this.words = words;
+    }
+
+    /**
+     * Creates the <i>MontgomeryPrimeFieldElement</i> with value \(k\) and
+     * belonging to the <i>MontgomeryPrimeField</i> \(F\).
+     *
+     * @param field the <i>MontgomeryPrimeField</i> to which {@code this}
+     *              element will belong.
+     * @param k     a BigInteger representing the value for {@code this}
+     *              element.
+     */
+    public MontgomeryPrimeFieldElement(final MontgomeryPrimeField field, final BigInteger k) {
+        this(field, field.toMontgomery(k));
+    }
+
+    @Override
+    public BigInteger getValue() {
+        return getIntValue();
+    }
+
+    /**
+     * @see RingElement#getIntValue()
+     */
+    @Override
+    public BigInteger getIntValue() {
+        BigInteger result = value;
+        if (result == null) {
+            result = field.fromMontgomery(words);
+            value = result;
+        }
+        return result;
+    }
+
+    @Override
+    public MontgomeryPrimeField getGroup() {
+        return field;
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement add(final RingElement q)
+            throws IncorrectRingElementException {
+        return new MontgomeryPrimeFieldElement(field, field.add(words, wordsOf(q)));
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement subtract(final RingElement q)
+            throws IncorrectRingElementException {
+        return new MontgomeryPrimeFieldElement(field, field.subtract(words, wordsOf(q)));
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement multiply(final GroupElement q)
+            throws IncorrectRingElementException {
+        return new MontgomeryPrimeFieldElement(field, field.multiply(words, wordsOf(q)));
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement multiply(final BigInteger q) {
+        return new MontgomeryPrimeFieldElement(field, field.multiply(words, field.toMontgomery(q)));
+    }
+
+    /**
+     * Returns \(a^2\), where \(a\) is {@code this} element.
+     *
+     * @return the <i>MontgomeryPrimeFieldElement</i> \(a^2\).
+     */
+    public MontgomeryPrimeFieldElement square() {
+        return new MontgomeryPrimeFieldElement(field, field.multiply(words, words));
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement divide(final GroupElement q)
+            throws IncorrectRingElementException {
+        if (!belongsToSameGroup(q)) {
+            throw new IncorrectRingElementException(
+                    "RingElement q is not a "
+                            + "correct instance of PrimeFieldElement");
+        }
+        return multiply(((PrimeFieldElement) q).inverse());
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement opposite() {
+        return new MontgomeryPrimeFieldElement(field, field.opposite(words));
+    }
+
+    /**
+     * @throws ArithmeticException if {@code this} element is zero.
+     */
+    @Override
+    public MontgomeryPrimeFieldElement inverse() {
+        return field.toElement(getIntValue().modInverse(field.getSize()));
+    }
+
+    @Override
+    public MontgomeryPrimeFieldElement pow(final BigInteger k) {
+        if (k.signum() < 0) {
+            return inverse().pow(k.negate());
+        }
+        return new MontgomeryPrimeFieldElement(field, field.pow(words, k));
+    }
+
+    @Override
+    public ArrayList<PrimeFieldElement> squareRoot() {
+        ArrayList<PrimeFieldElement> roots = new ArrayList<>();
+        for (PrimeFieldElement root : new PrimeFieldElement(field, getIntValue()).squareRoot()) {
+            roots.add(field.toElement(root.getIntValue()));
+        }
+        return roots;
+    }
+
+    @Override
+    public String toString() {
+        return getIntValue().toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof MontgomeryPrimeFieldElement) {
+            MontgomeryPrimeFieldElement that = (MontgomeryPrimeFieldElement) o;
+            if (field.getSize().equals(that.field.getSize())) {
+                return Arrays.equals(words, that.words);
+            }
+            return false;
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * Hashes the value \(k\) instead of the words of \(k R \bmod p\), so
+     * {@code this} element hashes like the equal <i>PrimeFieldElement</i>.
+     *
+     * @see PrimeFieldElement#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return 31 * field.hashCode() + getIntValue().hashCode();
+    }
+
+    private long[] wordsOf(final GroupElement q) throws IncorrectRingElementException {
+        if (!belongsToSameGroup(q)) {
+            throw new IncorrectRingElementException(
+                    "RingElement q is not a "
+                            + "correct instance of PrimeFieldElement");
+        }
+        if (q instanceof MontgomeryPrimeFieldElement) {
+            return ((MontgomeryPrimeFieldElement) q).words;
+        }
+        return field.toMontgomery(q.getIntValue());
+    }
+}
@@ -0,0 +1,180 @@
+package cat.udl.cig.structures;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes <i>Multi-Exponentiations</i> \(\prod_{i} g_i^{k_i}\) of elements of
+ * any <i>Group</i>, sharing the squarings of all the terms instead of
+ * computing every power independently.
+ * <ul>
+ * <li>For a few terms, it uses <i>Shamir's trick</i> (<i>Straus</i>
+ * method): the products of every subset of the bases are precomputed and one
+ * of them is multiplied for each bit of the exponents.</li>
+ * <li>For larger batches, it uses the <i>Pippenger</i> bucket method: the
+ * exponents are split in windows of \(c\) bits and, for each window, the
+ * bases are accumulated in \(2^c - 1\) buckets according to their
+ * digit.</li>
+ * </ul>
+ *
+ * @see Group#multiExp(List, List)
+ */
+public final class MultiExponentiation {
+
+    /**
+     * The maximum number of terms computed with <i>Shamir's trick</i>. Its
+     * table has \(2^n - 1\) entries.
+     */
+    public static final int STRAUS_MAX_TERMS = 4;
+
+    private MultiExponentiation() {
+    }
+
+    /**
+     * Computes \(\prod_{i} g_i^{k_i}\) in the <i>Group</i> {@code group}.
+     * Negative exponents are computed with the inverse of their base.
+     *
+     * @param group     the <i>Group</i> of the {@code bases}.
+     * @param bases     the elements \(g_i\).
+     * @param exponents the exponents \(k_i\).
+     * @return \(\prod_{i} g_i^{k_i}\), or the neuter element of the
+     * {@code group} if there are no terms.
+     * @throws IllegalArgumentException if {@code bases} and {@code exponents}
+     *                                  have different sizes.
+     */
+    public static GroupElement multiExp(final Group group, final List<? extends GroupElement> bases,
+                                        final List<BigInteger> exponents) {
+        checkSizes(bases, exponents);
+        List<GroupElement> positiveBases = new ArrayList<>(bases.size());
+        List<BigInteger> positiveExponents = new ArrayList<>(exponents.size());
+        for (int i = 0; i < bases.size(); i++) {
+            BigInteger k = exponents.get(i);
+            if (k.signum() < 0) {
+                positiveBases.add(bases.get(i).inverse());
+                positiveExponents.add(k.negate());
+            } else if (k.signum() > 0) {
+                positiveBases.add(bases.get(i));
+                positiveExponents.add(k);
+            }
+        }
+        GroupElement result;
+        if (positiveBases.size() <= STRAUS_MAX_TERMS) {
+            result = straus(positiveBases, positiveExponents);
+        } else {
+            result = pippenger(positiveBases, positiveExponents);
+        }
+        return result == null ? group.getMultiplicativeIdentity() : result;
+    }
+
+    /**
+     * Checks that there is one exponent for each base.
+     *
+     * @param bases     the elements \(g_i\).
+     * @param exponents the exponents \(k_i\).
+     * @throws IllegalArgumentException if {@code bases} and {@code exponents}
+     *                                  have different sizes.
+     */
+    public static void checkSizes(final List<?> bases, final List<BigInteger> exponents) {
+        if (bases.size() != exponents.size()) {
+            throw new IllegalArgumentException("There must be one exponent for each base.");
+        }
+    }
+
+    /**
+     * Returns the number of bits of each window of the <i>Pippenger</i>
+     * method for {@code terms} terms, which is approximately \(\log_2 n -
+     * 2\).
+     *
+     * @param terms the number of terms \(n\).
+     * @return the number of bits \(c\) of each window, between 2 and 16.
+     */
+    public static int pippengerWindow(final int terms) {
+        int bits = 32 - Integer.numberOfLeadingZeros(terms);
+        return Math.max(2, Math.min(16, bits - 2));
+    }
+
+    /**
+     * Returns the digit of \(k\) formed by the bits \([from, from + c)\).
+     */
+    public static int digit(final BigInteger k, final int from, final int c) {
+        int digit = 0;
+        for (int b = c - 1; b >= 0; b--) {
+            digit = (digit << 1) | (k.testBit(from + b) ? 1 : 0);
+        }
+        return digit;
+    }
+
+    private static GroupElement straus(final List<GroupElement> bases, final List<BigInteger> exponents) {
+        final int n = bases.size();
+        GroupElement[] table = new GroupElement[1 << n];
+        for (int mask = 1; mask < table.length; mask++) {
+            int lowest = Integer.numberOfTrailingZeros(mask);
+            int rest = mask & (mask - 1);
+            table[mask] = rest == 0 ? bases.get(lowest) : table[rest].multiply(bases.get(lowest));
+        }
+        GroupElement result = null;
+        for (int bit = maxBitLength(exponents) - 1; bit >= 0; bit--) {
+            if (result != null) {
+                result = result.multiply(result);
+            }
+            int mask = 0;
+            for (int i = 0; i < n; i++) {
+                if (exponents.get(i).testBit(bit)) {
+                    mask |= 1 << i;
+                }
+            }
+            if (mask != 0) {
+                result = multiply(result, table[mask]);
+            }
+        }
+        return result;
+    }
+
+    private static GroupElement pippenger(final List<GroupElement> bases, final List<BigInteger> exponents) {
+        final int c = pippengerWindow(bases.size());
+        final int windows = (maxBitLength(exponents) + c - 1) / c;
+        GroupElement result = null;
+        for (int w = windows - 1; w >= 0; w--) {
+            if (result != null) {
+                for (int i = 0; i < c; i++) {
+                    result = result.multiply(result);
+                }
+            }
+            GroupElement[] buckets = new GroupElement[1 << c];
+            for (int i = 0; i < bases.size(); i++) {
+                int digit = digit(exponents.get(i), w * c, c);
+                if (digit != 0) {
+                    buckets[digit] = multiply(buckets[digit], bases.get(i));
+                }
+            }
+            // \sum_j j B_j = \sum_j (B_{2^c - 1} + ... + B_j)
+            GroupElement running = null;
+            GroupElement windowSum = null;
+            for (int j = buckets.length - 1; j > 0; j--) {
+                running = multiply(running, buckets[j]);
+                windowSum = multiply(windowSum, running);
+            }
+            result = multiply(result, windowSum);
+        }
+        return result;
+    }
+
+    private static GroupElement multiply(final GroupElement x, final GroupElement y) {
+        if (x == null) {
+            return y;
+        }
+        if (y == null) {
+            return x;
+        }
+        return x.multiply(y);
+    }
+
+    private static int maxBitLength(final List<BigInteger> exponents) {
+        int bits = 0;
+        for (BigInteger k : exponents) {
+            bits = Math.max(bits, k.bitLength());
+        }
+        return bits;
+    }
+}
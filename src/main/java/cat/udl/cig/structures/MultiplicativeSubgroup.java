@@ -10,10 +10,34 @@
  */
 package cat.udl.cig.structures;
 
+import java.math.BigInteger;
+
 /**
  *
  */
 public interface MultiplicativeSubgroup extends Group {
 
     public GroupElement getGenerator();
+
+    /**
+     * Builds a <i>FixedBaseTable</i> of the generator for exponents up to the
+     * size of {@code this} <i>MultiplicativeSubgroup</i>. Once it is built,
+     * {@link #powGenerator(BigInteger)} and {@link #getRandomElement()} use
+     * it.
+     *
+     * @see FixedBaseTable
+     */
+    public void precomputeGenerator();
+
+    /**
+     * Computes \(g^{k}\), where \(g\) is the generator of {@code this}
+     * <i>MultiplicativeSubgroup</i>. It uses the <i>FixedBaseTable</i> of the
+     * generator if it has been built.
+     *
+     * @param k
+     *            a BigInteger representing the exponent.
+     * @return \(g^{k}\).
+     * @see #precomputeGenerator()
+     */
+    public GroupElement powGenerator(BigInteger k);
 }
@@ -6,6 +6,7 @@ import cat.udl.cig.structures.builder.RingElementBuilder;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -69,9 +70,35 @@ public class PairGroup implements Ring {
         return groupElement.getGroup().equals(this);
     }
 
-    @Override
-    public Optional<? extends RingElement> fromBytes(byte[] bytes) {
-        return Optional.empty();
+    /**
+     * Returns the sum of the encoding lengths of both rings.
+     *
+     * @see Ring#getEncodingLength()
+     */
+    @Override
+    public int getEncodingLength() {
+        return a.getEncodingLength() + b.getEncodingLength();
+    }
+
+    /**
+     * Decodes the element of the first ring and the element of the second
+     * one, in this order.
+     *
+     * @see Ring#fromBytes(byte[])
+     * @see PairGroupElement#toBytes()
+     */
+    @Override
+    public Optional<PairGroupElement> fromBytes(byte[] bytes) {
+        final int lengthA = a.getEncodingLength();
+        if (bytes.length != lengthA + b.getEncodingLength()) {
+            return Optional.empty();
+        }
+        Optional<? extends RingElement> elementA = a.fromBytes(Arrays.copyOfRange(bytes, 0, lengthA));
+        Optional<? extends RingElement> elementB = b.fromBytes(Arrays.copyOfRange(bytes, lengthA, bytes.length));
+        if (elementA.isEmpty() || elementB.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new PairGroupElement(this, elementA.get(), elementB.get()));
     }
 
     public boolean contains(@NotNull PairGroupElement element) {
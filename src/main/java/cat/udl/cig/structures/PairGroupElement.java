@@ -9,6 +9,7 @@ import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Random;
 
@@ -63,6 +64,22 @@ public class PairGroupElement implements RingElement {
         throw new NotImplementedException();
     }
 
+    /**
+     * Returns the encodings of both elements, in this order. Their lengths
+     * are fixed by their rings, so the result can be split again by
+     * {@link PairGroup#fromBytes(byte[])}.
+     *
+     * @see GroupElement#toBytes()
+     */
+    @Override
+    public byte[] toBytes() {
+        byte[] bytesA = groupElementA.toBytes();
+        byte[] bytesB = groupElementB.toBytes();
+        byte[] bytes = Arrays.copyOf(bytesA, bytesA.length + bytesB.length);
+        System.arraycopy(bytesB, 0, bytes, bytesA.length, bytesB.length);
+        return bytes;
+    }
+
     @Override
     public PairGroupElement add(RingElement q) throws IncorrectRingElementException {
         if (!( q instanceof PairGroupElement && belongsToSameGroup(q))) return null;
@@ -6,6 +6,9 @@ import cat.udl.cig.structures.builder.PrimeFieldElementBuilder;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -24,6 +27,21 @@ public class PrimeField implements Ring {
      */
     protected final BigInteger p; /* Characteristic */
 
+    /**
+     * The <i>PrimeFields</i> created by {@link #of(BigInteger)}, by
+     * characteristic.
+     */
+    private static final Interner<BigInteger, PrimeField> INTERNED = new Interner<>();
+
+    /**
+     * The constants \(0\), \(1\) and \(3\) of {@code this} <i>PrimeField</i>.
+     * The elements are immutable, so they are shared by every call to
+     * {@link #ZERO()}, {@link #ONE()} and {@link #THREE()}.
+     */
+    private final PrimeFieldElement zero;
+    private final PrimeFieldElement one;
+    private final PrimeFieldElement three;
+
     /**
      * Creates a <i>PrimeField</i> which characteristic is \(p = m\). This
      * constructor does not check if parameter \(m\) is correct. That is, if
@@ -39,6 +57,25 @@ public class PrimeField implements Ring {
         } else {
             p = m;
         }
+        zero = new PrimeFieldElement(this, BigInteger.ZERO);
+        one = new PrimeFieldElement(this, BigInteger.ONE);
+        three = new PrimeFieldElement(this, BigInteger.valueOf(3L));
+    }
+
+    /**
+     * Returns the <i>PrimeField</i> which characteristic is \(p = m\). The
+     * fields are interned, so the primality of \(m\) is only tested the
+     * first time and every call with the same \(m\) returns the same
+     * instance while it is reachable. Unreachable fields are not retained.
+     *
+     * @param m
+     *            the characteristic of the <i>PrimeField</i>. It must be
+     *            positive and a prime number.
+     * @return the <i>PrimeField</i> \(\mathbb{F}_{m}\).
+     * @throws ConstructionException if \(m\) is not a prime number.
+     */
+    public static PrimeField of(final BigInteger m) {
+        return INTERNED.intern(m, PrimeField::new);
     }
 
     /**
@@ -52,6 +89,9 @@ public class PrimeField implements Ring {
      */
     public PrimeField(final PrimeField F) {
         p = F.p;
+        zero = new PrimeFieldElement(this, BigInteger.ZERO);
+        one = new PrimeFieldElement(this, BigInteger.ONE);
+        three = new PrimeFieldElement(this, BigInteger.valueOf(3L));
     }
 
     @Override
@@ -68,11 +108,22 @@ public class PrimeField implements Ring {
     public PrimeFieldElement getRandomElement() {
         BigInteger result =
             new BigInteger(p.bitLength(), new SecureRandom());
-        return new PrimeFieldElement(this, result);
+        return toElement(result);
+    }
+
+    /**
+     * Creates the <i>PrimeFieldElement</i> with value \(k \bmod p\) in the
+     * representation used by {@code this} <i>PrimeField</i>.
+     *
+     * @param k a BigInteger representing the value of the element.
+     * @return the <i>PrimeFieldElement</i> \(k \bmod p\).
+     */
+    public PrimeFieldElement toElement(final BigInteger k) {
+        return new PrimeFieldElement(this, k);
     }
 
     public PrimeFieldElement getAdditiveIdentity() {
-        return new PrimeFieldElement(this, BigInteger.ZERO);
+        return zero;
     }
 
     @Override
@@ -84,7 +135,7 @@ public class PrimeField implements Ring {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof PrimeField)) return false;
         PrimeField that = (PrimeField) o;
         return Objects.equals(p, that.p);
     }
@@ -109,7 +160,7 @@ public class PrimeField implements Ring {
      */
     @Override
     public PrimeFieldElement getMultiplicativeIdentity() {
-        return new PrimeFieldElement(this, BigInteger.ONE);
+        return one;
     }
 
     /**
@@ -131,6 +182,35 @@ public class PrimeField implements Ring {
         return (PrimeFieldElement) x.pow(pow);
     }
 
+    /**
+     * The prefix products are computed over the values of the elements, with
+     * one modular inversion.
+     *
+     * @see Ring#batchInverse(List)
+     */
+    @Override
+    public List<? extends PrimeFieldElement> batchInverse(final List<? extends RingElement> elements) {
+        final int n = elements.size();
+        if (n == 0) {
+            return new ArrayList<>();
+        }
+        BigInteger[] values = new BigInteger[n];
+        BigInteger[] prefix = new BigInteger[n];
+        for (int i = 0; i < n; i++) {
+            BatchInversion.checkElement(this, elements.get(i), i);
+            values[i] = elements.get(i).getIntValue();
+            prefix[i] = i == 0 ? values[i] : prefix[i - 1].multiply(values[i]).mod(p);
+        }
+        PrimeFieldElement[] inverses = new PrimeFieldElement[n];
+        BigInteger inverse = prefix[n - 1].modInverse(p);
+        for (int i = n - 1; i > 0; i--) {
+            inverses[i] = toElement(inverse.multiply(prefix[i - 1]).mod(p));
+            inverse = inverse.multiply(values[i]).mod(p);
+        }
+        inverses[0] = toElement(inverse);
+        return new ArrayList<>(Arrays.asList(inverses));
+    }
+
     @Override
     public BigInteger getCharacteristic() {
         return this.p;
@@ -141,24 +221,68 @@ public class PrimeField implements Ring {
         return groupElement.getGroup().equals(this);
     }
 
+    /**
+     * Returns \(\lceil \log_{256} p \rceil\), the length of the big-endian
+     * encoding of the elements.
+     *
+     * @see Ring#getEncodingLength()
+     */
+    @Override
+    public int getEncodingLength() {
+        return (p.bitLength() + 7) / 8;
+    }
+
+    /**
+     * Decodes the big-endian unsigned value \(k\) of
+     * {@link #getEncodingLength()} bytes. It is empty if \(k \geq p\), so
+     * every element has a single encoding.
+     *
+     * @see Ring#fromBytes(byte[])
+     */
     @Override
     public Optional<? extends PrimeFieldElement> fromBytes(byte[] bytes) {
-        BigInteger bigInteger = new BigInteger(bytes);
+        if (bytes.length != getEncodingLength()) {
+            return Optional.empty();
+        }
+        BigInteger bigInteger = new BigInteger(1, bytes);
+        if (bigInteger.compareTo(p) >= 0) {
+            return Optional.empty();
+        }
         return this.buildElement().setValue(bigInteger).build();
     }
 
+    /**
+     * Returns the big-endian unsigned encoding of {@code value} in exactly
+     * {@code length} bytes.
+     *
+     * @param value  a non-negative BigInteger of at most {@code length}
+     *               bytes.
+     * @param length the number of bytes.
+     * @return the {@code length} bytes of {@code value}.
+     */
+    static byte[] toFixedBytes(final BigInteger value, final int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == length) {
+            return bytes;
+        }
+        byte[] fixed = new byte[length];
+        int skip = bytes.length > length ? bytes.length - length : 0;
+        System.arraycopy(bytes, skip, fixed, length - (bytes.length - skip), bytes.length - skip);
+        return fixed;
+    }
+
     @Override
     public PrimeFieldElement ZERO() {
-        return new PrimeFieldElement(this, BigInteger.ZERO);
+        return zero;
     }
 
     @Override
     public PrimeFieldElement ONE() {
-        return new PrimeFieldElement(this, BigInteger.ONE);
+        return one;
     }
 
     @Override
     public PrimeFieldElement THREE() {
-        return new PrimeFieldElement(this, BigInteger.valueOf(3L));
+        return three;
     }
 }
@@ -233,10 +233,10 @@ public class PrimeFieldElement implements RingElement {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+        if (!(o instanceof PrimeFieldElement)) return false;
         PrimeFieldElement that = (PrimeFieldElement) o;
         return Objects.equals(field, that.field) &&
-                Objects.equals(k, that.k);
+                Objects.equals(getIntValue(), that.getIntValue());
     }
 
 
@@ -339,17 +339,38 @@ public class PrimeFieldElement implements RingElement {
         return k;
     }
 
+    /**
+     * Returns the big-endian unsigned value of {@code this} element, padded
+     * to {@link PrimeField#getEncodingLength()} bytes.
+     *
+     * @see GroupElement#toBytes()
+     */
     @Override
     public byte[] toBytes() throws UnsupportedOperationException {
-        return getIntValue().toByteArray();
+        return PrimeField.toFixedBytes(getIntValue(), getGroup().getEncodingLength());
     }
 
+    /**
+     * Returns if {@code this} is not the square of a non-zero element. It is
+     * decided by the <i>Jacobi Symbol</i>, without searching any root.
+     *
+     * @return {@code true} if {@code this} is zero or a quadratic
+     * non-residue; {@code false} otherwise.
+     */
     public boolean isQuadraticNonResidue() {
-        return squareOfQuadraticResidue().isEmpty();
+        return !isQuadraticResidue();
     }
 
+    /**
+     * Returns if {@code this} is the square of a non-zero element. It is
+     * decided by the <i>Jacobi Symbol</i>, without searching any root.
+     *
+     * @return {@code true} if {@code this} is a non-zero quadratic residue;
+     * {@code false} otherwise.
+     */
     public boolean isQuadraticResidue() {
-        return squareOfQuadraticResidue().isPresent();
+        BigInteger value = getIntValue();
+        return value.signum() != 0 && jacobiSymbol(value, field.getSize()) == 1;
     }
 
     public Optional<PrimeFieldElement> squareOfQuadraticResidue() {
@@ -366,6 +387,6 @@ public class PrimeFieldElement implements RingElement {
     public int compareTo(@NotNull GroupElement o) {
         if (!(o instanceof PrimeFieldElement))
             throw new ArithmeticException("Must be same calss");
-        return this.k.compareTo(((PrimeFieldElement) o).k);
+        return getIntValue().compareTo(o.getIntValue());
     }
 }
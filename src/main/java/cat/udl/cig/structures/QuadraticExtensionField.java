@@ -0,0 +1,266 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.ConstructionException;
+import cat.udl.cig.structures.builder.QuadraticExtensionFieldElementBuilder;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Models a <i>Quadratic Extension Field</i> \(\mathbb{F}_{p^2} =
+ * \mathbb{F}_{p}[i] / (i^2 - \beta)\), where \(p\) is an odd prime and
+ * \(\beta\) is a quadratic non-residue modulo \(p\). Every element is stored
+ * as the pair \((a, b)\) of \(a + b i\), so the operations are done on two
+ * BigIntegers instead of a <i>Polynomial</i>.
+ * <p>
+ * It is the same field as {@link ExtensionField#ExtensionFieldP2(BigInteger)},
+ * whose reducing polynomial is \(x^2 - \beta\) for the same \(\beta\).
+ *
+ * @see Ring
+ * @see QuadraticExtensionFieldElement
+ * @see ExtensionField
+ */
+public class QuadraticExtensionField implements Ring {
+
+    /**
+     * The <i>QuadraticExtensionFields</i> created by {@link #of(BigInteger)},
+     * by characteristic.
+     */
+    private static final Interner<BigInteger, QuadraticExtensionField> INTERNED = new Interner<>();
+
+    /**
+     * A BigInteger that encapsulates the characteristic of this <i>Field</i>.
+     */
+    final BigInteger p;
+
+    /**
+     * The quadratic non-residue \(\beta = i^2\).
+     */
+    final BigInteger nonResidue;
+
+    private final PrimeField field;
+
+    /**
+     * The constants \(0\), \(1\) and \(3\) of {@code this}
+     * <i>QuadraticExtensionField</i>.
+     */
+    private final QuadraticExtensionFieldElement zero;
+    private final QuadraticExtensionFieldElement one;
+    private final QuadraticExtensionFieldElement three;
+
+    /**
+     * Creates the <i>QuadraticExtensionField</i> \(\mathbb{F}_{p^2}\), where
+     * \(\beta\) is the same non-residue used by
+     * {@link ExtensionField#ExtensionFieldP2(BigInteger)}.
+     *
+     * @param p the characteristic. It must be an odd prime.
+     * @throws ConstructionException if \(p\) is not an odd prime.
+     */
+    public QuadraticExtensionField(final BigInteger p) {
+        this(p, ExtensionField.searchNonResidue(p));
+    }
+
+    /**
+     * Creates the <i>QuadraticExtensionField</i> \(\mathbb{F}_{p}[i] / (i^2 -
+     * \beta)\).
+     *
+     * @param p          the characteristic. It must be an odd prime.
+     * @param nonResidue the value \(\beta = i^2\). It must be a quadratic
+     *                   non-residue modulo \(p\).
+     * @throws ConstructionException if \(p\) is not an odd prime or
+     *                               \(\beta\) is a square.
+     */
+    public QuadraticExtensionField(final BigInteger p, final BigInteger nonResidue) {
+        if (!p.testBit(0)) {
+            throw new ConstructionException("p must be an odd prime");
+        }
+        field = PrimeField.of(p);
+        if (!field.toElement(nonResidue).isQuadraticNonResidue()
+                || nonResidue.mod(p).signum() == 0) {
+            throw new ConstructionException("i^2 must be a quadratic non-residue");
+        }
+        this.p = p;
+        this.nonResidue = nonResidue.mod(p);
+        zero = new QuadraticExtensionFieldElement(this, BigInteger.ZERO, BigInteger.ZERO);
+        one = new QuadraticExtensionFieldElement(this, BigInteger.ONE, BigInteger.ZERO);
+        three = toElement(BigInteger.valueOf(3L), BigInteger.ZERO);
+    }
+
+    /**
+     * Returns the <i>QuadraticExtensionField</i> \(\mathbb{F}_{p^2}\). The
+     * fields are interned, so the non-residue is only searched the first
+     * time and every call with the same \(p\) returns the same instance
+     * while it is reachable.
+     *
+     * @param p the characteristic. It must be an odd prime.
+     * @return the <i>QuadraticExtensionField</i> \(\mathbb{F}_{p^2}\).
+     * @throws ConstructionException if \(p\) is not an odd prime.
+     */
+    public static QuadraticExtensionField of(final BigInteger p) {
+        return INTERNED.intern(p, QuadraticExtensionField::new);
+    }
+
+    /**
+     * Creates the element \(a + b i\), reducing \(a\) and \(b\) modulo
+     * \(p\).
+     *
+     * @param a the coefficient of \(1\).
+     * @param b the coefficient of \(i\).
+     * @return the <i>QuadraticExtensionFieldElement</i> \(a + b i\).
+     */
+    public QuadraticExtensionFieldElement toElement(final BigInteger a, final BigInteger b) {
+        return new QuadraticExtensionFieldElement(this, a.mod(p), b.mod(p));
+    }
+
+    /**
+     * Returns the quadratic non-residue \(\beta = i^2\).
+     *
+     * @return \(\beta\).
+     */
+    public BigInteger getNonResidue() {
+        return nonResidue;
+    }
+
+    /**
+     * Returns the <i>PrimeField</i> \(\mathbb{F}_{p}\) of the coefficients.
+     *
+     * @return \(\mathbb{F}_{p}\).
+     */
+    public PrimeField getField() {
+        return field;
+    }
+
+    @Override
+    public BigInteger getSize() {
+        return p.multiply(p);
+    }
+
+    @Override
+    public QuadraticExtensionFieldElementBuilder buildElement() {
+        return new QuadraticExtensionFieldElementBuilder(this);
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement getRandomElement() {
+        SecureRandom random = new SecureRandom();
+        return toElement(new BigInteger(p.bitLength(), random), new BigInteger(p.bitLength(), random));
+    }
+
+    /**
+     * @see Group#getRandomExponent()
+     */
+    @Override
+    public BigInteger getRandomExponent() {
+        BigInteger result =
+                new BigInteger(getSize().bitLength(), new SecureRandom());
+        if (result.compareTo(getSize()) >= 0) {
+            return result.mod(getSize());
+        }
+        return result;
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement getAdditiveIdentity() {
+        return zero;
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement getMultiplicativeIdentity() {
+        return one;
+    }
+
+    /**
+     * @see Group#multiply(GroupElement, GroupElement)
+     */
+    @Override
+    public QuadraticExtensionFieldElement multiply(final GroupElement x, final GroupElement y) {
+        return (QuadraticExtensionFieldElement) x.multiply(y);
+    }
+
+    /**
+     * @see Group#pow(GroupElement, BigInteger)
+     */
+    @Override
+    public QuadraticExtensionFieldElement pow(final GroupElement x, final BigInteger pow) {
+        return (QuadraticExtensionFieldElement) x.pow(pow);
+    }
+
+    @Override
+    public BigInteger getCharacteristic() {
+        return p;
+    }
+
+    @Override
+    public boolean containsElement(final GroupElement groupElement) {
+        return groupElement.getGroup().equals(this);
+    }
+
+    /**
+     * Returns the length of the two coefficients of the elements, each one
+     * encoded as a <i>PrimeFieldElement</i>.
+     *
+     * @see Ring#getEncodingLength()
+     */
+    @Override
+    public int getEncodingLength() {
+        return 2 * field.getEncodingLength();
+    }
+
+    /**
+     * Decodes the coefficients \(b\) and \(a\) of \(a + b i\), in this
+     * order.
+     *
+     * @see Ring#fromBytes(byte[])
+     * @see QuadraticExtensionFieldElement#toBytes()
+     */
+    @Override
+    public Optional<? extends QuadraticExtensionFieldElement> fromBytes(final byte[] bytes) {
+        final int length = field.getEncodingLength();
+        if (bytes.length != 2 * length) {
+            return Optional.empty();
+        }
+        Optional<? extends PrimeFieldElement> b = field.fromBytes(Arrays.copyOfRange(bytes, 0, length));
+        Optional<? extends PrimeFieldElement> a = field.fromBytes(Arrays.copyOfRange(bytes, length, 2 * length));
+        if (a.isEmpty() || b.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new QuadraticExtensionFieldElement(this, a.get().getValue(), b.get().getValue()));
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement ZERO() {
+        return zero;
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement ONE() {
+        return one;
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement THREE() {
+        return three;
+    }
+
+    @Override
+    public String toString() {
+        return "QuadraticExtensionField of size " + p + "^2 with i^2 = " + nonResidue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QuadraticExtensionField that = (QuadraticExtensionField) o;
+        return Objects.equals(p, that.p) &&
+                Objects.equals(nonResidue, that.nonResidue);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * p.hashCode() + nonResidue.hashCode();
+    }
+}
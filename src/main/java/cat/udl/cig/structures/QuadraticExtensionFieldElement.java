@@ -0,0 +1,322 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.IncorrectRingElementException;
+import cat.udl.cig.operations.wrapper.data.Pair;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Models a <i>Quadratic Extension Field Element</i> \(a + b i\), where \(i^2 =
+ * \beta\). The coefficients \(a\) and \(b\) are kept reduced modulo \(p\).
+ * <p>
+ * The multiplication uses the <i>Karatsuba</i> formula with three products,
+ * the squaring the <i>complex</i> method with two products, and the inverse
+ * the conjugate: \((a + b i)^{-1} = (a - b i) / (a^2 - \beta b^2)\).
+ *
+ * @see RingElement
+ * @see QuadraticExtensionField
+ */
+public class QuadraticExtensionFieldElement implements RingElement {
+
+    private final QuadraticExtensionField field;
+
+    /**
+     * The coefficient of \(1\).
+     */
+    private final BigInteger a;
+
+    /**
+     * The coefficient of \(i\).
+     */
+    private final BigInteger b;
+
+    /**
+     * Creates the element \(a + b i\). The coefficients must be already
+     * reduced modulo \(p\).
+     *
+     * @param field the <i>QuadraticExtensionField</i> to which {@code this}
+     *              element will belong.
+     * @param a     the reduced coefficient of \(1\).
+     * @param b     the reduced coefficient of \(i\).
+     * @see QuadraticExtensionField#toElement(BigInteger, BigInteger)
+     */
+    QuadraticExtensionFieldElement(final QuadraticExtensionField field, final BigInteger a, final BigInteger b) {
+        this.field = field;
+        this.a = a;
+        this.b = b;
+    }
+
+    /**
+     * Returns the coefficient \(a\) of \(a + b i\).
+     *
+     * @return \(a\).
+     */
+    public BigInteger getA() {
+        return a;
+    }
+
+    /**
+     * Returns the coefficient \(b\) of \(a + b i\).
+     *
+     * @return \(b\).
+     */
+    public BigInteger getB() {
+        return b;
+    }
+
+    @Override
+    public QuadraticExtensionField getGroup() {
+        return field;
+    }
+
+    /**
+     * Returns the coefficients \((a, b)\) of {@code this} element.
+     *
+     * @return the pair \((a, b)\).
+     */
+    @Override
+    public Pair<BigInteger, BigInteger> getValue() {
+        return new Pair<>(a, b);
+    }
+
+    /**
+     * @see RingElement#getIntValue()
+     */
+    @Override
+    public BigInteger getIntValue() {
+        return a.add(b.multiply(field.p));
+    }
+
+    /**
+     * Returns the encodings of \(b\) and \(a\), in this order, each one
+     * of {@link PrimeField#getEncodingLength()} bytes.
+     *
+     * @see QuadraticExtensionField#getEncodingLength()
+     */
+    @Override
+    public byte[] toBytes() {
+        final int length = field.getField().getEncodingLength();
+        byte[] bytes = new byte[2 * length];
+        System.arraycopy(PrimeField.toFixedBytes(b, length), 0, bytes, 0, length);
+        System.arraycopy(PrimeField.toFixedBytes(a, length), 0, bytes, length, length);
+        return bytes;
+    }
+
+    @Override
+    public boolean belongsToSameGroup(final GroupElement q) {
+        return q instanceof QuadraticExtensionFieldElement && field.equals(q.getGroup());
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement add(final RingElement q) throws IncorrectRingElementException {
+        QuadraticExtensionFieldElement q1 = check(q);
+        return new QuadraticExtensionFieldElement(field, reduce(a.add(q1.a)), reduce(b.add(q1.b)));
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement subtract(final RingElement q) throws IncorrectRingElementException {
+        QuadraticExtensionFieldElement q1 = check(q);
+        return new QuadraticExtensionFieldElement(field, reduce(a.subtract(q1.a)), reduce(b.subtract(q1.b)));
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement opposite() {
+        return new QuadraticExtensionFieldElement(field, reduce(a.negate()), reduce(b.negate()));
+    }
+
+    /**
+     * Computes \((a + b i)(c + d i) = (ac + \beta bd) + ((a + b)(c + d) - ac -
+     * bd) i\).
+     */
+    @Override
+    public QuadraticExtensionFieldElement multiply(final GroupElement q) throws IncorrectRingElementException {
+        QuadraticExtensionFieldElement q1 = check(q);
+        if (q1 == this) {
+            return square();
+        }
+        BigInteger ac = a.multiply(q1.a);
+        BigInteger bd = b.multiply(q1.b);
+        BigInteger cross = a.add(b).multiply(q1.a.add(q1.b)).subtract(ac).subtract(bd);
+        return new QuadraticExtensionFieldElement(field,
+                ac.add(field.nonResidue.multiply(bd)).mod(field.p), cross.mod(field.p));
+    }
+
+    /**
+     * Computes \((a + b i)^2 = ((a + b)(a + \beta b) - ab - \beta ab) + 2ab
+     * i\).
+     *
+     * @return \((a + b i)^2\).
+     */
+    public QuadraticExtensionFieldElement square() {
+        BigInteger ab = a.multiply(b);
+        BigInteger real = a.add(b).multiply(a.add(field.nonResidue.multiply(b)))
+                .subtract(ab).subtract(field.nonResidue.multiply(ab));
+        return new QuadraticExtensionFieldElement(field, real.mod(field.p), ab.shiftLeft(1).mod(field.p));
+    }
+
+    /**
+     * Returns the conjugate \(a - b i\) of {@code this} element.
+     *
+     * @return \(a - b i\).
+     */
+    public QuadraticExtensionFieldElement conjugate() {
+        return new QuadraticExtensionFieldElement(field, a, reduce(b.negate()));
+    }
+
+    /**
+     * Computes the <i>Frobenius</i> endomorphism \((a + b i)^p\). Since
+     * \(\beta\) is a non-residue, \(i^p = \beta^{(p - 1) / 2} i = -i\), so
+     * it is the conjugate.
+     *
+     * @return \((a + b i)^p = a - b i\).
+     */
+    public QuadraticExtensionFieldElement frobenius() {
+        return conjugate();
+    }
+
+    /**
+     * Returns the norm \((a + b i)(a - b i) = a^2 - \beta b^2\), which
+     * belongs to \(\mathbb{F}_{p}\).
+     *
+     * @return the norm of {@code this} element.
+     */
+    public PrimeFieldElement norm() {
+        return field.getField().toElement(normValue());
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement divide(final GroupElement q) throws IncorrectRingElementException {
+        return multiply(check(q).inverse());
+    }
+
+    /**
+     * @throws ArithmeticException if {@code this} element is zero.
+     */
+    @Override
+    public QuadraticExtensionFieldElement inverse() {
+        BigInteger normInverse = normValue().modInverse(field.p);
+        return new QuadraticExtensionFieldElement(field,
+                a.multiply(normInverse).mod(field.p), b.negate().multiply(normInverse).mod(field.p));
+    }
+
+    @Override
+    public QuadraticExtensionFieldElement pow(final BigInteger k) {
+        if (k.signum() < 0) {
+            return inverse().pow(k.negate());
+        }
+        QuadraticExtensionFieldElement result = field.getMultiplicativeIdentity();
+        for (int i = k.bitLength() - 1; i >= 0; i--) {
+            result = result.square();
+            if (k.testBit(i)) {
+                result = result.multiply(this);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the square roots with the <i>complex</i> method. If \(b =
+     * 0\), the root is \(\sqrt{a}\) or \(\sqrt{a / \beta} i\). Otherwise,
+     * the root \(c + d i\) has \(c^2 = (a \pm \sqrt{N}) / 2\) and \(d = b /
+     * (2c)\), where \(N = a^2 - \beta b^2\) is the norm, which must be a
+     * square in \(\mathbb{F}_{p}\).
+     */
+    @Override
+    public ArrayList<QuadraticExtensionFieldElement> squareRoot() {
+        ArrayList<QuadraticExtensionFieldElement> roots = new ArrayList<>();
+        if (a.signum() == 0 && b.signum() == 0) {
+            roots.add(this);
+            return roots;
+        }
+        PrimeField primeField = field.getField();
+        if (b.signum() == 0) {
+            PrimeFieldElement real = primeField.toElement(a);
+            if (real.isQuadraticResidue()) {
+                BigInteger c = real.squareRoot().get(0).getValue();
+                addRoots(roots, c, BigInteger.ZERO);
+            } else {
+                PrimeFieldElement imaginary = real.divide(primeField.toElement(field.nonResidue));
+                BigInteger d = imaginary.squareRoot().get(0).getValue();
+                addRoots(roots, BigInteger.ZERO, d);
+            }
+            return roots;
+        }
+        PrimeFieldElement norm = norm();
+        if (!norm.isQuadraticResidue()) {
+            return roots;
+        }
+        BigInteger n = norm.squareRoot().get(0).getValue();
+        BigInteger half = BigInteger.TWO.modInverse(field.p);
+        PrimeFieldElement c2 = primeField.toElement(a.add(n).multiply(half));
+        if (!c2.isQuadraticResidue()) {
+            c2 = primeField.toElement(a.subtract(n).multiply(half));
+        }
+        BigInteger c = c2.squareRoot().get(0).getValue();
+        BigInteger d = b.multiply(c.shiftLeft(1).modInverse(field.p)).mod(field.p);
+        addRoots(roots, c, d);
+        return roots;
+    }
+
+    private void addRoots(final ArrayList<QuadraticExtensionFieldElement> roots,
+                          final BigInteger c, final BigInteger d) {
+        QuadraticExtensionFieldElement root = field.toElement(c, d);
+        roots.add(root);
+        roots.add(root.opposite());
+    }
+
+    private BigInteger normValue() {
+        return a.multiply(a).subtract(field.nonResidue.multiply(b).multiply(b)).mod(field.p);
+    }
+
+    private BigInteger reduce(final BigInteger value) {
+        if (value.signum() < 0) {
+            return value.add(field.p);
+        }
+        if (value.compareTo(field.p) >= 0) {
+            return value.subtract(field.p);
+        }
+        return value;
+    }
+
+    private QuadraticExtensionFieldElement check(final GroupElement q) throws IncorrectRingElementException {
+        if (!belongsToSameGroup(q)) {
+            throw new IncorrectRingElementException(
+                    "RingElement q is not a "
+                            + "correct instance of QuadraticExtensionFieldElement");
+        }
+        return (QuadraticExtensionFieldElement) q;
+    }
+
+    @Override
+    public String toString() {
+        return a + " + " + b + "i";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QuadraticExtensionFieldElement that = (QuadraticExtensionFieldElement) o;
+        return Objects.equals(field, that.field) &&
+                Objects.equals(a, that.a) &&
+                Objects.equals(b, that.b);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = field.hashCode();
+        result = 31 * result + a.hashCode();
+        result = 31 * result + b.hashCode();
+        return result;
+    }
+
+    @Override
+    public int compareTo(@NotNull GroupElement o) {
+        if (!(o instanceof QuadraticExtensionFieldElement))
+            throw new ArithmeticException("Must be same class");
+        return getIntValue().compareTo(o.getIntValue());
+    }
+}
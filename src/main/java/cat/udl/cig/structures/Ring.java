@@ -1,8 +1,10 @@
 package cat.udl.cig.structures;
 
+import cat.udl.cig.exceptions.IncorrectRingElementException;
 import cat.udl.cig.structures.builder.RingElementBuilder;
 
 import java.math.BigInteger;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -75,8 +77,43 @@ public interface Ring extends Group {
     @Override
     public RingElement pow(GroupElement x, BigInteger pow);
 
+    /**
+     * Returns the inverses of all the {@code elements} with <i>Montgomery's
+     * trick</i>, which needs one inversion and \(3(n - 1)\) multiplications
+     * instead of \(n\) inversions.
+     *
+     * @param elements the elements of {@code this} <i>Ring</i> to be
+     *                 inverted.
+     * @return the list of the inverses, in the same order.
+     * @throws IncorrectRingElementException if any element does not belong
+     *                                       to {@code this} <i>Ring</i>.
+     * @throws ArithmeticException           if any element is zero.
+     * @see BatchInversion
+     */
+    default List<? extends RingElement> batchInverse(List<? extends RingElement> elements) {
+        return BatchInversion.batchInverse(this, elements);
+    }
+
     public BigInteger getCharacteristic();
 
+    /**
+     * Returns the number of bytes of the canonical encoding of the elements
+     * of {@code this} <i>Ring</i>, given by {@link GroupElement#toBytes()}.
+     * All the elements have the same length, so several encodings can be
+     * concatenated and split without any separator.
+     *
+     * @return the length of the encodings.
+     */
+    public int getEncodingLength();
+
+    /**
+     * Returns the element whose canonical encoding is {@code bytes}.
+     *
+     * @param bytes the {@link #getEncodingLength()} bytes of the encoding.
+     * @return the element, or empty if {@code bytes} is not the encoding of
+     * an element of {@code this} <i>Ring</i>.
+     * @see GroupElement#toBytes()
+     */
     Optional<? extends RingElement> fromBytes(byte[] bytes);
 
     @Override
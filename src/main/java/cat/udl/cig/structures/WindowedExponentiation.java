@@ -0,0 +1,168 @@
+package cat.udl.cig.structures;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Recodes the exponents of a single-base exponentiation \(g^k\) into windows,
+ * so the powers of \(g\) are multiplied once every several bits instead of
+ * once every nonzero bit.
+ * <ul>
+ * <li>The <i>sliding window</i> splits \(k\) in odd windows of at most \(w\)
+ * bits, which need the odd powers \(g, g^3, \ldots, g^{2^w - 1}\).</li>
+ * <li>The <i>width-w Non Adjacent Form</i> (<i>wNAF</i>) writes \(k = \sum_i
+ * d_i 2^i\) with odd digits \(|d_i| < 2^{w - 1}\) and, at most, one nonzero
+ * digit every \(w\) positions. It needs the odd powers up to \(g^{2^{w - 1} -
+ * 1}\) and their inverses, so it is used in the groups where inverting is
+ * cheap, such as the <i>Elliptic Curves</i>.</li>
+ * </ul>
+ * Both recodings return the digits lowest position first. They are evaluated
+ * from the highest position: one squaring per position and one
+ * multiplication per nonzero digit.
+ */
+public final class WindowedExponentiation {
+
+    /**
+     * The largest bit length of the exponents for each window, the same
+     * thresholds used by {@link BigInteger#modPow(BigInteger, BigInteger)}.
+     */
+    private static final int[] WINDOW_THRESHOLDS = {7, 25, 81, 241, 673, 1793};
+
+    private WindowedExponentiation() {
+    }
+
+    /**
+     * Returns the number of bits \(w\) of the <i>sliding window</i> for
+     * exponents of {@code bits} bits. It balances the \(2^{w - 1}\)
+     * precomputed powers against the \(bits / (w + 1)\) multiplications.
+     *
+     * @param bits the bit length of the exponent.
+     * @return the width \(w\), between 1 and 7.
+     */
+    public static int window(final int bits) {
+        int w = 1;
+        while (w <= WINDOW_THRESHOLDS.length && bits > WINDOW_THRESHOLDS[w - 1]) {
+            w++;
+        }
+        return w;
+    }
+
+    /**
+     * Returns the width \(w\) of the <i>wNAF</i> for exponents of
+     * {@code bits} bits. It has the same number of precomputed powers as the
+     * <i>sliding window</i> of {@link #window(int)} bits, with fewer nonzero
+     * digits.
+     *
+     * @param bits the bit length of the exponent.
+     * @return the width \(w\), between 2 and 8.
+     */
+    public static int wnafWidth(final int bits) {
+        return window(bits) + 1;
+    }
+
+    /**
+     * Returns the <i>sliding window</i> recoding of \(k\): {@code digits[i]}
+     * is the odd value of the window whose lowest bit is \(i\), or 0.
+     *
+     * @param k a positive BigInteger.
+     * @param w the maximum number of bits of each window.
+     * @return the digits of \(k\), lowest position first.
+     */
+    public static int[] slidingWindow(final BigInteger k, final int w) {
+        int[] digits = new int[k.bitLength()];
+        int i = k.bitLength() - 1;
+        while (i >= 0) {
+            if (!k.testBit(i)) {
+                i--;
+                continue;
+            }
+            int j = Math.max(i - w + 1, 0);
+            while (!k.testBit(j)) {
+                j++;
+            }
+            int value = 0;
+            for (int b = i; b >= j; b--) {
+                value = (value << 1) | (k.testBit(b) ? 1 : 0);
+            }
+            digits[j] = value;
+            i = j - 1;
+        }
+        return digits;
+    }
+
+    /**
+     * Returns the <i>width-w Non Adjacent Form</i> of \(k\).
+     *
+     * @param k a positive BigInteger.
+     * @param w the width, at least 2. For \(w = 2\), it is the <i>Non
+     *          Adjacent Form</i>.
+     * @return the digits \(d_i\) of \(k\), lowest position first.
+     */
+    public static int[] wnaf(BigInteger k, final int w) {
+        int[] digits = new int[k.bitLength() + 1];
+        final int mask = (1 << w) - 1;
+        final int half = 1 << (w - 1);
+        int length = 0;
+        while (k.signum() > 0) {
+            if (k.testBit(0)) {
+                int digit = k.intValue() & mask;
+                if (digit >= half) {
+                    digit -= 1 << w;
+                }
+                digits[length] = digit;
+                k = k.subtract(BigInteger.valueOf(digit));
+            }
+            k = k.shiftRight(1);
+            length++;
+        }
+        return Arrays.copyOf(digits, length);
+    }
+
+    /**
+     * Computes the odd powers \(g, g^3, \ldots, g^{2 count - 1}\).
+     *
+     * @param g     the base.
+     * @param count the number of powers.
+     * @return the odd powers of \(g\), {@code powers[i]} \(= g^{2i + 1}\).
+     */
+    public static GroupElement[] oddPowers(final GroupElement g, final int count) {
+        GroupElement[] powers = new GroupElement[count];
+        powers[0] = g;
+        if (count > 1) {
+            GroupElement square = g.multiply(g);
+            for (int i = 1; i < count; i++) {
+                powers[i] = powers[i - 1].multiply(square);
+            }
+        }
+        return powers;
+    }
+
+    /**
+     * Evaluates the recoded exponent \(\sum_i d_i 2^i\) from the highest
+     * position. The negative digits multiply by the inverse of their power.
+     *
+     * @param oddPowers {@code oddPowers[i]} \(= g^{2i + 1}\), for every odd
+     *                  \(|d_i|\).
+     * @param digits    the digits \(d_i\), lowest position first.
+     * @param identity  the neuter element of the group.
+     * @return \(g^{\sum_i d_i 2^i}\).
+     */
+    public static GroupElement pow(final GroupElement[] oddPowers, final int[] digits,
+                                   final GroupElement identity) {
+        GroupElement result = null;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            if (result != null) {
+                result = result.multiply(result);
+            }
+            int digit = digits[i];
+            if (digit != 0) {
+                GroupElement power = oddPowers[Math.abs(digit) >>> 1];
+                if (digit < 0) {
+                    power = power.inverse();
+                }
+                result = result == null ? power : result.multiply(power);
+            }
+        }
+        return result == null ? identity : result;
+    }
+}
@@ -29,7 +29,7 @@ public class IntegerPrimeOrderElementBuilder implements RingElementBuilder{
         if(value != null) {
             if (value.modPow(integerPrimeOrderSubgroup.getSize(), field.getSize())
                     .equals(BigInteger.ONE)) {
-                return Optional.of(new PrimeFieldElement(field, value));
+                return Optional.of(field.toElement(value));
             }
         }
         return Optional.empty();
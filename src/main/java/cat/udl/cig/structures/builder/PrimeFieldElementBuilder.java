@@ -31,6 +31,6 @@ public class PrimeFieldElementBuilder implements RingElementBuilder {
     public Optional<PrimeFieldElement> build() {
         if (value == null)
             return Optional.empty();
-        return Optional.of(new PrimeFieldElement(field, value));
+        return Optional.of(field.toElement(value));
     }
 }
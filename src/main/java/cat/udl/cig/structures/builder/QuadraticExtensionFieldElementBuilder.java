@@ -0,0 +1,36 @@
+package cat.udl.cig.structures.builder;
+
+import cat.udl.cig.structures.QuadraticExtensionField;
+import cat.udl.cig.structures.QuadraticExtensionFieldElement;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+import java.util.Optional;
+
+public class QuadraticExtensionFieldElementBuilder implements RingElementBuilder {
+
+    private final QuadraticExtensionField field;
+    private BigInteger a;
+    private BigInteger b;
+
+    public QuadraticExtensionFieldElementBuilder(@NotNull QuadraticExtensionField field) {
+        this.field = field;
+    }
+
+    public QuadraticExtensionFieldElementBuilder setValue(@NotNull BigInteger a, @NotNull BigInteger b) {
+        this.a = a;
+        this.b = b;
+        return this;
+    }
+
+    public QuadraticExtensionFieldElementBuilder setValue(long a, long b) {
+        return setValue(BigInteger.valueOf(a), BigInteger.valueOf(b));
+    }
+
+    @Override
+    public Optional<QuadraticExtensionFieldElement> build() {
+        if (a == null || b == null)
+            return Optional.empty();
+        return Optional.of(field.toElement(a, b));
+    }
+}
@@ -34,6 +34,13 @@ public class BinaryEC extends EllipticCurve {
      */
     private final boolean isSuperSingular;
 
+    /**
+     * The arithmetic of \(\mathbb{Z}[\tau]\) if {@code this}
+     * <i>BinaryEC</i> is a <i>Koblitz Curve</i>. It is created once, when
+     * it is first needed.
+     */
+    private volatile TauAdicExpansion tauAdicExpansion;
+
     /**
      * Creates a copy of the <i>BinaryEC</i> \(E\). This constructor makes a
      * deep copy of \(E\).
@@ -84,6 +91,30 @@ public class BinaryEC extends EllipticCurve {
         this(K, new BinaryFieldElement[]{A, B, C});
     }
 
+    /**
+     * Creates a non-supersingular <i>BinaryEC</i> \(y^{2} + xy = x^{3} + ax^2
+     * + b\) over the <i>BinaryField</i> \(K\), whose cardinality is already
+     * known, as it happens with the standard curves.
+     *
+     * @param K     the <i>BinaryField</i> over which {@code this} <i>BinaryEC</i>
+     *              is defined.
+     * @param A     the coefficient \(a\).
+     * @param B     the coefficient \(b\).
+     * @param order the cardinality of {@code this} <i>BinaryEC</i>.
+     * @throws ConstructionException if the curve is supersingular or
+     *                               {@code order} does not satisfy the
+     *                               <i>Hasse Theorem</i>.
+     */
+    public BinaryEC(@NotNull final BinaryField K, @NotNull final BinaryFieldElement A,
+                    @NotNull final BinaryFieldElement B, @NotNull final BigInteger order) {
+        super(K, A, B, order);
+        BigInteger t = K.getSize().add(BigInteger.ONE).subtract(order);
+        isSuperSingular = t.mod(TWO).equals(BigInteger.ZERO);
+        if (isSuperSingular) {
+            throw new ConstructionException("Is supersingular and it has not C coefficient.");
+        }
+    }
+
     private boolean IsACorrectCurve(final BinaryField K,
                                            final BinaryFieldElement[] coefficients) {
         if (K != null) {
@@ -156,6 +187,11 @@ public class BinaryEC extends EllipticCurve {
         return new BinaryECPoint(this);
     }
 
+    @Override
+    BinaryECPoint toPoint(final RingElement x, final RingElement y) {
+        return new BinaryECPoint(this, (BinaryFieldElement) x, (BinaryFieldElement) y);
+    }
+
     public EllipticCurveInt getIsogenous(final int l) {
         throw new UnsupportedOperationException("Not supported yet.");
     }
@@ -170,6 +206,47 @@ public class BinaryEC extends EllipticCurve {
         return isSuperSingular;
     }
 
+    /**
+     * Returns if {@code this} <i>BinaryEC</i> is a <i>Koblitz Curve</i>
+     * (anomalous binary curve), that is, \(y^2 + xy = x^3 + ax^2 + 1\) with
+     * \(a \in \{0, 1\}\). On these curves, the <i>Frobenius</i> map
+     * \((x, y) \mapsto (x^2, y^2)\) replaces the doublings of the scalar
+     * multiplications.
+     *
+     * @return {@code true} if {@code this} <i>BinaryEC</i> is a <i>Koblitz
+     * Curve</i> and {@code false}, otherwise.
+     * @see TauAdicExpansion
+     */
+    public boolean isKoblitz() {
+        if (isSuperSingular) {
+            return false;
+        }
+        RingElement zero = ring.getAdditiveIdentity();
+        RingElement one = ring.getMultiplicativeIdentity();
+        return getB().equals(one) && (getA().equals(zero) || getA().equals(one));
+    }
+
+    /**
+     * Returns the arithmetic of \(\mathbb{Z}[\tau]\) of {@code this}
+     * <i>Koblitz Curve</i>.
+     *
+     * @return the <i>TauAdicExpansion</i> of {@code this} <i>BinaryEC</i>.
+     * @throws ArithmeticException if {@code this} <i>BinaryEC</i> is not a
+     *                             <i>Koblitz Curve</i>.
+     */
+    public TauAdicExpansion getTauAdicExpansion() {
+        TauAdicExpansion expansion = tauAdicExpansion;
+        if (expansion == null) {
+            if (!isKoblitz()) {
+                throw new ArithmeticException("The curve is not a Koblitz curve.");
+            }
+            int a = getA().equals(ring.getAdditiveIdentity()) ? 0 : 1;
+            expansion = new TauAdicExpansion(a, ((BinaryField) ring).getDimension());
+            tauAdicExpansion = expansion;
+        }
+        return expansion;
+    }
+
     @Override
     public boolean isOnCurve(final ECPoint iP) {
         BinaryECPoint P = (BinaryECPoint) iP;
@@ -272,13 +349,10 @@ public class BinaryEC extends EllipticCurve {
             BinaryECPoint P;
             if (isSuperSingular) {
                 // final solution is y=h*c
-                P = new BinaryECPoint(this, x, h.multiply(getC()),
-                        BigInteger.ONE); // we let the constructor find the
-                // order
+                P = new BinaryECPoint(this, x, h.multiply(getC()));
             } else {
                 // final solution is y=h*x
-                P = new BinaryECPoint(this, x, h.multiply(x),
-                        BigInteger.ONE);
+                P = new BinaryECPoint(this, x, h.multiply(x));
             }
             // sanity check
             return isOnCurve(P) ? new ArrayList<>(List.of(P)) : new ArrayList<>();
@@ -320,6 +394,22 @@ public class BinaryEC extends EllipticCurve {
         return (BinaryECPoint) x.multiply(y);
     }
 
+    /**
+     * The terms are combined in <i>López-Dahab Coordinates</i>.
+     *
+     * @see Group#multiExp(List, List)
+     * @see BinaryECPoint#lopezDahabMultiExp(List, List)
+     */
+    @Override
+    public BinaryECPoint multiExp(final List<? extends GroupElement> bases, final List<BigInteger> exponents) {
+        MultiExponentiation.checkSizes(bases, exponents);
+        List<BinaryECPoint> points = new ArrayList<>(bases.size());
+        for (GroupElement base : bases) {
+            points.add((BinaryECPoint) base);
+        }
+        return getMultiplicativeIdentity().lopezDahabMultiExp(points, exponents);
+    }
+
     /**
      * @see EllipticCurveInt#getRandomElement()
      */
@@ -2,14 +2,15 @@ package cat.udl.cig.structures.ecc;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.Arrays;
+import java.util.List;
 
 import cat.udl.cig.exceptions.IncorrectRingElementException;
 import cat.udl.cig.structures.BinaryField;
 import cat.udl.cig.structures.BinaryFieldElement;
 import cat.udl.cig.structures.RingElement;
 import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.WindowedExponentiation;
 
 /**
  * Models a <i>Point</i> \(P\) belonging to a <i>Binary Elliptic Curve</i>
@@ -21,6 +22,20 @@ import cat.udl.cig.structures.GroupElement;
  * @author Ricard Garra
  */
 public class BinaryECPoint extends EllipticCurvePoint {
+
+    /**
+     * The multiples \(\alpha_u P\) of the <i>width-w τNAF</i> of {@code this}
+     * <i>Point</i> of a <i>Koblitz Curve</i>, kept from its second scalar
+     * multiplication on. The one-off <i>Points</i> do not keep them.
+     */
+    private volatile BinaryECPoint[] cachedTauMultiples;
+
+    /**
+     * Whether the multiples \(\alpha_u P\) of {@code this} <i>Point</i>
+     * have already been computed once.
+     */
+    private volatile boolean tauMultiplesComputed;
+
     /**
      * The <i>Elliptic Curve</i> \(E\) to which the point \(P\) belongs.
      *
@@ -187,6 +202,22 @@ public class BinaryECPoint extends EllipticCurvePoint {
         return NSSAdd(Q);
     }
 
+    /**
+     * Returns the bit \(\tilde{y}\) of <i>SEC 1</i>: the constant term of
+     * \(y / x\), or of \(y / c\) if the curve is super singular, since
+     * the other point with the same \(x\) has \(y + x\), or \(y + c\).
+     *
+     * @return \(\tilde{y}\), which is 0 if \(x = 0\).
+     */
+    @Override
+    int compressionBit() {
+        BinaryFieldElement divisor = ((BinaryEC) curve).isSuperSingularEC() ? ((BinaryEC) curve).getC() : getX();
+        if (divisor.getValue().isEmpty()) {
+            return 0;
+        }
+        return getY().divide(divisor).getValue().get(0) ? 1 : 0;
+    }
+
     @Override
     public BinaryECPoint inverse() {
         /*
@@ -216,6 +247,9 @@ public class BinaryECPoint extends EllipticCurvePoint {
 
     @Override
     public boolean equals(final Object obj) {
+        if (!(obj instanceof BinaryECPoint)) {
+            return false;
+        }
         BinaryECPoint P = (BinaryECPoint) obj;
         return (super.equals(obj) && ((BinaryEC) curve).isSuperSingularEC() == ((BinaryEC) P.curve)
             .isSuperSingularEC());
@@ -225,6 +259,7 @@ public class BinaryECPoint extends EllipticCurvePoint {
     public int hashCode() {
         int hash = 3;
         hash = 29 * hash + (((BinaryEC) curve).isSuperSingularEC() ? 1 : 0);
+        hash = 29 * hash + super.hashCode();
         return hash;
     }
 
@@ -239,6 +274,7 @@ public class BinaryECPoint extends EllipticCurvePoint {
      *            a BigInteger number to multiply the <i>Point</i> \(P\).
      * @return a <i>BinaryECPoint</i> \(R\), where \(R = k \cdot P\) or
      *         {@code null} if {@code this} is not initialized.
+     * @see #ladderPow(BigInteger)
      */
     @Override
     public BinaryECPoint pow(final BigInteger k) {
@@ -248,75 +284,485 @@ public class BinaryECPoint extends EllipticCurvePoint {
         if (((BinaryEC) curve).isSuperSingularEC()) {
             return normalPow(k);
         }
+        if (((BinaryEC) curve).isKoblitz()) {
+            return tauAdicPow(k);
+        }
+        return ladderPow(k);
+    }
 
-        try {
-            BinaryFieldElement x1 =
-                    new BinaryFieldElement((BinaryFieldElement) x);
-            BinaryFieldElement xSquared =
-                    ((BinaryFieldElement) x).square();
-            BinaryFieldElement x2 =
-                xSquared.add(curve.getB().divide(xSquared));
-            BinaryFieldElement t;
-            for (int i = k.bitLength() - 2; i >= 0; i--) {
-                t = x1.divide(x1.add(x2));
-                if (k.testBit(i)) {
-                    x1 = (BinaryFieldElement) (x.add(t)).add(t.square());
-                    xSquared = x2.square();
-                    x2 = xSquared.add(curve.getB().divide(xSquared));
-                } else {
-                    xSquared = x1.square();
-                    x1 = xSquared.add(curve.getB().divide(xSquared));
-                    x2 = (BinaryFieldElement) x.add(t).add(t.square());
+    /**
+     * Returns the result of \(k \cdot P\) on a <i>Koblitz Curve</i>. \(k\)
+     * is reduced modulo \(\tau^m - 1\) and written in <i>width-w
+     * τNAF</i>, \(\sum_i d_i \tau^i\). It is evaluated from the highest
+     * position in <i>López-Dahab Coordinates</i>, where \(\tau\) squares
+     * the three coordinates, so there are no doublings: only one mixed
+     * addition of \(\pm \alpha_u P\) every \(w + 1\) positions, on
+     * average.
+     *
+     * @param k
+     *            a BigInteger number to multiply the <i>Point</i> \(P\).
+     * @return a <i>BinaryECPoint</i> \(R\), where \(R = k \cdot P\).
+     * @see TauAdicExpansion
+     */
+    BinaryECPoint tauAdicPow(final BigInteger k) {
+        if (k.signum() < 0) {
+            return inverse().tauAdicPow(k.negate());
+        }
+        if (k.signum() == 0 || isInfinity) {
+            return (BinaryECPoint) curve.getMultiplicativeIdentity();
+        }
+        final TauAdicExpansion expansion = ((BinaryEC) curve).getTauAdicExpansion();
+        final int w = WindowedExponentiation.wnafWidth(getGroup().getDimension());
+        final int[] digits = expansion.windowTauNAF(expansion.reduce(k), w);
+        final BinaryECPoint[] table = tauMultiples(expansion, w);
+        final LopezDahabArithmetic arithmetic = new LopezDahabArithmetic();
+        BinaryFieldElement[] Q = arithmetic.infinity();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            Q = arithmetic.frobenius(Q);
+            if (digits[i] != 0) {
+                BinaryECPoint P = table[Math.abs(digits[i]) >>> 1];
+                if (!P.isInfinity()) {
+                    Q = arithmetic.mixedAddition(Q, P.getX(),
+                            digits[i] > 0 ? P.getY() : arithmetic.negateY(P.getX(), P.getY()));
                 }
             }
-            BinaryFieldElement r1 = x1.add(x);
-            BinaryFieldElement r2 = x2.add(x);
-            BinaryFieldElement aux =
-                (r1.multiply(r2)).add(((BinaryFieldElement) x).square())
-                    .add(y);
-            BinaryFieldElement y1 = r1.multiply(aux);
-            y1 = y1.divide(x);
-            y1 = y1.add(y);
-
-            return new BinaryECPoint((BinaryEC) curve, x1, y1);
-        } catch (IncorrectRingElementException ex) {
-            Logger.getLogger(BinaryECPoint.class.getName()).log(
-                Level.SEVERE, null, ex);
         }
-        return null;
+        return arithmetic.toAffine(Q);
+    }
+
+    /**
+     * Returns the affine multiples \(\alpha_u P\) of {@code this}
+     * <i>Point</i>, for the representatives \(\alpha_u\) of the
+     * <i>width-w τNAF</i>. Each one is evaluated from its <i>τNAF</i> and
+     * all of them are normalized with one batch inversion. As the odd
+     * multiples, the table is kept from the second multiplication on.
+     *
+     * @see EllipticCurvePoint#oddMultiples(int)
+     */
+    private BinaryECPoint[] tauMultiples(final TauAdicExpansion expansion, final int w) {
+        BinaryECPoint[] table = cachedTauMultiples;
+        if (table != null && table.length >= 1 << (w - 2)) {
+            return table;
+        }
+        final BigInteger[][] alphas = expansion.representatives(w);
+        final LopezDahabArithmetic arithmetic = new LopezDahabArithmetic();
+        final BinaryFieldElement minusY = arithmetic.negateY(getX(), getY());
+        BinaryFieldElement[][] multiples = new BinaryFieldElement[alphas.length][];
+        List<BinaryFieldElement> zs = new ArrayList<>(alphas.length);
+        for (int u = 0; u < alphas.length; u++) {
+            int[] digits = expansion.windowTauNAF(alphas[u], 2);
+            BinaryFieldElement[] Q = arithmetic.infinity();
+            for (int i = digits.length - 1; i >= 0; i--) {
+                Q = arithmetic.frobenius(Q);
+                if (digits[i] != 0) {
+                    Q = arithmetic.mixedAddition(Q, getX(), digits[i] > 0 ? getY() : minusY);
+                }
+            }
+            multiples[u] = Q;
+            if (!Q[2].equals(arithmetic.ZERO)) {
+                zs.add(Q[2]);
+            }
+        }
+        List<? extends BinaryFieldElement> inverses = getGroup().batchInverse(zs);
+        table = new BinaryECPoint[alphas.length];
+        for (int u = 0, j = 0; u < alphas.length; u++) {
+            table[u] = multiples[u][2].equals(arithmetic.ZERO)
+                    ? (BinaryECPoint) curve.getMultiplicativeIdentity()
+                    : arithmetic.toAffine(multiples[u], inverses.get(j++));
+        }
+        if (tauMultiplesComputed) {
+            cachedTauMultiples = table;
+        } else {
+            tauMultiplesComputed = true;
+        }
+        return table;
+    }
+
+    /**
+     * Returns the result of \(k \cdot P\) with the <i>Montgomery ladder</i>.
+     * For non-supersingular curves, the registers only keep the projective
+     * \(x\) coordinates \((X:Z)\), with \(x = X/Z\), and every bit costs
+     * one addition, \(Z_3 = (X_1 Z_2 + X_2 Z_1)^2\) and \(X_3 = x Z_3 +
+     * X_1 Z_2 X_2 Z_1\), and one doubling, \(X_3 = X_1^4 + b Z_1^4\) and
+     * \(Z_3 = X_1^2 Z_1^2\). The \(y\) coordinate is recovered at the end
+     * with the only inversion. For supersingular curves, it uses the general
+     * ladder.
+     * <p>
+     * As the general ladder, it is regular but not constant-time: the bits of
+     * \(k\) select the registers by index and the <i>BinaryField</i>
+     * arithmetic takes variable time. Unlike the co-Z formulas, both
+     * formulas are complete: a register equal to the infinity point is
+     * \((X:0)\), with \(X \neq 0\), and it is added and doubled as any
+     * other, so the ladder has no exceptional case.
+     *
+     * @param k
+     *            a BigInteger number to multiply the <i>Point</i> \(P\).
+     * @return a <i>BinaryECPoint</i> \(R\), where \(R = k \cdot P\).
+     * @see EllipticCurvePoint#ladderPow(BigInteger)
+     */
+    @Override
+    public BinaryECPoint ladderPow(final BigInteger k) {
+        return (BinaryECPoint) super.ladderPow(k);
+    }
+
+    @Override
+    BinaryECPoint ladderPow(final BigInteger k, final BigInteger multiple) {
+        if (k.signum() < 0) {
+            return inverse().ladderPow(k.negate(), multiple);
+        }
+        if (k.signum() == 0 || isInfinity) {
+            return (BinaryECPoint) curve.getMultiplicativeIdentity();
+        }
+        final BinaryFieldElement zero = getGroup().getAdditiveIdentity();
+        if (((BinaryEC) curve).isSuperSingularEC() || x.equals(zero)) {
+            return (BinaryECPoint) super.ladderPow(k, multiple);
+        }
+        final BinaryFieldElement px = (BinaryFieldElement) x;
+        final BinaryFieldElement b = (BinaryFieldElement) curve.getB();
+        final BinaryFieldElement pxSquared = px.square();
+        BinaryFieldElement[][] R = {
+                {px, getGroup().getMultiplicativeIdentity()},
+                {pxSquared.square().add(b), pxSquared}};
+        for (int i = k.bitLength() - 2; i >= 0; i--) {
+            final int bit = k.testBit(i) ? 1 : 0;
+            final BinaryFieldElement t1 = R[0][0].multiply(R[1][1]);
+            final BinaryFieldElement t2 = R[1][0].multiply(R[0][1]);
+            final BinaryFieldElement sumZ = t1.add(t2).square();
+            final BinaryFieldElement[] sum = {px.multiply(sumZ).add(t1.multiply(t2)), sumZ};
+            final BinaryFieldElement xx = R[bit][0].square();
+            final BinaryFieldElement zz = R[bit][1].square();
+            R[bit] = new BinaryFieldElement[]{xx.square().add(b.multiply(zz.square())), xx.multiply(zz)};
+            R[1 - bit] = sum;
+        }
+        return recoverY(R[0], R[1]);
+    }
+
+    /**
+     * Recovers \(kP\) from the projective \(x\) coordinates of \(kP\) and
+     * \((k + 1) P\), as described by López and Dahab: \(y_k = (x + x_k)
+     * ((x_k + x)(x_{k+1} + x) + x^2 + y) / x + y\).
+     */
+    private BinaryECPoint recoverY(final BinaryFieldElement[] R0, final BinaryFieldElement[] R1) {
+        final BinaryFieldElement zero = getGroup().getAdditiveIdentity();
+        if (R0[1].equals(zero)) {
+            return (BinaryECPoint) curve.getMultiplicativeIdentity();
+        }
+        if (R1[1].equals(zero)) {
+            return inverse();
+        }
+        final BinaryFieldElement px = (BinaryFieldElement) x;
+        final BinaryFieldElement z1z2 = R0[1].multiply(R1[1]);
+        // I = (x Z_1^2 Z_2)^{-1}, so 1/Z_1 = I x Z_1 Z_2 and 1/(x Z_1 Z_2) = I Z_1
+        final BinaryFieldElement xz1z2 = px.multiply(z1z2);
+        final BinaryFieldElement inverse = xz1z2.multiply(R0[1]).inverse();
+        final BinaryFieldElement x1 = R0[0].multiply(inverse.multiply(xz1z2));
+        final BinaryFieldElement aux = R0[0].add(px.multiply(R0[1]))
+                .multiply(R1[0].add(px.multiply(R1[1])))
+                .add(px.square().add(y).multiply(z1z2));
+        final BinaryFieldElement y1 = x1.add(px).multiply(aux).multiply(inverse.multiply(R0[1])).add(y);
+        return new BinaryECPoint((BinaryEC) curve, x1, y1);
     }
 
     /**
      * Returns the result of \(k \cdot P\), where \(P\) is {@code this}
-     * <i>Point</i>.
+     * <i>Point</i>, with the <i>width-w Non Adjacent Form</i> of \(k\). The
+     * odd multiples of the long-lived points are cached.
      *
      * @param k
      *            a BigInteger number to multiply the <i>Point</i> \(P\).
-     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\) or {@code null} if
-     *         {@code this} is not initialized.
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     * @see #wnafPow(BigInteger)
      */
-    private BinaryECPoint normalPow(BigInteger k) {
+    private BinaryECPoint normalPow(final BigInteger k) {
+        return wnafPow(k);
+    }
 
-        if (isInfinity()) {
+    /**
+     * Returns the result of \(k \cdot P\) with the <i>width-w Non Adjacent
+     * Form</i> of \(k\). The accumulator is kept in <i>López-Dahab
+     * Coordinates</i> \((X:Y:Z)\), representing the affine point \((X/Z,
+     * Y/Z^2)\), and the odd multiples \(\pm jP\) are added in affine form
+     * (mixed addition). Then, the only inversion of the multiplication is done
+     * at the final normalization.
+     *
+     * @param k
+     *            a BigInteger number to multiply the <i>Point</i> \(P\).
+     * @return a <i>BinaryECPoint</i> \(R\), where \(R = k \cdot P\).
+     */
+    @Override
+    BinaryECPoint wnafPow(BigInteger k) {
+        if (isInfinity) {
             return this;
         }
+        if (k.signum() < 0) {
+            return inverse().wnafPow(k.negate());
+        }
         if (order != null && k.compareTo(order) >= 0) {
             k = k.mod(order);
         }
-        ArrayList<Integer> kbits = nonAdjacentForm(k);
-        BinaryECPoint Q = (BinaryECPoint) curve.getMultiplicativeIdentity();
-        final ECPoint minusP = inverse();
-        for (int i = kbits.size() - 1; i >= 0; i--) {
-            Q = Q.square();
-            if (kbits.get(i) > 0) {
-                Q = Q.multiply(this);
+        if (k.signum() == 0) {
+            return (BinaryECPoint) curve.getMultiplicativeIdentity();
+        }
+        final LopezDahabArithmetic arithmetic = new LopezDahabArithmetic();
+        final int w = WindowedExponentiation.wnafWidth(k.bitLength());
+        final int[] digits = WindowedExponentiation.wnaf(k, w);
+        final EllipticCurvePoint[] table = oddMultiples(1 << (w - 2));
+        BinaryFieldElement[] Q = arithmetic.infinity();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            Q = arithmetic.doubling(Q);
+            if (digits[i] != 0) {
+                BinaryECPoint P = (BinaryECPoint) table[Math.abs(digits[i]) >>> 1];
+                if (!P.isInfinity()) {
+                    Q = arithmetic.mixedAddition(Q, P.getX(),
+                            digits[i] > 0 ? P.getY() : arithmetic.negateY(P.getX(), P.getY()));
+                }
+            }
+        }
+        return arithmetic.toAffine(Q);
+    }
+
+    /**
+     * Computes the odd multiples in <i>López-Dahab Coordinates</i> and
+     * normalizes them with one batch inversion.
+     *
+     * @see EllipticCurvePoint#oddMultiples(int)
+     */
+    @Override
+    EllipticCurvePoint[] computeOddMultiples(final int count) {
+        EllipticCurvePoint[] table = new EllipticCurvePoint[count];
+        table[0] = this;
+        if (count == 1) {
+            return table;
+        }
+        final BinaryECPoint twice = square();
+        if (twice.isInfinity()) {
+            Arrays.fill(table, this);
+            return table;
+        }
+        final LopezDahabArithmetic arithmetic = new LopezDahabArithmetic();
+        BinaryFieldElement[][] multiples = new BinaryFieldElement[count][];
+        multiples[0] = new BinaryFieldElement[]{getX(), getY(), arithmetic.ONE};
+        List<BinaryFieldElement> zs = new ArrayList<>(count);
+        for (int i = 1; i < count; i++) {
+            multiples[i] = arithmetic.mixedAddition(multiples[i - 1], twice.getX(), twice.getY());
+            if (!multiples[i][2].equals(arithmetic.ZERO)) {
+                zs.add(multiples[i][2]);
+            }
+        }
+        List<? extends BinaryFieldElement> inverses = getGroup().batchInverse(zs);
+        for (int i = 1, j = 0; i < count; i++) {
+            table[i] = multiples[i][2].equals(arithmetic.ZERO)
+                    ? curve.getMultiplicativeIdentity()
+                    : arithmetic.toAffine(multiples[i], inverses.get(j++));
+        }
+        return table;
+    }
+
+    /**
+     * Computes \(\sum_{i} k_i P_i\) in <i>López-Dahab Coordinates</i>,
+     * where the <i>Points</i> \(P_i\) belong to the curve of {@code this}
+     * <i>Point</i>. The doublings are shared and every \(\pm P_i\) is added
+     * with a mixed addition following the <i>Non Adjacent Form</i> of its
+     * \(k_i\) (interleaved <i>Straus</i> method), so only the final
+     * normalization needs an inversion.
+     *
+     * @param points    the affine <i>Points</i> \(P_i\).
+     * @param exponents the scalars \(k_i\), one for each <i>Point</i>.
+     * @return the <i>Point</i> \(\sum_{i} k_i P_i\).
+     */
+    BinaryECPoint lopezDahabMultiExp(final List<? extends BinaryECPoint> points,
+                                     final List<BigInteger> exponents) {
+        final LopezDahabArithmetic arithmetic = new LopezDahabArithmetic();
+        List<BinaryECPoint> bases = new ArrayList<>(points.size());
+        List<ArrayList<Integer>> nafs = new ArrayList<>(points.size());
+        int length = 0;
+        for (int i = 0; i < points.size(); i++) {
+            BinaryECPoint P = points.get(i);
+            BigInteger k = exponents.get(i);
+            if (P.order != null && (k.signum() < 0 || k.compareTo(P.order) >= 0)) {
+                k = k.mod(P.order);
+            }
+            if (k.signum() < 0) {
+                P = P.inverse();
+                k = k.negate();
+            }
+            if (!P.isInfinity() && k.signum() != 0) {
+                ArrayList<Integer> naf = getIntegers(k, new ArrayList<>());
+                bases.add(P);
+                nafs.add(naf);
+                length = Math.max(length, naf.size());
+            }
+        }
+        BinaryFieldElement[] minusY = new BinaryFieldElement[bases.size()];
+        for (int i = 0; i < bases.size(); i++) {
+            minusY[i] = arithmetic.negateY(bases.get(i).getX(), bases.get(i).getY());
+        }
+        BinaryFieldElement[] Q = arithmetic.infinity();
+        for (int j = length - 1; j >= 0; j--) {
+            Q = arithmetic.doubling(Q);
+            for (int i = 0; i < bases.size(); i++) {
+                ArrayList<Integer> naf = nafs.get(i);
+                if (j >= naf.size()) {
+                    continue;
+                }
+                if (naf.get(j) > 0) {
+                    Q = arithmetic.mixedAddition(Q, bases.get(i).getX(), bases.get(i).getY());
+                } else if (naf.get(j) < 0) {
+                    Q = arithmetic.mixedAddition(Q, bases.get(i).getX(), minusY[i]);
+                }
+            }
+        }
+        return arithmetic.toAffine(Q);
+    }
+
+    /**
+     * Formulas over <i>López-Dahab Coordinates</i> \((X:Y:Z)\), representing
+     * the affine point \((X/Z, Y/Z^2)\), for the curve of {@code this}
+     * <i>Point</i>. None of them needs an inversion. The infinity point is
+     * represented with \(Z = 0\).
+     * <ul>
+     * <li>For non-supersingular curves, \(y^2 + xy = x^3 + ax^2 + b\), they
+     * are the formulas described in "Guide to Elliptic Curve Cryptography",
+     * by Hankerson, Menezes and Vanstone.</li>
+     * <li>For supersingular curves, \(y^2 + cy = x^3 + ax + b\), the
+     * doubling multiplies by the precomputed \(c^{-1}\).</li>
+     * </ul>
+     */
+    private class LopezDahabArithmetic {
+
+        final BinaryFieldElement ZERO;
+        final BinaryFieldElement ONE;
+        final BinaryFieldElement A;
+        final BinaryFieldElement B;
+        final boolean superSingular;
+
+        LopezDahabArithmetic() {
+            ZERO = getGroup().getAdditiveIdentity();
+            ONE = getGroup().getMultiplicativeIdentity();
+            A = (BinaryFieldElement) curve.getA();
+            B = (BinaryFieldElement) curve.getB();
+            superSingular = ((BinaryEC) curve).isSuperSingularEC();
+            if (superSingular && inverseC == null) {
+                initializeInverseC();
+            }
+        }
+
+        BinaryFieldElement[] infinity() {
+            return new BinaryFieldElement[]{ONE, ZERO, ZERO};
+        }
+
+        /**
+         * The <i>Frobenius</i> map \(\tau (X:Y:Z) = (X^2:Y^2:Z^2)\).
+         */
+        BinaryFieldElement[] frobenius(final BinaryFieldElement[] point) {
+            if (point[2].equals(ZERO)) {
+                return point;
+            }
+            return new BinaryFieldElement[]{point[0].square(), point[1].square(), point[2].square()};
+        }
+
+        /**
+         * Returns the \(y\) coordinate of \(-(x, y)\).
+         */
+        BinaryFieldElement negateY(final BinaryFieldElement x, final BinaryFieldElement y) {
+            return superSingular ? y.add(((BinaryEC) curve).getC()) : x.add(y);
+        }
+
+        /**
+         * Doubling \(2 \cdot (X_1:Y_1:Z_1)\).
+         * <ul>
+         * <li>Non-supersingular: \(Z_3 = X_1^2 Z_1^2\), \(X_3 = X_1^4 + b
+         * Z_1^4\) and \(Y_3 = b Z_1^4 Z_3 + X_3 (a Z_3 + Y_1^2 + b
+         * Z_1^4)\).</li>
+         * <li>Supersingular: with \(L = c^{-1} (X_1^2 + a Z_1^2)\), \(Z_3 =
+         * Z_1^4\), \(X_3 = L^2\) and \(Y_3 = L Z_1^2 (X_1 Z_1^3 + X_3) +
+         * Z_1^6 (Y_1 + c Z_1^2)\).</li>
+         * </ul>
+         */
+        BinaryFieldElement[] doubling(final BinaryFieldElement[] point) {
+            if (point[2].equals(ZERO)) {
+                return point;
+            }
+            final BinaryFieldElement ZZ = point[2].square();
+            if (superSingular) {
+                final BinaryFieldElement L, X3, Z3, Y3;
+                L = inverseC.multiply(point[0].square().add(A.multiply(ZZ)));
+                X3 = L.square();
+                Z3 = ZZ.square();
+                Y3 = L.multiply(ZZ).multiply(point[0].multiply(ZZ).multiply(point[2]).add(X3))
+                        .add(ZZ.multiply(Z3).multiply(point[1].add(((BinaryEC) curve).getC().multiply(ZZ))));
+                return new BinaryFieldElement[]{X3, Y3, Z3};
             }
-            if (kbits.get(i) < 0) {
-                Q = Q.multiply(minusP);
+            final BinaryFieldElement XX, bZZZZ, X3, Z3, Y3;
+            XX = point[0].square();
+            Z3 = XX.multiply(ZZ);
+            if (Z3.equals(ZERO)) {
+                return infinity();
             }
+            bZZZZ = B.multiply(ZZ.square());
+            X3 = XX.square().add(bZZZZ);
+            Y3 = bZZZZ.multiply(Z3).add(X3.multiply(A.multiply(Z3).add(point[1].square()).add(bZZZZ)));
+            return new BinaryFieldElement[]{X3, Y3, Z3};
         }
-        return Q;
 
+        /**
+         * Mixed addition \((X_1:Y_1:Z_1) + (x_2, y_2)\), where the second
+         * point is affine. With \(A = Y_1 + y_2 Z_1^2\), \(B = X_1 + x_2
+         * Z_1\), \(C = B Z_1\) and \(Z_3 = C^2\):
+         * <ul>
+         * <li>Non-supersingular: \(X_3 = A^2 + C (A + B^2 + aC)\) and \(Y_3
+         * = (x_2 Z_3 + X_3)(AC + Z_3) + (x_2 + y_2) Z_3^2\).</li>
+         * <li>Supersingular: \(X_3 = A^2 + C B^2\) and \(Y_3 = AC (x_2 Z_3
+         * + X_3) + (y_2 + c) Z_3^2\).</li>
+         * </ul>
+         */
+        BinaryFieldElement[] mixedAddition(final BinaryFieldElement[] point, final BinaryFieldElement x2,
+                                           final BinaryFieldElement y2) {
+            if (point[2].equals(ZERO)) {
+                return new BinaryFieldElement[]{x2, y2, ONE};
+            }
+            final BinaryFieldElement ZZ, a, b, C, Z3, X3, Y3;
+            ZZ = point[2].square();
+            a = point[1].add(y2.multiply(ZZ));
+            b = point[0].add(x2.multiply(point[2]));
+            if (b.equals(ZERO)) {
+                if (a.equals(ZERO)) {
+                    return doubling(new BinaryFieldElement[]{x2, y2, ONE});
+                }
+                return infinity();
+            }
+            C = b.multiply(point[2]);
+            Z3 = C.square();
+            if (superSingular) {
+                X3 = a.square().add(C.multiply(b.square()));
+                Y3 = a.multiply(C).multiply(x2.multiply(Z3).add(X3))
+                        .add(y2.add(((BinaryEC) curve).getC()).multiply(Z3.square()));
+            } else {
+                X3 = a.square().add(C.multiply(a.add(b.square()).add(A.multiply(C))));
+                Y3 = x2.multiply(Z3).add(X3).multiply(a.multiply(C).add(Z3))
+                        .add(x2.add(y2).multiply(Z3.square()));
+            }
+            return new BinaryFieldElement[]{X3, Y3, Z3};
+        }
+
+        /**
+         * Converts \((X:Y:Z)\) to the affine point \((X/Z, Y/Z^2)\).
+         */
+        BinaryECPoint toAffine(final BinaryFieldElement[] point) {
+            if (point[2].equals(ZERO)) {
+                return (BinaryECPoint) curve.getMultiplicativeIdentity();
+            }
+            return toAffine(point, point[2].inverse());
+        }
+
+        /**
+         * Converts \((X:Y:Z)\), with \(Z \neq 0\), to the affine point,
+         * given \(Z^{-1}\).
+         */
+        BinaryECPoint toAffine(final BinaryFieldElement[] point, final BinaryFieldElement zInv) {
+            return new BinaryECPoint((BinaryEC) curve, point[0].multiply(zInv),
+                    point[1].multiply(zInv.square()));
+        }
     }
 
     /**
@@ -0,0 +1,66 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.structures.FixedBaseTable;
+import cat.udl.cig.structures.GroupElement;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Models a <i>Fixed-Base Precomputation Table</i> of an
+ * <i>EllipticCurvePoint</i> \(P\). The affine entries of the table are added
+ * in <i>Jacobian Coordinates</i> when possible, so \(k \cdot P\) only needs
+ * one inversion.
+ *
+ * @see FixedBaseTable
+ * @see EllipticCurvePoint#buildFixedBaseTable(int)
+ */
+public class ECFixedBaseTable extends FixedBaseTable {
+
+    /**
+     * Creates the table of the <i>Point</i> {@code base} for scalars of at
+     * most {@code maxBits} bits.
+     *
+     * @param base    the <i>Point</i> \(P\).
+     * @param maxBits the maximum bit length of the scalars.
+     */
+    public ECFixedBaseTable(final EllipticCurvePoint base, final int maxBits) {
+        super(base, maxBits);
+    }
+
+    /**
+     * Creates the table of the <i>Point</i> {@code base} for scalars of at
+     * most {@code maxBits} bits, with windows of {@code window} bits.
+     *
+     * @param base    the <i>Point</i> \(P\).
+     * @param maxBits the maximum bit length of the scalars.
+     * @param window  the number of bits of each window.
+     */
+    public ECFixedBaseTable(final EllipticCurvePoint base, final int maxBits, final int window) {
+        super(base, maxBits, window);
+    }
+
+    @Override
+    public EllipticCurvePoint getBase() {
+        return (EllipticCurvePoint) super.getBase();
+    }
+
+    @Override
+    public EllipticCurvePoint pow(final BigInteger k) {
+        return (EllipticCurvePoint) super.pow(k);
+    }
+
+    @Override
+    protected GroupElement product(final List<GroupElement> factors) {
+        EllipticCurvePoint base = getBase();
+        if (!base.supportsJacobianCoordinates()) {
+            return super.product(factors);
+        }
+        List<EllipticCurvePoint> points = new ArrayList<>(factors.size());
+        for (GroupElement factor : factors) {
+            points.add((EllipticCurvePoint) factor);
+        }
+        return base.jacobianSum(points);
+    }
+}
@@ -134,4 +134,19 @@ public interface ECPoint extends GroupElement {
 
     public ECSubgroup getSubgroup();
 
+    /**
+     * Returns the <i>SEC 1</i> encoding of \(P\), where \(P\) is
+     * {@code this} <i>Point</i>: the byte \(00\) for the <i>Point</i> at
+     * infinity, \(02\) or \(03\) followed by \(x\) for the compressed
+     * encoding, and \(04\) followed by \(x\) and \(y\) for the
+     * uncompressed one. The coordinates have the fixed length of the
+     * encodings of the ring.
+     *
+     * @param compressed whether \(y\) is replaced by the bit that tells it
+     *                   from the other square root.
+     * @return the encoding of \(P\).
+     * @see EllipticCurveInt#fromBytes(byte[])
+     */
+    public byte[] toBytes(boolean compressed);
+
 }
@@ -4,13 +4,18 @@ package cat.udl.cig.structures.ecc;
 import cat.udl.cig.exceptions.ConstructionException;
 import cat.udl.cig.structures.Group;
 import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.MultiExponentiation;
 import cat.udl.cig.structures.MultiplicativeSubgroup;
 import cat.udl.cig.structures.builder.ecc.ECPointBuilder;
 import cat.udl.cig.utils.discretelogarithm.BabyStepGiantStep;
+import cat.udl.cig.utils.discretelogarithm.LogarithmAlgorithm;
+import cat.udl.cig.utils.discretelogarithm.PohligHellman;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -29,6 +34,12 @@ public class ECPrimeOrderSubgroup implements MultiplicativeSubgroup, ECSubgroup
 
     private final EllipticCurvePoint generator;
 
+    private ECFixedBaseTable generatorTable;
+
+    private LogarithmAlgorithm logarithmAlgorithm;
+
+    private volatile boolean montgomeryLadder;
+
     public ECPrimeOrderSubgroup(@NotNull final EllipticCurve curve, @NotNull final BigInteger orderOfSubgroup, @NotNull final EllipticCurvePoint generatorPoint) {
         if (generatorPoint.pow(orderOfSubgroup).isInfinity()) {
             EC = curve;
@@ -58,7 +69,64 @@ public class ECPrimeOrderSubgroup implements MultiplicativeSubgroup, ECSubgroup
      */
     @Override
     public EllipticCurvePoint getRandomElement() {
-        return generator.pow(getRandomExponent());
+        return powGenerator(getRandomExponent());
+    }
+
+    /**
+     * @see MultiplicativeSubgroup#precomputeGenerator()
+     */
+    @Override
+    public void precomputeGenerator() {
+        if (generatorTable == null) {
+            generatorTable = new ECFixedBaseTable(generator, orderOfSubgroup.bitLength());
+        }
+    }
+
+    /**
+     * Selects whether the scalar multiplications of {@code this} subgroup,
+     * {@link #pow(GroupElement, BigInteger)} and
+     * {@link #powGenerator(BigInteger)}, use the <i>Montgomery ladder</i>.
+     * Every scalar is reduced and padded to one bit more than the order of
+     * {@code this} subgroup, so all of them take the same number of steps,
+     * each one with an addition and a doubling. The precomputed table of the
+     * generator is not used in this mode. A <i>Point</i> that is not known to
+     * belong to {@code this} subgroup is padded with the cardinality of the
+     * curve instead and, for the few scalars whose ladder meets the infinity
+     * point, the multiplication throws an ArithmeticException.
+     * <p>
+     * It is a regular ladder, branch-free per bit, but it is not
+     * constant-time: the bits of the scalar select the registers by index,
+     * and the field arithmetic, backed by BigInteger, and the field
+     * exponentiations, backed by {@link BigInteger#modPow(BigInteger,
+     * BigInteger)}, take variable time. So, it must not be relied on against
+     * timing or cache side channels.
+     *
+     * @param montgomeryLadder {@code true} to use the <i>Montgomery
+     *                         ladder</i>.
+     * @see EllipticCurvePoint#ladderPow(BigInteger)
+     */
+    public void setMontgomeryLadder(final boolean montgomeryLadder) {
+        this.montgomeryLadder = montgomeryLadder;
+    }
+
+    public boolean usesMontgomeryLadder() {
+        return montgomeryLadder;
+    }
+
+    /**
+     * @see MultiplicativeSubgroup#powGenerator(BigInteger)
+     */
+    @Override
+    public EllipticCurvePoint powGenerator(final BigInteger k) {
+        if (montgomeryLadder) {
+            return generator.ladderPow(regularScalar(k), orderOfSubgroup);
+        }
+        ECFixedBaseTable table = generatorTable;
+        if (table == null) {
+            // the constructor checked that the generator is in the subgroup
+            return generator.pow(k, orderOfSubgroup, true);
+        }
+        return table.pow(k);
     }
 
     /**
@@ -98,16 +166,93 @@ public class ECPrimeOrderSubgroup implements MultiplicativeSubgroup, ECSubgroup
      */
     @Override
     public EllipticCurvePoint pow(final GroupElement x, final BigInteger pow) {
-        return (EllipticCurvePoint) x.pow(pow);
+        EllipticCurvePoint point = (EllipticCurvePoint) x;
+        if (montgomeryLadder) {
+            BigInteger modulus = ladderModulus(point);
+            return point.ladderPow(modulus != null ? regularScalar(pow, modulus) : pow, modulus);
+        }
+        return point.pow(pow, orderOfSubgroup);
+    }
+
+    /**
+     * Returns \(k' = (k \bmod n) + n\) or \((k \bmod n) + 2n\), the one
+     * with one bit more than the order \(n\) of {@code this} subgroup. Then,
+     * \(k' \cdot P = k \cdot P\) for every <i>Point</i> \(P\) of
+     * {@code this} subgroup and the ladder always takes the same number of
+     * steps.
+     *
+     * @param k the scalar.
+     * @return the scalar \(k'\), of {@code n.bitLength() + 1} bits.
+     */
+    BigInteger regularScalar(final BigInteger k) {
+        return regularScalar(k, orderOfSubgroup);
+    }
+
+    /**
+     * Returns the modulus of {@link #regularScalar(BigInteger)}, the order of
+     * {@code this} subgroup, if {@code point} is known to belong to it.
+     * Otherwise, \(P\) may have a component of order dividing the cofactor,
+     * so it returns the cardinality of the curve, or {@code null} if it is
+     * not known and \(k\) cannot be padded.
+     */
+    private BigInteger ladderModulus(final EllipticCurvePoint point) {
+        if (point.isKnownInSubgroup(orderOfSubgroup)) {
+            return orderOfSubgroup;
+        }
+        return EC.getKnownSize();
+    }
+
+    private static BigInteger regularScalar(final BigInteger k, final BigInteger modulus) {
+        BigInteger padded = k.mod(modulus).add(modulus);
+        if (padded.bitLength() <= modulus.bitLength()) {
+            padded = padded.add(modulus);
+        }
+        return padded;
+    }
+
+    /**
+     * The exponents are reduced modulo the order of {@code this} subgroup
+     * and the computation is delegated to its <i>EllipticCurve</i>.
+     *
+     * @see Group#multiExp(List, List)
+     * @see EllipticCurve#multiExp(List, List)
+     */
+    @Override
+    public EllipticCurvePoint multiExp(final List<? extends GroupElement> bases, final List<BigInteger> exponents) {
+        MultiExponentiation.checkSizes(bases, exponents);
+        List<BigInteger> reduced = new ArrayList<>(exponents.size());
+        for (BigInteger k : exponents) {
+            reduced.add(k.signum() < 0 || k.compareTo(orderOfSubgroup) >= 0 ? k.mod(orderOfSubgroup) : k);
+        }
+        return EC.multiExp(bases, reduced);
     }
 
     @Override
     public boolean containsElement(GroupElement groupElement) {
-        return new BabyStepGiantStep(this.generator, this.orderOfSubgroup).algorithm(groupElement).isPresent();
+        return discreteLog(groupElement).isPresent();
     }
 
+    /**
+     * Computes the discrete logarithm of {@code groupElement} in base the
+     * generator of {@code this} subgroup. If the order is not prime, it is
+     * computed with <i>PohligHellman</i>, otherwise with
+     * <i>BabyStepGiantStep</i>. The algorithm is created once and reused.
+     *
+     * @param groupElement the <i>GroupElement</i> \(\beta\).
+     * @return \(x\) such that \(G^x = \beta\), or empty if \(\beta\) does
+     * not belong to {@code this} subgroup.
+     */
     public Optional<BigInteger> discreteLog(GroupElement groupElement) {
-        return new BabyStepGiantStep(this.generator, this.orderOfSubgroup).algorithm(groupElement);
+        return logarithmAlgorithm().algorithm(groupElement);
+    }
+
+    private synchronized LogarithmAlgorithm logarithmAlgorithm() {
+        if (logarithmAlgorithm == null) {
+            logarithmAlgorithm = orderOfSubgroup.isProbablePrime(50)
+                    ? new BabyStepGiantStep(generator, orderOfSubgroup)
+                    : new PohligHellman(generator, orderOfSubgroup);
+        }
+        return logarithmAlgorithm;
     }
 
     /**
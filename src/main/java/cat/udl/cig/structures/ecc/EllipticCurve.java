@@ -12,6 +12,7 @@ import org.jetbrains.annotations.NotNull;
 import java.math.BigInteger;
 import java.security.SecureRandom;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +54,15 @@ public class EllipticCurve implements EllipticCurveInt {
     private BigInteger size;
     private final boolean isSupersingular;
 
+    /**
+     * The <i>GLV</i> endomorphisms of the subgroups of prime order, keyed by
+     * their order. Until one of them is checked on a <i>Point</i>, the list
+     * keeps the two candidate eigenvalues.
+     *
+     * @see #getGLVEndomorphism(EllipticCurvePoint, BigInteger)
+     */
+    private final Map<BigInteger, List<GLVEndomorphism>> glvEndomorphisms = new ConcurrentHashMap<>();
+
     public EllipticCurve(@NotNull final Ring ring, @NotNull final RingElement A, @NotNull final RingElement B) {
         this(ring, A, B, null, false);
     }
@@ -245,6 +255,16 @@ public class EllipticCurve implements EllipticCurveInt {
                     new Polynomial.PolynomialBuilder().addTerm(0, field.buildElement().setValue(16).build().orElseThrow().opposite()).build());
             invariant = elA.multiply(el4).add(elB.multiply(el27)).multiply(el_16);
         }
+        if (ring instanceof QuadraticExtensionField) {
+            QuadraticExtensionField field = (QuadraticExtensionField) ring;
+            RingElement elA = getA().pow(BigInteger.valueOf(3)).multiply(field.toElement(BigInteger.valueOf(4), BigInteger.ZERO));
+            RingElement elB = getB().pow(BigInteger.TWO).multiply(field.toElement(BigInteger.valueOf(27), BigInteger.ZERO));
+            invariant = elA.add(elB).multiply(field.toElement(BigInteger.valueOf(-16), BigInteger.ZERO));
+        }
+        if (ring instanceof BinaryField) {
+            // y^2 + xy = x^3 + ax^2 + b is singular if, and only if, b = 0
+            invariant = getB();
+        }
         if (ring instanceof PrimeField) {
             PrimeField field = ((PrimeField) ring);
             PrimeFieldElement elA = (PrimeFieldElement) getA().pow(BigInteger.valueOf(3));
@@ -274,15 +294,22 @@ public class EllipticCurve implements EllipticCurveInt {
     }
 
     /**
-     * Returns the cardinality of \(E(k)\), if initialized.
+     * Returns the cardinality of \(E(k)\), computing it the first time. Over
+     * a <i>PrimeField</i> it is computed by {@link PointCounting#size(EllipticCurve)}.
+     * Otherwise, the subgroups generated by random points are joined until
+     * the size satisfies <i>Hasse's Theorem</i>.
      *
-     * @return a BigInteger with the value {@code this.cardinality} or
-     * {@code null} if {@code this} is not initialized.
+     * @return a BigInteger with the value {@code this.cardinality}.
+     * @see PointCounting
      */
     @Override
     public BigInteger getSize() {
         if (this.size != null)
             return this.size;
+        if (ring instanceof PrimeField) {
+            this.size = PointCounting.size(this);
+            return this.size;
+        }
         BigInteger size = BigInteger.ONE;
         List<EllipticCurvePoint> gensOfSubgroups = new ArrayList<>();
         int i = 0;
@@ -309,30 +336,18 @@ public class EllipticCurve implements EllipticCurveInt {
                 EllipticCurvePoint finalPoint = point;
                 BigInteger sumOrders = BigInteger.ZERO;
                 List<EllipticCurvePoint> points = gensOfSubgroups.stream().filter(gen -> new BabyStepGiantStep(finalPoint, finalPoint.getOrder()).algorithm(gen).isPresent()).collect(Collectors.toList());
-                System.out.println("old set: "+ gensOfSubgroups);
-                System.out.println("Excluded points: " + points);
                 if (!points.isEmpty())
                     sumOrders = BigInteger.ONE;
                 for (EllipticCurvePoint gen : points) {
                     sumOrders = sumOrders.add(gen.getOrder().subtract(BigInteger.ONE));
-                    while (!gensOfSubgroups.remove(gen)) {
-                        System.out.println("ERROR: " + gen);
-                        System.out.println(gen.hashCode() + " !== " + points.stream().map(EllipticCurvePoint::hashCode).collect(Collectors.toList()));
-                        System.out.println(gen.hashCode() + " is the same as the other? " + points.stream().map(c -> c.equals(gen)).collect(Collectors.toList()));
-                        System.out.println(gen + " in " + gensOfSubgroups + "? " + gensOfSubgroups.contains(gen));
-                    }
                 }
+                gensOfSubgroups.removeAll(points);
                 gensOfSubgroups.add(point);
-                System.out.print(size + " - " + sumOrders + " + " + point.getOrder() + " = ");
                 size = size.subtract(sumOrders).add(point.getOrder());
-                System.out.println(size);
-                System.out.println("new set: "+gensOfSubgroups);
             } else if (!found) {
                 gensOfSubgroups.add(point);
-                System.out.println(gensOfSubgroups);
                 BigInteger orderOfSubgroup = point.getOrder().subtract(BigInteger.ONE);
                 size = accumulateSizeWithSubgroupOrders(size, orderOfSubgroup);
-                System.out.println("SIZE: " + size);
             }
             i++;
         }
@@ -343,6 +358,16 @@ public class EllipticCurve implements EllipticCurveInt {
         return size;
     }
 
+    /**
+     * Returns the cardinality of \(E(k)\) if it is already known, without
+     * computing it.
+     *
+     * @return the cardinality or {@code null}.
+     */
+    BigInteger getKnownSize() {
+        return size;
+    }
+
     private BigInteger accumulateSizeWithSubgroupOrders(BigInteger size, BigInteger orderOfSubgroup) {
 
         return size.add(orderOfSubgroup);
@@ -381,11 +406,92 @@ public class EllipticCurve implements EllipticCurveInt {
         return (EllipticCurvePoint) x.pow(pow);
     }
 
+    /**
+     * When {@code this} curve is defined over a <i>PrimeField</i> or an
+     * <i>ExtensionField</i>, the computation is done in <i>Jacobian
+     * Coordinates</i>, so only one inversion is needed to normalize the
+     * result.
+     *
+     * @see Group#multiExp(List, List)
+     * @see EllipticCurvePoint#jacobianMultiExp(List, List)
+     */
+    @Override
+    public EllipticCurvePoint multiExp(final List<? extends GroupElement> bases, final List<BigInteger> exponents) {
+        MultiExponentiation.checkSizes(bases, exponents);
+        EllipticCurvePoint infinity = getMultiplicativeIdentity();
+        if (infinity.supportsJacobianCoordinates()) {
+            List<EllipticCurvePoint> points = new ArrayList<>(bases.size());
+            for (GroupElement base : bases) {
+                points.add((EllipticCurvePoint) base);
+            }
+            return infinity.jacobianMultiExp(points, exponents);
+        }
+        return (EllipticCurvePoint) MultiExponentiation.multiExp(this, bases, exponents);
+    }
+
     @Override
     public boolean containsElement(GroupElement groupElement) {
         return groupElement.getGroup().equals(this);
     }
 
+    /**
+     * Returns the length of the <i>SEC 1</i> encoding of the points other
+     * than the <i>Point</i> at infinity, whose encoding is a single byte.
+     *
+     * @param compressed whether the encoding is compressed.
+     * @return the number of bytes of the encoding.
+     * @see EllipticCurvePoint#toBytes(boolean)
+     */
+    public int getEncodingLength(final boolean compressed) {
+        return 1 + (compressed ? 1 : 2) * ring.getEncodingLength();
+    }
+
+    /**
+     * Decodes the <i>SEC 1</i> encoding. The compressed points are
+     * recovered by {@link #liftX(RingElement)}, with the square root of the
+     * ring, and the one with the bit \(\tilde{y}\) is chosen. The
+     * uncompressed points are checked to be on {@code this} curve.
+     *
+     * @see EllipticCurveInt#fromBytes(byte[])
+     */
+    @Override
+    public Optional<? extends EllipticCurvePoint> fromBytes(final byte[] bytes) {
+        if (bytes.length == 1 && bytes[0] == 0) {
+            return Optional.of(getMultiplicativeIdentity());
+        }
+        final int length = ring.getEncodingLength();
+        if (bytes.length == 1 + length && (bytes[0] == 2 || bytes[0] == 3)) {
+            Optional<? extends RingElement> x = ring.fromBytes(Arrays.copyOfRange(bytes, 1, 1 + length));
+            if (x.isEmpty()) {
+                return Optional.empty();
+            }
+            final int bit = bytes[0] - 2;
+            for (EllipticCurvePoint point : liftX(x.get())) {
+                if (point.compressionBit() == bit) {
+                    return Optional.of(point);
+                }
+                EllipticCurvePoint opposite = point.inverse();
+                if (opposite.compressionBit() == bit) {
+                    return Optional.of(opposite);
+                }
+            }
+        } else if (bytes.length == 1 + 2 * length && bytes[0] == 4) {
+            Optional<? extends RingElement> x = ring.fromBytes(Arrays.copyOfRange(bytes, 1, 1 + length));
+            Optional<? extends RingElement> y = ring.fromBytes(Arrays.copyOfRange(bytes, 1 + length, bytes.length));
+            if (x.isPresent() && y.isPresent() && isOnCurve(x.get(), y.get())) {
+                return Optional.of(toPoint(x.get(), y.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Creates the point \((x, y)\), which must be on {@code this} curve.
+     */
+    EllipticCurvePoint toPoint(final RingElement x, final RingElement y) {
+        return new EllipticCurvePoint(this, x, y);
+    }
+
     /**
      * @see EllipticCurveInt#getRing()
      */
@@ -473,6 +579,49 @@ public class EllipticCurve implements EllipticCurveInt {
         return Optional.empty();
     }
 
+    /**
+     * Returns whether {@code this} curve has an efficient endomorphism
+     * \(\phi\) to speed up the scalar multiplications: \(j = 0\) (\(a =
+     * 0\)) and \(p \equiv 1 \pmod{3}\), or \(j = 1728\) (\(b = 0\)) and
+     * \(p \equiv 1 \pmod{4}\), over a <i>PrimeField</i>.
+     *
+     * @return {@code true} if the curve has the endomorphism.
+     * @see GLVEndomorphism
+     */
+    public boolean hasGLVEndomorphism() {
+        return GLVEndomorphism.isSupported(this);
+    }
+
+    /**
+     * Returns the <i>GLV</i> endomorphism of the subgroup of prime order
+     * {@code order} to which {@code point} belongs. The eigenvalue and the
+     * basis of the lattice are computed once per subgroup.
+     *
+     * @param point a <i>Point</i> of order {@code order}.
+     * @param order the prime order of the subgroup.
+     * @return the endomorphism, or empty if {@code this} curve has not one,
+     * the order is not valid or {@code point} does not belong to the
+     * subgroup.
+     * @see #hasGLVEndomorphism()
+     */
+    public Optional<GLVEndomorphism> getGLVEndomorphism(final EllipticCurvePoint point, final BigInteger order) {
+        if (!hasGLVEndomorphism()) {
+            return Optional.empty();
+        }
+        List<GLVEndomorphism> candidates =
+                glvEndomorphisms.computeIfAbsent(order, n -> GLVEndomorphism.candidates(this, n));
+        if (candidates.size() == 1) {
+            return Optional.of(candidates.get(0));
+        }
+        for (GLVEndomorphism candidate : candidates) {
+            if (candidate.isEigenvector(point)) {
+                glvEndomorphisms.put(order, List.of(candidate));
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
     public Optional<ECSubgroup> identifySubgroup(EllipticCurvePoint ellipticCurvePoint) {
         for (ECSubgroup subgroup : this.subgroups) {
             if (subgroup.containsElement(ellipticCurvePoint)) {
@@ -6,6 +6,7 @@ import cat.udl.cig.structures.RingElement;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Optional;
 
 /**
  * Models an <i>Elliptic Curve</i> \(E\) of the form \(y^{2} = x^{3} + ax + b\).
@@ -109,6 +110,17 @@ public interface EllipticCurveInt extends Group {
      */
     ArrayList<? extends EllipticCurvePoint> liftX(RingElement x);
 
+    /**
+     * Returns the point \(P \in E(K)\) of the <i>SEC 1</i> encoding
+     * {@code bytes}, compressed or not.
+     *
+     * @param bytes the encoding of \(P\).
+     * @return the point \(P\), or empty if {@code bytes} is not the
+     * encoding of a point of \(E(K)\).
+     * @see ECPoint#toBytes(boolean)
+     */
+    Optional<? extends ECPoint> fromBytes(byte[] bytes);
+
 
     default boolean validHasseTheorem(BigInteger probableCardinality) {
         BigInteger fieldSize = getRing().getSize();
@@ -1,15 +1,23 @@
 package cat.udl.cig.structures.ecc;
 
 import cat.udl.cig.exceptions.ConstructionException;
+import cat.udl.cig.structures.ExtensionField;
+import cat.udl.cig.structures.FixedBaseTable;
 import cat.udl.cig.structures.Group;
 import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.MultiExponentiation;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.QuadraticExtensionField;
 import cat.udl.cig.structures.Ring;
 import cat.udl.cig.structures.RingElement;
+import cat.udl.cig.structures.WindowedExponentiation;
 import cat.udl.cig.utils.discretelogarithm.BSGSTerrOrder;
+import cat.udl.cig.utils.discretelogarithm.PohligHellman;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -46,6 +54,22 @@ public class EllipticCurvePoint implements ECPoint {
      */
     final protected boolean isInfinity;
 
+    /**
+     * The odd multiples \(P, 3P, 5P, \ldots\) of {@code this} <i>Point</i>,
+     * kept from its second scalar multiplication on, as it happens with the
+     * generators and the public keys. The one-off <i>Points</i> do not keep
+     * them.
+     *
+     * @see #oddMultiples(int)
+     */
+    private volatile EllipticCurvePoint[] cachedOddMultiples;
+
+    /**
+     * Whether the odd multiples of {@code this} <i>Point</i> have already
+     * been computed once.
+     */
+    private volatile boolean oddMultiplesComputed;
+
     /**
      * It represents the order of {@code this} <i>Point</i> \(P\),
      * \(\text{ord}(P)\). Given a BigInteger \(a\) such that \(a =
@@ -221,7 +245,7 @@ public class EllipticCurvePoint implements ECPoint {
 
     @Override
     public EllipticCurvePoint square() {
-        if (isInfinity) {
+        if (isInfinity || y.equals(y.getGroup().getAdditiveIdentity())) {
             return curve.getMultiplicativeIdentity();
         }
         RingElement[] point = computeDoublePoint();
@@ -232,13 +256,6 @@ public class EllipticCurvePoint implements ECPoint {
         return generalECPoint.get();
     }
 
-    private Optional<EllipticCurvePoint> fromCoordinates(RingElement xCoord, RingElement yCoord) {
-        EllipticCurvePoint point = new EllipticCurvePoint(curve, xCoord, yCoord);
-        if (this.curve.isOnCurve(point))
-            return Optional.of(point);
-        return Optional.empty();
-    }
-
     private RingElement[] computeDoublePoint() {
         RingElement[] result = new RingElement[2];
         final RingElement lambda = computeLambdaAdditionSamePoint();
@@ -351,15 +368,153 @@ public class EllipticCurvePoint implements ECPoint {
 
     /**
      * Returns the result of \(k \cdot P\), where \(P\) is {@code this}
-     * <i>Point</i>.
+     * <i>Point</i>. When the curve is defined over a <i>PrimeField</i> or an
+     * <i>ExtensionField</i>, the computation is done in <i>Jacobian
+     * Coordinates</i>, so only one inversion is needed to normalize the result.
+     * Otherwise, it uses the <i>width-w Non Adjacent Form</i> of \(k\) over
+     * the affine operations. If the order of \(P\) is known and the curve
+     * has a <i>GLV</i> endomorphism, \(k\) is split in two scalars of half
+     * the length.
      *
      * @param k a BigInteger number to multiply the <i>Point</i> \(P\).
      * @return a <i>Point</i> \(R\), where \(R = k \cdot P\) or {@code null} if
      * {@code this} is not initialized.
+     * @see #jacobianPow(BigInteger)
+     * @see #glvPow(BigInteger, GLVEndomorphism)
      */
     @Override
     public EllipticCurvePoint pow(BigInteger k) {
-        return peasantRussianPow(k);
+        if (supportsJacobianCoordinates()) {
+            return order != null ? pow(k, order) : jacobianPow(k);
+        }
+        return wnafPow(k);
+    }
+
+    /**
+     * Returns the result of \(k \cdot P\), where {@code this} <i>Point</i>
+     * \(P\) may belong to the subgroup of order {@code subgroupOrder}. The
+     * <i>GLV</i> endomorphism only acts as the multiplication by its
+     * eigenvalue on that subgroup, so it is only used if \(P\) is known to
+     * belong to it.
+     *
+     * @param k             a BigInteger number to multiply the <i>Point</i>
+     *                      \(P\).
+     * @param subgroupOrder the prime order of the subgroup.
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     * @see #isKnownInSubgroup(BigInteger)
+     */
+    EllipticCurvePoint pow(final BigInteger k, final BigInteger subgroupOrder) {
+        return pow(k, subgroupOrder, isKnownInSubgroup(subgroupOrder));
+    }
+
+    /**
+     * Returns the result of \(k \cdot P\). If {@code inSubgroup}, the order
+     * is prime and the curve has a <i>GLV</i> endomorphism, it is used by
+     * {@link #glvPow(BigInteger, GLVEndomorphism)}. Otherwise, \(P\) may
+     * have a component outside the subgroup, so the general method is used.
+     *
+     * @param k             a BigInteger number to multiply the <i>Point</i>
+     *                      \(P\).
+     * @param subgroupOrder the prime order of the subgroup.
+     * @param inSubgroup    whether \(P\) is known to belong to the subgroup
+     *                      of order {@code subgroupOrder}.
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     * @see EllipticCurve#getGLVEndomorphism(EllipticCurvePoint, BigInteger)
+     */
+    EllipticCurvePoint pow(final BigInteger k, final BigInteger subgroupOrder, final boolean inSubgroup) {
+        if (!supportsJacobianCoordinates()) {
+            return pow(k);
+        }
+        if (inSubgroup && !isInfinity()) {
+            Optional<GLVEndomorphism> endomorphism = curve.getGLVEndomorphism(this, subgroupOrder);
+            if (endomorphism.isPresent()) {
+                return glvPow(k, endomorphism.get());
+            }
+        }
+        return jacobianPow(k);
+    }
+
+    /**
+     * Returns whether {@code this} <i>Point</i> is known to belong to the
+     * subgroup of order {@code subgroupOrder} without multiplying it: either
+     * its order is {@code subgroupOrder} or the cardinality of the curve is
+     * already known and equal to {@code subgroupOrder}, that is, the
+     * cofactor is one.
+     *
+     * @param subgroupOrder the prime order of the subgroup.
+     * @return {@code true} if {@code this} <i>Point</i> belongs to the
+     * subgroup; {@code false} if it is unknown.
+     */
+    boolean isKnownInSubgroup(final BigInteger subgroupOrder) {
+        return subgroupOrder.equals(order) || subgroupOrder.equals(curve.getKnownSize());
+    }
+
+    /**
+     * Returns the result of \(k \cdot P\) with the <i>GLV</i> method: \(k\)
+     * is split in \(k_1 + k_2 \lambda \equiv k \pmod{n}\) and \(k_1 P + k_2
+     * \phi(P)\) is computed with the <i>width-w Non Adjacent Forms</i> of
+     * both scalars sharing the doublings, so it needs half of them. The
+     * images \(\phi(jP)\) of the odd multiples only cost one multiplication
+     * each.
+     *
+     * @param k            a BigInteger number to multiply the <i>Point</i>
+     *                     \(P\).
+     * @param endomorphism the endomorphism of the subgroup of \(P\).
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     * @see GLVEndomorphism#decompose(BigInteger)
+     */
+    EllipticCurvePoint glvPow(BigInteger k, final GLVEndomorphism endomorphism) {
+        if (isInfinity()) {
+            return this;
+        }
+        k = k.mod(endomorphism.getOrder());
+        if (k.signum() == 0) {
+            return curve.getMultiplicativeIdentity();
+        }
+        final BigInteger[] scalars = endomorphism.decompose(k);
+        final int w = WindowedExponentiation.wnafWidth(Math.max(scalars[0].bitLength(), scalars[1].bitLength()));
+        final int count = 1 << (w - 2);
+        final EllipticCurvePoint[] table = oddMultiples(count);
+        final EllipticCurvePoint[] images = new EllipticCurvePoint[count];
+        for (int i = 0; i < count; i++) {
+            images[i] = endomorphism.apply(table[i]);
+        }
+        final int[][] digits = new int[2][];
+        for (int i = 0; i < 2; i++) {
+            digits[i] = WindowedExponentiation.wnaf(scalars[i].abs(), w);
+            if (scalars[i].signum() < 0) {
+                for (int j = 0; j < digits[i].length; j++) {
+                    digits[i][j] = -digits[i][j];
+                }
+            }
+        }
+        return toAffine(new JacobianArithmetic().interleavedWnaf(new EllipticCurvePoint[][]{table, images}, digits));
+    }
+
+    /**
+     * Returns the result of \(k \cdot P\) with the <i>width-w Non Adjacent
+     * Form</i> of \(k\) and the affine operations of the curve.
+     *
+     * @param k a BigInteger number to multiply the <i>Point</i> \(P\).
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     * @see WindowedExponentiation#wnaf(BigInteger, int)
+     */
+    EllipticCurvePoint wnafPow(BigInteger k) {
+        if (isInfinity()) {
+            return this;
+        }
+        if (k.signum() < 0) {
+            return inverse().wnafPow(k.negate());
+        }
+        if (order != null && k.compareTo(order) >= 0) {
+            k = k.mod(order);
+        }
+        if (k.signum() == 0) {
+            return curve.getMultiplicativeIdentity();
+        }
+        final int w = WindowedExponentiation.wnafWidth(k.bitLength());
+        return (EllipticCurvePoint) WindowedExponentiation.pow(oddMultiples(1 << (w - 2)),
+                WindowedExponentiation.wnaf(k, w), curve.getMultiplicativeIdentity());
     }
 
     public EllipticCurvePoint peasantRussianPow(BigInteger k) {
@@ -372,239 +527,604 @@ public class EllipticCurvePoint implements ECPoint {
         if (k.equals(BigInteger.ZERO)) {
             return new EllipticCurvePoint(this.curve);
         }
-        final BigInteger power = k;
-        String binaries = power.toString(2);
-        binaries = binaries.substring(1);
         EllipticCurvePoint acc = new EllipticCurvePoint(this);
-        for (char bin : binaries.toCharArray()) {
+        for (int i = k.bitLength() - 2; i >= 0; i--) {
             acc = acc.multiply(acc, acc.ecSubgroup);
-            if (bin == '1') {
+            if (k.testBit(i)) {
                 acc = acc.multiply(this, acc.ecSubgroup);
             }
         }
         return acc;
     }
 
+    /**
+     * Returns the result of \(k \cdot P\) with the <i>Montgomery ladder</i>.
+     * It keeps \(R_0 = jP\) and \(R_1 = (j + 1) P\) and, for every bit of
+     * \(k\) below the highest one, does one addition and one doubling, whatever
+     * the value of the bit. The bit only selects which register is written, so
+     * the sequence of group operations only depends on the bit length of
+     * \(k\). It is not reduced modulo the order of \(P\), so the caller
+     * fixes the number of steps. The ladder is regular, but not constant-time:
+     * the registers are selected by the bits of \(k\) and the field
+     * arithmetic takes variable time.
+     * <p>
+     * If the curve supports <i>Jacobian Coordinates</i>, both registers share
+     * the same \(Z\) (co-Z) and every step is a conjugate co-Z addition,
+     * which gives \(R_0 + R_1\) and \(R_0 - R_1\), followed by a co-Z
+     * addition, as described in "Co-Z Addition Formulae and Binary Ladders on
+     * Elliptic Curves", by Goundar, Joye and Miyaji. The registers keep both
+     * coordinates \((X, Y)\) instead of the <i>x-only</i> form, so \(y\)
+     * does not have to be recovered at the end and the same formulas serve
+     * every short <i>Weierstrass</i> curve, whatever its coefficient \(a\).
+     * <p>
+     * The co-Z formulas are not complete: the registers become the infinity
+     * point if a step adds two points with the same \(x\) coordinate. For
+     * a <i>Point</i> of order \(n\) and \(k < 3n\), it only happens when
+     * \(k \equiv -2, -1, 0\) or \(1 \pmod n\), whose multiples come from
+     * the first doubling. So the ladder always does the same steps and the
+     * result is selected at the end. Otherwise, an ArithmeticException is
+     * thrown: the ladder never falls back to a method that is not regular.
+     *
+     * @param k a BigInteger number to multiply the <i>Point</i> \(P\).
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     * @throws ArithmeticException if the ladder meets the infinity point and
+     *                             \(k \cdot P\) is not one of the multiples
+     *                             above.
+     */
+    public EllipticCurvePoint ladderPow(final BigInteger k) {
+        return ladderPow(k, order != null ? order : curve.getKnownSize());
+    }
+
+    /**
+     * Returns the result of {@link #ladderPow(BigInteger)}, where
+     * {@code multiple} is a multiple of the order of {@code this}
+     * <i>Point</i>, or {@code null} if it is unknown.
+     */
+    EllipticCurvePoint ladderPow(final BigInteger k, final BigInteger multiple) {
+        if (k.signum() < 0) {
+            return inverse().ladderPow(k.negate(), multiple);
+        }
+        if (isInfinity() || k.signum() == 0) {
+            return curve.getMultiplicativeIdentity();
+        }
+        if (supportsJacobianCoordinates()) {
+            return new JacobianArithmetic().coZLadder(this, k, multiple);
+        }
+        EllipticCurvePoint[] R = {this, square()};
+        for (int i = k.bitLength() - 2; i >= 0; i--) {
+            final int bit = k.testBit(i) ? 1 : 0;
+            final EllipticCurvePoint sum = R[0].multiply(R[1]);
+            R[bit] = R[bit].square();
+            R[1 - bit] = sum;
+        }
+        return R[0];
+    }
+
     private EllipticCurvePoint multiply(EllipticCurvePoint acc, ECSubgroup ecSubgroup) {
         EllipticCurvePoint result = this.multiply(acc);
         result.ecSubgroup = ecSubgroup;
         return result;
     }
 
-    @NotNull
-    private EllipticCurvePoint powNAFMethod(BigInteger k) {
+    /**
+     * Returns the result of \(k \cdot P\) computed with the <i>width-w Non
+     * Adjacent Form</i> of \(k\), whose window grows with the bit length of
+     * \(k\). The accumulator is kept in <i>Jacobian Coordinates</i>
+     * \((X:Y:Z)\), representing the affine point \((X/Z^2, Y/Z^3)\), and the
+     * odd multiples \(\pm jP\) are added in affine form (mixed addition).
+     * Then, the only inversion of the multiplication is done at the final
+     * normalization.
+     *
+     * @param k a BigInteger number to multiply the <i>Point</i> \(P\).
+     * @return a <i>Point</i> \(R\), where \(R = k \cdot P\).
+     */
+    public EllipticCurvePoint jacobianPow(BigInteger k) {
         if (isInfinity()) {
             return this;
         }
+        if (k.signum() < 0) {
+            return inverse().jacobianPow(k.negate());
+        }
         if (order != null && k.compareTo(order) > 0) {
             k = k.mod(order);
         }
-        final BigInteger times = k;
-        RingElement[] me = toProjective(this);
-        Ring ring = me[0].getGroup();
-        RingElement[] minusP = toProjective(inverse());
-        RingElement[] Q =
-                {ring.ZERO(), ring.ONE(), ring.ZERO()};
-        ArrayList<Integer> kbits = nonAdjacentForm(times);
-        for (int i = kbits.size() - 1; i >= 0; i--) {
-            Q = ProjectiveDouble(Q);
-            if (kbits.get(i) > 0) {
-                Q = projectiveAdd(Q, me);
-            }
-            if (kbits.get(i) < 0) {
-                Q = projectiveAdd(Q, minusP);
+        if (k.equals(BigInteger.ZERO)) {
+            return new EllipticCurvePoint(this.curve);
+        }
+        final JacobianArithmetic arithmetic = new JacobianArithmetic();
+        final int w = WindowedExponentiation.wnafWidth(k.bitLength());
+        final int[] digits = WindowedExponentiation.wnaf(k, w);
+        final EllipticCurvePoint[] table = oddMultiples(1 << (w - 2));
+        RingElement[] Q = {arithmetic.ONE, arithmetic.ONE, arithmetic.ZERO};
+        for (int i = digits.length - 1; i >= 0; i--) {
+            Q = arithmetic.doubling(Q);
+            if (digits[i] != 0) {
+                EllipticCurvePoint P = table[Math.abs(digits[i]) >>> 1];
+                if (!P.isInfinity()) {
+                    Q = arithmetic.mixedAddition(Q, P.x, digits[i] > 0 ? P.y : P.y.opposite());
+                }
             }
         }
-        return Objects.requireNonNull(toECPoint(Q).orElse(null));
-    }
-
-    private RingElement[] toProjective(final EllipticCurvePoint P) {
-        RingElement[] result = new RingElement[3];
-        result[0] = P.getX();
-        result[1] = P.getY();
-        result[2] = P.getX().getGroup().ONE();
-        return result;
+        return toAffine(Q);
     }
 
-    private Optional<EllipticCurvePoint> toECPoint(final RingElement[] point) {
-        if (point[2].equals(point[2].getGroup().ZERO())) {
-            return Optional.of(curve.getMultiplicativeIdentity());
+    /**
+     * Returns the affine odd multiples \(P, 3P, \ldots, (2 count - 1) P\) of
+     * {@code this} <i>Point</i>. The table is computed for the first
+     * multiplication and kept by {@code this} <i>Point</i> from the second
+     * one on, without any lock, so the <i>Points</i> that are multiplied
+     * several times only compute it twice.
+     *
+     * @param count the number of multiples, at least 1.
+     * @return the odd multiples, {@code table[i]} \(= (2i + 1) P\).
+     */
+    EllipticCurvePoint[] oddMultiples(final int count) {
+        EllipticCurvePoint[] table = cachedOddMultiples;
+        if (table != null && table.length >= count) {
+            return table;
+        }
+        table = computeOddMultiples(count);
+        if (oddMultiplesComputed) {
+            cachedOddMultiples = table;
+        } else {
+            oddMultiplesComputed = true;
         }
-        final RingElement aux = point[2].inverse();
-        //final PrimeFieldElement X =
-        //    (PrimeFieldElement) E.getRing().toElement(
-        //            aux.multiply(point[0]));
-        //final PrimeFieldElement Y =
-        //    (PrimeFieldElement) E.getRing().toElement(
-        //            aux.multiply(point[1]));
-        return fromCoordinates(aux.multiply(point[0]), aux.multiply(point[1]));
+        return table;
     }
 
-    private RingElement[] projectiveAdd(final RingElement[] point1,
-                                        final RingElement[] point2) {
-        Ring ring = point1[2].getGroup();
-        final RingElement[] infPoint =
-                {ring.ZERO(), ring.ONE(), ring.ZERO()};
-        if (point2[2].equals(ring.ZERO())) {
-            return point1;
+    /**
+     * Computes the affine odd multiples of {@link #oddMultiples(int)},
+     * without looking at the kept table.
+     *
+     * @param count the number of multiples, at least 1.
+     * @return the odd multiples, {@code table[i]} \(= (2i + 1) P\).
+     */
+    EllipticCurvePoint[] computeOddMultiples(final int count) {
+        if (supportsJacobianCoordinates()) {
+            return new JacobianArithmetic().oddMultiples(this, count);
         }
-        if (point1[2].equals(ring.ZERO())) {
-            return point2;
+        GroupElement[] powers = WindowedExponentiation.oddPowers(this, count);
+        EllipticCurvePoint[] table = new EllipticCurvePoint[count];
+        for (int i = 0; i < count; i++) {
+            table[i] = (EllipticCurvePoint) powers[i];
         }
-        if (point1[0].equals(point2[0])) {
-            if (point1[1].equals(point2[1])) {
-                return ProjectiveDouble(point1);
-            } else {
-                return infPoint;
+        return table;
+    }
+
+    /**
+     * Computes the sum of all the {@code points} in <i>Jacobian
+     * Coordinates</i> with mixed additions, so only the final normalization
+     * needs an inversion. The points must belong to the curve of {@code this}
+     * <i>Point</i>.
+     *
+     * @param points the affine <i>Points</i> to be added.
+     * @return the <i>Point</i> \(\sum_{i} P_i\).
+     */
+    EllipticCurvePoint jacobianSum(final List<? extends EllipticCurvePoint> points) {
+        final JacobianArithmetic arithmetic = new JacobianArithmetic();
+        RingElement[] Q = {arithmetic.ONE, arithmetic.ONE, arithmetic.ZERO};
+        for (EllipticCurvePoint point : points) {
+            if (!point.isInfinity()) {
+                Q = arithmetic.mixedAddition(Q, point.x, point.y);
             }
         }
+        return toAffine(Q);
+    }
 
-        if (point2[2].equals(ring.ONE())) {
-            if (point1[2].equals(ring.ONE())) {
-                return projectiveAddZs1(point1, point2);
-            } else {
-                return projectiveAddZ21(point1, point2);
+    /**
+     * Computes \(\sum_{i} k_i P_i\) in <i>Jacobian Coordinates</i>, where
+     * the <i>Points</i> \(P_i\) belong to the curve of {@code this}
+     * <i>Point</i>. For at most {@link MultiExponentiation#STRAUS_MAX_TERMS}
+     * terms, the doublings are shared and every \(\pm P_i\) is added with a
+     * mixed addition following the <i>Non Adjacent Form</i> of its \(k_i\)
+     * (interleaved <i>Straus</i> method). Larger batches use the
+     * <i>Pippenger</i> bucket method.
+     *
+     * @param points    the affine <i>Points</i> \(P_i\).
+     * @param exponents the scalars \(k_i\), one for each <i>Point</i>.
+     * @return the <i>Point</i> \(\sum_{i} k_i P_i\).
+     */
+    EllipticCurvePoint jacobianMultiExp(final List<? extends EllipticCurvePoint> points,
+                                        final List<BigInteger> exponents) {
+        final JacobianArithmetic arithmetic = new JacobianArithmetic();
+        List<EllipticCurvePoint> bases = new ArrayList<>(points.size());
+        List<BigInteger> scalars = new ArrayList<>(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            EllipticCurvePoint P = points.get(i);
+            BigInteger k = exponents.get(i);
+            if (P.order != null && (k.signum() < 0 || k.compareTo(P.order) >= 0)) {
+                k = k.mod(P.order);
             }
+            if (k.signum() < 0) {
+                P = P.inverse();
+                k = k.negate();
+            }
+            if (!P.isInfinity() && k.signum() != 0) {
+                bases.add(P);
+                scalars.add(k);
+            }
+        }
+        if (bases.size() <= MultiExponentiation.STRAUS_MAX_TERMS) {
+            return toAffine(arithmetic.interleavedMultiExp(bases, scalars));
         }
-        return projectiveAddDifferentPoints(point1, point2);
+        return toAffine(arithmetic.pippengerMultiExp(bases, scalars));
     }
 
-    private RingElement[] projectiveAddZs1(final RingElement[] point1,
-                                           final RingElement[] point2) {
-        Ring ring = point1[0].getGroup();
-        final RingElement TWO = ring.ONE().add(ring.ONE());
-        final RingElement[] result = new RingElement[3];
-        final RingElement u, uu, v, vv, vvv, R, A;
-
-        u = point2[1].subtract(point1[1]);
-        uu = u.multiply(u);
-        v = point2[0].subtract(point1[0]);
-        vv = v.multiply(v);
-        vvv = vv.multiply(v);
-        R = vv.multiply(point1[0]);
-        A =
-                uu.subtract(vvv).subtract(TWO.multiply(R));
-
-        result[0] = v.multiply(A);
-        result[1] = u.multiply(R.subtract(A)).subtract(vvv.multiply(point1[1]));
-        result[2] = vvv;
-        return result;
+    /**
+     * Returns whether the scalar multiplication of the curve of {@code this}
+     * <i>Point</i> is done in <i>Jacobian Coordinates</i>.
+     *
+     * @return {@code true} if the ring of the curve is a <i>PrimeField</i>,
+     * an <i>ExtensionField</i> or a <i>QuadraticExtensionField</i>.
+     */
+    boolean supportsJacobianCoordinates() {
+        Ring ring = curve.getRing();
+        return ring instanceof PrimeField || ring instanceof ExtensionField
+                || ring instanceof QuadraticExtensionField;
     }
 
-    private RingElement[] projectiveAddZ21(final RingElement[] point1,
-                                           final RingElement[] point2) {
-        Ring ring = point1[0].getGroup();
-        final RingElement TWO = ring.ONE().add(ring.ONE());
-        final RingElement[] result = new RingElement[3];
-        final RingElement u, uu, v, vv, vvv, R, A;
-
-        u = point2[1].multiply(point1[2]).subtract(point1[1]);
-        uu = u.multiply(u);
-        v = point2[0].multiply(point1[2]).subtract(point1[0]);
-        vv = v.multiply(v);
-        vvv = vv.multiply(v);
-        R = vv.multiply(point1[0]);
-        A = uu.multiply(point1[2]).subtract(vvv)
-                .subtract(TWO.multiply(R));
-
-        result[0] = v.multiply(A);
-        result[1] =
-                u.multiply(R.subtract(A))
-                        .subtract(vvv.multiply(point1[1]));
-        result[2] = vvv.multiply(point1[2]);
+    /**
+     * @see GroupElement#buildFixedBaseTable(int)
+     */
+    @Override
+    public FixedBaseTable buildFixedBaseTable(final int maxBits) {
+        return new ECFixedBaseTable(this, maxBits);
+    }
 
-        return result;
+    /**
+     * Converts the <i>Jacobian</i> point \((X:Y:Z)\) to the affine point
+     * \((X/Z^2, Y/Z^3)\). It is the only inversion of the whole scalar
+     * multiplication.
+     *
+     * @param point the <i>Jacobian</i> coordinates \((X:Y:Z)\).
+     * @return the affine <i>Point</i>, sharing the subgroup of {@code this}.
+     */
+    private EllipticCurvePoint toAffine(final RingElement[] point) {
+        if (point[2].equals(point[2].getGroup().getAdditiveIdentity())) {
+            return curve.getMultiplicativeIdentity();
+        }
+        return toAffine(point, point[2].inverse());
     }
 
-    private RingElement[] projectiveAddDifferentPoints(final RingElement[] point1,
-                                                       final RingElement[] point2) {
-        Ring ring = point1[0].getGroup();
-        final RingElement TWO = ring.ONE().add(ring.ONE());
-        final RingElement FOUR = ring.THREE().add(ring.ONE());
-        final RingElement[] result = new RingElement[3];
-        final RingElement U1, U2, S1, S2, ZZ, T, TT, M, R, F, L, LL, G, W;
-
-        U1 = point1[0].multiply(point2[2]); // U1 = X1*Z2
-        U2 = point2[0].multiply(point1[2]); // U2 = X2*Z1
-        S1 = point1[1].multiply(point2[2]); // S1 = Y1*Z2
-        S2 = point2[1].multiply(point1[2]); // S2 = Y2*Z1
-        ZZ = point1[2].multiply(point2[2]); // ZZ = Z1*Z2
-        T = U1.add(U2); // T = U1+U2
-        TT = T.multiply(T); // TT = T^2
-        M = S1.add(S2); // M = S1+S2
-        R = TT.subtract(U1.multiply(U2))
-                .add(curve.getA().multiply(ZZ.multiply(ZZ))); // R = TT-U1*U2+a*ZZ2
-        F = ZZ.multiply(M); // F = ZZ*M
-        L = M.multiply(F); // L = M*F
-        LL = L.multiply(L); // LL = L2
-        final RingElement temp = T.add(L);
-        G =
-                temp.multiply(temp).subtract(TT).subtract(LL);// G = (T+L)^2-TT-LL
-        W =
-                R.multiply(R).multiply(TWO).subtract(G);// W = 2*R^2-G
-        result[0] = TWO.multiply(F).multiply(W); // X3 = 2*F*W
-        result[1] =
-                R.multiply(G.subtract(TWO.multiply(W))).subtract(TWO.multiply(LL)); // Y3 = R*(G-2*W)-2*LL
-        result[2] = FOUR.multiply(F.pow(BigInteger.valueOf(3)));// Z3 = 4*F*F2
+    /**
+     * Converts the <i>Jacobian</i> point \((X:Y:Z)\), with \(Z \neq 0\), to
+     * the affine point, given \(Z^{-1}\).
+     */
+    private EllipticCurvePoint toAffine(final RingElement[] point, final RingElement zInv) {
+        final RingElement zInv2 = zInv.multiply(zInv);
+        final RingElement zInv3 = zInv2.multiply(zInv);
+        EllipticCurvePoint result = new EllipticCurvePoint(curve, point[0].multiply(zInv2), point[1].multiply(zInv3));
+        result.ecSubgroup = ecSubgroup;
         return result;
     }
 
-    private RingElement[] ProjectiveDouble(final RingElement[] point) {
-        Ring ring = point[2].getGroup();
-        if (point[2].equals(ring.ZERO())) {
-            return point;
+    /**
+     * Formulas over <i>Jacobian Coordinates</i> for the curve of {@code this}
+     * <i>Point</i>. The constants of the ring are computed once per scalar
+     * multiplication. The infinity point is represented with \(Z = 0\).
+     */
+    private class JacobianArithmetic {
+
+        final RingElement ZERO;
+        final RingElement ONE;
+        final RingElement A;
+        final boolean aIsZero;
+        final boolean aIsMinusThree;
+
+        JacobianArithmetic() {
+            Ring ring = curve.getRing();
+            ZERO = ring.getAdditiveIdentity();
+            ONE = ring.getMultiplicativeIdentity();
+            A = curve.getA();
+            aIsZero = A.equals(ZERO);
+            aIsMinusThree = A.equals(ONE.add(ONE).add(ONE).opposite());
         }
 
-        if (point[2].equals(ring.ONE())) {
-            return projectiveDoubleZ1(point);
-        } else {
-            return projectiveDouble(point);
-        }
-    }
-
-    private RingElement[] projectiveDoubleZ1(final RingElement[] point) {
-        Ring ring = point[0].getGroup();
-        final RingElement THREE = ring.THREE();
-        final RingElement FOUR = ring.THREE().add(ring.ONE());
-        final RingElement[] result = new RingElement[3];
-        final RingElement XX, w, YY, R, RR, B, h;
-
-        XX = point[0].multiply(point[0]);
-        w = curve.getA().add(THREE.multiply(XX));
-        YY = point[1].multiply(point[1]);
-        R = YY.add(YY);
-        RR = R.multiply(R);
-        B = point[0].add(R).pow(BigInteger.TWO).subtract(XX).subtract(RR);
-        h = w.multiply(w).subtract(B).subtract(B);
-        result[0] = h.add(h).multiply(point[1]);
-        result[1] = w.multiply(B.subtract(h)).subtract(RR).subtract(RR);
-        result[2] = FOUR.multiply(point[1]).multiply(R);
-        return result;
-    }
+        /**
+         * Doubling \(2 \cdot (X_1:Y_1:Z_1)\) (dbl-2007-bl). If \(a = -3\), \(M
+         * = 3 (X_1 - Z_1^2)(X_1 + Z_1^2)\) is used instead.
+         */
+        RingElement[] doubling(final RingElement[] point) {
+            if (point[2].equals(ZERO) || point[1].equals(ZERO)) {
+                return new RingElement[]{ONE, ONE, ZERO};
+            }
+            final RingElement XX, YY, YYYY, ZZ, S, M, T, X3, Y3, Z3;
+            XX = point[0].multiply(point[0]);
+            YY = point[1].multiply(point[1]);
+            YYYY = YY.multiply(YY);
+            ZZ = point[2].multiply(point[2]);
+            S = times2(point[0].add(YY).multiply(point[0].add(YY)).subtract(XX).subtract(YYYY));
+            if (aIsMinusThree) {
+                final RingElement aux = point[0].subtract(ZZ).multiply(point[0].add(ZZ));
+                M = aux.add(aux).add(aux);
+            } else if (aIsZero) {
+                M = XX.add(XX).add(XX);
+            } else {
+                M = XX.add(XX).add(XX).add(A.multiply(ZZ.multiply(ZZ)));
+            }
+            T = M.multiply(M).subtract(times2(S));
+            X3 = T;
+            Y3 = M.multiply(S.subtract(T)).subtract(times2(times2(times2(YYYY))));
+            Z3 = point[1].add(point[2]).multiply(point[1].add(point[2])).subtract(YY).subtract(ZZ);
+            return new RingElement[]{X3, Y3, Z3};
+        }
 
-    private RingElement[] projectiveDouble(final RingElement[] point) {
-        Ring ring = point[0].getGroup();
-        final RingElement TWO = ring.ONE().add(ring.ONE());
-        final RingElement THREE = ring.THREE();
-        final RingElement XX, ZZ, w, s, R, RR, B, h;
-        final RingElement[] result = new RingElement[3];
-
-        XX = point[0].multiply(point[0]);
-        ZZ = point[2].multiply(point[2]);
-        w = curve.getA().multiply(ZZ)
-                .add(THREE.multiply(XX));
-        s = TWO.multiply(point[1]).multiply(point[2]);
-        R = point[1].multiply(s);
-        RR = R.multiply(R);
-        B = point[0].add(R).pow(BigInteger.TWO).subtract(XX).subtract(RR);
-        h = w.multiply(w).subtract(TWO.multiply(B));
-        result[0] = h.multiply(s);
-        result[1] = w.multiply(B.subtract(h)).subtract(RR)
-                .subtract(RR);
-        result[2] = s.pow(BigInteger.valueOf(3));
-        return result;
+        /**
+         * Mixed addition \((X_1:Y_1:Z_1) + (x_2, y_2)\) (madd-2007-bl), where
+         * the second point is affine, that is, \(Z_2 = 1\).
+         */
+        RingElement[] mixedAddition(final RingElement[] point, final RingElement x2, final RingElement y2) {
+            if (point[2].equals(ZERO)) {
+                return new RingElement[]{x2, y2, ONE};
+            }
+            final RingElement Z1Z1, U2, S2, H, HH, I, J, r, V, X3, Y3, Z3;
+            Z1Z1 = point[2].multiply(point[2]);
+            U2 = x2.multiply(Z1Z1);
+            S2 = y2.multiply(point[2]).multiply(Z1Z1);
+            H = U2.subtract(point[0]);
+            r = times2(S2.subtract(point[1]));
+            if (H.equals(ZERO)) {
+                if (r.equals(ZERO)) {
+                    return doubling(point);
+                }
+                return new RingElement[]{ONE, ONE, ZERO};
+            }
+            HH = H.multiply(H);
+            I = times2(times2(HH));
+            J = H.multiply(I);
+            V = point[0].multiply(I);
+            X3 = r.multiply(r).subtract(J).subtract(times2(V));
+            Y3 = r.multiply(V.subtract(X3)).subtract(times2(point[1].multiply(J)));
+            Z3 = point[2].add(H).multiply(point[2].add(H)).subtract(Z1Z1).subtract(HH);
+            return new RingElement[]{X3, Y3, Z3};
+        }
+
+        /**
+         * Addition \((X_1:Y_1:Z_1) + (X_2:Y_2:Z_2)\) (add-2007-bl).
+         */
+        RingElement[] addition(final RingElement[] point, final RingElement[] other) {
+            if (point[2].equals(ZERO)) {
+                return other;
+            }
+            if (other[2].equals(ZERO)) {
+                return point;
+            }
+            final RingElement Z1Z1, Z2Z2, U1, U2, S1, S2, H, I, J, r, V, X3, Y3, Z3;
+            Z1Z1 = point[2].multiply(point[2]);
+            Z2Z2 = other[2].multiply(other[2]);
+            U1 = point[0].multiply(Z2Z2);
+            U2 = other[0].multiply(Z1Z1);
+            S1 = point[1].multiply(other[2]).multiply(Z2Z2);
+            S2 = other[1].multiply(point[2]).multiply(Z1Z1);
+            H = U2.subtract(U1);
+            r = times2(S2.subtract(S1));
+            if (H.equals(ZERO)) {
+                if (r.equals(ZERO)) {
+                    return doubling(point);
+                }
+                return new RingElement[]{ONE, ONE, ZERO};
+            }
+            I = times2(H).multiply(times2(H));
+            J = H.multiply(I);
+            V = U1.multiply(I);
+            X3 = r.multiply(r).subtract(J).subtract(times2(V));
+            Y3 = r.multiply(V.subtract(X3)).subtract(times2(S1.multiply(J)));
+            Z3 = point[2].add(other[2]).multiply(point[2].add(other[2])).subtract(Z1Z1).subtract(Z2Z2).multiply(H);
+            return new RingElement[]{X3, Y3, Z3};
+        }
+
+        /**
+         * Computes the odd multiples \(P, 3P, \ldots\) by adding \(2P\) in
+         * <i>Jacobian Coordinates</i>. They are normalized together with
+         * {@link Ring#batchInverse(List)}, so the whole table needs two
+         * inversions.
+         */
+        EllipticCurvePoint[] oddMultiples(final EllipticCurvePoint P, final int count) {
+            EllipticCurvePoint[] table = new EllipticCurvePoint[count];
+            table[0] = P;
+            if (count == 1) {
+                return table;
+            }
+            final EllipticCurvePoint twice = P.square();
+            if (twice.isInfinity()) {
+                Arrays.fill(table, P);
+                return table;
+            }
+            RingElement[][] multiples = new RingElement[count][];
+            multiples[0] = new RingElement[]{P.x, P.y, ONE};
+            List<RingElement> zs = new ArrayList<>(count);
+            for (int i = 1; i < count; i++) {
+                multiples[i] = mixedAddition(multiples[i - 1], twice.x, twice.y);
+                if (!multiples[i][2].equals(ZERO)) {
+                    zs.add(multiples[i][2]);
+                }
+            }
+            List<? extends RingElement> inverses = curve.getRing().batchInverse(zs);
+            for (int i = 1, j = 0; i < count; i++) {
+                table[i] = multiples[i][2].equals(ZERO)
+                        ? curve.getMultiplicativeIdentity()
+                        : toAffine(multiples[i], inverses.get(j++));
+            }
+            return table;
+        }
+
+        /**
+         * Interleaved <i>Straus</i> method: one doubling per bit of the
+         * longest <i>Non Adjacent Form</i> and one mixed addition per
+         * nonzero digit.
+         */
+        RingElement[] interleavedMultiExp(final List<EllipticCurvePoint> points, final List<BigInteger> scalars) {
+            final int n = points.size();
+            List<ArrayList<Integer>> nafs = new ArrayList<>(n);
+            RingElement[] minusY = new RingElement[n];
+            int length = 0;
+            for (int i = 0; i < n; i++) {
+                nafs.add(getIntegers(scalars.get(i), new ArrayList<>()));
+                minusY[i] = points.get(i).y.opposite();
+                length = Math.max(length, nafs.get(i).size());
+            }
+            RingElement[] Q = {ONE, ONE, ZERO};
+            for (int j = length - 1; j >= 0; j--) {
+                Q = doubling(Q);
+                for (int i = 0; i < n; i++) {
+                    ArrayList<Integer> naf = nafs.get(i);
+                    if (j >= naf.size()) {
+                        continue;
+                    }
+                    if (naf.get(j) > 0) {
+                        Q = mixedAddition(Q, points.get(i).x, points.get(i).y);
+                    } else if (naf.get(j) < 0) {
+                        Q = mixedAddition(Q, points.get(i).x, minusY[i]);
+                    }
+                }
+            }
+            return Q;
+        }
+
+        /**
+         * Interleaved <i>wNAF</i>: one doubling per position of the longest
+         * recoding and one mixed addition per nonzero digit \(d\), with
+         * {@code tables[i][|d| / 2]} or its opposite.
+         */
+        RingElement[] interleavedWnaf(final EllipticCurvePoint[][] tables, final int[][] digits) {
+            int length = 0;
+            for (int[] recoding : digits) {
+                length = Math.max(length, recoding.length);
+            }
+            RingElement[] Q = {ONE, ONE, ZERO};
+            for (int j = length - 1; j >= 0; j--) {
+                Q = doubling(Q);
+                for (int i = 0; i < tables.length; i++) {
+                    if (j >= digits[i].length || digits[i][j] == 0) {
+                        continue;
+                    }
+                    EllipticCurvePoint P = tables[i][Math.abs(digits[i][j]) >>> 1];
+                    if (!P.isInfinity()) {
+                        Q = mixedAddition(Q, P.x, digits[i][j] > 0 ? P.y : P.y.opposite());
+                    }
+                }
+            }
+            return Q;
+        }
+
+        /**
+         * <i>Pippenger</i> bucket method. The affine points are accumulated
+         * in their buckets with mixed additions and the buckets are combined
+         * with full additions.
+         */
+        RingElement[] pippengerMultiExp(final List<EllipticCurvePoint> points, final List<BigInteger> scalars) {
+            final int c = MultiExponentiation.pippengerWindow(points.size());
+            int bits = 0;
+            for (BigInteger k : scalars) {
+                bits = Math.max(bits, k.bitLength());
+            }
+            RingElement[] Q = {ONE, ONE, ZERO};
+            for (int w = (bits + c - 1) / c - 1; w >= 0; w--) {
+                for (int i = 0; i < c; i++) {
+                    Q = doubling(Q);
+                }
+                RingElement[][] buckets = new RingElement[1 << c][];
+                for (int i = 0; i < points.size(); i++) {
+                    int digit = MultiExponentiation.digit(scalars.get(i), w * c, c);
+                    if (digit == 0) {
+                        continue;
+                    }
+                    EllipticCurvePoint P = points.get(i);
+                    buckets[digit] = buckets[digit] == null
+                            ? new RingElement[]{P.x, P.y, ONE}
+                            : mixedAddition(buckets[digit], P.x, P.y);
+                }
+                RingElement[] running = {ONE, ONE, ZERO};
+                RingElement[] windowSum = {ONE, ONE, ZERO};
+                for (int j = buckets.length - 1; j > 0; j--) {
+                    if (buckets[j] != null) {
+                        running = addition(running, buckets[j]);
+                    }
+                    windowSum = addition(windowSum, running);
+                }
+                Q = addition(Q, windowSum);
+            }
+            return Q;
+        }
+
+        /**
+         * The co-Z <i>Montgomery ladder</i> of {@link #ladderPow(BigInteger)}.
+         * The registers \(R_0\) and \(R_1\) are the pairs \((X, Y)\) of
+         * two <i>Jacobian</i> points with the common coordinate \(Z\). If
+         * \(Z\) ends being \(0\), \(k \cdot P\) is selected among
+         * \(-2P\), \(-P\), the infinity point and \(P\) with \(k + 2
+         * \bmod m\), where \(m\) is {@code multiple}.
+         *
+         * @return the affine <i>Point</i> \(k \cdot P\).
+         * @throws ArithmeticException if \(Z = 0\) and \(k \cdot P\) is
+         *                             not one of these multiples.
+         */
+        EllipticCurvePoint coZLadder(final EllipticCurvePoint P, final BigInteger k, final BigInteger multiple) {
+            // (R_1, R_0) = (2P, P) with Z = 2y (DBLU)
+            final RingElement B, E, L, S, M, X2, Y2;
+            B = P.x.multiply(P.x);
+            E = P.y.multiply(P.y);
+            L = E.multiply(E);
+            S = times2(P.x.add(E).multiply(P.x.add(E)).subtract(B).subtract(L));
+            M = B.add(B).add(B).add(A);
+            X2 = M.multiply(M).subtract(times2(S));
+            Y2 = M.multiply(S.subtract(X2)).subtract(times2(times2(times2(L))));
+            RingElement Z = times2(P.y);
+            RingElement[][] R = {{S, times2(times2(times2(L)))}, {X2, Y2}};
+            for (int i = k.bitLength() - 2; i >= 0; i--) {
+                final int bit = k.testBit(i) ? 1 : 0;
+                // (R_{1-b}, R_b) = (R_b + R_{1-b}, R_b - R_{1-b}) (ZADDC)
+                RingElement[] U = R[bit];
+                RingElement[] V = R[1 - bit];
+                RingElement dX = U[0].subtract(V[0]);
+                RingElement C = dX.multiply(dX);
+                RingElement W1 = U[0].multiply(C);
+                RingElement W2 = V[0].multiply(C);
+                RingElement A1 = U[1].multiply(W1.subtract(W2));
+                RingElement sum = U[1].subtract(V[1]);
+                RingElement difference = U[1].add(V[1]);
+                RingElement X3 = sum.multiply(sum).subtract(W1).subtract(W2);
+                RingElement X4 = difference.multiply(difference).subtract(W1).subtract(W2);
+                R[1 - bit] = new RingElement[]{X3, sum.multiply(W1.subtract(X3)).subtract(A1)};
+                R[bit] = new RingElement[]{X4, difference.multiply(W1.subtract(X4)).subtract(A1)};
+                Z = Z.multiply(dX);
+                // (R_b, R_{1-b}) = (R_{1-b} + R_b, R_{1-b}) (ZADDU)
+                U = R[1 - bit];
+                V = R[bit];
+                dX = U[0].subtract(V[0]);
+                C = dX.multiply(dX);
+                W1 = U[0].multiply(C);
+                W2 = V[0].multiply(C);
+                A1 = U[1].multiply(W1.subtract(W2));
+                sum = U[1].subtract(V[1]);
+                X3 = sum.multiply(sum).subtract(W1).subtract(W2);
+                R[bit] = new RingElement[]{X3, sum.multiply(W1.subtract(X3)).subtract(A1)};
+                R[1 - bit] = new RingElement[]{W1, A1};
+                Z = Z.multiply(dX);
+            }
+            final RingElement[][] results = {
+                    {X2, Y2.opposite(), times2(P.y)},
+                    {P.x, P.y.opposite(), ONE},
+                    {ONE, ONE, ZERO},
+                    {P.x, P.y, ONE},
+                    {R[0][0], R[0][1], Z}};
+            int index = results.length - 1;
+            if (Z.equals(ZERO)) {
+                final BigInteger shifted = multiple != null ? k.add(BigInteger.TWO).mod(multiple) : null;
+                if (shifted == null || shifted.compareTo(BigInteger.valueOf(index)) >= 0) {
+                    throw new ArithmeticException("The Montgomery ladder met the infinity point");
+                }
+                index = shifted.intValue();
+            }
+            return toAffine(results[index]);
+        }
+
+        private RingElement times2(final RingElement element) {
+            return element.add(element);
+        }
     }
 
+
     protected ArrayList<Integer> nonAdjacentForm(BigInteger k) {
         ArrayList<Integer> kBits = new ArrayList<>();
         return getIntegers(k, kBits);
@@ -673,6 +1193,12 @@ public class EllipticCurvePoint implements ECPoint {
                 this.ecSubgroup = subgroup.get();
                 return order;
             }
+            BigInteger curveSize = this.curve.getKnownSize();
+            if (curveSize != null) {
+                order = PohligHellman.orderFromMultiple(this, curveSize);
+                this.curve.createSubgroupOrder(this, order);
+                return order;
+            }
             order = new BSGSTerrOrder(this, new ArrayList<>(numBabySteps)).algorithm(this.curve.getMultiplicativeIdentity()).map(x -> {
                 if (x.equals(BigInteger.ZERO))
                     return this.getGroup().getSize();
@@ -699,16 +1225,62 @@ public class EllipticCurvePoint implements ECPoint {
         return null;
     }
 
+    /**
+     * Returns the uncompressed <i>SEC 1</i> encoding of {@code this}
+     * <i>Point</i>.
+     *
+     * @see #toBytes(boolean)
+     */
     @Override
     public byte[] toBytes() throws UnsupportedOperationException {
+        return toBytes(false);
+    }
+
+    /**
+     * @see ECPoint#toBytes(boolean)
+     */
+    @Override
+    public byte[] toBytes(final boolean compressed) {
+        if (isInfinity()) {
+            return new byte[]{0};
+        }
         byte[] x = getX().toBytes();
-        byte[] y = getY().toBytes();
-        byte[] bytes = new byte[x.length + y.length];
-        System.arraycopy(x, 0, bytes, 0, x.length);
-        System.arraycopy(y, 0, bytes, bytes.length - y.length, y.length);
+        byte[] bytes;
+        if (compressed) {
+            bytes = new byte[1 + x.length];
+            bytes[0] = (byte) (2 + compressionBit());
+        } else {
+            byte[] y = getY().toBytes();
+            bytes = new byte[1 + x.length + y.length];
+            bytes[0] = 4;
+            System.arraycopy(y, 0, bytes, 1 + x.length, y.length);
+        }
+        System.arraycopy(x, 0, bytes, 1, x.length);
         return bytes;
     }
 
+    /**
+     * Returns the bit \(\tilde{y}\) of the compressed encoding, which tells
+     * \(y\) from \(-y\): the parity of the lowest non-zero coefficient of
+     * \(y\) over \(\mathbb{F}_p\), that is, \(y \bmod 2\) over a
+     * <i>PrimeField</i>. The encodings of the rings put the constant
+     * coefficient last, so it is read from the bytes of \(y\).
+     *
+     * @return \(\tilde{y}\), which is 0 if \(y = 0\).
+     */
+    int compressionBit() {
+        byte[] bytes = getY().toBytes();
+        int length = (curve.getRing().getCharacteristic().bitLength() + 7) / 8;
+        for (int end = bytes.length; end > 0; end -= length) {
+            for (int i = end - length; i < end; i++) {
+                if (bytes[i] != 0) {
+                    return bytes[end - 1] & 1;
+                }
+            }
+        }
+        return 0;
+    }
+
     @Override
     public int compareTo(@NotNull GroupElement o) {
         if (!(o instanceof EllipticCurvePoint)) {
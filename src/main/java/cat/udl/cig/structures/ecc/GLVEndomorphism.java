@@ -0,0 +1,210 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import cat.udl.cig.structures.RingElement;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An efficiently computable endomorphism \(\phi\) of an <i>Elliptic
+ * Curve</i> over a <i>PrimeField</i> \(\mathbb{F}_p\), which acts on the
+ * subgroup of prime order \(n\) as the multiplication by an eigenvalue
+ * \(\lambda\). Then, \(kP = k_1 P + k_2 \phi(P)\), where \(k \equiv k_1 +
+ * k_2 \lambda \pmod{n}\) and \(k_1\), \(k_2\) have half the bits of \(n\),
+ * as described in "Faster Point Multiplication on Elliptic Curves with
+ * Efficient Endomorphisms", by Gallant, Lambert and Vanstone.
+ * <ul>
+ * <li>If \(a = 0\) (\(j = 0\)) and \(p \equiv 1 \pmod{3}\), \(\phi(x, y) =
+ * (\beta x, y)\), where \(\beta^3 = 1\), and \(\lambda^2 + \lambda + 1
+ * \equiv 0 \pmod{n}\).</li>
+ * <li>If \(b = 0\) (\(j = 1728\)) and \(p \equiv 1 \pmod{4}\), \(\phi(x, y) =
+ * (-x, i y)\), where \(i^2 = -1\), and \(\lambda^2 + 1 \equiv 0
+ * \pmod{n}\).</li>
+ * </ul>
+ *
+ * @see EllipticCurve#getGLVEndomorphism(EllipticCurvePoint, BigInteger)
+ */
+public final class GLVEndomorphism {
+
+    private final EllipticCurve curve;
+
+    private final boolean cubeRoot;
+
+    /**
+     * The constant \(\beta\) if \(j = 0\), or \(i\) if \(j = 1728\).
+     */
+    private final RingElement constant;
+
+    private final BigInteger order;
+
+    private final BigInteger eigenvalue;
+
+    /**
+     * The short basis \(\{(a_1, b_1), (a_2, b_2)\}\) of the lattice of the
+     * \((x, y)\) such that \(x + y \lambda \equiv 0 \pmod{n}\).
+     */
+    private final BigInteger a1, b1, a2, b2;
+
+    private GLVEndomorphism(final EllipticCurve curve, final boolean cubeRoot, final RingElement constant,
+                            final BigInteger order, final BigInteger eigenvalue) {
+        this.curve = curve;
+        this.cubeRoot = cubeRoot;
+        this.constant = constant;
+        this.order = order;
+        this.eigenvalue = eigenvalue;
+        // Extended Euclidean algorithm on (n, lambda): r_i = s_i n + t_i lambda, so r_i - t_i lambda = 0 (mod n)
+        final BigInteger sqrt = order.sqrt();
+        BigInteger r0 = order, r1 = eigenvalue;
+        BigInteger t0 = BigInteger.ZERO, t1 = BigInteger.ONE;
+        while (r1.compareTo(sqrt) >= 0) {
+            BigInteger q = r0.divide(r1);
+            BigInteger r2 = r0.subtract(q.multiply(r1));
+            BigInteger t2 = t0.subtract(q.multiply(t1));
+            r0 = r1;
+            r1 = r2;
+            t0 = t1;
+            t1 = t2;
+        }
+        // r0 is the last remainder not smaller than sqrt(n)
+        BigInteger q = r0.divide(r1);
+        BigInteger r2 = r0.subtract(q.multiply(r1));
+        BigInteger t2 = t0.subtract(q.multiply(t1));
+        a1 = r1;
+        b1 = t1.negate();
+        if (r0.pow(2).add(t0.pow(2)).compareTo(r2.pow(2).add(t2.pow(2))) <= 0) {
+            a2 = r0;
+            b2 = t0.negate();
+        } else {
+            a2 = r2;
+            b2 = t2.negate();
+        }
+    }
+
+    /**
+     * Returns whether the curve has an endomorphism of this kind: \(a =
+     * 0\) and \(p \equiv 1 \pmod{3}\), or \(b = 0\) and \(p \equiv 1
+     * \pmod{4}\), over a <i>PrimeField</i>.
+     *
+     * @param curve the <i>Elliptic Curve</i>.
+     * @return {@code true} if the endomorphism exists.
+     */
+    static boolean isSupported(final EllipticCurve curve) {
+        if (!(curve.getRing() instanceof PrimeField)) {
+            return false;
+        }
+        final BigInteger p = curve.getRing().getSize();
+        final RingElement zero = curve.getRing().getAdditiveIdentity();
+        return (curve.getA().equals(zero) && p.mod(BigInteger.valueOf(3)).equals(BigInteger.ONE))
+                || (curve.getB().equals(zero) && p.mod(BigInteger.valueOf(4)).equals(BigInteger.ONE));
+    }
+
+    /**
+     * Computes the endomorphism of {@code curve} and the two roots
+     * \(\lambda\) that may be its eigenvalue on the subgroup of order \(n\).
+     * Which one is right depends on the choice of \(\beta\) (or \(i\)), so
+     * it is found with {@link #isEigenvector(EllipticCurvePoint)}.
+     *
+     * @param curve the <i>Elliptic Curve</i>.
+     * @param order the prime order \(n\). It must have more than half the
+     *              bits of \(p\), so there is only one subgroup of order
+     *              \(n\).
+     * @return the two candidates, or an empty list if the curve has not an
+     * endomorphism of this kind or \(n\) does not satisfy the conditions.
+     */
+    static List<GLVEndomorphism> candidates(final EllipticCurve curve, final BigInteger order) {
+        if (!isSupported(curve) || order.bitLength() <= curve.getRing().getSize().bitLength() / 2 + 1) {
+            return List.of();
+        }
+        final PrimeField field = (PrimeField) curve.getRing();
+        final BigInteger p = field.getSize();
+        final boolean cubeRoot = curve.getA().equals(field.getAdditiveIdentity());
+        final int degree = cubeRoot ? 3 : 4;
+        if (!order.mod(BigInteger.valueOf(degree)).equals(BigInteger.ONE) || !order.isProbablePrime(50)) {
+            return List.of();
+        }
+        // A primitive cube (fourth) root of unity in F_p
+        final BigInteger exponent = p.subtract(BigInteger.ONE).divide(BigInteger.valueOf(degree));
+        RingElement constant = null;
+        for (long g = 2; constant == null; g++) {
+            PrimeFieldElement root = new PrimeFieldElement(field, BigInteger.valueOf(g)).pow(exponent);
+            RingElement check = cubeRoot ? root : root.multiply(root);
+            if (!check.equals(field.getMultiplicativeIdentity())) {
+                constant = root;
+            }
+        }
+        // lambda = (-1 + sqrt(-3)) / 2 or sqrt(-1) modulo n
+        final PrimeField scalars = PrimeField.of(order);
+        final List<PrimeFieldElement> roots =
+                new PrimeFieldElement(scalars, BigInteger.valueOf(cubeRoot ? -3 : -1)).squareRoot();
+        if (roots.isEmpty()) {
+            return List.of();
+        }
+        final BigInteger root = roots.get(0).getValue();
+        final List<GLVEndomorphism> candidates = new ArrayList<>(2);
+        if (cubeRoot) {
+            final BigInteger half = BigInteger.TWO.modInverse(order);
+            candidates.add(new GLVEndomorphism(curve, true, constant, order,
+                    root.subtract(BigInteger.ONE).multiply(half).mod(order)));
+            candidates.add(new GLVEndomorphism(curve, true, constant, order,
+                    root.negate().subtract(BigInteger.ONE).multiply(half).mod(order)));
+        } else {
+            candidates.add(new GLVEndomorphism(curve, false, constant, order, root));
+            candidates.add(new GLVEndomorphism(curve, false, constant, order, order.subtract(root)));
+        }
+        return candidates;
+    }
+
+    /**
+     * Checks whether \(\phi(P) = \lambda P\).
+     *
+     * @param point a <i>Point</i> \(P\) of order \(n\).
+     * @return {@code true} if \(\lambda\) is the eigenvalue of \(\phi\) on
+     * the subgroup of \(P\).
+     */
+    boolean isEigenvector(final EllipticCurvePoint point) {
+        return !point.isInfinity() && apply(point).equals(point.jacobianPow(eigenvalue));
+    }
+
+    public BigInteger getOrder() {
+        return order;
+    }
+
+    public BigInteger getEigenvalue() {
+        return eigenvalue;
+    }
+
+    /**
+     * Computes \(\phi(P)\), with one multiplication in \(\mathbb{F}_p\).
+     *
+     * @param point the <i>Point</i> \(P\).
+     * @return the <i>Point</i> \(\phi(P)\).
+     */
+    public EllipticCurvePoint apply(final EllipticCurvePoint point) {
+        if (point.isInfinity()) {
+            return point;
+        }
+        if (cubeRoot) {
+            return new EllipticCurvePoint(curve, constant.multiply(point.x), point.y);
+        }
+        return new EllipticCurvePoint(curve, point.x.opposite(), constant.multiply(point.y));
+    }
+
+    /**
+     * Splits \(k\) in \(k_1 + k_2 \lambda \equiv k \pmod{n}\), where \(|k_1|,
+     * |k_2| \lesssim \sqrt{n}\), rounding the coordinates of \((k, 0)\) in
+     * the short basis of the lattice.
+     *
+     * @param k the scalar.
+     * @return the pair {@code {k1, k2}}. They may be negative.
+     */
+    public BigInteger[] decompose(final BigInteger k) {
+        final BigInteger c1 = TauAdicExpansion.roundDivision(b2.multiply(k), order);
+        final BigInteger c2 = TauAdicExpansion.roundDivision(b1.multiply(k).negate(), order);
+        final BigInteger k1 = k.subtract(c1.multiply(a1)).subtract(c2.multiply(a2));
+        final BigInteger k2 = c1.multiply(b1).add(c2.multiply(b2)).negate();
+        return new BigInteger[]{k1, k2};
+    }
+}
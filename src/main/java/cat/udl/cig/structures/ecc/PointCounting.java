@@ -0,0 +1,675 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.RingElement;
+import cat.udl.cig.utils.discretelogarithm.BabyStepTable;
+import cat.udl.cig.utils.fparithmetic.PolynomialModulus;
+import cat.udl.cig.utils.fparithmetic.PolynomialMultiplication;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the number of points \(\#E(\mathbb{F}_p) = p + 1 - t\) of an
+ * <i>EllipticCurve</i> \(E: y^2 = x^3 + ax + b\) over a <i>PrimeField</i>,
+ * where the trace \(t\) satisfies \(|t| \leq 2 \sqrt{p}\) by <i>Hasse's
+ * Theorem</i>.
+ * <ul>
+ * <li>Small fields are counted with the <i>Legendre</i> symbols of \(x^3 + ax
+ * + b\).</li>
+ * <li>Medium fields use <i>Mestre</i>'s Baby-Step Giant-Step, with random
+ * points of \(E\) and of its quadratic twist.</li>
+ * <li>Larger fields use <i>Schoof</i>'s algorithm: \(t \bmod \ell\) is
+ * computed for the small primes \(\ell\) in \(\mathbb{F}_p[x, y] /
+ * (\psi_\ell(x), y^2 - x^3 - ax - b)\) until the remaining candidates of the
+ * Hasse interval can be matched by Baby-Step Giant-Step.</li>
+ * </ul>
+ * The polynomials used by <i>Schoof</i>'s algorithm are arrays of their
+ * coefficients modulo \(p\), from the lowest to the highest degree.
+ *
+ * @see EllipticCurve#getSize()
+ */
+public final class PointCounting {
+
+    /**
+     * Fields of up to this number of bits are counted point by point.
+     */
+    public static final int NAIVE_BITS = 16;
+
+    /**
+     * Fields of up to this number of bits are counted with <i>Mestre</i>'s
+     * algorithm.
+     */
+    public static final int MESTRE_BITS = 64;
+
+    /**
+     * <i>Schoof</i>'s algorithm stops once the Hasse interval has less than
+     * \(2^{36}\) candidates left.
+     */
+    static final int RESIDUAL_BITS = 36;
+
+    /**
+     * A random point with more candidates than this is discarded.
+     */
+    private static final int MAX_CANDIDATES = 64;
+
+    private static final int MAX_POINTS = 256;
+
+    private static final BigInteger[] ONE = {BigInteger.ONE};
+
+    private static final BigInteger[] X = {BigInteger.ZERO, BigInteger.ONE};
+
+    private PointCounting() {
+    }
+
+    /**
+     * Returns \(\#E(\mathbb{F}_p)\), with the algorithm that suits the size
+     * of the field.
+     *
+     * @param curve the <i>EllipticCurve</i> \(E\).
+     * @return the number of points of \(E\), including the infinity point.
+     * @throws IllegalArgumentException if \(E\) is not defined over a
+     *                                  <i>PrimeField</i>.
+     */
+    public static BigInteger size(final EllipticCurve curve) {
+        int bits = fieldOf(curve).getSize().bitLength();
+        if (bits <= NAIVE_BITS) {
+            return naive(curve);
+        }
+        if (bits <= MESTRE_BITS) {
+            return mestre(curve);
+        }
+        return schoof(curve);
+    }
+
+    /**
+     * Returns \(\#E(\mathbb{F}_p) = 1 + \sum_{x} \left(1 +
+     * \left(\frac{x^3 + ax + b}{p}\right)\right)\).
+     *
+     * @param curve the <i>EllipticCurve</i> \(E\).
+     * @return the number of points of \(E\).
+     * @throws IllegalArgumentException if \(E\) is not defined over a
+     *                                  <i>PrimeField</i> of at most 31 bits.
+     */
+    public static BigInteger naive(final EllipticCurve curve) {
+        BigInteger size = fieldOf(curve).getSize();
+        if (size.bitLength() > 31) {
+            throw new IllegalArgumentException("The field is too large to be counted point by point.");
+        }
+        long p = size.longValue();
+        long a = curve.getA().getIntValue().mod(size).longValue();
+        long b = curve.getB().getIntValue().mod(size).longValue();
+        long count = 1;
+        for (long x = 0; x < p; x++) {
+            count += 1 + jacobi(((x * x % p + a) % p * x + b) % p, p);
+        }
+        return BigInteger.valueOf(count);
+    }
+
+    /**
+     * Returns \(\#E(\mathbb{F}_p)\) with <i>Mestre</i>'s Baby-Step
+     * Giant-Step over the whole Hasse interval. It needs about \(p^{1/4}\)
+     * group operations.
+     *
+     * @param curve the <i>EllipticCurve</i> \(E\).
+     * @return the number of points of \(E\).
+     * @throws IllegalArgumentException if \(E\) is not defined over a
+     *                                  <i>PrimeField</i>.
+     * @throws ArithmeticException      if the random points do not determine
+     *                                  the number of points.
+     */
+    public static BigInteger mestre(final EllipticCurve curve) {
+        return matchTrace(curve, BigInteger.ZERO, BigInteger.ONE);
+    }
+
+    /**
+     * Returns \(\#E(\mathbb{F}_p)\) with <i>Schoof</i>'s algorithm. The
+     * traces modulo \(2, 3, 5, \ldots\) are combined with the <i>Chinese
+     * Remainder Theorem</i> and the last candidates are matched with
+     * Baby-Step Giant-Step.
+     *
+     * @param curve the <i>EllipticCurve</i> \(E\).
+     * @return the number of points of \(E\).
+     * @throws IllegalArgumentException if \(E\) is not defined over a
+     *                                  <i>PrimeField</i>.
+     */
+    public static BigInteger schoof(final EllipticCurve curve) {
+        return schoof(curve, RESIDUAL_BITS);
+    }
+
+    /**
+     * Returns \(\#E(\mathbb{F}_p)\) with <i>Schoof</i>'s algorithm, leaving
+     * less than \(2^{residualBits}\) candidates to Baby-Step Giant-Step.
+     */
+    static BigInteger schoof(final EllipticCurve curve, final int residualBits) {
+        BigInteger p = fieldOf(curve).getSize();
+        BigInteger width = hasseBound(p).shiftLeft(1).add(BigInteger.ONE);
+        BigInteger residue = BigInteger.ZERO;
+        BigInteger modulus = BigInteger.ONE;
+        for (BigInteger l = BigInteger.TWO; width.divide(modulus).bitLength() > residualBits;
+             l = l.nextProbablePrime()) {
+            if (l.equals(p)) {
+                continue;
+            }
+            BigInteger trace = BigInteger.valueOf(traceModulo(curve, l.intValueExact()));
+            // Chinese Remainder Theorem
+            residue = residue.add(modulus.multiply(
+                    trace.subtract(residue).multiply(modulus.modInverse(l)).mod(l)));
+            modulus = modulus.multiply(l);
+        }
+        return matchTrace(curve, residue, modulus);
+    }
+
+    /**
+     * Returns the trace \(t\) of the <i>Frobenius</i> endomorphism \(\pi\)
+     * modulo the prime \(\ell\). If \(\ell = 2\), \(t\) is even if and only if
+     * \(E\) has a point of order 2. Otherwise, \(t \bmod \ell\) is the only
+     * \(\tau\) such that \(\pi^2(P) + \bar{q} P = \tau \pi(P)\), with \(\bar{q}
+     * = p \bmod \ell\), for the points \(P\) of order \(\ell\).
+     *
+     * @param curve the <i>EllipticCurve</i> \(E\).
+     * @param l     the prime \(\ell\).
+     * @return \(t \bmod \ell\), between 0 and \(\ell - 1\).
+     * @throws IllegalArgumentException if \(\ell\) is not a prime or it is
+     *                                  the characteristic of the field.
+     */
+    public static int traceModulo(final EllipticCurve curve, final int l) {
+        BigInteger p = fieldOf(curve).getSize();
+        if (l < 2 || !BigInteger.valueOf(l).isProbablePrime(50) || p.equals(BigInteger.valueOf(l))) {
+            throw new IllegalArgumentException(l + " is not a prime different from the characteristic.");
+        }
+        BigInteger a = curve.getA().getIntValue().mod(p);
+        BigInteger b = curve.getB().getIntValue().mod(p);
+        BigInteger[] f = trim(new BigInteger[]{b, a, BigInteger.ZERO, BigInteger.ONE});
+        if (l == 2) {
+            BigInteger[] xp = new PolynomialModulus(f, p).pow(X, p);
+            return degree(gcd(subtract(xp, X, p), f, p)) > 0 ? 0 : 1;
+        }
+        Torsion torsion = new Torsion(p, a, f, divisionPolynomial(a, b, l, p));
+        while (true) {
+            try {
+                return torsion.trace(l);
+            } catch (FactorFoundException ex) {
+                torsion = new Torsion(torsion, ex.factor);
+            }
+        }
+    }
+
+    /**
+     * Returns the \(n\)-th division polynomial \(\psi_n(x)\) of \(E\) for
+     * odd \(n\). For even \(n\) it returns \(\psi_n / (2y)\), so every
+     * returned polynomial only depends on \(x\).
+     */
+    static BigInteger[] divisionPolynomial(final BigInteger a, final BigInteger b, final int n,
+                                           final BigInteger p) {
+        BigInteger[] f = trim(new BigInteger[]{b, a, BigInteger.ZERO, BigInteger.ONE});
+        BigInteger[] f16 = scale(multiply(f, f, p), BigInteger.valueOf(16), p);
+        Map<Integer, BigInteger[]> known = new HashMap<>();
+        known.put(0, new BigInteger[0]);
+        known.put(1, ONE);
+        known.put(2, ONE);
+        BigInteger a2 = a.multiply(a);
+        known.put(3, trim(reduce(new BigInteger[]{
+                a2.negate(), b.multiply(BigInteger.valueOf(12)), a.multiply(BigInteger.valueOf(6)),
+                BigInteger.ZERO, BigInteger.valueOf(3)}, p)));
+        known.put(4, trim(reduce(new BigInteger[]{
+                b.multiply(b).multiply(BigInteger.valueOf(-16)).subtract(a2.multiply(a).shiftLeft(1)),
+                a.multiply(b).multiply(BigInteger.valueOf(-8)), a2.multiply(BigInteger.valueOf(-10)),
+                b.multiply(BigInteger.valueOf(40)), a.multiply(BigInteger.valueOf(10)),
+                BigInteger.ZERO, BigInteger.TWO}, p)));
+        return divisionPolynomial(n, f16, known, p);
+    }
+
+    private static BigInteger[] divisionPolynomial(final int n, final BigInteger[] f16,
+                                                   final Map<Integer, BigInteger[]> known, final BigInteger p) {
+        BigInteger[] result = known.get(n);
+        if (result != null) {
+            return result;
+        }
+        int m = n / 2;
+        BigInteger[] fm = divisionPolynomial(m, f16, known, p);
+        BigInteger[] fm1 = divisionPolynomial(m + 1, f16, known, p);
+        BigInteger[] fm2 = divisionPolynomial(m + 2, f16, known, p);
+        BigInteger[] fm_1 = divisionPolynomial(m - 1, f16, known, p);
+        if (n % 2 == 1) {
+            // psi_{2m+1} = psi_{m+2} psi_m^3 - psi_{m-1} psi_{m+1}^3
+            BigInteger[] left = multiply(fm2, multiply(fm, multiply(fm, fm, p), p), p);
+            BigInteger[] right = multiply(fm_1, multiply(fm1, multiply(fm1, fm1, p), p), p);
+            if (m % 2 == 0) {
+                left = multiply(left, f16, p);
+            } else {
+                right = multiply(right, f16, p);
+            }
+            result = subtract(left, right, p);
+        } else {
+            // psi_{2m} = psi_m (psi_{m+2} psi_{m-1}^2 - psi_{m-2} psi_{m+1}^2) / psi_2
+            BigInteger[] fm_2 = divisionPolynomial(m - 2, f16, known, p);
+            result = multiply(fm, subtract(
+                    multiply(fm2, multiply(fm_1, fm_1, p), p),
+                    multiply(fm_2, multiply(fm1, fm1, p), p), p), p);
+        }
+        known.put(n, result);
+        return result;
+    }
+
+    /**
+     * Returns \(p + 1 - t\) for the only trace \(t \equiv residue \pmod{
+     * modulus}\) of the Hasse interval such that \([p + 1 - t] P = O\) for
+     * the random points \(P\) of \(E\) and \([p + 1 + t] P' = O\) for the
+     * random points \(P'\) of its quadratic twist.
+     */
+    private static BigInteger matchTrace(final EllipticCurve curve, final BigInteger residue,
+                                         final BigInteger modulus) {
+        PrimeField field = fieldOf(curve);
+        BigInteger p = field.getSize();
+        BigInteger pPlusOne = p.add(BigInteger.ONE);
+        BigInteger bound = hasseBound(p);
+        BigInteger first = bound.negate().add(residue.add(bound).mod(modulus));
+        BigInteger count = bound.subtract(first).divide(modulus).add(BigInteger.ONE);
+        if (first.compareTo(bound) > 0) {
+            throw new ArithmeticException("There is no trace in the Hasse interval.");
+        }
+        if (count.equals(BigInteger.ONE)) {
+            return pPlusOne.subtract(first);
+        }
+        if (count.bitLength() > 62) {
+            throw new ArithmeticException("Too many candidates: " + count);
+        }
+        EllipticCurve twist = twist(curve, field);
+        List<BigInteger> candidates = null;
+        for (int i = 0; i < MAX_POINTS; i++) {
+            final boolean onTwist = i % 2 == 1;
+            final EllipticCurvePoint point = (onTwist ? twist : curve).getRandomElement();
+            if (candidates == null) {
+                candidates = candidateTraces(point, onTwist, pPlusOne, first, modulus, count.longValue());
+            } else {
+                candidates.removeIf(t -> !point.pow(onTwist ? pPlusOne.add(t) : pPlusOne.subtract(t)).isInfinity());
+            }
+            if (candidates != null && candidates.size() == 1) {
+                return pPlusOne.subtract(candidates.get(0));
+            }
+            if (candidates != null && candidates.isEmpty()) {
+                break;
+            }
+        }
+        throw new ArithmeticException("The number of points could not be determined.");
+    }
+
+    /**
+     * Returns every trace \(t = first + k \cdot modulus\), \(0 \leq k <
+     * count\), such that \([p + 1 \mp t] P = O\), where the sign is positive
+     * for the points of the twist. It is written as \([p + 1 \mp first] P =
+     * k \cdot G\), with \(G = \pm [modulus] P\), and all the \(k\) are found by
+     * Baby-Step Giant-Step.
+     *
+     * @return the traces, or {@code null} if \(P\) does not discard enough
+     * candidates.
+     */
+    private static List<BigInteger> candidateTraces(final EllipticCurvePoint point, final boolean onTwist,
+                                                    final BigInteger pPlusOne, final BigInteger first,
+                                                    final BigInteger modulus, final long count) {
+        final EllipticCurvePoint step = onTwist ? point.pow(modulus).inverse() : point.pow(modulus);
+        EllipticCurvePoint target = point.pow(onTwist ? pPlusOne.add(first) : pPlusOne.subtract(first));
+        int m = (int) Math.ceil(Math.sqrt((double) count));
+        BabyStepTable table = new BabyStepTable(m);
+        EllipticCurvePoint baby = step;
+        for (int j = 1; j < m; j++) {
+            if (baby.isInfinity()) {
+                return null;
+            }
+            table.put(BabyStepTable.fingerprint(baby), j);
+            baby = baby.multiply(step);
+        }
+        EllipticCurvePoint giantStep = baby.inverse();
+        List<BigInteger> traces = new ArrayList<>();
+        EllipticCurvePoint gamma = target;
+        for (long i = 0; i * m < count; i++) {
+            long k = -1;
+            if (gamma.isInfinity()) {
+                k = i * m;
+            } else {
+                final EllipticCurvePoint current = gamma;
+                int j = table.find(BabyStepTable.fingerprint(current),
+                        index -> step.pow(BigInteger.valueOf(index)).equals(current));
+                if (j > 0) {
+                    k = i * m + j;
+                }
+            }
+            if (k >= 0 && k < count) {
+                traces.add(first.add(modulus.multiply(BigInteger.valueOf(k))));
+                if (traces.size() > MAX_CANDIDATES) {
+                    return null;
+                }
+            }
+            gamma = gamma.multiply(giantStep);
+        }
+        return traces;
+    }
+
+    /**
+     * Returns the quadratic twist \(y^2 = x^3 + a d^2 x + b d^3\) of \(E\),
+     * where \(d\) is a quadratic non-residue. It has \(2p + 2 - \#E\)
+     * points.
+     */
+    private static EllipticCurve twist(final EllipticCurve curve, final PrimeField field) {
+        BigInteger p = field.getSize();
+        BigInteger minusOne = p.subtract(BigInteger.ONE);
+        BigInteger d = BigInteger.TWO;
+        while (!d.modPow(p.shiftRight(1), p).equals(minusOne)) {
+            d = d.add(BigInteger.ONE);
+        }
+        RingElement a = curve.getA().multiply(field.toElement(d.multiply(d)));
+        RingElement b = curve.getB().multiply(field.toElement(d.pow(3)));
+        return new EllipticCurve(field, a, b);
+    }
+
+    private static PrimeField fieldOf(final EllipticCurve curve) {
+        if (!(curve.getRing() instanceof PrimeField)) {
+            throw new IllegalArgumentException("The curve must be defined over a PrimeField.");
+        }
+        return (PrimeField) curve.getRing();
+    }
+
+    /**
+     * Returns \(\lfloor 2 \sqrt{p} \rfloor\), the bound of \(|t|\).
+     */
+    private static BigInteger hasseBound(final BigInteger p) {
+        return p.shiftLeft(2).sqrt();
+    }
+
+    private static int jacobi(long a, long n) {
+        int result = 1;
+        a %= n;
+        while (a != 0) {
+            while ((a & 1) == 0) {
+                a >>= 1;
+                long r = n & 7;
+                if (r == 3 || r == 5) {
+                    result = -result;
+                }
+            }
+            long tmp = a;
+            a = n;
+            n = tmp;
+            if ((a & 3) == 3 && (n & 3) == 3) {
+                result = -result;
+            }
+            a %= n;
+        }
+        return n == 1 ? result : 0;
+    }
+
+    private static int degree(final BigInteger[] u) {
+        return u.length - 1;
+    }
+
+    private static BigInteger[] trim(final BigInteger[] u) {
+        return PolynomialMultiplication.trim(u);
+    }
+
+    private static BigInteger[] reduce(final BigInteger[] u, final BigInteger p) {
+        BigInteger[] result = new BigInteger[u.length];
+        for (int i = 0; i < u.length; i++) {
+            result[i] = u[i].mod(p);
+        }
+        return result;
+    }
+
+    private static BigInteger[] add(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        BigInteger[] result = new BigInteger[Math.max(u.length, v.length)];
+        for (int i = 0; i < result.length; i++) {
+            BigInteger ui = i < u.length ? u[i] : BigInteger.ZERO;
+            BigInteger vi = i < v.length ? v[i] : BigInteger.ZERO;
+            result[i] = ui.add(vi).mod(p);
+        }
+        return trim(result);
+    }
+
+    private static BigInteger[] subtract(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        BigInteger[] result = new BigInteger[Math.max(u.length, v.length)];
+        for (int i = 0; i < result.length; i++) {
+            BigInteger ui = i < u.length ? u[i] : BigInteger.ZERO;
+            BigInteger vi = i < v.length ? v[i] : BigInteger.ZERO;
+            result[i] = ui.subtract(vi).mod(p);
+        }
+        return trim(result);
+    }
+
+    private static BigInteger[] scale(final BigInteger[] u, final BigInteger c, final BigInteger p) {
+        BigInteger[] result = new BigInteger[u.length];
+        for (int i = 0; i < u.length; i++) {
+            result[i] = u[i].multiply(c).mod(p);
+        }
+        return trim(result);
+    }
+
+    private static BigInteger[] multiply(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        return PolynomialMultiplication.multiply(u, v, p);
+    }
+
+    /**
+     * Returns the quotient and the remainder of \(u / v\).
+     */
+    private static BigInteger[][] divide(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        return PolynomialModulus.divide(u, v, p);
+    }
+
+    private static BigInteger[] remainder(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        return divide(u, v, p)[1];
+    }
+
+    private static BigInteger[] monic(final BigInteger[] u, final BigInteger p) {
+        return scale(u, u[degree(u)].modInverse(p), p);
+    }
+
+    private static BigInteger[] gcd(BigInteger[] u, BigInteger[] v, final BigInteger p) {
+        while (v.length > 0) {
+            BigInteger[] r = remainder(u, v, p);
+            u = v;
+            v = r;
+        }
+        return u.length == 0 ? u : monic(u, p);
+    }
+
+    /**
+     * The ring \(\mathbb{F}_p[x, y] / (h(x), y^2 - x^3 - ax - b)\), where
+     * \(h\) is the division polynomial \(\psi_\ell\) or one of its factors.
+     * Its elements \(X(x) + Y(x) y\) with \(X = 0\) or \(Y = 0\) are enough to
+     * write the points \((X, Y y)\) of order \(\ell\) and their
+     * <i>Frobenius</i> images. When a non-invertible element is found, a
+     * factor of \(h\) is thrown and the computation goes on in a smaller
+     * ring.
+     */
+    private static final class Torsion {
+
+        private final BigInteger p;
+        private final BigInteger a;
+        private final BigInteger[] modulus;
+        private final PolynomialModulus reduction;
+        private final BigInteger[] f;
+        private final Point frobenius;
+        private final Point frobenius2;
+
+        Torsion(final BigInteger p, final BigInteger a, final BigInteger[] f, final BigInteger[] psi) {
+            this.p = p;
+            this.a = a;
+            this.modulus = monic(psi, p);
+            this.reduction = new PolynomialModulus(modulus, p);
+            this.f = reduction.remainder(f);
+            BigInteger[] xp = reduction.pow(X, p);
+            BigInteger[] yp = reduction.pow(this.f, p.shiftRight(1));
+            frobenius = new Point(xp, yp);
+            frobenius2 = new Point(reduction.pow(xp, p),
+                    reduction.multiply(yp, reduction.pow(yp, p)));
+        }
+
+        /**
+         * Restricts {@code torsion} to the points whose \(x\) is a root of
+         * {@code factor}.
+         */
+        Torsion(final Torsion torsion, final BigInteger[] factor) {
+            this.p = torsion.p;
+            this.a = torsion.a;
+            this.modulus = factor;
+            this.reduction = new PolynomialModulus(factor, p);
+            this.f = remainder(torsion.f, factor, p);
+            frobenius = new Point(remainder(torsion.frobenius.x, factor, p),
+                    remainder(torsion.frobenius.y, factor, p));
+            frobenius2 = new Point(remainder(torsion.frobenius2.x, factor, p),
+                    remainder(torsion.frobenius2.y, factor, p));
+        }
+
+        int trace(final int l) {
+            int q = p.mod(BigInteger.valueOf(l)).intValue();
+            Point point = new Point(reduction.remainder(X), ONE);
+            Point sum = sum(frobenius2, times(point, q));
+            if (sum == null) {
+                return 0;
+            }
+            Point tau = frobenius;
+            for (int k = 1; k < l; k++) {
+                if (same(tau, sum)) {
+                    return k;
+                }
+                tau = sum(tau, frobenius);
+            }
+            throw new ArithmeticException("The trace modulo " + l + " was not found.");
+        }
+
+        private boolean same(final Point u, final Point v) {
+            if (u == null || v == null) {
+                return u == v;
+            }
+            BigInteger[] dx = subtract(u.x, v.x, p);
+            if (dx.length != 0) {
+                BigInteger[] g = gcd(dx, modulus, p);
+                if (degree(g) > 0) {
+                    throw new FactorFoundException(g);
+                }
+                return false;
+            }
+            BigInteger[] dy = subtract(u.y, v.y, p);
+            if (dy.length == 0) {
+                return true;
+            }
+            if (PointCounting.add(u.y, v.y, p).length == 0) {
+                return false;
+            }
+            throw new FactorFoundException(gcd(dy, modulus, p));
+        }
+
+        private Point times(final Point point, final int k) {
+            Point result = null;
+            for (int i = 31 - Integer.numberOfLeadingZeros(k); i >= 0; i--) {
+                result = twice(result);
+                if ((k >>> i & 1) == 1) {
+                    result = sum(result, point);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Adds \((X_1, Y_1 y)\) and \((X_2, Y_2 y)\). The slope is \(\lambda =
+         * L y\), with \(L = (Y_2 - Y_1) / (X_2 - X_1)\), so \(X_3 = L^2 f - X_1
+         * - X_2\) and \(Y_3 = L (X_1 - X_3) - Y_1\).
+         */
+        private Point sum(final Point u, final Point v) {
+            if (u == null) {
+                return v;
+            }
+            if (v == null) {
+                return u;
+            }
+            BigInteger[] dx = subtract(v.x, u.x, p);
+            BigInteger[] dy = subtract(v.y, u.y, p);
+            if (dx.length == 0) {
+                if (dy.length == 0) {
+                    return twice(u);
+                }
+                if (PointCounting.add(u.y, v.y, p).length == 0) {
+                    return null;
+                }
+                throw new FactorFoundException(gcd(dy, modulus, p));
+            }
+            BigInteger[] slope = reduction.multiply(dy, inverse(dx));
+            return line(u, v.x, slope);
+        }
+
+        /**
+         * Doubles \((X, Y y)\), with \(L = (3 X^2 + a) / (2 Y f)\).
+         */
+        private Point twice(final Point u) {
+            if (u == null || u.y.length == 0) {
+                return null;
+            }
+            BigInteger[] numerator = PointCounting.add(scale(reduction.multiply(u.x, u.x), BigInteger.valueOf(3), p),
+                    trim(new BigInteger[]{a}), p);
+            BigInteger[] denominator = scale(reduction.multiply(u.y, f), BigInteger.TWO, p);
+            BigInteger[] slope = reduction.multiply(numerator, inverse(denominator));
+            return line(u, u.x, slope);
+        }
+
+        private Point line(final Point u, final BigInteger[] x2, final BigInteger[] slope) {
+            BigInteger[] x3 = subtract(subtract(
+                    reduction.multiply(reduction.multiply(slope, slope), f), u.x, p), x2, p);
+            BigInteger[] y3 = subtract(reduction.multiply(slope, subtract(u.x, x3, p)), u.y, p);
+            return new Point(x3, y3);
+        }
+
+        /**
+         * Returns \(u^{-1} \bmod h\) with the <i>Extended Euclidean
+         * Algorithm</i>.
+         *
+         * @throws FactorFoundException if \(\gcd(u, h) \neq 1\).
+         */
+        private BigInteger[] inverse(final BigInteger[] u) {
+            BigInteger[] r0 = modulus;
+            BigInteger[] r1 = u;
+            BigInteger[] s0 = new BigInteger[0];
+            BigInteger[] s1 = ONE;
+            while (r1.length > 0) {
+                BigInteger[][] qr = divide(r0, r1, p);
+                r0 = r1;
+                r1 = qr[1];
+                BigInteger[] s = subtract(s0, PointCounting.multiply(qr[0], s1, p), p);
+                s0 = s1;
+                s1 = s;
+            }
+            if (degree(r0) > 0) {
+                throw new FactorFoundException(monic(r0, p));
+            }
+            return reduction.remainder(scale(s0, r0[0].modInverse(p), p));
+        }
+    }
+
+    /**
+     * The point \((X, Y y)\) of the ring. The infinity point is {@code null}.
+     */
+    private static final class Point {
+
+        final BigInteger[] x;
+        final BigInteger[] y;
+
+        Point(final BigInteger[] x, final BigInteger[] y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * Thrown when a non-trivial factor of the modulus \(h\) is found.
+     */
+    private static final class FactorFoundException extends ArithmeticException {
+
+        private final transient BigInteger[] factor;
+
+        FactorFoundException(final BigInteger[] factor) {
+            super("Factor found");
+            this.factor = factor;
+        }
+    }
+}
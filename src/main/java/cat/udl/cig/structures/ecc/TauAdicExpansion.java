@@ -0,0 +1,244 @@
+package cat.udl.cig.structures.ecc;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * The arithmetic of the ring \(\mathbb{Z}[\tau]\), where \(\tau^2 - \mu \tau
+ * + 2 = 0\) and \(\mu = (-1)^{1 - a}\), used to multiply the points of the
+ * <i>Koblitz Curves</i> \(y^2 + xy = x^3 + ax^2 + 1\), with \(a \in \{0,
+ * 1\}\), over \(\mathbb{F}_{2^m}\). On these curves, \(\tau\) acts as the
+ * <i>Frobenius</i> map \((x, y) \mapsto (x^2, y^2)\), so the scalars written
+ * in base \(\tau\) are evaluated with squarings instead of doublings.
+ * <p>
+ * The elements \(r_0 + r_1 \tau\) are stored as the pairs
+ * {@code {r0, r1}}. The methods follow "Efficient Arithmetic on Koblitz
+ * Curves", by Solinas.
+ *
+ * @see BinaryEC#isKoblitz()
+ */
+public final class TauAdicExpansion {
+
+    private final int mu;
+
+    /**
+     * The element \(\tau^m - 1\), whose action on every point of the curve
+     * is zero.
+     */
+    private final BigInteger[] frobeniusKernel;
+
+    private final BigInteger frobeniusKernelNorm;
+
+    /**
+     * Creates the arithmetic of \(\mathbb{Z}[\tau]\) for the <i>Koblitz
+     * Curve</i> with coefficient \(a\) over \(\mathbb{F}_{2^m}\).
+     *
+     * @param a the coefficient \(a\), 0 or 1.
+     * @param m the dimension of the <i>BinaryField</i>.
+     * @throws IllegalArgumentException if \(a\) is not 0 or 1, or \(m\) is
+     *                                  not positive.
+     */
+    public TauAdicExpansion(final int a, final int m) {
+        if ((a != 0 && a != 1) || m <= 0) {
+            throw new IllegalArgumentException("The curve must be a Koblitz curve over a binary field.");
+        }
+        mu = a == 1 ? 1 : -1;
+        BigInteger[] power = tauPower(m);
+        frobeniusKernel = new BigInteger[]{power[0].subtract(BigInteger.ONE), power[1]};
+        frobeniusKernelNorm = norm(frobeniusKernel);
+    }
+
+    public int getMu() {
+        return mu;
+    }
+
+    /**
+     * Returns \(\tau^w = -2 U_{w - 1} + U_w \tau\), where \(U_0 = 0\), \(U_1
+     * = 1\) and \(U_{i + 1} = \mu U_i - 2 U_{i - 1}\) is the <i>Lucas
+     * sequence</i> of \(\tau\).
+     *
+     * @param w a positive integer.
+     * @return the pair {@code {r0, r1}} of \(\tau^w\).
+     */
+    public BigInteger[] tauPower(final int w) {
+        BigInteger[] u = lucas(w);
+        return new BigInteger[]{u[0].shiftLeft(1).negate(), u[1]};
+    }
+
+    /**
+     * Returns the norm \(N(r_0 + r_1 \tau) = r_0^2 + \mu r_0 r_1 + 2
+     * r_1^2\).
+     *
+     * @param r the pair {@code {r0, r1}}.
+     * @return its norm, a non-negative BigInteger.
+     */
+    public BigInteger norm(final BigInteger[] r) {
+        BigInteger cross = r[0].multiply(r[1]);
+        return r[0].multiply(r[0]).add(mu == 1 ? cross : cross.negate()).add(r[1].multiply(r[1]).shiftLeft(1));
+    }
+
+    /**
+     * Reduces \(k\) modulo \(\tau^m - 1\). Since \(\tau^m\) is the identity
+     * on all the points of the curve, the result \(\rho\) satisfies \(\rho P
+     * = kP\) for every <i>Point</i> \(P\), and its <i>τNAF</i> has about
+     * \(m\) digits instead of \(2 \log_2 k\).
+     *
+     * @param k the scalar.
+     * @return the pair {@code {r0, r1}} of \(\rho\).
+     */
+    public BigInteger[] reduce(final BigInteger k) {
+        return reduce(k, frobeniusKernel, frobeniusKernelNorm);
+    }
+
+    /**
+     * Returns the <i>width-w τNAF</i> of \(\rho = r_0 + r_1 \tau\): \(\rho =
+     * \sum_i d_i \tau^i\), where every nonzero digit \(d_i = \pm \alpha_u\)
+     * and, at most, one digit every \(w\) positions is nonzero. The digits are
+     * returned as the signed odd integers \(\pm u\).
+     *
+     * @param rho the pair {@code {r0, r1}}.
+     * @param w   the width, at least 2. For \(w = 2\), it is the
+     *            <i>τNAF</i>, with \(\alpha_1 = 1\).
+     * @return the digits \(\pm u\), lowest position first.
+     * @see #representatives(int)
+     */
+    public int[] windowTauNAF(final BigInteger[] rho, final int w) {
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(w);
+        final BigInteger half = BigInteger.ONE.shiftLeft(w - 1);
+        final BigInteger[] u = lucas(w);
+        // t_w = 2 U_{w-1} / U_w (mod 2^w), the image of tau in Z / 2^w
+        final BigInteger t = u[0].shiftLeft(1).multiply(u[1].modInverse(modulus)).mod(modulus);
+        final BigInteger[][] alphas = representatives(w);
+        BigInteger r0 = rho[0];
+        BigInteger r1 = rho[1];
+        int[] digits = new int[Math.max(16, 2 * (r0.bitLength() + r1.bitLength()) + 2 * w + 8)];
+        int length = 0;
+        while (r0.signum() != 0 || r1.signum() != 0) {
+            if (length == digits.length) {
+                digits = Arrays.copyOf(digits, 2 * length);
+            }
+            if (r0.testBit(0)) {
+                BigInteger value = r0.add(r1.multiply(t)).mod(modulus);
+                if (value.compareTo(half) >= 0) {
+                    value = value.subtract(modulus);
+                }
+                int digit = value.intValue();
+                BigInteger[] alpha = alphas[Math.abs(digit) >>> 1];
+                if (digit > 0) {
+                    r0 = r0.subtract(alpha[0]);
+                    r1 = r1.subtract(alpha[1]);
+                } else {
+                    r0 = r0.add(alpha[0]);
+                    r1 = r1.add(alpha[1]);
+                }
+                digits[length] = digit;
+            }
+            // (r0 + r1 tau) / tau = (r1 + mu r0 / 2) - (r0 / 2) tau
+            BigInteger halfR0 = r0.shiftRight(1);
+            r0 = mu == 1 ? r1.add(halfR0) : r1.subtract(halfR0);
+            r1 = halfR0.negate();
+            length++;
+        }
+        return Arrays.copyOf(digits, length);
+    }
+
+    /**
+     * Returns the representatives \(\alpha_u = u \bmod \tau^w\) of the odd
+     * \(u < 2^{w - 1}\), which are the digits of the <i>width-w τNAF</i>.
+     *
+     * @param w the width, at least 2.
+     * @return {@code alphas[i]}, the pair of \(\alpha_{2i + 1}\).
+     */
+    public BigInteger[][] representatives(final int w) {
+        final BigInteger[] tauW = tauPower(w);
+        final BigInteger normW = BigInteger.ONE.shiftLeft(w);
+        BigInteger[][] alphas = new BigInteger[1 << (w - 2)][];
+        for (int i = 0; i < alphas.length; i++) {
+            alphas[i] = reduce(BigInteger.valueOf(2L * i + 1), tauW, normW);
+        }
+        return alphas;
+    }
+
+    /**
+     * Returns \(k - \kappa \delta\), where \(\kappa\) is \(k / \delta\)
+     * rounded in \(\mathbb{Z}[\tau]\).
+     */
+    private BigInteger[] reduce(final BigInteger k, final BigInteger[] delta, final BigInteger deltaNorm) {
+        // k / delta = k conj(delta) / N(delta), where conj(d0 + d1 tau) = (d0 + mu d1) - d1 tau
+        BigInteger n0 = k.multiply(mu == 1 ? delta[0].add(delta[1]) : delta[0].subtract(delta[1]));
+        BigInteger n1 = k.multiply(delta[1]).negate();
+        BigInteger[] kappa = round(n0, n1, deltaNorm);
+        BigInteger[] product = multiply(kappa, delta);
+        return new BigInteger[]{k.subtract(product[0]), product[1].negate()};
+    }
+
+    /**
+     * Rounds \(\lambda_0 + \lambda_1 \tau\), with \(\lambda_i = n_i / d\),
+     * to an element of \(\mathbb{Z}[\tau]\) at norm distance less than 1.
+     * The comparisons are done with the integers scaled by \(d\).
+     */
+    private BigInteger[] round(final BigInteger n0, final BigInteger n1, final BigInteger d) {
+        final BigInteger f0 = roundDivision(n0, d);
+        final BigInteger f1 = roundDivision(n1, d);
+        final BigInteger e0 = n0.subtract(f0.multiply(d));
+        final BigInteger e1 = n1.subtract(f1.multiply(d));
+        final BigInteger muE1 = mu == 1 ? e1 : e1.negate();
+        final BigInteger eta = e0.shiftLeft(1).add(muE1);
+        final BigInteger twiceD = d.shiftLeft(1);
+        int h0 = 0;
+        int h1 = 0;
+        if (eta.compareTo(d) >= 0) {
+            if (e0.subtract(muE1.multiply(BigInteger.valueOf(3))).compareTo(d.negate()) < 0) {
+                h1 = mu;
+            } else {
+                h0 = 1;
+            }
+        } else if (e0.add(muE1.shiftLeft(2)).compareTo(twiceD) >= 0) {
+            h1 = mu;
+        }
+        if (eta.compareTo(d.negate()) < 0) {
+            if (e0.subtract(muE1.multiply(BigInteger.valueOf(3))).compareTo(d) >= 0) {
+                h1 = -mu;
+            } else {
+                h0 = -1;
+            }
+        } else if (e0.add(muE1.shiftLeft(2)).compareTo(twiceD.negate()) < 0) {
+            h1 = -mu;
+        }
+        return new BigInteger[]{f0.add(BigInteger.valueOf(h0)), f1.add(BigInteger.valueOf(h1))};
+    }
+
+    /**
+     * Returns \(\lfloor n / d + 1/2 \rfloor\), where \(d > 0\). It is also
+     * used by the balanced decomposition of {@link GLVEndomorphism}.
+     */
+    static BigInteger roundDivision(final BigInteger n, final BigInteger d) {
+        BigInteger[] qr = n.shiftLeft(1).add(d).divideAndRemainder(d.shiftLeft(1));
+        return qr[1].signum() < 0 ? qr[0].subtract(BigInteger.ONE) : qr[0];
+    }
+
+    /**
+     * Returns \((a_0 + a_1 \tau)(b_0 + b_1 \tau) = (a_0 b_0 - 2 a_1 b_1) +
+     * (a_0 b_1 + a_1 b_0 + \mu a_1 b_1) \tau\).
+     */
+    private BigInteger[] multiply(final BigInteger[] a, final BigInteger[] b) {
+        BigInteger a1b1 = a[1].multiply(b[1]);
+        BigInteger r0 = a[0].multiply(b[0]).subtract(a1b1.shiftLeft(1));
+        BigInteger r1 = a[0].multiply(b[1]).add(a[1].multiply(b[0]));
+        return new BigInteger[]{r0, mu == 1 ? r1.add(a1b1) : r1.subtract(a1b1)};
+    }
+
+    /**
+     * Returns \(\{U_{w - 1}, U_w\}\).
+     */
+    private BigInteger[] lucas(final int w) {
+        BigInteger previous = BigInteger.ZERO;
+        BigInteger current = BigInteger.ONE;
+        for (int i = 1; i < w; i++) {
+            BigInteger next = (mu == 1 ? current : current.negate()).subtract(previous.shiftLeft(1));
+            previous = current;
+            current = next;
+        }
+        return new BigInteger[]{previous, current};
+    }
+}
@@ -11,33 +11,39 @@ import cat.udl.cig.operations.wrapper.data.Pair;
 import cat.udl.cig.structures.ExtensionField;
 import cat.udl.cig.structures.PrimeField;
 import cat.udl.cig.structures.PrimeFieldElement;
-import cat.udl.cig.structures.RingElement;
+import cat.udl.cig.utils.fparithmetic.PolynomialModulus;
+import cat.udl.cig.utils.fparithmetic.PolynomialMultiplication;
 import org.jetbrains.annotations.NotNull;
 
 import java.math.BigInteger;
 import java.util.*;
 
 /**
- * Models a polynomial which coefficients are <i>PrimeFieldElement</i>.
+ * Models a polynomial which coefficients are <i>PrimeFieldElement</i>. The
+ * coefficients are stored as an array of their values, as in
+ * {@link PolynomialMultiplication}, so the arithmetic does not create a
+ * <i>PrimeFieldElement</i> per coefficient operation. The products use
+ * {@link PolynomialMultiplication} and the divisions and powers modulo a
+ * polynomial use {@link PolynomialModulus}.
  *
  * @author M.Àngels Cerveró
  * @see PrimeFieldElement
  */
 public class Polynomial {
     /**
-     * The coefficients of {@code this} <i>Polynomial</i>.
-     *
-     * @see PrimeFieldElement
+     * The values of the coefficients of {@code this} <i>Polynomial</i>,
+     * lowest degree first, reduced modulo the characteristic and without
+     * leading zeros. The zero <i>Polynomial</i> keeps one zero coefficient.
      */
-    private ArrayList<PrimeFieldElement> coefficients;
+    private final BigInteger[] coefficients;
 
     /**
      * The exponent of the highest coefficient of {@code this}
      * <i>Polynomial</i>.
      */
-    private int degree;
+    private final int degree;
 
-    private PrimeField field;
+    private final PrimeField field;
 
     /**
      * Creates a new <i>Polynomial</i> with the specified {@code coefficients}.
@@ -54,38 +60,69 @@ public class Polynomial {
     }
 
     public Polynomial(final ArrayList<PrimeFieldElement> coefficients, PrimeField field) {
-        if (coefficients.isEmpty()) {
-            this.coefficients = new ArrayList<PrimeFieldElement>();
-            degree = -1;
-            this.field = null;
-        } else {
-            this.coefficients =
-                    new ArrayList<>(coefficients);
-            degree = this.coefficients.size() - 1;
-            this.field = field;
-            checkDegree();
-        }
+        this(coefficients, coefficients.isEmpty() ? null : field, coefficients.size() - 1);
     }
 
     /**
-     * Creates a copy of the <i>Polynomial</i> {@code poly}. This constructor
-     * makes a deep copy of {@code poly}.
+     * Creates a copy of the <i>Polynomial</i> {@code poly}. The coefficients
+     * are never modified, so they are shared with {@code poly}.
      *
      * @param poly the <i>Polynomial</i> to be copied.
      */
     public Polynomial(final Polynomial poly) {
-        this(poly.coefficients, poly.field, poly.degree);
+        coefficients = poly.coefficients;
+        degree = poly.degree;
+        field = poly.field;
     }
 
     public Polynomial(PrimeField field) {
-        this(new ArrayList<>(), field, -1);
+        this(new BigInteger[0], field);
     }
 
     public Polynomial(ArrayList<PrimeFieldElement> coefficients, PrimeField field, int degree) {
-        this.coefficients = coefficients;
+        this(values(coefficients, degree), field);
+    }
+
+    /**
+     * Creates a new <i>Polynomial</i> over {@code field} with the values of
+     * {@code coefficients}, lowest degree first. They are reduced modulo the
+     * characteristic and the leading zeros are removed. If
+     * {@code coefficients} is empty, the new <i>Polynomial</i> is empty.
+     *
+     * @param coefficients the values of the coefficients.
+     * @param field        the <i>PrimeField</i> of the coefficients.
+     */
+    public Polynomial(final BigInteger[] coefficients, final PrimeField field) {
         this.field = field;
-        this.degree = degree;
-        this.checkDegree();
+        BigInteger[] values = new BigInteger[coefficients.length];
+        for (int i = 0; i < values.length; i++) {
+            BigInteger value = coefficients[i];
+            values[i] = value.signum() < 0 || value.compareTo(field.getSize()) >= 0
+                    ? value.mod(field.getSize()) : value;
+        }
+        int last = values.length - 1;
+        while (last > 0 && values[last].signum() == 0) {
+            last--;
+        }
+        this.coefficients = last == values.length - 1 ? values : Arrays.copyOf(values, last + 1);
+        degree = last;
+    }
+
+    private static BigInteger[] values(final ArrayList<PrimeFieldElement> coefficients, final int degree) {
+        BigInteger[] values = new BigInteger[degree + 1];
+        for (int i = 0; i <= degree; i++) {
+            values[i] = coefficients.get(i).getValue();
+        }
+        return values;
+    }
+
+    /**
+     * Returns the <i>Polynomial</i> over {@code field} with the values
+     * {@code values}, which are already reduced. No value is the zero
+     * <i>Polynomial</i>.
+     */
+    private static Polynomial of(final BigInteger[] values, final PrimeField field) {
+        return new Polynomial(values.length == 0 ? new BigInteger[]{BigInteger.ZERO} : values, field);
     }
 
     /**
@@ -110,7 +147,22 @@ public class Polynomial {
         if (termDegree < 0 || termDegree > degree) {
             return null;
         }
-        return coefficients.get(termDegree);
+        return field.toElement(coefficients[termDegree]);
+    }
+
+    /**
+     * Returns the values of the coefficients of {@code this}
+     * <i>Polynomial</i>, lowest degree first and without leading zeros.
+     *
+     * @return the coefficients as in {@link PolynomialMultiplication}. The
+     * zero <i>Polynomial</i> has no coefficient.
+     */
+    public BigInteger[] toArray() {
+        return values().clone();
+    }
+
+    private BigInteger[] values() {
+        return isZeroPolynomial() ? new BigInteger[0] : coefficients;
     }
 
     /**
@@ -121,27 +173,13 @@ public class Polynomial {
      * @return a new <i>Polynomial</i> \(r\), where \(r = p + q\).
      */
     public Polynomial add(final Polynomial q) {
-        Polynomial p1, p2;
-        ArrayList<PrimeFieldElement> coefficients = new ArrayList<>();
-        if (degree < q.degree) {
-            p1 = this;
-            p2 = q;
-        } else {
-            p1 = q;
-            p2 = this;
-        }
-
-        for (int i = 0; i <= p1.degree; i++) {
-            coefficients.add(p1.coefficients.get(i).add(
-                    p2.coefficients.get(i)));
+        PrimeField field = this.field != null ? this.field : q.field;
+        BigInteger[] sum = new BigInteger[Math.max(degree, q.degree) + 1];
+        for (int i = 0; i < sum.length; i++) {
+            BigInteger value = coefficientValue(i).add(q.coefficientValue(i));
+            sum[i] = value.compareTo(field.getSize()) >= 0 ? value.subtract(field.getSize()) : value;
         }
-
-        for (int i = p1.degree + 1; i <= p2.degree; i++) {
-            coefficients.add(new PrimeFieldElement(p2.coefficients
-                    .get(i)));
-        }
-
-        return new Polynomial(coefficients, this.field, p2.degree);
+        return new Polynomial(sum, field);
     }
 
     /**
@@ -161,11 +199,11 @@ public class Polynomial {
      * @return a new <i>Polynomial</i> \(r\), where \(r = -p\).
      */
     public Polynomial opposite() {
-        ArrayList<PrimeFieldElement> coefficients = new ArrayList<>();
+        BigInteger[] values = new BigInteger[degree + 1];
         for (int i = 0; i <= degree; i++) {
-            coefficients.add(this.coefficients.get(i).opposite());
+            values[i] = coefficients[i].signum() == 0 ? coefficients[i] : field.getSize().subtract(coefficients[i]);
         }
-        return new Polynomial(coefficients, this.field, degree);
+        return new Polynomial(values, field);
     }
 
     /**
@@ -225,23 +263,11 @@ public class Polynomial {
             throw new ArithmeticException("Polynomial does not belong to the ring");
         }
         // Extended Euclidean Algorithm
-        ArrayList<PrimeFieldElement> tcoefficients =
-                new ArrayList<PrimeFieldElement>();
-        ArrayList<PrimeFieldElement> ntcoefficients =
-                new ArrayList<PrimeFieldElement>();
-        Polynomial t;
-        Polynomial newt;
+        Polynomial t = new Polynomial(new BigInteger[]{BigInteger.ZERO}, field);
+        Polynomial newt = new Polynomial(new BigInteger[]{BigInteger.ONE}, field);
         Polynomial r = modulus;
         Polynomial newr = this;
 
-        tcoefficients.add(new PrimeFieldElement(coefficients.get(0)
-                .getGroup(), BigInteger.ZERO));
-        t = new Polynomial(tcoefficients);
-
-        ntcoefficients.add(new PrimeFieldElement(coefficients.get(0)
-                .getGroup(), BigInteger.ONE));
-        newt = new Polynomial(ntcoefficients);
-
         Polynomial quotient, tmp;
         Pair<Polynomial, Polynomial> divResult;
         while (newr.degree != -1 && !newr.isZeroPolynomial()) {
@@ -256,20 +282,16 @@ public class Polynomial {
             t = tmp;
         }
         if (r.degree == 0) {
-            ArrayList<PrimeFieldElement> rcoefficients =
-                    new ArrayList<PrimeFieldElement>();
-            rcoefficients.add(r.coefficients.get(0).inverse());
-            Polynomial invR = new Polynomial(rcoefficients);
-            invR = invR.euclideanMultiplication(t);
-            invR.checkDegree();
-            return invR;
+            BigInteger invR = r.coefficients[0].modInverse(field.getSize());
+            return new Polynomial(new BigInteger[]{invR}, field).euclideanMultiplication(t);
         }
         return new Polynomial(this.field);
     }
 
     /**
      * Computes the operation \(p^{k} (\mod modulus)\), where {@code p} is
-     * {@code this} <i>Polynomial</i>.
+     * {@code this} <i>Polynomial</i>. The reductions use the precomputed
+     * <i>Newton</i> inverse of {@code modulus} of {@link PolynomialModulus}.
      *
      * @param k       a BigInteger representing the exponent we want to apply to
      *                {@code this}.
@@ -281,24 +303,7 @@ public class Polynomial {
         // k es pot reduir mòdul (p ^ n - 1)
         BigInteger p = field.getSize();
         k = k.mod(p.pow(modulus.degree).subtract(BigInteger.ONE));
-
-        ArrayList<PrimeFieldElement> rcoefficients =
-                new ArrayList<PrimeFieldElement>();
-        rcoefficients.add(new PrimeFieldElement(coefficients.get(0)
-                .getGroup(), BigInteger.ONE));
-        Polynomial r = new Polynomial(rcoefficients);
-        Polynomial polynomialTmp = this;
-
-        String binary = k.toString(2);
-        int nbits = binary.length();
-        for (int i = nbits - 1; i >= 0; i--) {
-            if (binary.charAt(i) == '1') {
-                r = r.multiply(polynomialTmp, modulus);
-            }
-            polynomialTmp = polynomialTmp.multiply(polynomialTmp, modulus);
-        }
-        r.checkDegree();
-        return r;
+        return of(new PolynomialModulus(modulus.values(), p).pow(values(), k), field);
     }
 
     /**
@@ -317,8 +322,8 @@ public class Polynomial {
     }
 
     private Polynomial squareRootGora(Polynomial modulus) {
-        if (coefficients.size() < 2 || this.coefficients.get(1).equals(field.getAdditiveIdentity())){
-            PrimeFieldElement a0 = this.coefficients.get(0);
+        if (degree < 1 || coefficients[1].signum() == 0){
+            PrimeFieldElement a0 = getCoefficient(0);
             if (a0.equals(field.getAdditiveIdentity()))
                 return new Polynomial.PolynomialBuilder().addTerm(0, field.getAdditiveIdentity()).build();
             if (a0.isQuadraticNonResidue()) {
@@ -333,24 +338,26 @@ public class Polynomial {
                 Polynomial firstPart = new Polynomial.PolynomialBuilder().addTerm(0, b.multiply(beta.inverse())).build();
                 return betaInverse.multiply(firstPart, modulus);
             }
-            PrimeFieldElement el = this.coefficients.get(0).squareRoot().get(0);
+            PrimeFieldElement el = a0.squareRoot().get(0);
             return new PolynomialBuilder().addTerm(0, el).build();
         }
         PrimeFieldElement beta = modulus.getCoefficient(0);
-        PrimeFieldElement alpha = coefficients.get(0).pow(BigInteger.TWO).add(beta.multiply(coefficients.get(1).pow(BigInteger.TWO)));
+        PrimeFieldElement a0 = getCoefficient(0);
+        PrimeFieldElement a1 = getCoefficient(1);
+        PrimeFieldElement alpha = a0.pow(BigInteger.TWO).add(beta.multiply(a1.pow(BigInteger.TWO)));
         if (alpha.isQuadraticNonResidue())
             throw new ArithmeticException("Is quadratic non-residue or it is -1");
         alpha = alpha.squareRoot().get(0);
-        PrimeFieldElement delta = coefficients.get(0).add(alpha)
+        PrimeFieldElement delta = a0.add(alpha)
                 .divide(field.buildElement().setValue(2).build().orElseThrow());
         if (delta.isQuadraticNonResidue())
-            delta = coefficients.get(0).subtract(alpha)
+            delta = a0.subtract(alpha)
                     .divide(field.buildElement().setValue(2).build().orElseThrow());
         ArrayList<PrimeFieldElement> deltaSquares = delta.squareRoot();
         if (deltaSquares.isEmpty())
             throw new ArithmeticException("No able to compute delta squareRoot");
         PrimeFieldElement x0 = deltaSquares.get(0);
-        PrimeFieldElement x1 = coefficients.get(1).divide(field.buildElement().setValue(2).build().orElseThrow().multiply(x0));
+        PrimeFieldElement x1 = a1.divide(field.buildElement().setValue(2).build().orElseThrow().multiply(x0));
         return new PolynomialBuilder().addTerm(0, x0).addTerm(1, x1).build();
     }
 
@@ -359,15 +366,12 @@ public class Polynomial {
         // TODO: in need to be checkd. The computations are too slow!
         final BigInteger TWO = BigInteger.valueOf(2);
         if (isSquare(modulus)) {
-            BigInteger p =
-                    modulus.coefficients.get(0).getGroup().getSize();
+            BigInteger p = field.getSize();
             int n = modulus.degree;
             BigInteger q = p.pow(n);
             ExtensionField F = new ExtensionField(p, n, modulus);
             Polynomial rho = F.getRandomElement().getPolynomial();
-            while ((rho.degree == 0 && rho.coefficients.get(0).getValue()
-                    .compareTo(BigInteger.ZERO) == 0)
-                    || rho.isSquare(modulus)) {
+            while (rho.isZeroPolynomial() || rho.isSquare(modulus)) {
                 rho = F.getRandomElement().getPolynomial();
             }
 
@@ -380,11 +384,7 @@ public class Polynomial {
 
             Polynomial a = rho.pow(s, modulus);
             Polynomial b = pow(s, modulus);
-            ArrayList<PrimeFieldElement> hcoefficients =
-                    new ArrayList<>();
-            hcoefficients.add(new PrimeFieldElement(coefficients.get(0)
-                    .getGroup(), BigInteger.ONE));
-            Polynomial h = new Polynomial(hcoefficients);
+            Polynomial h = new Polynomial(new BigInteger[]{BigInteger.ONE}, field);
 
             Polynomial d;
             BigInteger tmpE;
@@ -393,9 +393,7 @@ public class Polynomial {
                 tmpE = TWO;
                 tmpE = tmpE.pow(t - 1 - i);
                 d = b.pow(tmpE, modulus);
-                if (d.degree == 0
-                        && d.coefficients.get(0).getValue()
-                        .compareTo(BigInteger.ONE) == 0) {
+                if (d.degree == 0 && d.coefficients[0].equals(BigInteger.ONE)) {
                     k = 0;
                 } else {
                     k = 1;
@@ -409,9 +407,7 @@ public class Polynomial {
                 a = a.pow(tmpE, modulus);
             }
             tmpE = s.add(BigInteger.ONE).divide(TWO);
-            Polynomial root = pow(tmpE, modulus).multiply(h, modulus);
-            root.checkDegree();
-            return root;
+            return pow(tmpE, modulus).multiply(h, modulus);
         }
         throw new ArithmeticException("Is not quadratic");
     }
@@ -425,14 +421,13 @@ public class Polynomial {
      * @return {@code true} if \(\sqrt(p)\) exists and {@code false} otherwise.
      */
     private boolean isSquare(final Polynomial modulus) {
-        BigInteger q = coefficients.get(0).getGroup().getSize();
+        BigInteger q = field.getSize();
         q = q.pow(modulus.degree);
         BigInteger exponent = q.subtract(BigInteger.ONE);
         exponent = exponent.divide(BigInteger.valueOf(2));
         Polynomial p = pow(exponent, modulus); // SLOW! (when the exponent value
         // is high
-        return p.degree == 0
-                && p.coefficients.get(0).getValue().compareTo(BigInteger.ONE) == 0;
+        return p.degree == 0 && p.coefficients[0].equals(BigInteger.ONE);
     }
 
     /**
@@ -443,82 +438,33 @@ public class Polynomial {
      * @return a new <i>Polynomial</i> \(r\), where \(r = p \cdot q\).
      */
     public Polynomial euclideanMultiplication(final Polynomial q) {
-        int newdegree = this.degree + q.degree;
-        ArrayList<PrimeFieldElement> newCoeff = new ArrayList<>();
-        PrimeField field = coefficients.get(0).getGroup();
-        for (int i = 0; i <= newdegree; i++) {
-            newCoeff.add(new PrimeFieldElement(field, BigInteger.ZERO));
-        }
-
-        // Multiply polynomials
-        for (int i = 0; i <= degree; i++) {
-            for (int j = 0; j <= q.degree; j++) {
-                PrimeFieldElement mult = coefficients.get(i).multiply(q.coefficients.get(j));
-                newCoeff.set(i + j, newCoeff.get(i + j).add(mult));
-            }
-        }
-        return new Polynomial(newCoeff, this.field, newdegree);
+        PrimeField field = this.field != null ? this.field : q.field;
+        return of(PolynomialMultiplication.multiply(values(), q.values(), field.getSize()), field);
     }
 
     /**
      * Auxiliar method to compute the Euclidean Division \(p / q\), where
-     * {@code p} is {@code this} <i>Polynomial</i>.
+     * {@code p} is {@code this} <i>Polynomial</i>, with
+     * {@link PolynomialModulus#divide(BigInteger[], BigInteger[], BigInteger)}.
      *
-     * @param q the <i>Polynomial</i> we want to multiply {@code this}.
-     * @return a new <i>Polynomial</i> \(r\), where \(r = p \cdot q\).
+     * @param q the <i>Polynomial</i> we want to divide {@code this}.
+     * @return the quotient and the remainder of \(p / q\), in this order.
+     * @throws ArithmeticException if \(q\) is the zero <i>Polynomial</i>.
      */
     public Pair<Polynomial, Polynomial> euclideanDivision(
             final Polynomial q, PrimeField field) {
-        Polynomial quotient = new Polynomial(field);
-        Polynomial remainder = new Polynomial(field);
-        Pair<Polynomial, Polynomial> result;
-
-        if (degree > -1 && q.degree > -1 && !coefficients.get(0).getGroup().equals(q.coefficients.get(0).getGroup())) {
+        if (degree > -1 && q.degree > -1 && !this.field.equals(q.field)) {
             throw new ArithmeticException();
         }
-        if (degree < 0 || q.degree < 0)
-            return new Pair<>(
-                    new Polynomial.PolynomialBuilder()
-                            .addTerm(0, this.field.buildElement().setValue(0).build().orElseThrow())
-                            .build(),
-                    new Polynomial.PolynomialBuilder()
-                            .addTerm(0, this.field.buildElement().setValue(0).build().orElseThrow())
-                            .build());
-
-        if (q.degree > degree) {
-            remainder.degree = degree;
-            remainder.coefficients = new ArrayList<>(coefficients);
-            quotient.degree = 0;
-            quotient.coefficients.add(this.field.getAdditiveIdentity());
-            result = new Pair<>(quotient, remainder);
-        } else {
-            remainder = this;
-            quotient.degree = degree - q.degree;
-            for (int i = 0; i <= quotient.degree; i++) {
-                quotient.coefficients.add(i, this.field.getAdditiveIdentity());
-            }
-
-            while (remainder.degree >= q.degree
-                    && !remainder.isZeroPolynomial()) {
-                int newDegree = remainder.degree - q.degree;
-                ArrayList<PrimeFieldElement> newCoefficients = new ArrayList<>();
-                for (int i = 0; i <= newDegree; i++) {
-                    newCoefficients.add(field.getAdditiveIdentity());
-                }
-                quotient.coefficients.set(newDegree,
-                        remainder.coefficients.get(remainder.degree).divide(q.coefficients.get(q.degree)));
-                newCoefficients.set(newDegree,
-                        quotient.coefficients.get(newDegree));
-                Polynomial curQuotient = new Polynomial(newCoefficients, this.field, newDegree);
-                remainder = remainder.subtract(q
-                        .euclideanMultiplication(curQuotient));
-            }
-
-            quotient.checkDegree();
-            remainder.checkDegree();
-            result = new Pair<>(quotient, remainder);
+        if (degree < 0 || q.degree < 0) {
+            Polynomial zero = of(new BigInteger[0], this.field);
+            return new Pair<>(zero, zero);
         }
-        return result;
+        if (q.isZeroPolynomial()) {
+            throw new ArithmeticException("Division by the zero polynomial");
+        }
+        BigInteger[][] division = PolynomialModulus.divide(values(), q.values(), field.getSize());
+        return new Pair<>(of(division[0], field), of(division[1], field));
     }
 
     @Override
@@ -527,7 +473,7 @@ public class Polynomial {
             return "0";
         }
 
-        String pstring = coefficients.get(degree).getValue().toString();
+        String pstring = coefficients[degree].toString();
         if (degree == 1) {
             pstring += "x";
         } else if (degree > 1) {
@@ -535,9 +481,9 @@ public class Polynomial {
         }
 
         for (int i = degree - 1; i >= 0; i--) {
-            if (coefficients.get(i).getValue().compareTo(BigInteger.ZERO) != 0) {
+            if (coefficients[i].signum() != 0) {
                 pstring +=
-                        " + " + coefficients.get(i).getValue().toString();
+                        " + " + coefficients[i].toString();
                 if (i == 1) {
                     pstring += "x";
                 } else if (i > 1) {
@@ -548,30 +494,14 @@ public class Polynomial {
         return pstring;
     }
 
-    /**
-     * Auxiliar method to compute the correct degree of {@code this}
-     * <i>Polynomial</i>.
-     */
-    private void checkDegree() {
-        if (degree < 0) {
-            return;
-        }
-        while (degree > 0
-                && coefficients.get(degree).getValue()
-                .compareTo(BigInteger.ZERO) == 0) {
-            coefficients.remove(degree);
-            degree--;
-        }
-    }
-
     /**
      * Checks if {@code this} <i>Polynomial</i> is the Zero one. That is,
-     * {@code this.coefficients.get(0) = 0} and {@code this.degree = 0}.
+     * {@code this.coefficients[0] = 0} and {@code this.degree = 0}.
      *
      * @return {@code true} if \(p = 0\) and {@code false} otherwise.
      */
     private boolean isZeroPolynomial() {
-        return (degree == 0 && coefficients.get(0).getValue() == BigInteger.ZERO);
+        return degree == 0 && coefficients[0].signum() == 0;
     }
 
     /**
@@ -586,8 +516,7 @@ public class Polynomial {
         if (degree == -1 || q.degree == -1) {
             return false;
         } else {
-            return coefficients.get(0).getGroup().getSize()
-                    .equals(q.coefficients.get(0).getGroup().getSize());
+            return field.getSize().equals(q.field.getSize());
         }
     }
 
@@ -598,30 +527,30 @@ public class Polynomial {
 
         Polynomial that = (Polynomial) o;
 
-        if (!this.field.equals(that.field)) return false;
-        if (coefficients.size() < that.coefficients.size()) {
-            fill(coefficients, that.coefficients.size(), that.field.getAdditiveIdentity());
-        } else if (coefficients.size() > that.coefficients.size()) {
-            fill(that.coefficients, coefficients.size(), that.field.getAdditiveIdentity());
-        }
-        for (int i = 0; i < coefficients.size(); i++) {
-            if (!coefficients.get(i).equals(that.coefficients.get(i))) {
+        if (!Objects.equals(field, that.field)) return false;
+        int size = Math.max(coefficients.length, that.coefficients.length);
+        for (int i = 0; i < size; i++) {
+            if (!coefficientValue(i).equals(that.coefficientValue(i))) {
                 return false;
             }
         }
         return true;
     }
 
-    static private void fill(ArrayList<PrimeFieldElement> coefficients, int size, PrimeFieldElement additiveIdentity) {
-        for (int i = coefficients.size(); i < size; i++) {
-            coefficients.add(i, additiveIdentity);
-        }
+    /**
+     * Returns the value of the i-th coefficient, or zero if there is no such
+     * coefficient, so the trailing zeros do not change the comparisons.
+     */
+    private BigInteger coefficientValue(final int i) {
+        return i < coefficients.length ? coefficients[i] : BigInteger.ZERO;
     }
 
     @Override
     public int hashCode() {
-        int result = coefficients != null ? coefficients.hashCode() : 0;
-        result = 31 * result + degree;
+        int result = 1;
+        for (BigInteger value : values()) {
+            result = 31 * result + value.hashCode();
+        }
         result = 31 * result + (field != null ? field.hashCode() : 0);
         return result;
     }
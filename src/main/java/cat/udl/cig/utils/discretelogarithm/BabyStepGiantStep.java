@@ -1,62 +1,123 @@
 package cat.udl.cig.utils.discretelogarithm;
 
-import cat.udl.cig.operations.wrapper.data.Pair;
 import cat.udl.cig.structures.GroupElement;
-import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import cat.udl.cig.structures.RingElement;
 
+import java.io.IOException;
 import java.math.BigInteger;
-import java.util.ArrayList;
+import java.nio.file.Path;
 import java.util.Optional;
 
+/**
+ * <i>Baby-Step Giant-Step</i> algorithm to compute \(x\) such that
+ * \(\alpha^x = \beta\), where \(\alpha\) has order \(n\). With \(m = \lceil
+ * \sqrt{n} \rceil\), the baby steps \(\alpha^j\), \(0 \leq j < m\), are
+ * stored in a <i>BabyStepTable</i> and the giant steps \(\beta \alpha^{-m
+ * i}\) are looked up until \(\beta \alpha^{-m i} = \alpha^j\), so \(x = m i +
+ * j\). Both kinds of steps need a single group multiplication each.
+ * <p>
+ * The baby steps only depend on \(\alpha\), so they are computed once and
+ * reused by every call to {@link #algorithm(GroupElement)}. They can also be
+ * kept in a file, which is mapped instead of computed in the later runs.
+ *
+ * @see BabyStepTable
+ * @see MappedBabyStepTable
+ */
 public class BabyStepGiantStep implements LogarithmAlgorithm {
 
-
-    private final BigInteger m;
     private final GroupElement alpha;
-    private final BigInteger size;
+    private final BigInteger order;
+    private final int m;
+    private BabyStepIndex babySteps;
+    private GroupElement giantStep;
 
+    /**
+     * Creates the algorithm for the generator \(\alpha\) of the whole group.
+     * If \(\alpha\) is a <i>RingElement</i>, the order of its multiplicative
+     * group is the size of the ring minus one.
+     *
+     * @param alpha the generator \(\alpha\).
+     */
     public BabyStepGiantStep(GroupElement alpha) {
-        this.size = alpha.getGroup().getSize();
-        this.m = size.sqrt();
-        this.alpha = alpha;
+        this(alpha, alpha instanceof RingElement
+                ? alpha.getGroup().getSize().subtract(BigInteger.ONE)
+                : alpha.getGroup().getSize());
     }
 
-    public BabyStepGiantStep(EllipticCurvePoint gen, BigInteger order) {
-        this.size = order;
-        this.m = order.sqrt();
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}.
+     *
+     * @param gen   the generator \(\alpha\).
+     * @param order the order \(n\) of \(\alpha\), or an upper bound of the
+     *              searched logarithm.
+     * @throws ArithmeticException if \(\lceil \sqrt{n} \rceil\) baby steps
+     *                             do not fit in a <i>BabyStepTable</i>.
+     */
+    public BabyStepGiantStep(GroupElement gen, BigInteger order) {
+        BigInteger[] sqrt = order.sqrtAndRemainder();
+        BigInteger steps = sqrt[1].signum() == 0 ? sqrt[0] : sqrt[0].add(BigInteger.ONE);
+        if (steps.bitLength() > 31) {
+            throw new ArithmeticException("Too many baby steps: " + steps);
+        }
         this.alpha = gen;
+        this.order = order;
+        this.m = Math.max(1, steps.intValueExact());
+    }
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}, with the
+     * baby steps kept in {@code file}. The file is written if it does not
+     * exist and mapped otherwise.
+     *
+     * @param gen   the generator \(\alpha\).
+     * @param order the order \(n\) of \(\alpha\), or an upper bound of the
+     *              searched logarithm.
+     * @param file  the file of the baby steps.
+     * @throws IOException              if the file cannot be written or
+     *                                  read.
+     * @throws IllegalArgumentException if the file has the baby steps of
+     *                                  another \(\alpha\) or another
+     *                                  number of baby steps.
+     * @throws ArithmeticException      if \(\lceil \sqrt{n} \rceil\) baby
+     *                                  steps do not fit in a
+     *                                  <i>MappedBabyStepTable</i>.
+     * @see DecodingTable#load(GroupElement, long, int, Path)
+     */
+    public BabyStepGiantStep(GroupElement gen, BigInteger order, Path file) throws IOException {
+        this(gen, order);
+        this.babySteps = MappedBabyStepTable.babySteps(gen, m, file);
+        this.giantStep = gen.pow(BigInteger.valueOf(m)).inverse();
     }
 
     @Override
     public Optional<BigInteger> algorithm(GroupElement beta) throws ArithmeticException {
-        ArrayList<Pair<BigInteger, GroupElement>> babies = new ArrayList<>();
-        ArrayList<Pair<BigInteger, GroupElement>> giants = new ArrayList<>();
-        BigInteger iterator = BigInteger.ONE;
-        if (alpha.equals(beta))
-            return Optional.of(iterator);
-        for (; !iterator.equals(m.add(BigInteger.ONE)); iterator = iterator.add(BigInteger.ONE)) {
-            babies.add(new Pair<>(iterator, beta.multiply(alpha.pow(iterator))));
-            giants.add(new Pair<>(iterator, alpha.pow(m.multiply(iterator))));
-        }
-        babies.sort(Pair::compareTo);
-        giants.sort(Pair::compareTo);
-        for (Pair<BigInteger, GroupElement> baby : babies) {
-            for (Pair<BigInteger, GroupElement> giant : giants) {
-                if (baby.getValue().equals(giant.getValue())) {
-                    BigInteger i = baby.getKey();
-                    BigInteger j = giant.getKey();
-                    BigInteger x = j.multiply(m).subtract(i).mod(size.subtract(BigInteger.ONE));
-                    return Optional.of(x);
-                }
-                if (baby.getValue().compareTo(giant.getValue()) < 0) {
-                    break;
-                }
+        final BabyStepIndex table = babySteps();
+        final long giants = (order.longValue() + m - 1) / m;
+        GroupElement gamma = beta;
+        for (long i = 0; i < giants; i++) {
+            final GroupElement current = gamma;
+            int j = table.find(BabyStepTable.fingerprint(current),
+                    index -> alpha.pow(BigInteger.valueOf(index)).equals(current));
+            if (j >= 0) {
+                return Optional.of(BigInteger.valueOf(i * m + j));
             }
-
+            gamma = gamma.multiply(giantStep);
         }
         return Optional.empty();
     }
 
+    /**
+     * Returns the table of the baby steps, computing it the first time.
+     */
+    private synchronized BabyStepIndex babySteps() {
+        if (babySteps == null) {
+            BabyStepTable table = new BabyStepTable(m);
+            giantStep = BabyStepIndex.fill(table, alpha, m).inverse();
+            babySteps = table;
+        }
+        return babySteps;
+    }
+
     @Override
     public GroupElement getAlpha() {
         return alpha;
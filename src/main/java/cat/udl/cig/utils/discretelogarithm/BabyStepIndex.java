@@ -0,0 +1,56 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Hash table from the 64-bit fingerprint of a baby step \(\alpha^j\) to its
+ * index \(j\). It is kept in the heap by a <i>BabyStepTable</i> or in a
+ * memory-mapped file by a <i>MappedBabyStepTable</i>.
+ *
+ * @see BabyStepTable
+ * @see MappedBabyStepTable
+ */
+public interface BabyStepIndex {
+
+    /**
+     * Adds the {@code index} with the given {@code fingerprint}.
+     *
+     * @param fingerprint the fingerprint of the element.
+     * @param index       the non-negative index of the element.
+     * @throws ArithmeticException if the table is full.
+     */
+    void put(long fingerprint, int index);
+
+    /**
+     * Returns the first index stored with the given {@code fingerprint} that
+     * is accepted by {@code check}.
+     *
+     * @param fingerprint the fingerprint of the element.
+     * @param check       decides whether a candidate index is a real match.
+     * @return the accepted index, or -1 if there is none.
+     */
+    int find(long fingerprint, IntPredicate check);
+
+    int size();
+
+    /**
+     * Stores the baby steps \(\alpha^j\), \(0 \leq j < m\), in the
+     * {@code table}.
+     *
+     * @param table the empty table.
+     * @param alpha the base \(\alpha\).
+     * @param m     the number of baby steps.
+     * @return the element \(\alpha^m\).
+     * @throws ArithmeticException if the table is full.
+     */
+    static GroupElement fill(final BabyStepIndex table, final GroupElement alpha, final int m) {
+        GroupElement step = alpha.getGroup().getMultiplicativeIdentity();
+        for (int j = 0; j < m; j++) {
+            table.put(BabyStepTable.fingerprint(step), j);
+            step = step.multiply(alpha);
+        }
+        return step;
+    }
+}
@@ -0,0 +1,139 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-addressing hash table from the 64-bit fingerprint of a
+ * <i>GroupElement</i> to its {@code int} index, as used by the baby steps of
+ * <i>Baby-Step Giant-Step</i>. Each slot takes 12 bytes: the fingerprint and
+ * the index are stored in two primitive arrays and collisions are resolved
+ * with linear probing.
+ * <p>
+ * The elements themselves are not stored, so different elements with the same
+ * fingerprint are all kept and the caller must check the candidates returned
+ * by {@link #find(long, IntPredicate)}.
+ *
+ * @see MappedBabyStepTable
+ */
+public class BabyStepTable implements BabyStepIndex {
+
+    /**
+     * The maximum number of slots of a table.
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    private static final int EMPTY = -1;
+
+    private final long[] fingerprints;
+
+    private final int[] indices;
+
+    private final int mask;
+
+    private int size;
+
+    /**
+     * Creates a table with room for {@code entries} entries, keeping the load
+     * factor under \(3/4\).
+     *
+     * @param entries the number of entries that will be stored.
+     * @throws ArithmeticException if it needs more than
+     *                             {@link #MAX_CAPACITY} slots.
+     */
+    public BabyStepTable(final int entries) {
+        long needed = Math.max(2L, (long) entries * 4 / 3 + 1);
+        if (needed > MAX_CAPACITY) {
+            throw new ArithmeticException("Too many baby steps: " + entries);
+        }
+        int capacity = Integer.highestOneBit((int) needed - 1) << 1;
+        fingerprints = new long[capacity];
+        indices = new int[capacity];
+        Arrays.fill(indices, EMPTY);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the 64-bit fingerprint of the {@code element}. It is computed
+     * from {@link GroupElement#toBytes()} if it is supported, and from its
+     * hash code and integer value otherwise. Only the former is the same in
+     * every run, so only it can be stored in a {@link MappedBabyStepTable}.
+     *
+     * @param element the <i>GroupElement</i>.
+     * @return the fingerprint of {@code element}.
+     */
+    public static long fingerprint(final GroupElement element) {
+        long hash = 0xcbf29ce484222325L;
+        try {
+            for (byte b : element.toBytes()) {
+                hash = (hash ^ (b & 0xff)) * 0x100000001b3L;
+            }
+        } catch (UnsupportedOperationException ex) {
+            hash = ((long) element.hashCode() << 32) ^ element.getIntValue().hashCode();
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Adds the {@code index} with the given {@code fingerprint}. Entries with
+     * the same fingerprint are kept in insertion order.
+     *
+     * @param fingerprint the fingerprint of the element.
+     * @param index       the non-negative index of the element.
+     * @throws ArithmeticException if the table is full.
+     */
+    @Override
+    public void put(final long fingerprint, final int index) {
+        if (size == mask) {
+            throw new ArithmeticException("The table is full.");
+        }
+        int slot = slot(fingerprint);
+        while (indices[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        fingerprints[slot] = fingerprint;
+        indices[slot] = index;
+        size++;
+    }
+
+    /**
+     * Returns the first index stored with the given {@code fingerprint} that
+     * is accepted by {@code check}.
+     *
+     * @param fingerprint the fingerprint of the element.
+     * @param check       decides whether a candidate index is a real match.
+     * @return the accepted index, or -1 if there is none.
+     */
+    @Override
+    public int find(final long fingerprint, final IntPredicate check) {
+        int slot = slot(fingerprint);
+        while (indices[slot] != EMPTY) {
+            if (fingerprints[slot] == fingerprint && check.test(indices[slot])) {
+                return indices[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    private int slot(final long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,171 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Decodes the small exponents \(x \in [0, range)\) of \(\beta = \alpha^x\),
+ * such as the messages of <i>Exponential ElGamal</i> or the homomorphic
+ * tallies. The range is covered by the <i>Baby-Step Giant-Step</i> method:
+ * \(m\) baby steps \(\alpha^j\) are kept in a <i>BabyStepTable</i> and every
+ * decoding takes, at most, \(\lceil range / m \rceil\) giant steps. The
+ * slots of the table take 12 bytes each, so a range of \(2^{32}\) with
+ * \(2^{20}\) baby steps needs 24 MiB and 4096 giant steps.
+ * <p>
+ * The table is built in the constructor and never modified, so one instance
+ * can be shared by all the threads and all the cryptosystems of the same
+ * generator. The baby steps can also be kept in a file with
+ * {@link #load(GroupElement, long, int, Path)}, which builds it once and maps
+ * it in every later run.
+ *
+ * @see BabyStepTable
+ * @see MappedBabyStepTable
+ * @see cat.udl.cig.cryptography.cryptosystems.ExponentialElGamal
+ */
+public class DecodingTable implements LogarithmAlgorithm {
+
+    /**
+     * The default maximum number of baby steps.
+     */
+    public static final int DEFAULT_BABY_STEPS = 1 << 20;
+
+    private final GroupElement alpha;
+
+    private final long range;
+
+    private final int m;
+
+    private final long giants;
+
+    private final BabyStepIndex babySteps;
+
+    /**
+     * The element \(\alpha^{-m}\).
+     */
+    private final GroupElement giantStep;
+
+    /**
+     * Creates the table of the exponents in \([0, range)\), with
+     * \(\max(\lceil \sqrt{range} \rceil, \min(range,
+     * {@link #DEFAULT_BABY_STEPS}))\) baby steps.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param range the number of exponents.
+     * @throws IllegalArgumentException if {@code range} is not positive.
+     */
+    public DecodingTable(final GroupElement alpha, final long range) {
+        this(alpha, range, defaultBabySteps(range));
+    }
+
+    /**
+     * Creates the table of the exponents in \([0, range)\) with \(m\) baby
+     * steps. More baby steps take more memory and fewer giant steps.
+     *
+     * @param alpha     the base \(\alpha\).
+     * @param range     the number of exponents.
+     * @param babySteps the number of baby steps \(m\). If it is larger than
+     *                  {@code range}, only {@code range} are computed.
+     * @throws IllegalArgumentException if {@code range} or
+     *                                  {@code babySteps} are not positive.
+     * @throws ArithmeticException      if the baby steps do not fit in a
+     *                                  <i>BabyStepTable</i>.
+     */
+    public DecodingTable(final GroupElement alpha, final long range, final int babySteps) {
+        this(alpha, range, checkedBabySteps(range, babySteps), null);
+    }
+
+    private DecodingTable(final GroupElement alpha, final long range, final int m, final BabyStepIndex table) {
+        this.alpha = alpha;
+        this.range = range;
+        this.m = m;
+        this.giants = (range + m - 1) / m;
+        if (table == null) {
+            BabyStepTable steps = new BabyStepTable(m);
+            this.giantStep = BabyStepIndex.fill(steps, alpha, m).inverse();
+            this.babySteps = steps;
+        } else {
+            this.giantStep = alpha.pow(BigInteger.valueOf(m)).inverse();
+            this.babySteps = table;
+        }
+    }
+
+    /**
+     * Returns the table of the exponents in \([0, range)\) with \(m\) baby
+     * steps kept in {@code file}. If the file does not exist, the baby steps
+     * are computed and written to it; otherwise it is mapped without reading
+     * it, so the table is ready in milliseconds and its pages are shared with
+     * the other processes that map it. The file only depends on the group,
+     * \(\alpha\) and \(m\), so it can be used for any range.
+     *
+     * @param alpha     the base \(\alpha\).
+     * @param range     the number of exponents.
+     * @param babySteps the number of baby steps \(m\). If it is larger than
+     *                  {@code range}, only {@code range} are computed.
+     * @param file      the file of the baby steps.
+     * @return the table backed by the mapped {@code file}.
+     * @throws IOException              if the file cannot be written or read.
+     * @throws IllegalArgumentException if {@code range} or
+     *                                  {@code babySteps} are not positive, or
+     *                                  if the file has the baby steps of
+     *                                  another \(\alpha\) or \(m\).
+     * @throws ArithmeticException      if the baby steps do not fit in a
+     *                                  <i>MappedBabyStepTable</i>.
+     * @see MappedBabyStepTable#babySteps(GroupElement, int, Path)
+     */
+    public static DecodingTable load(final GroupElement alpha, final long range, final int babySteps,
+                                     final Path file) throws IOException {
+        int m = checkedBabySteps(range, babySteps);
+        return new DecodingTable(alpha, range, m, MappedBabyStepTable.babySteps(alpha, m, file));
+    }
+
+    private static int checkedBabySteps(final long range, final int babySteps) {
+        if (range <= 0 || babySteps <= 0) {
+            throw new IllegalArgumentException("The range and the number of baby steps must be positive.");
+        }
+        return (int) Math.min(babySteps, range);
+    }
+
+    private static int defaultBabySteps(final long range) {
+        long sqrt = (long) Math.ceil(Math.sqrt((double) range));
+        return (int) Math.max(sqrt, Math.min(range, DEFAULT_BABY_STEPS));
+    }
+
+    /**
+     * Returns \(x \in [0, range)\) such that \(\alpha^x = \beta\).
+     *
+     * @param beta the element \(\beta\).
+     * @return the exponent \(x\), or empty if it is not in the range.
+     */
+    @Override
+    public Optional<BigInteger> algorithm(final GroupElement beta) {
+        GroupElement gamma = beta;
+        for (long i = 0; i < giants; i++) {
+            final GroupElement current = gamma;
+            int j = babySteps.find(BabyStepTable.fingerprint(current),
+                    index -> alpha.pow(BigInteger.valueOf(index)).equals(current));
+            if (j >= 0) {
+                long x = i * m + j;
+                return x < range ? Optional.of(BigInteger.valueOf(x)) : Optional.empty();
+            }
+            gamma = gamma.multiply(giantStep);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public GroupElement getAlpha() {
+        return alpha;
+    }
+
+    public long getRange() {
+        return range;
+    }
+
+    public int getBabySteps() {
+        return m;
+    }
+}
@@ -0,0 +1,372 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-addressing hash table of the baby steps stored in a file, which is
+ * read through {@link FileChannel#map}. The lookups read the fingerprints
+ * and the indices straight from the mapped pages, without copying them to
+ * the heap, so opening a table of \(2^{30}\) baby steps takes the time of
+ * reading its header, and all the processes that map the same file share
+ * its pages in the cache of the operating system.
+ * <p>
+ * The file starts with a header of 64 bytes: the magic number
+ * {@code CIGBSGS1}, the version, the number of entries, the number of slots
+ * and the key of the table. The key is the <i>SHA-256</i> digest of the
+ * group, the generator and the number of baby steps, see
+ * {@link #key(GroupElement, int)}. It is followed by the slots, of 12 bytes
+ * each: the fingerprint and the index plus one, so that the zeros of a new
+ * file are empty slots. The slots are mapped in segments of \(2^{27}\), as a
+ * <i>MappedByteBuffer</i> cannot be larger than 2 GiB.
+ *
+ * @see BabyStepTable
+ * @see DecodingTable#load(GroupElement, long, int, Path)
+ * @see BabyStepGiantStep#BabyStepGiantStep(GroupElement, BigInteger, Path)
+ */
+public final class MappedBabyStepTable implements BabyStepIndex {
+
+    /**
+     * The maximum number of slots of a table, which takes 48 GiB.
+     */
+    public static final long MAX_CAPACITY = 1L << 32;
+
+    /**
+     * The number of bytes of the key of a table.
+     */
+    public static final int KEY_BYTES = 32;
+
+    private static final long MAGIC = 0x4349474253475331L;
+
+    /**
+     * The version of the format. It changes with the layout of the file and
+     * with the encodings of {@link GroupElement#toBytes()}, which give the
+     * fingerprints, so the tables of an older version are not read.
+     */
+    private static final int VERSION = 2;
+
+    private static final int HEADER_BYTES = 64;
+
+    private static final int SIZE_OFFSET = 12;
+
+    private static final int CAPACITY_OFFSET = 16;
+
+    private static final int KEY_OFFSET = 24;
+
+    private static final int SLOT_BYTES = 12;
+
+    private static final int SEGMENT_SHIFT = 27;
+
+    private static final int SEGMENT_MASK = (1 << SEGMENT_SHIFT) - 1;
+
+    private final MappedByteBuffer header;
+
+    private final MappedByteBuffer[] segments;
+
+    private final long mask;
+
+    private final boolean writable;
+
+    private int size;
+
+    private MappedBabyStepTable(final FileChannel channel, final boolean writable, final long capacity,
+                                final int size) throws IOException {
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        this.header = channel.map(mode, 0, HEADER_BYTES);
+        this.segments = new MappedByteBuffer[(int) ((capacity + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        for (int s = 0; s < segments.length; s++) {
+            long first = (long) s << SEGMENT_SHIFT;
+            long slots = Math.min(capacity - first, 1L << SEGMENT_SHIFT);
+            segments[s] = channel.map(mode, HEADER_BYTES + first * SLOT_BYTES, slots * SLOT_BYTES);
+        }
+        this.mask = capacity - 1;
+        this.writable = writable;
+        this.size = size;
+    }
+
+    /**
+     * Creates an empty writable table in {@code path}, with room for
+     * {@code entries} entries and the load factor under \(3/4\). The slots
+     * are not written, so the file is sparse until it is filled.
+     *
+     * @param path    the file, which is replaced if it exists.
+     * @param key     the key of the table.
+     * @param entries the number of entries that will be stored.
+     * @return the writable table. {@link #finish()} must be called after
+     * filling it.
+     * @throws IOException         if the file cannot be created.
+     * @throws ArithmeticException if it needs more than
+     *                             {@link #MAX_CAPACITY} slots.
+     */
+    public static MappedBabyStepTable create(final Path path, final byte[] key, final int entries)
+            throws IOException {
+        checkKey(key);
+        long needed = Math.max(2L, (long) entries * 4 / 3 + 1);
+        long capacity = Long.highestOneBit(needed - 1) << 1;
+        if (capacity > MAX_CAPACITY) {
+            throw new ArithmeticException("Too many baby steps: " + entries);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedBabyStepTable table = new MappedBabyStepTable(channel, true, capacity, 0);
+            table.header.putLong(0, MAGIC).putInt(8, VERSION).putInt(SIZE_OFFSET, 0)
+                    .putLong(CAPACITY_OFFSET, capacity);
+            for (int i = 0; i < KEY_BYTES; i++) {
+                table.header.put(KEY_OFFSET + i, key[i]);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Opens the table of {@code path} as a read-only mapping.
+     *
+     * @param path the file of the table.
+     * @param key  the expected key of the table.
+     * @return the read-only table.
+     * @throws IOException              if the file cannot be read or it is
+     *                                  not a baby-step table of the current
+     *                                  version, including a
+     *                                  header whose number of entries leaves
+     *                                  no empty slot.
+     * @throws IllegalArgumentException if the table has another key.
+     */
+    public static MappedBabyStepTable open(final Path path, final byte[] key) throws IOException {
+        checkKey(key);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a baby-step table: " + path);
+            }
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            long capacity = header.getLong(CAPACITY_OFFSET);
+            int size = header.getInt(SIZE_OFFSET);
+            if (header.getLong(0) == MAGIC && header.getInt(8) != VERSION) {
+                throw new IOException("The baby-step table " + path + " has version " + header.getInt(8)
+                        + " instead of " + VERSION + ", so it must be built again.");
+            }
+            if (header.getLong(0) != MAGIC || capacity < 2
+                    || capacity > MAX_CAPACITY || Long.bitCount(capacity) != 1
+                    || size < 0 || size >= capacity
+                    || channel.size() != HEADER_BYTES + capacity * SLOT_BYTES) {
+                throw new IOException("Not a baby-step table: " + path);
+            }
+            byte[] stored = new byte[KEY_BYTES];
+            for (int i = 0; i < KEY_BYTES; i++) {
+                stored[i] = header.get(KEY_OFFSET + i);
+            }
+            if (!MessageDigest.isEqual(stored, key)) {
+                throw new IllegalArgumentException("The table of " + path + " has been built for other parameters.");
+            }
+            return new MappedBabyStepTable(channel, false, capacity, size);
+        }
+    }
+
+    /**
+     * Opens the table of {@code path}, building it first if the file does
+     * not exist. The table is filled by {@code builder} in a temporary file
+     * of the same directory, which is then renamed atomically, so the
+     * processes that open {@code path} concurrently never see a partial
+     * table.
+     *
+     * @param path    the file of the table.
+     * @param key     the key of the table.
+     * @param entries the number of entries that {@code builder} stores.
+     * @param builder fills the new writable table.
+     * @return the read-only table.
+     * @throws IOException              if the file cannot be written or
+     *                                  read.
+     * @throws IllegalArgumentException if the existing table has another
+     *                                  key.
+     */
+    public static MappedBabyStepTable openOrCreate(final Path path, final byte[] key, final int entries,
+                                                   final Consumer<? super MappedBabyStepTable> builder)
+            throws IOException {
+        if (Files.notExists(path)) {
+            Path temporary = path.resolveSibling(path.getFileName() + "." + ProcessHandle.current().pid()
+                    + "." + Thread.currentThread().getId() + ".tmp");
+            try {
+                MappedBabyStepTable table = create(temporary, key, entries);
+                builder.accept(table);
+                table.finish();
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        return open(path, key);
+    }
+
+    /**
+     * Opens the table of the baby steps \(\alpha^j\), \(0 \leq j < m\), of
+     * {@code file}, computing and writing them first if the file does not
+     * exist. The table is checked to have \(m\) entries and the last baby
+     * step. The elements must support {@link GroupElement#toBytes()}: the
+     * fingerprints of the other ones come from their hash codes, which change
+     * between runs, so a table read by another process would never find them.
+     *
+     * @param alpha     the base \(\alpha\).
+     * @param babySteps the number of baby steps \(m\).
+     * @param file      the file of the table.
+     * @return the read-only table.
+     * @throws IOException              if the file cannot be written or
+     *                                  read.
+     * @throws IllegalArgumentException if the file has the baby steps of
+     *                                  another \(\alpha\) or \(m\), or
+     *                                  the elements have no encoding.
+     * @throws ArithmeticException      if the baby steps need more than
+     *                                  {@link #MAX_CAPACITY} slots.
+     */
+    public static MappedBabyStepTable babySteps(final GroupElement alpha, final int babySteps, final Path file)
+            throws IOException {
+        try {
+            alpha.toBytes();
+        } catch (UnsupportedOperationException ex) {
+            throw new IllegalArgumentException("The elements of " + alpha.getGroup()
+                    + " have no encoding to fingerprint them in a file.", ex);
+        }
+        MappedBabyStepTable table = openOrCreate(file, key(alpha, babySteps), babySteps,
+                steps -> BabyStepIndex.fill(steps, alpha, babySteps));
+        final GroupElement last = alpha.pow(BigInteger.valueOf(babySteps - 1));
+        if (table.size() != babySteps
+                || table.find(BabyStepTable.fingerprint(last), index -> index == babySteps - 1) < 0) {
+            throw new IllegalArgumentException("The table of " + file + " has not the baby steps of the base.");
+        }
+        return table;
+    }
+
+    /**
+     * Returns the key of the table of the baby steps of \(\alpha\): the
+     * <i>SHA-256</i> digest of the group, \(\alpha\) and \(m\).
+     *
+     * @param alpha     the base \(\alpha\).
+     * @param babySteps the number of baby steps \(m\).
+     * @return the key of {@link #KEY_BYTES} bytes.
+     */
+    public static byte[] key(final GroupElement alpha, final int babySteps) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(alpha.getGroup().getClass().getName().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(alpha.getGroup().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(alpha.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(babySteps).array());
+        return digest.digest();
+    }
+
+    private static void checkKey(final byte[] key) {
+        if (key.length != KEY_BYTES) {
+            throw new IllegalArgumentException("The key must have " + KEY_BYTES + " bytes.");
+        }
+    }
+
+    /**
+     * Adds the {@code index} with the given {@code fingerprint}.
+     *
+     * @param fingerprint the fingerprint of the element.
+     * @param index       the non-negative index of the element.
+     * @throws ArithmeticException   if the table is full.
+     * @throws IllegalStateException if the table is read-only.
+     */
+    @Override
+    public void put(final long fingerprint, final int index) {
+        if (!writable) {
+            throw new IllegalStateException("The table is read-only.");
+        }
+        if (size == mask) {
+            throw new ArithmeticException("The table is full.");
+        }
+        long slot = slot(fingerprint);
+        while (segment(slot).getInt(offset(slot) + Long.BYTES) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        segment(slot).putLong(offset(slot), fingerprint).putInt(offset(slot) + Long.BYTES, index + 1);
+        size++;
+    }
+
+    /**
+     * Returns the first index with the given {@code fingerprint} that
+     * satisfies {@code check}. It probes every slot at most once, so a file
+     * whose slots are all written cannot make it loop forever.
+     *
+     * @see BabyStepIndex#find(long, IntPredicate)
+     */
+    @Override
+    public int find(final long fingerprint, final IntPredicate check) {
+        long slot = slot(fingerprint);
+        for (long probes = 0; probes <= mask; probes++) {
+            ByteBuffer segment = segment(slot);
+            int offset = offset(slot);
+            int stored = segment.getInt(offset + Long.BYTES);
+            if (stored == 0) {
+                return -1;
+            }
+            if (segment.getLong(offset) == fingerprint && check.test(stored - 1)) {
+                return stored - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the number of entries in the header and flushes the table to
+     * the file.
+     *
+     * @throws IllegalStateException if the table is read-only.
+     */
+    public void finish() {
+        if (!writable) {
+            throw new IllegalStateException("The table is read-only.");
+        }
+        header.putInt(SIZE_OFFSET, size);
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        header.force();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public long capacity() {
+        return mask + 1;
+    }
+
+    public boolean isWritable() {
+        return writable;
+    }
+
+    private long slot(final long fingerprint) {
+        return (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    private ByteBuffer segment(final long slot) {
+        return segments[(int) (slot >>> SEGMENT_SHIFT)];
+    }
+
+    private static int offset(final long slot) {
+        return ((int) slot & SEGMENT_MASK) * SLOT_BYTES;
+    }
+}
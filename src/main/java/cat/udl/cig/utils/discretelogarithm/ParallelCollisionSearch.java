@@ -0,0 +1,308 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.RingElement;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Engine of the parallel collision searches for discrete logarithms, as
+ * described by <i>van Oorschot</i> and <i>Wiener</i>. The walks are shared
+ * out among one task for each thread of a <i>ForkJoinPool</i>. Every walk keeps a position \(X =
+ * \alpha^a \beta^b\) and moves with an <i>r-adding walk</i>: the next
+ * position is \(X M_s\), where \(s\) only depends on \(X\) and \(M_s =
+ * \alpha^{a_s} \beta^{b_s}\) is a precomputed jump.
+ * <p>
+ * Only the <i>distinguished points</i>, whose fingerprint ends with \(d\)
+ * zero bits, are stored in a map shared by all the walks. When two walks
+ * reach the same distinguished point, \(\alpha^a \beta^b = \alpha^{a'}
+ * \beta^{b'}\) gives \((b - b') x \equiv a' - a\), which is solved by
+ * {@link #solve(Walk, Walk, GroupElement)}.
+ *
+ * @see PollardsRho
+ * @see PollardsKangaroo
+ */
+public abstract class ParallelCollisionSearch implements LogarithmAlgorithm {
+
+    /**
+     * The number \(r\) of jumps of the <i>r-adding walks</i>.
+     */
+    protected static final int JUMPS = 32;
+
+    /**
+     * The largest number of candidates checked when solving a congruence
+     * whose coefficient is not invertible.
+     */
+    private static final int MAX_CANDIDATES = 1 << 16;
+
+    protected final GroupElement alpha;
+
+    private final ForkJoinPool pool;
+
+    private final int walks;
+
+    /**
+     * Creates the engine for the base \(\alpha\).
+     *
+     * @param alpha the base \(\alpha\).
+     * @param pool  the <i>ForkJoinPool</i> where the walks are run.
+     * @param walks the number of concurrent walks. It must be at least 2.
+     * @throws IllegalArgumentException if there are less than 2 walks.
+     */
+    protected ParallelCollisionSearch(final GroupElement alpha, final ForkJoinPool pool, final int walks) {
+        if (walks < 2) {
+            throw new IllegalArgumentException("At least two walks are needed.");
+        }
+        this.alpha = alpha;
+        this.pool = pool;
+        this.walks = walks;
+    }
+
+    /**
+     * Returns the default number of walks for {@code pool}.
+     */
+    protected static int defaultWalks(final ForkJoinPool pool) {
+        return Math.max(2, pool.getParallelism());
+    }
+
+    /**
+     * Returns the order of the multiplicative group of \(\alpha\). If
+     * \(\alpha\) is a <i>RingElement</i>, it is the size of the ring minus
+     * one.
+     */
+    protected static BigInteger orderOf(final GroupElement alpha) {
+        BigInteger size = alpha.getGroup().getSize();
+        return alpha instanceof RingElement ? size.subtract(BigInteger.ONE) : size;
+    }
+
+    @Override
+    public Optional<BigInteger> algorithm(final GroupElement beta) throws ArithmeticException {
+        if (!alpha.belongsToSameGroup(beta)) {
+            throw new ArithmeticException("Alpha and beta don't belong to the same group");
+        }
+        final Search search = new Search(beta);
+        final int threads = Math.max(1, Math.min(walks, pool.getParallelism()));
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            final int first = i;
+            tasks.add(pool.submit(() -> run(search, first, threads)));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        return Optional.ofNullable(search.result.get());
+    }
+
+    @Override
+    public GroupElement getAlpha() {
+        return alpha;
+    }
+
+    public int getWalks() {
+        return walks;
+    }
+
+    /**
+     * Returns the number \(d\) of zero bits of the distinguished points.
+     * They are chosen so that every walk finds about 16 distinguished points
+     * before the expected collision.
+     *
+     * @param expectedSteps the expected number of steps of all the walks.
+     * @return the number \(d\).
+     */
+    protected int distinguishedBitsFor(final BigInteger expectedSteps) {
+        BigInteger perWalk = expectedSteps.divide(BigInteger.valueOf(16L * walks));
+        return Math.max(0, Math.min(40, perWalk.bitLength() - 1));
+    }
+
+    /**
+     * Creates the \(r\) jumps of the walks for \(\beta\).
+     *
+     * @param beta the element \(\beta\).
+     * @return the jumps \(M_s = \alpha^{a_s} \beta^{b_s}\).
+     */
+    protected abstract Walk[] jumps(GroupElement beta);
+
+    /**
+     * Creates a new walk \(X = \alpha^a \beta^b\).
+     *
+     * @param beta  the element \(\beta\).
+     * @param index the index of the walk, between 0 and the number of walks.
+     * @return the starting point of the walk.
+     */
+    protected abstract Walk start(GroupElement beta, int index);
+
+    /**
+     * Reduces the coefficients of the walks, if it is possible.
+     *
+     * @param coefficient the coefficient \(a\) or \(b\).
+     * @return the reduced coefficient.
+     */
+    protected abstract BigInteger reduce(BigInteger coefficient);
+
+    /**
+     * Solves the collision between two walks at the same position.
+     *
+     * @param stored the walk that reached the position first.
+     * @param found  the walk that has just reached it.
+     * @param beta   the element \(\beta\).
+     * @return the logarithm of \(\beta\), or empty if the collision does not
+     * give it.
+     */
+    protected abstract Optional<BigInteger> solve(Walk stored, Walk found, GroupElement beta);
+
+    /**
+     * Returns the number \(d\) of zero bits of the distinguished points.
+     */
+    protected abstract int distinguishedBits();
+
+    /**
+     * Returns the maximum number of steps of all the walks. Once reached,
+     * the search stops without result.
+     */
+    protected abstract long maxSteps();
+
+    /**
+     * Solves \(c x \equiv k \pmod{n}\) and returns the solution \(x\), \(0
+     * \leq x < n\), such that \(\alpha^x = \beta\).
+     *
+     * @param c       the coefficient \(c\).
+     * @param k       the constant \(k\).
+     * @param modulus the modulus \(n\).
+     * @param beta    the element \(\beta\).
+     * @return the checked solution, or empty if there is none.
+     */
+    protected Optional<BigInteger> solveCongruence(final BigInteger c, final BigInteger k,
+                                                   final BigInteger modulus, final GroupElement beta) {
+        BigInteger coefficient = c.mod(modulus);
+        BigInteger constant = k.mod(modulus);
+        BigInteger gcd = coefficient.gcd(modulus);
+        if (coefficient.signum() == 0 || gcd.bitLength() > 31 || gcd.intValue() > MAX_CANDIDATES
+                || constant.mod(gcd).signum() != 0) {
+            return Optional.empty();
+        }
+        BigInteger reducedModulus = modulus.divide(gcd);
+        BigInteger x = constant.divide(gcd).multiply(coefficient.divide(gcd).modInverse(reducedModulus))
+                .mod(reducedModulus);
+        for (int i = 0; i < gcd.intValue(); i++, x = x.add(reducedModulus)) {
+            if (alpha.pow(x).equals(beta)) {
+                return Optional.of(x);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Runs the walks {@code first}, {@code first + step}, ... in turns, one
+     * step each, so all of them advance even if the pool has less threads
+     * than walks.
+     */
+    private void run(final Search search, final int first, final int step) {
+        final long mask = (1L << search.distinguishedBits) - 1;
+        final long maxTrail = Math.max(64L, 32L << search.distinguishedBits);
+        final int count = (walks - first + step - 1) / step;
+        Walk[] current = new Walk[count];
+        long[] trails = new long[count];
+        for (int k = 0; k < count; k++) {
+            current[k] = start(search.beta, first + k * step);
+        }
+        while (search.result.get() == null && !search.exhausted()) {
+            for (int k = 0; k < count; k++) {
+                final int index = first + k * step;
+                Walk walk = current[k];
+                long fingerprint = BabyStepTable.fingerprint(walk.position);
+                trails[k]++;
+                if ((fingerprint & mask) == 0) {
+                    search.steps.addAndGet(trails[k]);
+                    trails[k] = 0;
+                    Walk stored = search.points.putIfAbsent(fingerprint, walk.copy());
+                    if (stored != null && stored.position.equals(walk.position)) {
+                        Optional<BigInteger> x = solve(stored, walk, search.beta);
+                        if (x.isPresent()) {
+                            search.result.compareAndSet(null, x.get());
+                            return;
+                        }
+                        current[k] = start(search.beta, index);
+                        continue;
+                    }
+                } else if (trails[k] > maxTrail) {
+                    // Probably a cycle without distinguished points
+                    search.steps.addAndGet(trails[k]);
+                    trails[k] = 0;
+                    current[k] = start(search.beta, index);
+                    continue;
+                }
+                Walk jump = search.jumps[(int) (fingerprint >>> 59) & (JUMPS - 1)];
+                walk.position = walk.position.multiply(jump.position);
+                walk.a = reduce(walk.a.add(jump.a));
+                walk.b = reduce(walk.b.add(jump.b));
+            }
+        }
+    }
+
+    /**
+     * The state of a walk: its position \(X = \alpha^a \beta^b\). It is also
+     * used for the jumps \(M_s\).
+     */
+    protected static final class Walk {
+
+        GroupElement position;
+        BigInteger a;
+        BigInteger b;
+
+        public Walk(final GroupElement position, final BigInteger a, final BigInteger b) {
+            this.position = position;
+            this.a = a;
+            this.b = b;
+        }
+
+        public GroupElement getPosition() {
+            return position;
+        }
+
+        public BigInteger getA() {
+            return a;
+        }
+
+        public BigInteger getB() {
+            return b;
+        }
+
+        Walk copy() {
+            return new Walk(position, a, b);
+        }
+    }
+
+    /**
+     * The state shared by all the walks of one search.
+     */
+    private final class Search {
+
+        final GroupElement beta;
+        final Walk[] jumps;
+        final int distinguishedBits;
+        final long maxSteps;
+        final ConcurrentHashMap<Long, Walk> points = new ConcurrentHashMap<>();
+        final AtomicReference<BigInteger> result = new AtomicReference<>();
+        final AtomicLong steps = new AtomicLong();
+
+        Search(final GroupElement beta) {
+            this.beta = beta;
+            this.jumps = jumps(beta);
+            this.distinguishedBits = distinguishedBits();
+            this.maxSteps = maxSteps();
+        }
+
+        boolean exhausted() {
+            return steps.get() > maxSteps;
+        }
+    }
+}
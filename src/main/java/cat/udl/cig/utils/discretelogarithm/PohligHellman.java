@@ -0,0 +1,185 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.utils.Factorization;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+/**
+ * <i>Pohlig-Hellman</i> algorithm to compute \(x\) such that \(\alpha^x =
+ * \beta\), where \(\alpha\) has order \(n = \prod_{i} p_i^{e_i}\). The
+ * logarithm is computed modulo every \(p_i^{e_i}\), one base-\(p_i\) digit at
+ * a time, in the subgroup of order \(p_i\) generated by \(\gamma_i =
+ * \alpha^{n / p_i}\), and the results are combined with the <i>Chinese
+ * Remainder Theorem</i>. So the work depends on \(\sqrt{p}\) for the largest
+ * prime factor \(p\) of \(n\), instead of \(\sqrt{n}\).
+ * <p>
+ * The logarithms in the subgroups of prime order are computed by an inner
+ * <i>LogarithmAlgorithm</i>, created once for each prime and reused by every
+ * call to {@link #algorithm(GroupElement)}. The result is checked at the end,
+ * so an element outside the subgroup generated by \(\alpha\) gives an
+ * empty result.
+ *
+ * @see Factorization#rhoFactors(BigInteger)
+ */
+public class PohligHellman implements LogarithmAlgorithm {
+
+    private final GroupElement alpha;
+    private final BigInteger order;
+    private final List<PrimePower> primePowers;
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}, using
+     * <i>BabyStepGiantStep</i> in the subgroups of prime order.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param order the order \(n\) of \(\alpha\).
+     */
+    public PohligHellman(final GroupElement alpha, final BigInteger order) {
+        this(alpha, order, BabyStepGiantStep::new);
+    }
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}.
+     *
+     * @param alpha       the base \(\alpha\).
+     * @param order       the order \(n\) of \(\alpha\).
+     * @param innerSolver creates the <i>LogarithmAlgorithm</i> for a base of
+     *                    the given prime order.
+     */
+    public PohligHellman(final GroupElement alpha, final BigInteger order,
+                         final BiFunction<GroupElement, BigInteger, LogarithmAlgorithm> innerSolver) {
+        this(alpha, order, Factorization.rhoFactors(order), innerSolver);
+    }
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}, whose
+     * prime factors are already known.
+     *
+     * @param alpha       the base \(\alpha\).
+     * @param order       the order \(n\) of \(\alpha\).
+     * @param factors     the prime factors of \(n\), with repetitions.
+     * @param innerSolver creates the <i>LogarithmAlgorithm</i> for a base of
+     *                    the given prime order.
+     * @throws ArithmeticException if the product of the {@code factors} is
+     *                             not \(n\).
+     */
+    public PohligHellman(final GroupElement alpha, final BigInteger order, final List<BigInteger> factors,
+                         final BiFunction<GroupElement, BigInteger, LogarithmAlgorithm> innerSolver) {
+        this.alpha = alpha;
+        this.order = order;
+        Map<BigInteger, Integer> exponents = new TreeMap<>();
+        BigInteger product = BigInteger.ONE;
+        for (BigInteger p : factors) {
+            exponents.merge(p, 1, Integer::sum);
+            product = product.multiply(p);
+        }
+        if (!product.equals(order)) {
+            throw new ArithmeticException("The factors do not multiply to " + order);
+        }
+        primePowers = new ArrayList<>(exponents.size());
+        for (Map.Entry<BigInteger, Integer> entry : exponents.entrySet()) {
+            BigInteger p = entry.getKey();
+            GroupElement gamma = alpha.pow(order.divide(p));
+            primePowers.add(new PrimePower(p, entry.getValue(), innerSolver.apply(gamma, p)));
+        }
+    }
+
+    /**
+     * Returns the order of \(g\), given a multiple \(m\) of it, such as the
+     * size of its group. Every prime factor \(p\) is removed from \(m\) while
+     * \(g^{m / p} = 1\), so it only needs a few exponentiations.
+     *
+     * @param g        the <i>GroupElement</i> \(g\).
+     * @param multiple a multiple \(m\) of the order of \(g\).
+     * @return the order of \(g\).
+     */
+    public static BigInteger orderFromMultiple(final GroupElement g, final BigInteger multiple) {
+        final GroupElement identity = g.pow(BigInteger.ZERO);
+        BigInteger order = multiple;
+        for (BigInteger p : new TreeSet<>(Factorization.rhoFactors(multiple))) {
+            while (order.mod(p).signum() == 0 && g.pow(order.divide(p)).equals(identity)) {
+                order = order.divide(p);
+            }
+        }
+        return order;
+    }
+
+    @Override
+    public Optional<BigInteger> algorithm(final GroupElement beta) throws ArithmeticException {
+        BigInteger x = BigInteger.ZERO;
+        for (PrimePower primePower : primePowers) {
+            Optional<BigInteger> xi = primePower.logarithm(beta);
+            if (xi.isEmpty()) {
+                return Optional.empty();
+            }
+            // Chinese Remainder Theorem
+            BigInteger modulus = primePower.modulus;
+            BigInteger cofactor = order.divide(modulus);
+            x = x.add(xi.get().multiply(cofactor).multiply(cofactor.modInverse(modulus)));
+        }
+        x = x.mod(order);
+        // beta may not belong to the subgroup generated by alpha
+        if (!alpha.pow(x).equals(beta)) {
+            return Optional.empty();
+        }
+        return Optional.of(x);
+    }
+
+    @Override
+    public GroupElement getAlpha() {
+        return alpha;
+    }
+
+    public BigInteger getOrder() {
+        return order;
+    }
+
+    /**
+     * The part of the logarithm modulo \(p^e\).
+     */
+    private final class PrimePower {
+
+        final BigInteger p;
+        final int e;
+        final BigInteger modulus;
+        final LogarithmAlgorithm inner;
+        final GroupElement generatorInverse;
+
+        PrimePower(final BigInteger p, final int e, final LogarithmAlgorithm inner) {
+            this.p = p;
+            this.e = e;
+            this.modulus = p.pow(e);
+            this.inner = inner;
+            this.generatorInverse = alpha.pow(order.divide(modulus)).inverse();
+        }
+
+        /**
+         * Computes \(x \bmod p^e\) digit by digit: \(d_k = \log_{\gamma}
+         * (g^{-x_k} h)^{p^{e - 1 - k}}\), where \(g = \alpha^{n / p^e}\) and
+         * \(h = \beta^{n / p^e}\).
+         */
+        Optional<BigInteger> logarithm(final GroupElement beta) {
+            final GroupElement h = beta.pow(order.divide(modulus));
+            BigInteger x = BigInteger.ZERO;
+            BigInteger digitWeight = BigInteger.ONE;
+            for (int k = 0; k < e; k++) {
+                GroupElement hk = generatorInverse.pow(x).multiply(h).pow(p.pow(e - 1 - k));
+                Optional<BigInteger> digit = inner.algorithm(hk);
+                if (digit.isEmpty()) {
+                    return Optional.empty();
+                }
+                x = x.add(digit.get().mod(p).multiply(digitWeight));
+                digitWeight = digitWeight.multiply(p);
+            }
+            return Optional.of(x);
+        }
+    }
+}
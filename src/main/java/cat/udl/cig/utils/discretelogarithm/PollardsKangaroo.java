@@ -0,0 +1,205 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Parallel <i>Pollard's Kangaroo</i> (or <i>Lambda</i>) algorithm to compute
+ * \(x\) such that \(\alpha^x = \beta\), when \(x\) is known to be in the
+ * interval \([l, u)\) of width \(w = u - l\). Half of the walks are tame
+ * kangaroos, starting at \(\alpha^{w/2 + a}\), and the other half are wild
+ * kangaroos, starting at \(\beta \alpha^{-l + a}\). All of them jump with
+ * \(\alpha^{a_s}\), where the mean jump is \(\mu \approx N \sqrt{w} / 4\) for
+ * \(N\) walks, so a tame and a wild kangaroo that collide give \(x\)
+ * directly. It needs about \(2 \sqrt{w}\) steps in total.
+ * <p>
+ * When two kangaroos of the same kind collide, the last one starts again
+ * from a new random point. If the interval is not much smaller than the
+ * order of \(\alpha\), the distances wrap around the group, so the order
+ * must be given to reduce them.
+ *
+ * @see ParallelCollisionSearch
+ * @see PollardsLambda
+ */
+public class PollardsKangaroo extends ParallelCollisionSearch {
+
+    private final BigInteger lower;
+
+    private final BigInteger width;
+
+    private final BigInteger meanJump;
+
+    private final BigInteger order;
+
+    /**
+     * Creates the algorithm for the interval \([0, u)\), run in the common
+     * <i>ForkJoinPool</i>.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param upper the upper bound \(u\), not included.
+     */
+    public PollardsKangaroo(final GroupElement alpha, final BigInteger upper) {
+        this(alpha, BigInteger.ZERO, upper);
+    }
+
+    /**
+     * Creates the algorithm for the interval \([l, u)\), run in the common
+     * <i>ForkJoinPool</i>.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param lower the lower bound \(l\).
+     * @param upper the upper bound \(u\), not included.
+     */
+    public PollardsKangaroo(final GroupElement alpha, final BigInteger lower, final BigInteger upper) {
+        this(alpha, lower, upper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the algorithm for the interval \([l, u)\) and \(\alpha\) of
+     * order \(n\), run in the common <i>ForkJoinPool</i>.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param lower the lower bound \(l\).
+     * @param upper the upper bound \(u\), not included.
+     * @param order the order \(n\) of \(\alpha\).
+     */
+    public PollardsKangaroo(final GroupElement alpha, final BigInteger lower, final BigInteger upper,
+                            final BigInteger order) {
+        this(alpha, lower, upper, order, ForkJoinPool.commonPool(), defaultWalks(ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Creates the algorithm for the interval \([l, u)\), run in {@code pool}
+     * with one kangaroo for each thread of the pool.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param lower the lower bound \(l\).
+     * @param upper the upper bound \(u\), not included.
+     * @param pool  the <i>ForkJoinPool</i> where the kangaroos are run.
+     */
+    public PollardsKangaroo(final GroupElement alpha, final BigInteger lower, final BigInteger upper,
+                            final ForkJoinPool pool) {
+        this(alpha, lower, upper, pool, defaultWalks(pool));
+    }
+
+    /**
+     * Creates the algorithm for the interval \([l, u)\), run in {@code pool}
+     * with {@code walks} kangaroos.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param lower the lower bound \(l\).
+     * @param upper the upper bound \(u\), not included.
+     * @param pool  the <i>ForkJoinPool</i> where the kangaroos are run.
+     * @param walks the number of kangaroos.
+     */
+    public PollardsKangaroo(final GroupElement alpha, final BigInteger lower, final BigInteger upper,
+                            final ForkJoinPool pool, final int walks) {
+        this(alpha, lower, upper, null, pool, walks);
+    }
+
+    /**
+     * Creates the algorithm for the interval \([l, u)\) and \(\alpha\) of
+     * order \(n\), run in {@code pool} with {@code walks} kangaroos.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param lower the lower bound \(l\).
+     * @param upper the upper bound \(u\), not included.
+     * @param order the order \(n\) of \(\alpha\), or {@code null} if it is
+     *              unknown.
+     * @param pool  the <i>ForkJoinPool</i> where the kangaroos are run.
+     * @param walks the number of kangaroos.
+     * @throws IllegalArgumentException if the interval is empty.
+     */
+    public PollardsKangaroo(final GroupElement alpha, final BigInteger lower, final BigInteger upper,
+                            final BigInteger order, final ForkJoinPool pool, final int walks) {
+        super(alpha, pool, walks);
+        if (upper.compareTo(lower) <= 0) {
+            throw new IllegalArgumentException("The interval [" + lower + ", " + upper + ") is empty.");
+        }
+        this.lower = lower;
+        this.order = order;
+        this.width = upper.subtract(lower);
+        this.meanJump = width.sqrt().multiply(BigInteger.valueOf(walks)).shiftRight(2).max(BigInteger.ONE);
+    }
+
+    @Override
+    protected Walk[] jumps(final GroupElement beta) {
+        Walk[] jumps = new Walk[JUMPS];
+        BigInteger range = meanJump.shiftLeft(1);
+        for (int s = 0; s < JUMPS; s++) {
+            BigInteger a = random(range).add(BigInteger.ONE);
+            jumps[s] = new Walk(alpha.pow(a), a, BigInteger.ZERO);
+        }
+        return jumps;
+    }
+
+    @Override
+    protected Walk start(final GroupElement beta, final int index) {
+        BigInteger a = random(meanJump);
+        if (index % 2 == 0) {
+            a = reduce(a.add(width.shiftRight(1)));
+            return new Walk(alpha.pow(a), a, BigInteger.ZERO);
+        }
+        return new Walk(beta.multiply(alpha.pow(a.subtract(lower))), a, BigInteger.ONE);
+    }
+
+    @Override
+    protected BigInteger reduce(final BigInteger coefficient) {
+        if (order != null && coefficient.compareTo(order) >= 0) {
+            return coefficient.mod(order);
+        }
+        return coefficient;
+    }
+
+    @Override
+    protected Optional<BigInteger> solve(final Walk stored, final Walk found, final GroupElement beta) {
+        if (stored.getB().equals(found.getB())) {
+            return Optional.empty();
+        }
+        // tame a_t = x - l + a_w
+        Walk tame = stored.getB().signum() == 0 ? stored : found;
+        Walk wild = stored.getB().signum() == 0 ? found : stored;
+        BigInteger distance = tame.getA().subtract(wild.getA());
+        if (order != null) {
+            distance = distance.mod(order);
+        }
+        BigInteger x = distance.add(lower);
+        if (x.compareTo(lower) < 0 || x.compareTo(lower.add(width)) >= 0 || !alpha.pow(x).equals(beta)) {
+            return Optional.empty();
+        }
+        return Optional.of(x);
+    }
+
+    @Override
+    protected int distinguishedBits() {
+        return distinguishedBitsFor(width.sqrt().shiftLeft(1));
+    }
+
+    @Override
+    protected long maxSteps() {
+        BigInteger steps = width.sqrt().shiftLeft(5)
+                .add(width.divide(meanJump).multiply(BigInteger.valueOf(getWalks())))
+                .add(BigInteger.valueOf(1024L * getWalks()));
+        return steps.bitLength() > 62 ? Long.MAX_VALUE : steps.longValue();
+    }
+
+    public BigInteger getLower() {
+        return lower;
+    }
+
+    public BigInteger getWidth() {
+        return width;
+    }
+
+    public BigInteger getOrder() {
+        return order;
+    }
+
+    private static BigInteger random(final BigInteger bound) {
+        return new BigInteger(bound.bitLength() + 16, ThreadLocalRandom.current()).mod(bound);
+    }
+}
@@ -0,0 +1,125 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.GroupElement;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Parallel <i>Pollard's Rho</i> algorithm to compute \(x\) such that
+ * \(\alpha^x = \beta\), where \(\alpha\) has order \(n\). Every walk starts
+ * at a random \(\alpha^a \beta^b\) and the jumps \(M_s = \alpha^{a_s}
+ * \beta^{b_s}\) are random too, so two walks that collide give \((b - b') x
+ * \equiv a' - a \pmod{n}\). It needs about \(\sqrt{\pi n / 2}\) steps in
+ * total, shared by all the walks, and a memory proportional to the number of
+ * distinguished points.
+ * <p>
+ * If \(n\) is not prime, the congruence may have several solutions and all
+ * of them are checked.
+ *
+ * @see ParallelCollisionSearch
+ */
+public class PollardsRho extends ParallelCollisionSearch {
+
+    private final BigInteger order;
+
+    /**
+     * Creates the algorithm for the generator \(\alpha\) of the whole group,
+     * run in the common <i>ForkJoinPool</i>.
+     *
+     * @param alpha the generator \(\alpha\).
+     */
+    public PollardsRho(final GroupElement alpha) {
+        this(alpha, orderOf(alpha));
+    }
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}, run in the
+     * common <i>ForkJoinPool</i>.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param order the order \(n\) of \(\alpha\).
+     */
+    public PollardsRho(final GroupElement alpha, final BigInteger order) {
+        this(alpha, order, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}, run in
+     * {@code pool} with one walk for each thread of the pool.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param order the order \(n\) of \(\alpha\).
+     * @param pool  the <i>ForkJoinPool</i> where the walks are run.
+     */
+    public PollardsRho(final GroupElement alpha, final BigInteger order, final ForkJoinPool pool) {
+        this(alpha, order, pool, defaultWalks(pool));
+    }
+
+    /**
+     * Creates the algorithm for \(\alpha\) of order {@code order}, run in
+     * {@code pool} with {@code walks} concurrent walks.
+     *
+     * @param alpha the base \(\alpha\).
+     * @param order the order \(n\) of \(\alpha\).
+     * @param pool  the <i>ForkJoinPool</i> where the walks are run.
+     * @param walks the number of concurrent walks.
+     */
+    public PollardsRho(final GroupElement alpha, final BigInteger order, final ForkJoinPool pool,
+                       final int walks) {
+        super(alpha, pool, walks);
+        this.order = order;
+    }
+
+    @Override
+    protected Walk[] jumps(final GroupElement beta) {
+        Walk[] jumps = new Walk[JUMPS];
+        for (int s = 0; s < JUMPS; s++) {
+            jumps[s] = randomWalk(beta);
+        }
+        return jumps;
+    }
+
+    @Override
+    protected Walk start(final GroupElement beta, final int index) {
+        return randomWalk(beta);
+    }
+
+    @Override
+    protected BigInteger reduce(final BigInteger coefficient) {
+        return coefficient.compareTo(order) >= 0 ? coefficient.subtract(order) : coefficient;
+    }
+
+    @Override
+    protected Optional<BigInteger> solve(final Walk stored, final Walk found, final GroupElement beta) {
+        return solveCongruence(found.getB().subtract(stored.getB()), stored.getA().subtract(found.getA()),
+                order, beta);
+    }
+
+    @Override
+    protected int distinguishedBits() {
+        return distinguishedBitsFor(order.sqrt());
+    }
+
+    @Override
+    protected long maxSteps() {
+        BigInteger steps = order.sqrt().shiftLeft(5).add(BigInteger.valueOf(1024L * getWalks()));
+        return steps.bitLength() > 62 ? Long.MAX_VALUE : steps.longValue();
+    }
+
+    public BigInteger getOrder() {
+        return order;
+    }
+
+    private Walk randomWalk(final GroupElement beta) {
+        BigInteger a = randomExponent();
+        BigInteger b = randomExponent();
+        return new Walk(alpha.pow(a).multiply(beta.pow(b)), a, b);
+    }
+
+    private BigInteger randomExponent() {
+        return new BigInteger(order.bitLength() + 16, ThreadLocalRandom.current()).mod(order);
+    }
+}
@@ -0,0 +1,190 @@
+package cat.udl.cig.utils.fparithmetic;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * The arithmetic of \(\mathbb{F}_{p}[x] / (f)\), where the coefficients are
+ * stored as in {@link PolynomialMultiplication}. The remainders are computed
+ * with a precomputed <i>Newton</i> inverse: if \(f\) has degree \(d\) and
+ * \(\tilde{g} = \text{rev}(f)^{-1} \bmod x^{d - 1}\), the quotient of a
+ * product \(u\) of two reduced polynomials is \(q = \text{rev}(\text{rev}(u)
+ * \tilde{g} \bmod x^{\deg u - d + 1})\). So a reduction costs two
+ * multiplications instead of a long division. Short moduli, where the long
+ * division is faster, do not precompute it.
+ *
+ * @see PolynomialMultiplication
+ */
+public final class PolynomialModulus {
+
+    /**
+     * The degree from which the <i>Newton</i> inverse is precomputed.
+     */
+    static final int NEWTON_THRESHOLD = 32;
+
+    private final BigInteger p;
+
+    private final BigInteger[] modulus;
+
+    /**
+     * The value \(\text{rev}(f)^{-1} \bmod x^{d - 1}\), or {@code null} if
+     * the remainders are computed by long division.
+     */
+    private final BigInteger[] reversedInverse;
+
+    /**
+     * Creates the arithmetic modulo \(f\).
+     *
+     * @param modulus the coefficients of \(f\), reduced and without leading
+     *                zeros. Its degree must be at least 1.
+     * @param p       the characteristic. It must be a prime number.
+     * @throws IllegalArgumentException if the degree of \(f\) is less than 1.
+     */
+    public PolynomialModulus(final BigInteger[] modulus, final BigInteger p) {
+        if (modulus.length < 2) {
+            throw new IllegalArgumentException("The modulus must have degree at least 1.");
+        }
+        this.p = p;
+        this.modulus = modulus;
+        int degree = modulus.length - 1;
+        reversedInverse = degree < NEWTON_THRESHOLD ? null
+                : newtonInverse(reverse(modulus, modulus.length), degree - 1, p);
+    }
+
+    public BigInteger[] getModulus() {
+        return modulus;
+    }
+
+    public BigInteger getCharacteristic() {
+        return p;
+    }
+
+    /**
+     * Computes \(u \bmod f\).
+     *
+     * @param u the coefficients of \(u\), reduced and without leading zeros.
+     * @return the coefficients of \(u \bmod f\).
+     */
+    public BigInteger[] remainder(final BigInteger[] u) {
+        final int d = modulus.length - 1;
+        if (u.length <= d) {
+            return u;
+        }
+        if (reversedInverse == null || u.length > 2 * d - 1) {
+            return divide(u, modulus, p)[1];
+        }
+        // q = rev(rev(u) * rev(f)^{-1} mod x^{m}), where m = deg u - d + 1
+        final int m = u.length - d;
+        BigInteger[] reversed = reverse(u, u.length);
+        BigInteger[] head = truncate(PolynomialMultiplication.multiply(
+                truncate(reversed, m), truncate(reversedInverse, m), p), m);
+        BigInteger[] quotient = reverse(head, m);
+        BigInteger[] product = PolynomialMultiplication.multiply(quotient, modulus, p);
+        BigInteger[] result = new BigInteger[d];
+        for (int i = 0; i < d; i++) {
+            BigInteger ui = u[i];
+            BigInteger qi = i < product.length ? product[i] : BigInteger.ZERO;
+            result[i] = ui.subtract(qi).mod(p);
+        }
+        return PolynomialMultiplication.trim(result);
+    }
+
+    /**
+     * Computes \(u v \bmod f\).
+     *
+     * @param u the coefficients of \(u\), a reduced polynomial.
+     * @param v the coefficients of \(v\), a reduced polynomial.
+     * @return the coefficients of \(u v \bmod f\).
+     */
+    public BigInteger[] multiply(final BigInteger[] u, final BigInteger[] v) {
+        return remainder(PolynomialMultiplication.multiply(u, v, p));
+    }
+
+    /**
+     * Computes \(u^e \bmod f\), where \(e \geq 0\).
+     *
+     * @param u the coefficients of \(u\).
+     * @param e the exponent.
+     * @return the coefficients of \(u^e \bmod f\).
+     */
+    public BigInteger[] pow(final BigInteger[] u, final BigInteger e) {
+        BigInteger[] base = remainder(u);
+        BigInteger[] result = {BigInteger.ONE};
+        for (int i = e.bitLength() - 1; i >= 0; i--) {
+            result = multiply(result, result);
+            if (e.testBit(i)) {
+                result = multiply(result, base);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the quotient and the remainder of \(u / v\) by long division.
+     *
+     * @param u the coefficients of \(u\), reduced and without leading zeros.
+     * @param v the coefficients of \(v\), reduced and without leading zeros.
+     *          It must not be zero.
+     * @param p the characteristic.
+     * @return the quotient and the remainder, in this order.
+     */
+    public static BigInteger[][] divide(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        if (u.length < v.length) {
+            return new BigInteger[][]{new BigInteger[0], u};
+        }
+        final int dv = v.length - 1;
+        BigInteger[] remainder = u.clone();
+        BigInteger[] quotient = new BigInteger[u.length - dv];
+        BigInteger leadInverse = v[dv].modInverse(p);
+        for (int i = u.length - 1; i >= dv; i--) {
+            BigInteger c = remainder[i].mod(p).multiply(leadInverse).mod(p);
+            quotient[i - dv] = c;
+            if (c.signum() != 0) {
+                for (int j = 0; j < dv; j++) {
+                    remainder[i - dv + j] = remainder[i - dv + j].subtract(c.multiply(v[j]));
+                }
+            }
+        }
+        BigInteger[] rest = Arrays.copyOf(remainder, dv);
+        for (int i = 0; i < dv; i++) {
+            rest[i] = rest[i].mod(p);
+        }
+        return new BigInteger[][]{PolynomialMultiplication.trim(quotient), PolynomialMultiplication.trim(rest)};
+    }
+
+    /**
+     * Computes \(h^{-1} \bmod x^n\) with the <i>Newton</i> iteration \(g
+     * \leftarrow g (2 - h g)\), which doubles the precision at every step.
+     */
+    static BigInteger[] newtonInverse(final BigInteger[] h, final int n, final BigInteger p) {
+        BigInteger[] g = {h[0].modInverse(p)};
+        for (int precision = 1; precision < n; ) {
+            precision = Math.min(2 * precision, n);
+            BigInteger[] hg = truncate(PolynomialMultiplication.multiply(truncate(h, precision), g, p), precision);
+            BigInteger[] correction = new BigInteger[Math.max(hg.length, 1)];
+            for (int i = 0; i < correction.length; i++) {
+                BigInteger value = i < hg.length ? hg[i].negate() : BigInteger.ZERO;
+                correction[i] = (i == 0 ? value.add(BigInteger.TWO) : value).mod(p);
+            }
+            g = truncate(PolynomialMultiplication.multiply(g, PolynomialMultiplication.trim(correction), p),
+                    precision);
+        }
+        return g;
+    }
+
+    /**
+     * Returns the first {@code length} coefficients of {@code u}, in reverse
+     * order and without leading zeros.
+     */
+    private static BigInteger[] reverse(final BigInteger[] u, final int length) {
+        BigInteger[] result = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = length - 1 - i < u.length ? u[length - 1 - i] : BigInteger.ZERO;
+        }
+        return PolynomialMultiplication.trim(result);
+    }
+
+    private static BigInteger[] truncate(final BigInteger[] u, final int length) {
+        return u.length <= length ? u : PolynomialMultiplication.trim(Arrays.copyOf(u, length));
+    }
+}
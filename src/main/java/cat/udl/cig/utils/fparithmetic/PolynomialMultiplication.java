@@ -0,0 +1,400 @@
+package cat.udl.cig.utils.fparithmetic;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Multiplication of polynomials over \(\mathbb{F}_{p}\), stored as arrays of
+ * coefficients, lowest degree first. The arrays have no leading zeros, so the
+ * zero polynomial is the empty array, and every coefficient is reduced, \(0
+ * \leq c < p\).
+ * <p>
+ * The algorithm is chosen by the length of the operands: <i>schoolbook</i>
+ * for short ones, <i>Karatsuba</i> for the middle ones and, for the longest
+ * ones, a <i>Number Theoretic Transform</i> modulo three primes, whose results
+ * are joined with the <i>Chinese Remainder Theorem</i>. When \(p\) fits in 31
+ * bits, the coefficients are kept in a {@code long[]}. Otherwise, they are
+ * BigIntegers and the longest products use the <i>Kronecker
+ * substitution</i>: both polynomials are packed into one BigInteger each, so
+ * the product is done by {@link BigInteger#multiply(BigInteger)}.
+ *
+ * @see PolynomialModulus
+ */
+public final class PolynomialMultiplication {
+
+    /**
+     * The length from which <i>Karatsuba</i> is used instead of the
+     * <i>schoolbook</i> multiplication.
+     */
+    static final int KARATSUBA_THRESHOLD = 32;
+
+    /**
+     * The length from which the <i>NTT</i> or the <i>Kronecker
+     * substitution</i> are used instead of <i>Karatsuba</i>.
+     */
+    static final int TRANSFORM_THRESHOLD = 256;
+
+    /**
+     * The largest bit length of \(p\) whose coefficients are kept in a
+     * {@code long[]}. The product of two coefficients fits in a {@code long}.
+     */
+    public static final int WORD_BITS = 31;
+
+    /**
+     * The primes of the <i>NTT</i>, \(c 2^k + 1\), and a primitive root of
+     * each one. Their product is greater than \(2^{85}\), which bounds the
+     * coefficients of any product of length up to \(2^{23}\) when \(p <
+     * 2^{31}\).
+     */
+    private static final long[] NTT_PRIMES = {998244353L, 167772161L, 469762049L};
+    private static final long NTT_ROOT = 3L;
+    private static final int NTT_MAX_LOG = 23;
+
+    private PolynomialMultiplication() {
+    }
+
+    /**
+     * Computes \(u v\) in \(\mathbb{F}_{p}[x]\).
+     *
+     * @param u the coefficients of \(u\), reduced and without leading zeros.
+     * @param v the coefficients of \(v\), reduced and without leading zeros.
+     * @param p the characteristic.
+     * @return the coefficients of \(u v\), reduced and without leading
+     * zeros.
+     */
+    public static BigInteger[] multiply(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        if (u.length == 0 || v.length == 0) {
+            return new BigInteger[0];
+        }
+        if (p.bitLength() <= WORD_BITS) {
+            return toBigIntegers(multiply(toLongs(u), toLongs(v), p.longValue()));
+        }
+        BigInteger[] result;
+        if (Math.min(u.length, v.length) < KARATSUBA_THRESHOLD) {
+            result = schoolbook(u, v);
+        } else if (Math.min(u.length, v.length) < TRANSFORM_THRESHOLD) {
+            int n = Math.max(u.length, v.length);
+            result = Arrays.copyOf(karatsuba(pad(u, n), pad(v, n)), u.length + v.length - 1);
+        } else {
+            result = kronecker(u, v, p);
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = result[i].mod(p);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Computes \(u v\) in \(\mathbb{F}_{p}[x]\), where \(p < 2^{31}\).
+     *
+     * @param u the coefficients of \(u\), reduced and without leading zeros.
+     * @param v the coefficients of \(v\), reduced and without leading zeros.
+     * @param p the characteristic. It must be less than \(2^{31}\).
+     * @return the coefficients of \(u v\), reduced and without leading
+     * zeros.
+     * @throws IllegalArgumentException if \(p \geq 2^{31}\).
+     */
+    public static long[] multiply(final long[] u, final long[] v, final long p) {
+        if (p <= 0 || 64 - Long.numberOfLeadingZeros(p) > WORD_BITS) {
+            throw new IllegalArgumentException("p must be less than 2^" + WORD_BITS);
+        }
+        if (u.length == 0 || v.length == 0) {
+            return new long[0];
+        }
+        long[] result;
+        int shortest = Math.min(u.length, v.length);
+        if (shortest < KARATSUBA_THRESHOLD) {
+            result = schoolbook(u, v, p);
+        } else if (shortest < TRANSFORM_THRESHOLD || u.length + v.length - 1 > 1 << NTT_MAX_LOG) {
+            int n = Math.max(u.length, v.length);
+            result = Arrays.copyOf(karatsuba(pad(u, n), pad(v, n), p), u.length + v.length - 1);
+        } else {
+            result = ntt(u, v, p);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Returns {@code u} without its leading zeros.
+     */
+    public static BigInteger[] trim(final BigInteger[] u) {
+        int length = u.length;
+        while (length > 0 && u[length - 1].signum() == 0) {
+            length--;
+        }
+        return length == u.length ? u : Arrays.copyOf(u, length);
+    }
+
+    /**
+     * Returns {@code u} without its leading zeros.
+     */
+    public static long[] trim(final long[] u) {
+        int length = u.length;
+        while (length > 0 && u[length - 1] == 0) {
+            length--;
+        }
+        return length == u.length ? u : Arrays.copyOf(u, length);
+    }
+
+    static BigInteger[] schoolbook(final BigInteger[] u, final BigInteger[] v) {
+        BigInteger[] result = new BigInteger[u.length + v.length - 1];
+        Arrays.fill(result, BigInteger.ZERO);
+        for (int i = 0; i < u.length; i++) {
+            if (u[i].signum() == 0) {
+                continue;
+            }
+            for (int j = 0; j < v.length; j++) {
+                result[i + j] = result[i + j].add(u[i].multiply(v[j]));
+            }
+        }
+        return result;
+    }
+
+    static long[] schoolbook(final long[] u, final long[] v, final long p) {
+        long[] result = new long[u.length + v.length - 1];
+        for (int i = 0; i < u.length; i++) {
+            if (u[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < v.length; j++) {
+                result[i + j] = (result[i + j] + u[i] * v[j]) % p;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes \(u v\) without reducing the coefficients, where both have
+     * the same length \(n\). The result has length \(2n - 1\).
+     */
+    private static BigInteger[] karatsuba(final BigInteger[] u, final BigInteger[] v) {
+        final int n = u.length;
+        if (n < KARATSUBA_THRESHOLD) {
+            return schoolbook(u, v);
+        }
+        final int half = n / 2;
+        BigInteger[] u0 = Arrays.copyOfRange(u, 0, half);
+        BigInteger[] u1 = Arrays.copyOfRange(u, half, n);
+        BigInteger[] v0 = Arrays.copyOfRange(v, 0, half);
+        BigInteger[] v1 = Arrays.copyOfRange(v, half, n);
+        // u = u0 + u1 x^h, v = v0 + v1 x^h
+        BigInteger[] low = karatsuba(u0, v0);
+        BigInteger[] high = karatsuba(u1, v1);
+        BigInteger[] su = new BigInteger[n - half];
+        BigInteger[] sv = new BigInteger[n - half];
+        for (int i = 0; i < n - half; i++) {
+            su[i] = i < half ? u0[i].add(u1[i]) : u1[i];
+            sv[i] = i < half ? v0[i].add(v1[i]) : v1[i];
+        }
+        BigInteger[] middle = karatsuba(su, sv);
+        BigInteger[] result = new BigInteger[2 * n - 1];
+        Arrays.fill(result, BigInteger.ZERO);
+        for (int i = 0; i < low.length; i++) {
+            result[i] = result[i].add(low[i]);
+            middle[i] = middle[i].subtract(low[i]);
+        }
+        for (int i = 0; i < high.length; i++) {
+            result[i + 2 * half] = result[i + 2 * half].add(high[i]);
+            middle[i] = middle[i].subtract(high[i]);
+        }
+        for (int i = 0; i < middle.length; i++) {
+            result[i + half] = result[i + half].add(middle[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes \(u v \bmod p\), where both have the same length \(n\). The
+     * result has length \(2n - 1\).
+     */
+    private static long[] karatsuba(final long[] u, final long[] v, final long p) {
+        final int n = u.length;
+        if (n < KARATSUBA_THRESHOLD) {
+            return schoolbook(u, v, p);
+        }
+        final int half = n / 2;
+        long[] u0 = Arrays.copyOfRange(u, 0, half);
+        long[] u1 = Arrays.copyOfRange(u, half, n);
+        long[] v0 = Arrays.copyOfRange(v, 0, half);
+        long[] v1 = Arrays.copyOfRange(v, half, n);
+        long[] low = karatsuba(u0, v0, p);
+        long[] high = karatsuba(u1, v1, p);
+        long[] su = new long[n - half];
+        long[] sv = new long[n - half];
+        for (int i = 0; i < n - half; i++) {
+            su[i] = i < half ? (u0[i] + u1[i]) % p : u1[i];
+            sv[i] = i < half ? (v0[i] + v1[i]) % p : v1[i];
+        }
+        long[] middle = karatsuba(su, sv, p);
+        long[] result = new long[2 * n - 1];
+        for (int i = 0; i < low.length; i++) {
+            result[i] = (result[i] + low[i]) % p;
+            middle[i] = (middle[i] - low[i] + p) % p;
+        }
+        for (int i = 0; i < high.length; i++) {
+            result[i + 2 * half] = (result[i + 2 * half] + high[i]) % p;
+            middle[i] = (middle[i] - high[i] + p) % p;
+        }
+        for (int i = 0; i < middle.length; i++) {
+            result[i + half] = (result[i + half] + middle[i]) % p;
+        }
+        return result;
+    }
+
+    /**
+     * Computes \(u v\) with the <i>Kronecker substitution</i>: every
+     * coefficient takes a slot of \(k\) bits, wide enough for the
+     * coefficients of the product, so \(u(2^k) v(2^k)\) holds all of them.
+     */
+    private static BigInteger[] kronecker(final BigInteger[] u, final BigInteger[] v, final BigInteger p) {
+        final int length = u.length + v.length - 1;
+        final int slot = 2 * p.bitLength() + 32 - Integer.numberOfLeadingZeros(Math.min(u.length, v.length)) + 1;
+        BigInteger product = pack(u, slot).multiply(pack(v, slot));
+        BigInteger mask = BigInteger.ONE.shiftLeft(slot).subtract(BigInteger.ONE);
+        BigInteger[] result = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = product.shiftRight(i * slot).and(mask);
+        }
+        return result;
+    }
+
+    private static BigInteger pack(final BigInteger[] u, final int slot) {
+        BigInteger packed = BigInteger.ZERO;
+        for (int i = u.length - 1; i >= 0; i--) {
+            packed = packed.shiftLeft(slot).or(u[i]);
+        }
+        return packed;
+    }
+
+    /**
+     * Computes \(u v \bmod p\) with one <i>NTT</i> for each prime of
+     * {@link #NTT_PRIMES}. The exact coefficients are recovered with
+     * <i>Garner's</i> algorithm, and reduced modulo \(p\).
+     */
+    private static long[] ntt(final long[] u, final long[] v, final long p) {
+        final int length = u.length + v.length - 1;
+        int size = Integer.highestOneBit(length);
+        if (size < length) {
+            size <<= 1;
+        }
+        long[][] residues = new long[NTT_PRIMES.length][];
+        for (int k = 0; k < NTT_PRIMES.length; k++) {
+            long prime = NTT_PRIMES[k];
+            long[] a = new long[size];
+            long[] b = new long[size];
+            for (int i = 0; i < u.length; i++) {
+                a[i] = u[i] % prime;
+            }
+            for (int i = 0; i < v.length; i++) {
+                b[i] = v[i] % prime;
+            }
+            transform(a, prime, false);
+            transform(b, prime, false);
+            for (int i = 0; i < size; i++) {
+                a[i] = a[i] * b[i] % prime;
+            }
+            transform(a, prime, true);
+            residues[k] = a;
+        }
+        final long m0 = NTT_PRIMES[0];
+        final long m1 = NTT_PRIMES[1];
+        final long m2 = NTT_PRIMES[2];
+        final long m0InverseM1 = modPow(m0 % m1, m1 - 2, m1);
+        final long m01InverseM2 = modPow(m0 % m2 * (m1 % m2) % m2, m2 - 2, m2);
+        final long m0ModP = m0 % p;
+        final long m01ModP = m0 % p * (m1 % p) % p;
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            // x = x0 + m0 k1 + m0 m1 k2
+            long x0 = residues[0][i];
+            long k1 = (residues[1][i] - x0 % m1 + m1) % m1 * m0InverseM1 % m1;
+            long partial = (x0 + m0 % m2 * k1) % m2;
+            long k2 = (residues[2][i] - partial + m2) % m2 * m01InverseM2 % m2;
+            result[i] = (x0 % p + m0ModP * k1 % p + m01ModP * k2 % p) % p;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the <i>NTT</i> of {@code a} in place, or its inverse.
+     */
+    private static void transform(final long[] a, final long prime, final boolean inverse) {
+        final int n = a.length;
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                long t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        }
+        for (int length = 2; length <= n; length <<= 1) {
+            long w = modPow(NTT_ROOT, (prime - 1) / length, prime);
+            if (inverse) {
+                w = modPow(w, prime - 2, prime);
+            }
+            for (int i = 0; i < n; i += length) {
+                long wi = 1;
+                for (int j = 0; j < length / 2; j++) {
+                    long x = a[i + j];
+                    long y = a[i + j + length / 2] * wi % prime;
+                    a[i + j] = x + y < prime ? x + y : x + y - prime;
+                    a[i + j + length / 2] = x - y >= 0 ? x - y : x - y + prime;
+                    wi = wi * w % prime;
+                }
+            }
+        }
+        if (inverse) {
+            long nInverse = modPow(n, prime - 2, prime);
+            for (int i = 0; i < n; i++) {
+                a[i] = a[i] * nInverse % prime;
+            }
+        }
+    }
+
+    private static long modPow(long base, long exponent, final long modulus) {
+        long result = 1;
+        base %= modulus;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * base % modulus;
+            }
+            base = base * base % modulus;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    private static BigInteger[] pad(final BigInteger[] u, final int n) {
+        if (u.length == n) {
+            return u;
+        }
+        BigInteger[] result = Arrays.copyOf(u, n);
+        Arrays.fill(result, u.length, n, BigInteger.ZERO);
+        return result;
+    }
+
+    private static long[] pad(final long[] u, final int n) {
+        return u.length == n ? u : Arrays.copyOf(u, n);
+    }
+
+    static long[] toLongs(final BigInteger[] u) {
+        long[] result = new long[u.length];
+        for (int i = 0; i < u.length; i++) {
+            result[i] = u[i].longValue();
+        }
+        return result;
+    }
+
+    static BigInteger[] toBigIntegers(final long[] u) {
+        BigInteger[] result = new BigInteger[u.length];
+        for (int i = 0; i < u.length; i++) {
+            result[i] = BigInteger.valueOf(u[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package cat.udl.cig.cryptography.cryptosystems;
+
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.ElGamalCiphertext;
+import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.IntegerPrimeOrderSubgroup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ElGamalBulkProcessorTest {
+
+    // Subgroup of order q = 2305843009213697249 of Z_p^*, p = 2q + 1
+    private final IntegerPrimeOrderSubgroup subgroup = new IntegerPrimeOrderSubgroup(
+            new BigInteger("4611686018427394499"), new BigInteger("2305843009213697249"), BigInteger.valueOf(4));
+
+    private ElGamal elGamal;
+    private List<GroupElement> messages;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        elGamal = new ElGamal(subgroup, subgroup.getGenerator());
+        messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            messages.add(subgroup.powGenerator(BigInteger.valueOf(i)));
+        }
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testListRoundTrip() {
+        ElGamalBulkProcessor processor = new ElGamalBulkProcessor(elGamal, pool, 7);
+        List<ElGamalCiphertext> ciphertexts = processor.encrypt(messages);
+        assertEquals(messages.size(), ciphertexts.size());
+        for (int i = 0; i < messages.size(); i++) {
+            assertEquals(messages.get(i), elGamal.decrypt(ciphertexts.get(i)), "i = " + i);
+        }
+        assertEquals(messages, processor.decrypt(ciphertexts));
+    }
+
+    @Test
+    void testStreamRoundTrip() {
+        ElGamalBulkProcessor processor = new ElGamalBulkProcessor(elGamal, pool, 7);
+        List<ElGamalCiphertext> ciphertexts = processor.encrypt(messages.stream()).collect(Collectors.toList());
+        assertEquals(messages, processor.decrypt(ciphertexts));
+        assertEquals(messages, processor.decrypt(processor.encrypt(messages.stream())).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testReencryptKeepsThePlainTexts() {
+        ElGamalBulkProcessor processor = new ElGamalBulkProcessor(elGamal, pool, 7);
+        List<ElGamalCiphertext> ciphertexts = processor.encrypt(messages);
+        List<ElGamalCiphertext> reencrypted = processor.reencrypt(ciphertexts);
+        List<ElGamalCiphertext> streamed = processor.reencrypt(ciphertexts.stream()).collect(Collectors.toList());
+        for (int i = 0; i < messages.size(); i++) {
+            assertNotEquals(ciphertexts.get(i), reencrypted.get(i), "i = " + i);
+            assertNotEquals(ciphertexts.get(i), streamed.get(i), "i = " + i);
+        }
+        assertEquals(messages, processor.decrypt(reencrypted));
+        assertEquals(messages, processor.decrypt(streamed.stream()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testChunkSizes() {
+        for (int chunkSize : new int[]{1, 3, 33, 99, 100, 101, 1000}) {
+            ElGamalBulkProcessor processor = new ElGamalBulkProcessor(elGamal, pool, chunkSize);
+            assertEquals(messages, processor.decrypt(processor.encrypt(messages)), "chunk size " + chunkSize);
+            assertEquals(messages, processor.decrypt(processor.encrypt(messages.stream()))
+                    .collect(Collectors.toList()), "chunk size " + chunkSize);
+            assertEquals(List.of(), processor.encrypt(List.of()));
+            assertEquals(List.of(), processor.encrypt(Stream.<GroupElement>empty()).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testOtherExecutorService() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            ElGamalBulkProcessor processor = new ElGamalBulkProcessor(elGamal, executor, 9);
+            assertEquals(messages, processor.decrypt(processor.reencrypt(processor.encrypt(messages))));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testPublicParametersOnly() {
+        ElGamalBulkProcessor processor = new ElGamalBulkProcessor(elGamal.getCypher(), pool, 7);
+        List<ElGamalCiphertext> ciphertexts = processor.reencrypt(processor.encrypt(messages));
+        assertEquals(messages, new ElGamalBulkProcessor(elGamal, pool, 7).decrypt(ciphertexts));
+        assertThrows(IllegalStateException.class, () -> processor.decrypt(ciphertexts));
+        assertThrows(IllegalStateException.class, () -> processor.decrypt(ciphertexts.stream()));
+    }
+
+    @Test
+    void testNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ElGamalBulkProcessor(elGamal, pool, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ElGamalBulkProcessor(elGamal, pool, -1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ElGamalBulkProcessor(elGamal.getCypher(), pool, 0));
+    }
+}
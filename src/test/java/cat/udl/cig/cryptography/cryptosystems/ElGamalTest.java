@@ -0,0 +1,63 @@
+package cat.udl.cig.cryptography.cryptosystems;
+
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.ElGamalCiphertext;
+import cat.udl.cig.structures.GroupElement;
+import cat.udl.cig.structures.IntegerPrimeOrderSubgroup;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ElGamalTest {
+
+    // Subgroup of order q = 2305843009213697249 of Z_p^*, p = 2q + 1
+    private final IntegerPrimeOrderSubgroup subgroup = new IntegerPrimeOrderSubgroup(
+            new BigInteger("4611686018427394499"), new BigInteger("2305843009213697249"), BigInteger.valueOf(4));
+
+    @Test
+    void testDecrypt() {
+        ElGamal elGamal = new ElGamal(subgroup);
+        for (int i = 0; i < 20; i++) {
+            GroupElement message = subgroup.getRandomElement();
+            ElGamalCiphertext ciphertext = elGamal.getCypher().encrypt(message);
+            assertEquals(message, elGamal.decrypt(ciphertext));
+        }
+    }
+
+    @Test
+    void testHomomorphicOperation() {
+        ElGamal elGamal = new ElGamal(subgroup);
+        GroupElement first = subgroup.getRandomElement();
+        GroupElement second = subgroup.getRandomElement();
+        ElGamalCiphertext product = elGamal.getCypher().encrypt(first)
+                .HomomorphicOperation(elGamal.getCypher().encrypt(second));
+        assertEquals(first.multiply(second), elGamal.decrypt(product));
+    }
+
+    @Test
+    void testOtherGenerator() {
+        GroupElement g = subgroup.powGenerator(BigInteger.valueOf(12345L));
+        ElGamal elGamal = new ElGamal(subgroup, g);
+        assertEquals(g, elGamal.getGenerator());
+        assertEquals(g, elGamal.getCypher().getGenerator());
+        for (int i = 0; i < 2; i++) {
+            GroupElement message = subgroup.getRandomElement();
+            BigInteger r = subgroup.getRandomExponent();
+            ElGamalCiphertext ciphertext = elGamal.getCypher().encrypt(message, r);
+            assertEquals(g.pow(r), ciphertext.getElement().getGroupElementA());
+            assertEquals(message, elGamal.decrypt(ciphertext));
+            elGamal.getCypher().precompute();
+        }
+    }
+
+    @Test
+    void testKeysAreIndependent() {
+        ElGamal first = new ElGamal(subgroup, subgroup.getGenerator());
+        ElGamal second = new ElGamal(subgroup, subgroup.getGenerator());
+        GroupElement message = subgroup.getRandomElement();
+        assertNotEquals(first.getPublicKey(), second.getPublicKey());
+        assertNotEquals(message, second.decrypt(first.getCypher().encrypt(message)));
+    }
+}
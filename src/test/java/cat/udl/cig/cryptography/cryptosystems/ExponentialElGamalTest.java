@@ -0,0 +1,80 @@
+package cat.udl.cig.cryptography.cryptosystems;
+
+import cat.udl.cig.cryptography.cryptosystems.ciphertexts.ElGamalCiphertext;
+import cat.udl.cig.structures.IntegerPrimeOrderSubgroup;
+import cat.udl.cig.utils.discretelogarithm.DecodingTable;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExponentialElGamalTest {
+
+    private static final long RANGE = 10000L;
+
+    // Subgroup of order q = 2305843009213697249 of Z_p^*, p = 2q + 1
+    private final IntegerPrimeOrderSubgroup subgroup = new IntegerPrimeOrderSubgroup(
+            new BigInteger("4611686018427394499"), new BigInteger("2305843009213697249"), BigInteger.valueOf(4));
+
+    private final DecodingTable table = new DecodingTable(subgroup.getGenerator(), RANGE, 128);
+
+    @Test
+    void testEncryptAndDecrypt() {
+        ExponentialElGamal elGamal = new ExponentialElGamal(subgroup, table);
+        for (long m : new long[]{0L, 1L, 127L, 128L, 129L, 4321L, RANGE - 1}) {
+            assertEquals(BigInteger.valueOf(m), elGamal.decrypt(elGamal.encrypt(BigInteger.valueOf(m))), "m = " + m);
+        }
+        ElGamalCiphertext ciphertext = elGamal.encrypt(BigInteger.valueOf(42L), BigInteger.valueOf(7L));
+        assertEquals(subgroup.powGenerator(BigInteger.valueOf(7L)), ciphertext.getElement().getGroupElementA());
+        assertEquals(BigInteger.valueOf(42L), elGamal.decrypt(ciphertext));
+    }
+
+    @Test
+    void testRangeConstructor() {
+        ExponentialElGamal elGamal = new ExponentialElGamal(subgroup, 500L);
+        assertEquals(500L, elGamal.getDecodingTable().getRange());
+        assertEquals(BigInteger.valueOf(499L), elGamal.decrypt(elGamal.encrypt(BigInteger.valueOf(499L))));
+    }
+
+    @Test
+    void testAdditiveHomomorphism() {
+        ExponentialElGamal elGamal = new ExponentialElGamal(subgroup, table);
+        ElGamalCiphertext sum = elGamal.encrypt(BigInteger.ZERO);
+        long expected = 0L;
+        for (long m = 1L; m <= 100L; m++) {
+            sum = sum.HomomorphicOperation(elGamal.encrypt(BigInteger.valueOf(m)));
+            expected += m;
+        }
+        assertEquals(BigInteger.valueOf(expected), elGamal.decrypt(sum));
+    }
+
+    @Test
+    void testMessageOutOfRange() {
+        ExponentialElGamal elGamal = new ExponentialElGamal(subgroup, table);
+        assertThrows(ArithmeticException.class, () -> elGamal.decrypt(elGamal.encrypt(BigInteger.valueOf(RANGE))));
+        ElGamalCiphertext sum = elGamal.encrypt(BigInteger.valueOf(RANGE - 1))
+                .HomomorphicOperation(elGamal.encrypt(BigInteger.ONE));
+        assertThrows(ArithmeticException.class, () -> elGamal.decrypt(sum));
+        assertThrows(ArithmeticException.class, () -> elGamal.decrypt(elGamal.encrypt(BigInteger.valueOf(-1L))));
+    }
+
+    @Test
+    void testSharedTable() {
+        ExponentialElGamal first = new ExponentialElGamal(subgroup, table);
+        ExponentialElGamal second = new ExponentialElGamal(subgroup, table);
+        assertSame(first.getDecodingTable(), second.getDecodingTable());
+        assertNotEquals(first.getCypher().getPublicKey(), second.getCypher().getPublicKey());
+        assertEquals(subgroup.getGenerator(), second.getCypher().getGenerator());
+        assertEquals(BigInteger.valueOf(5L), second.decrypt(second.encrypt(BigInteger.valueOf(5L))));
+    }
+
+    @Test
+    void testTableOfAnotherGenerator() {
+        DecodingTable other = new DecodingTable(subgroup.powGenerator(BigInteger.TWO), RANGE, 128);
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialElGamal(subgroup, other));
+    }
+}
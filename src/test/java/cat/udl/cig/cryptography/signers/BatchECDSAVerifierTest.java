@@ -0,0 +1,264 @@
+package cat.udl.cig.cryptography.signers;
+
+import cat.udl.cig.cryptography.hashes.SHA1;
+import cat.udl.cig.operations.wrapper.data.Pair;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import cat.udl.cig.structures.ecc.ECPoint;
+import cat.udl.cig.structures.ecc.ECPrimeOrderSubgroup;
+import cat.udl.cig.structures.ecc.EllipticCurve;
+import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchECDSAVerifierTest {
+
+    private static final int SIZE = 12;
+
+    private ECDSA[] signers;
+    private ECPoint generator;
+    private BigInteger order;
+    private List<String> messages;
+    private List<Signature> signatures;
+    private List<ECPoint> publicKeys;
+
+    @BeforeEach
+    void setUp() {
+        // NIST P-192
+        BigInteger p = new BigInteger("6277101735386680763835789423207666416083908700390324961279");
+        order = new BigInteger("6277101735386680763835789423176059013767194773182842284081");
+        BigInteger b = new BigInteger("64210519e59c80e70fa7e9ab72243049feb8deecc146b9b1", 16);
+        BigInteger gx = new BigInteger("188da80eb03090f67cbf20eb43a18800f4ff0afd82ff1012", 16);
+        BigInteger gy = new BigInteger("07192b95ffc8da78631011ed6b24cdd573f977a11e794811", 16);
+        PrimeField field = new PrimeField(p);
+        Pair<EllipticCurve, EllipticCurvePoint> pair = EllipticCurve.EllipticCurveGeneratorOnlyOneSubgroup(field,
+                new PrimeFieldElement(field, BigInteger.valueOf(-3)), new PrimeFieldElement(field, b), order,
+                new PrimeFieldElement(field, gx), new PrimeFieldElement(field, gy));
+        ECPrimeOrderSubgroup subgroup = new ECPrimeOrderSubgroup(pair.getKey(), order, pair.getValue());
+        generator = subgroup.getGenerator();
+        signers = new ECDSA[]{new ECDSA(subgroup), new ECDSA(subgroup), new ECDSA(subgroup)};
+        messages = new ArrayList<>();
+        signatures = new ArrayList<>();
+        publicKeys = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            ECDSA signer = signers[i % signers.length];
+            messages.add("message " + i);
+            signatures.add(signer.signRecoverable("message " + i));
+            publicKeys.add(signer.getPublicKey());
+        }
+    }
+
+    private List<Integer> invalidOneByOne(final List<String> messages, final List<Signature> signatures,
+                                          final List<ECPoint> publicKeys) {
+        List<Integer> invalid = new ArrayList<>();
+        for (int i = 0; i < signatures.size(); i++) {
+            if (!new ECDSAVerifier(generator, publicKeys.get(i)).verifySignature(messages.get(i), signatures.get(i))) {
+                invalid.add(i);
+            }
+        }
+        return invalid;
+    }
+
+    private Signature withS(final Signature signature, final BigInteger s, final PrimeField field) {
+        return new Signature(signature.getA(), new PrimeFieldElement(field, s));
+    }
+
+    @Test
+    void testAllValid() {
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator);
+        assertEquals(List.of(), invalidOneByOne(messages, signatures, publicKeys));
+        assertTrue(verifier.verifyAll(messages, signatures, publicKeys));
+        assertEquals(List.of(), verifier.findInvalid(messages, signatures, publicKeys));
+        boolean[] valid = new boolean[SIZE];
+        Arrays.fill(valid, true);
+        assertArrayEquals(valid, verifier.verifyEach(messages, signatures, publicKeys));
+    }
+
+    @Test
+    void testForgedSignaturesAreLocated() {
+        messages.set(2, "forged");
+        publicKeys.set(5, signers[0].getPublicKey());
+        signatures.set(9, signatures.get(10));
+        signatures.set(11, signers[2].signRecoverable("another message"));
+        List<Integer> expected = List.of(2, 5, 9, 11);
+        assertEquals(expected, invalidOneByOne(messages, signatures, publicKeys));
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator);
+        assertFalse(verifier.verifyAll(messages, signatures, publicKeys));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(expected, verifier.findInvalid(messages, signatures, publicKeys));
+        }
+        boolean[] valid = verifier.verifyEach(messages, signatures, publicKeys);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(!expected.contains(i), valid[i], "i = " + i);
+        }
+    }
+
+    @Test
+    void testEveryPositionIsLocated() {
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator);
+        for (int i = 0; i < SIZE; i++) {
+            List<String> forged = new ArrayList<>(messages);
+            forged.set(i, "forged");
+            assertEquals(List.of(i), verifier.findInvalid(forged, signatures, publicKeys), "i = " + i);
+        }
+    }
+
+    @Test
+    void testSignaturesWithoutR() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator, pool);
+            for (int i = 0; i < SIZE; i += 2) {
+                signatures.set(i, signers[i % signers.length].sign(messages.get(i)));
+            }
+            assertEquals(List.of(), verifier.findInvalid(messages, signatures, publicKeys));
+            messages.set(4, "forged");
+            messages.set(7, "forged");
+            List<Integer> expected = List.of(4, 7);
+            assertEquals(expected, invalidOneByOne(messages, signatures, publicKeys));
+            assertEquals(expected, verifier.findInvalid(messages, signatures, publicKeys));
+            boolean[] valid = verifier.verifyEach(messages, signatures, publicKeys);
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(!expected.contains(i), valid[i], "i = " + i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testBoundsOfS() {
+        PrimeField scalars = PrimeField.of(order);
+        PrimeField larger = (PrimeField) generator.getX().getGroup();
+        signatures.set(1, withS(signatures.get(1), BigInteger.ZERO, scalars));
+        signatures.set(3, withS(signatures.get(3), order, larger));
+        signatures.set(6, withS(signatures.get(6), order.subtract(BigInteger.ONE), scalars));
+        Signature plain = signers[2].sign(messages.get(8));
+        signatures.set(8, withS(plain, order, larger));
+        assertEquals(order, ((PrimeFieldElement) signatures.get(3).getB()).getValue());
+        List<Integer> expected = List.of(1, 3, 6, 8);
+        assertEquals(expected, invalidOneByOne(messages, signatures, publicKeys));
+        assertEquals(expected, new BatchECDSAVerifier(generator).findInvalid(messages, signatures, publicKeys));
+    }
+
+    @Test
+    void testUpperBoundOfS() {
+        // (-R, q - s) is also a valid signature, so s = q - 1 is accepted
+        ECDSA signer = signers[0];
+        Signature signature = signer.signRecoverable("message");
+        BigInteger s = ((PrimeFieldElement) signature.getB()).getValue();
+        Signature negated = new Signature(((ECPoint) signature.getA()).inverse(),
+                new PrimeFieldElement(PrimeField.of(order), order.subtract(s)));
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator);
+        assertTrue(signer.getVerifier().verifySignature("message", negated));
+        assertEquals(List.of(), verifier.findInvalid(List.of("message", "message"), List.of(signature, negated),
+                List.of(signer.getPublicKey(), signer.getPublicKey())));
+    }
+
+    @Test
+    void testDifferentSizes() {
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator);
+        List<String> fewer = messages.subList(1, SIZE);
+        assertThrows(IllegalArgumentException.class, () -> verifier.findInvalid(fewer, signatures, publicKeys));
+        assertThrows(IllegalArgumentException.class, () -> verifier.verifyEach(fewer, signatures, publicKeys));
+    }
+
+    @Test
+    void testCofactorOneSkipsTheSubgroupCheck() {
+        AtomicInteger pows = new AtomicInteger();
+        for (int i = 0; i < SIZE; i++) {
+            Signature signature = signatures.get(i);
+            signatures.set(i, new Signature(new CountingPoint((EllipticCurvePoint) signature.getA(), pows),
+                    signature.getB()));
+        }
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(generator);
+        assertEquals(List.of(), verifier.findInvalid(messages, signatures, publicKeys));
+        messages.set(6, "forged");
+        assertEquals(List.of(6), verifier.findInvalid(messages, signatures, publicKeys));
+        assertEquals(0, pows.get());
+    }
+
+    @Test
+    void testCofactoredCheck() {
+        // y^2 = x^3 + x, with cofactor 4
+        PrimeField field = new PrimeField(new BigInteger("2305843009213693973"));
+        BigInteger n = new BigInteger("576460752944418257");
+        EllipticCurve curve = new EllipticCurve(field, field.getMultiplicativeIdentity(), field.getAdditiveIdentity(),
+                new BigInteger("2305843011777673028"));
+        EllipticCurvePoint P = new EllipticCurvePoint(curve, new PrimeFieldElement(field,
+                new BigInteger("2283848541162745592")), new PrimeFieldElement(field,
+                new BigInteger("1353769147207391545")));
+        ECPrimeOrderSubgroup subgroup = new ECPrimeOrderSubgroup(curve, n, P);
+        ECDSA signer = new ECDSA(subgroup);
+        // (0, 0) has order 2
+        EllipticCurvePoint torsion = new EllipticCurvePoint(curve, field.getAdditiveIdentity(),
+                field.getAdditiveIdentity());
+        AtomicInteger pows = new AtomicInteger();
+        List<String> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        List<ECPoint> publicKeys = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Signature signature = signer.signRecoverable("message " + i);
+            messages.add("message " + i);
+            signatures.add(new Signature(new CountingPoint((EllipticCurvePoint) signature.getA(), pows),
+                    signature.getB()));
+            publicKeys.add(signer.getPublicKey());
+        }
+        // A signer who knows d publishes R = kP + T, so u1 P + u2 Q - R = T,
+        // which the random linear combination alone would only clear for
+        // even z, and the cofactor clears always
+        BigInteger d = subgroup.getRandomExponent();
+        BigInteger k = subgroup.getRandomExponent();
+        EllipticCurvePoint sum = P.pow(k).multiply(torsion);
+        ECPoint R = new EllipticCurvePoint(curve, sum.getX(), sum.getY());
+        assertFalse(R.pow(n).isInfinity());
+        BigInteger r = R.getX().getIntValue().mod(n);
+        BigInteger e = SHA1.hashToInteger(SHA1.getHash("torsion"));
+        BigInteger s = k.modInverse(n).multiply(e.add(d.multiply(r))).mod(n);
+        messages.set(3, "torsion");
+        signatures.set(3, new Signature(R, new PrimeFieldElement(PrimeField.of(n), s)));
+        publicKeys.set(3, P.pow(d));
+        assertFalse(new ECDSAVerifier(P, publicKeys.get(3)).verifySignature("torsion", signatures.get(3)));
+        BatchECDSAVerifier verifier = new BatchECDSAVerifier(P);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(List.of(), verifier.findInvalid(messages, signatures, publicKeys));
+        }
+        messages.set(1, "forged");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(List.of(1), verifier.findInvalid(messages, signatures, publicKeys));
+        }
+        assertEquals(0, pows.get());
+    }
+
+    /**
+     * Counts the scalar multiplications of a point \( R \).
+     */
+    private static final class CountingPoint extends EllipticCurvePoint {
+
+        private final AtomicInteger pows;
+
+        private CountingPoint(final EllipticCurvePoint R, final AtomicInteger pows) {
+            super(R.getCurve(), R.getX(), R.getY());
+            this.pows = pows;
+        }
+
+        @Override
+        public EllipticCurvePoint pow(final BigInteger k) {
+            pows.incrementAndGet();
+            return super.pow(k);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package cat.udl.cig.cryptography.signers;
+
+import cat.udl.cig.operations.wrapper.data.Pair;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import cat.udl.cig.structures.ecc.ECPrimeOrderSubgroup;
+import cat.udl.cig.structures.ecc.EllipticCurve;
+import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ECDSATest {
+
+    private ECDSA signer;
+    private BigInteger order;
+
+    @BeforeEach
+    void setUp() {
+        // NIST P-192
+        BigInteger p = new BigInteger("6277101735386680763835789423207666416083908700390324961279");
+        order = new BigInteger("6277101735386680763835789423176059013767194773182842284081");
+        BigInteger b = new BigInteger("64210519e59c80e70fa7e9ab72243049feb8deecc146b9b1", 16);
+        BigInteger gx = new BigInteger("188da80eb03090f67cbf20eb43a18800f4ff0afd82ff1012", 16);
+        BigInteger gy = new BigInteger("07192b95ffc8da78631011ed6b24cdd573f977a11e794811", 16);
+        PrimeField field = new PrimeField(p);
+        Pair<EllipticCurve, EllipticCurvePoint> pair = EllipticCurve.EllipticCurveGeneratorOnlyOneSubgroup(field,
+                new PrimeFieldElement(field, BigInteger.valueOf(-3)), new PrimeFieldElement(field, b), order,
+                new PrimeFieldElement(field, gx), new PrimeFieldElement(field, gy));
+        signer = new ECDSA(new ECPrimeOrderSubgroup(pair.getKey(), order, pair.getValue()));
+    }
+
+    @Test
+    void testSignatureBelongsToTheFieldOfScalars() {
+        Signature signature = signer.sign("message");
+        PrimeFieldElement r = (PrimeFieldElement) signature.getA();
+        PrimeFieldElement s = (PrimeFieldElement) signature.getB();
+        assertEquals(order, r.getGroup().getSize());
+        assertEquals(order, s.getGroup().getSize());
+    }
+
+    @Test
+    void testSignAndVerify() {
+        Signature signature = signer.sign("message");
+        assertTrue(signer.getVerifier().verifySignature("message", signature));
+        assertFalse(signer.getVerifier().verifySignature("another message", signature));
+    }
+}
@@ -0,0 +1,109 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.IncorrectRingElementException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchInversionTest {
+
+    private final BigInteger p = new BigInteger("6277101735386680763835789423207666416083908700390324961279");
+
+    private static void assertInverses(final Ring ring, final int n) {
+        List<RingElement> elements = new ArrayList<>();
+        while (elements.size() < n) {
+            RingElement element = ring.getRandomElement();
+            if (!element.equals(ring.getAdditiveIdentity())) {
+                elements.add(element);
+            }
+        }
+        List<? extends RingElement> inverses = ring.batchInverse(elements);
+        assertEquals(n, inverses.size());
+        for (int i = 0; i < n; i++) {
+            assertEquals(elements.get(i).inverse(), inverses.get(i), "element " + i);
+            assertEquals(ring.getMultiplicativeIdentity(), elements.get(i).multiply(inverses.get(i)));
+        }
+    }
+
+    @Test
+    void testPrimeField() {
+        PrimeField field = new PrimeField(p);
+        for (int n : new int[]{1, 2, 17}) {
+            assertInverses(field, n);
+        }
+    }
+
+    @Test
+    void testMontgomeryPrimeField() {
+        MontgomeryPrimeField field = new MontgomeryPrimeField(p);
+        assertInverses(field, 17);
+        List<PrimeFieldElement> mixed = List.of(new PrimeField(p).toElement(BigInteger.TWO), field.toElement(BigInteger.TEN));
+        List<? extends MontgomeryPrimeFieldElement> inverses = field.batchInverse(mixed);
+        assertEquals(field.toElement(BigInteger.TWO.modInverse(p)), inverses.get(0));
+        assertEquals(field.toElement(BigInteger.TEN.modInverse(p)), inverses.get(1));
+    }
+
+    @Test
+    void testBinaryField() {
+        BitSet polynomial = new BitSet();
+        for (int i : new int[]{163, 7, 6, 3, 0}) {
+            polynomial.set(i);
+        }
+        assertInverses(new BinaryField(polynomial), 17);
+    }
+
+    @Test
+    void testExtensionField() {
+        assertInverses(ExtensionField.ExtensionFieldP2(BigInteger.valueOf(2213)), 17);
+    }
+
+    @Test
+    void testGenericEqualsSpecialised() {
+        PrimeField field = new PrimeField(p);
+        List<PrimeFieldElement> elements = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            elements.add(field.toElement(BigInteger.valueOf(i)));
+        }
+        assertEquals(BatchInversion.batchInverse(field, elements), field.batchInverse(elements));
+    }
+
+    @Test
+    void testEmpty() {
+        assertTrue(new PrimeField(p).batchInverse(List.of()).isEmpty());
+        assertTrue(ExtensionField.ExtensionFieldP2(BigInteger.valueOf(2213)).batchInverse(List.of()).isEmpty());
+    }
+
+    @Test
+    void testZero() {
+        PrimeField field = new PrimeField(p);
+        List<PrimeFieldElement> elements = List.of(field.getMultiplicativeIdentity(), field.getAdditiveIdentity());
+        assertThrows(ArithmeticException.class, () -> field.batchInverse(elements));
+        assertThrows(ArithmeticException.class, () -> BatchInversion.batchInverse(field, elements));
+    }
+
+    @Test
+    void testOtherRing() {
+        PrimeField field = new PrimeField(p);
+        PrimeField other = new PrimeField(BigInteger.valueOf(2213));
+        List<PrimeFieldElement> elements = List.of(field.getMultiplicativeIdentity(), other.getMultiplicativeIdentity());
+        assertThrows(IncorrectRingElementException.class, () -> field.batchInverse(elements));
+    }
+
+    @Test
+    void testOtherRingInMontgomeryPrimeField() {
+        MontgomeryPrimeField field = new MontgomeryPrimeField(p);
+        PrimeField other = new PrimeField(BigInteger.valueOf(2213));
+        List<PrimeFieldElement> elements = List.of(field.toElement(BigInteger.TWO), other.toElement(BigInteger.TEN));
+        assertThrows(IncorrectRingElementException.class, () -> field.batchInverse(elements));
+        List<RingElement> binary = List.of(field.toElement(BigInteger.TWO),
+                new BinaryField(BitSet.valueOf(new long[]{0b1011})).getMultiplicativeIdentity());
+        assertThrows(IncorrectRingElementException.class, () -> field.batchInverse(binary));
+    }
+}
@@ -6,8 +6,10 @@ import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BinaryFieldElementTest extends RingElementTemplateTest{
 
@@ -96,4 +98,44 @@ public class BinaryFieldElementTest extends RingElementTemplateTest{
         BigInteger expected2 = ((BigInteger.TWO).pow(2)).add(BigInteger.TWO);
         assertEquals(expected2, element2.getSubstitutionMaxSizeValue());
     }
+
+    @Test
+    public void testWordLevelArithmeticOnLargeFields() {
+        // x^163 + x^7 + x^6 + x^3 + 1 and x^233 + x^74 + 1
+        BigInteger[] polynomials = {
+                BigInteger.ONE.shiftLeft(163).setBit(7).setBit(6).setBit(3).setBit(0),
+                BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0)};
+        Random random = new Random(163);
+        for (BigInteger f : polynomials) {
+            BinaryField largeField = new BinaryField(BitSetManipulation.bigIntegerToBitSet(f));
+            for (int i = 0; i < 50; i++) {
+                BigInteger a = new BigInteger(f.bitLength() - 1, random);
+                BigInteger b = new BigInteger(f.bitLength() - 1, random);
+                BinaryFieldElement x = new BinaryFieldElement(largeField, BitSetManipulation.bigIntegerToBitSet(a));
+                BinaryFieldElement y = new BinaryFieldElement(largeField, BitSetManipulation.bigIntegerToBitSet(b));
+                assertEquals(multiplyModulo(a, b, f), x.multiply(y).getIntValue());
+                assertEquals(x.multiply(x), x.square());
+                assertEquals(a.xor(b), x.add(y).getIntValue());
+                if (a.signum() != 0) {
+                    assertTrue(x.multiply(x.inverse()).equals(largeField.getMultiplicativeIdentity()));
+                }
+            }
+        }
+    }
+
+    private static BigInteger multiplyModulo(BigInteger a, BigInteger b, BigInteger f) {
+        BigInteger result = BigInteger.ZERO;
+        for (int i = 0; i < b.bitLength(); i++) {
+            if (b.testBit(i)) {
+                result = result.xor(a.shiftLeft(i));
+            }
+        }
+        int degree = f.bitLength() - 1;
+        for (int i = result.bitLength() - 1; i >= degree; i--) {
+            if (result.testBit(i)) {
+                result = result.xor(f.shiftLeft(i - degree));
+            }
+        }
+        return result;
+    }
 }
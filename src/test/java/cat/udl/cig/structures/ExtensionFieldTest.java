@@ -135,4 +135,40 @@ class ExtensionFieldTest extends RingTemplateTest {
         ArrayList<RingElement> roots = y.squareRoot();
         assertTrue(roots.size() > 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    void extensionFieldP2IsInterned() {
+        ExtensionField field = ExtensionField.ExtensionFieldP2(BigInteger.valueOf(1009L));
+        assertSame(field, ExtensionField.ExtensionFieldP2(BigInteger.valueOf(1009L)));
+        assertSame(field.ONE(), field.getMultiplicativeIdentity());
+        assertEquals(field.ONE().add(field.ONE()).add(field.ONE()), field.THREE());
+    }
+
+    @Test
+    void multiplicationMatchesPolynomialReduction() {
+        for (int i = 0; i < 20; i++) {
+            ExtensionFieldElement a = extensionField.getRandomElement();
+            ExtensionFieldElement b = extensionField.getRandomElement();
+            Polynomial expected = a.getPolynomial().multiply(b.getPolynomial(), extensionField.getReducingPolynomial());
+            assertEquals(new ExtensionFieldElement(extensionField, expected), a.multiply(b));
+            Polynomial power = a.getPolynomial().pow(BigInteger.valueOf(5L), extensionField.getReducingPolynomial());
+            assertEquals(new ExtensionFieldElement(extensionField, power), a.pow(BigInteger.valueOf(5L)));
+        }
+    }
+
+    @Test
+    void zeroPowersAndDivision() {
+        BigInteger order = extensionField.getSize().subtract(BigInteger.ONE);
+        List<ExtensionFieldElement> zeros = List.of(extensionField.getAdditiveIdentity(),
+                (ExtensionFieldElement) operandA.subtract(operandA),
+                new ExtensionFieldElement(extensionField, new Polynomial(primeField)));
+        for (ExtensionFieldElement zero : zeros) {
+            assertEquals(extensionField.getMultiplicativeIdentity(), zero.pow(BigInteger.ZERO));
+            assertEquals(extensionField.getAdditiveIdentity(), zero.pow(BigInteger.ONE));
+            assertEquals(extensionField.getAdditiveIdentity(), zero.pow(order));
+            assertEquals(extensionField.getAdditiveIdentity(), zero.pow(order.shiftLeft(1)));
+            assertThrows(ArithmeticException.class, () -> zero.pow(BigInteger.ONE.negate()));
+            assertThrows(ArithmeticException.class, () -> operandA.divide(zero));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package cat.udl.cig.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedBaseTableTest {
+
+    // Subgroup of order q = 1019 of Z_p^*, p = 2 * 1019 + 1
+    private final IntegerPrimeOrderSubgroup subgroup = new IntegerPrimeOrderSubgroup(
+            BigInteger.valueOf(2039), BigInteger.valueOf(1019), BigInteger.valueOf(4));
+
+    @Test
+    void testPowEqualsGeneratorPow() {
+        PrimeFieldElement generator = subgroup.getGenerator();
+        for (int window = 1; window <= 5; window++) {
+            FixedBaseTable table = new FixedBaseTable(generator, 10, window);
+            for (int k = 0; k < 1024; k++) {
+                BigInteger exponent = BigInteger.valueOf(k);
+                assertEquals(generator.pow(exponent), table.pow(exponent), "g^" + k + " with window " + window);
+            }
+        }
+    }
+
+    @Test
+    void testLargeExponentsFallBackToPow() {
+        PrimeFieldElement generator = subgroup.getGenerator();
+        FixedBaseTable table = generator.buildFixedBaseTable(8);
+        BigInteger exponent = BigInteger.valueOf(1000);
+        assertEquals(generator.pow(exponent), table.pow(exponent));
+        assertEquals(generator.pow(exponent.negate()), table.pow(exponent.negate()));
+    }
+
+    @Test
+    void testPrecomputedGenerator() {
+        SecureRandom random = new SecureRandom();
+        subgroup.precomputeGenerator();
+        for (int i = 0; i < 100; i++) {
+            BigInteger exponent = new BigInteger(10, random);
+            assertEquals(subgroup.getGenerator().pow(exponent), subgroup.powGenerator(exponent));
+        }
+        assertEquals(BigInteger.ONE, subgroup.getRandomElement().getIntValue().modPow(subgroup.getSize(), BigInteger.valueOf(2039)));
+    }
+
+    @Test
+    void testIncorrectWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedBaseTable(subgroup.getGenerator(), 10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FixedBaseTable(subgroup.getGenerator(), 0, 4));
+    }
+}
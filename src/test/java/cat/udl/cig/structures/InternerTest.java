@@ -0,0 +1,43 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.ConstructionException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InternerTest {
+
+    @Test
+    void testSameInstance() {
+        Interner<BigInteger, PrimeField> interner = new Interner<>();
+        PrimeField field = interner.intern(BigInteger.valueOf(37L), PrimeField::new);
+        assertSame(field, interner.intern(BigInteger.valueOf(37L), PrimeField::new));
+        assertNotSame(field, interner.intern(BigInteger.valueOf(41L), PrimeField::new));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void testFailedConstructionIsNotInterned() {
+        Interner<BigInteger, PrimeField> interner = new Interner<>();
+        assertThrows(ConstructionException.class, () -> interner.intern(BigInteger.valueOf(35L), PrimeField::new));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    void testUnreachableValuesAreDiscarded() throws InterruptedException {
+        Interner<BigInteger, PrimeField> interner = new Interner<>();
+        for (long p : new long[]{37L, 41L, 43L}) {
+            interner.intern(BigInteger.valueOf(p), PrimeField::new);
+        }
+        for (int i = 0; i < 50 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertEquals(0, interner.size());
+    }
+}
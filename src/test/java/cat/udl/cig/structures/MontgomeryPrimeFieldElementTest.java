@@ -0,0 +1,112 @@
+package cat.udl.cig.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MontgomeryPrimeFieldElementTest extends RingElementTemplateTest {
+
+    MontgomeryPrimeField field;
+
+    @Override
+    protected Ring returnRing() {
+        field = new MontgomeryPrimeField(BigInteger.valueOf(11));
+        return field;
+    }
+
+    @Override
+    protected RingElement returnOperand1() {
+        return field.buildElement().setValue(10L).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement returnOperand2() {
+        return field.buildElement().setValue(7L).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement returnResultAddition() {
+        return field.buildElement().setValue(6L).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement returnResultSubtraction() {
+        return field.buildElement().setValue(3L).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement returnExpectedOpposite1() {
+        return field.buildElement().setValue(1L).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement returnExpectedInverse1() {
+        return field.buildElement().setValue(10L).build().orElseThrow();
+    }
+
+    @Override
+    protected BigInteger returnPower() {
+        return BigInteger.valueOf(7);
+    }
+
+    @Override
+    protected RingElement returnExpectedPower() {
+        return field.buildElement().setValue(10L).build().orElseThrow();
+    }
+
+    @Override
+    protected ArrayList<RingElement> returnSquaresRootOfOp1() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    protected RingElement expectedResultMultiplication() {
+        return field.buildElement().setValue(4L).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement expectedResultDivision() {
+        return field.buildElement().setValue(3L).build().orElseThrow();
+    }
+
+    @Test
+    void testEqualsPrimeFieldElement() {
+        PrimeField primeField = new PrimeField(BigInteger.valueOf(11));
+        PrimeFieldElement el = new PrimeFieldElement(primeField, BigInteger.TWO);
+        PrimeFieldElement el2 = field.toElement(BigInteger.TWO);
+        assertEquals(el, el2);
+        assertEquals(el2, el);
+        assertEquals(el.hashCode(), el2.hashCode());
+        assertEquals(el.multiply(el2), el2.multiply(el));
+    }
+
+    @Test
+    void testSameResultsThanPrimeFieldElement() {
+        BigInteger p = new BigInteger("6277101735386680763835789423207666416083908700390324961279");
+        PrimeField primeField = new PrimeField(p);
+        MontgomeryPrimeField montgomeryField = new MontgomeryPrimeField(primeField);
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 200; i++) {
+            BigInteger a = new BigInteger(p.bitLength() + 8, random);
+            BigInteger b = new BigInteger(p.bitLength() + 8, random);
+            PrimeFieldElement x = new PrimeFieldElement(primeField, a);
+            PrimeFieldElement y = new PrimeFieldElement(primeField, b);
+            MontgomeryPrimeFieldElement mx = montgomeryField.toElement(a);
+            MontgomeryPrimeFieldElement my = montgomeryField.toElement(b);
+            assertEquals(x.getIntValue(), mx.getIntValue());
+            assertEquals(x, mx);
+            assertEquals(x.hashCode(), mx.hashCode());
+            assertEquals(x.add(y).getIntValue(), mx.add(my).getIntValue());
+            assertEquals(x.subtract(y).getIntValue(), mx.subtract(my).getIntValue());
+            assertEquals(x.multiply(y).getIntValue(), mx.multiply(my).getIntValue());
+            assertEquals(x.multiply(x).getIntValue(), mx.square().getIntValue());
+            assertEquals(x.opposite().getIntValue(), mx.opposite().getIntValue());
+            assertEquals(x.divide(y).getIntValue(), mx.divide(my).getIntValue());
+            assertEquals(x.pow(b).getIntValue(), mx.pow(b).getIntValue());
+        }
+    }
+}
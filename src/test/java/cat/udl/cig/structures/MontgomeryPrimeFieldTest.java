@@ -0,0 +1,45 @@
+package cat.udl.cig.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MontgomeryPrimeFieldTest extends RingTemplateTest {
+
+    @Override
+    public void setUpRing() {
+        MontgomeryPrimeField field = new MontgomeryPrimeField(BigInteger.valueOf(37L));
+        ring = field;
+        operandA = field.toElement(BigInteger.valueOf(4L));
+        operandB = field.toElement(BigInteger.valueOf(5L));
+        power = BigInteger.valueOf(3L);
+    }
+
+    @Test
+    void isSameFieldAsPrimeField() {
+        PrimeField field = new PrimeField(BigInteger.valueOf(37L));
+        assertEquals(field, ring);
+        assertEquals(ring, field);
+        assertTrue(ring.containsElement(field.getMultiplicativeIdentity()));
+    }
+
+    @Test
+    void builderCreatesMontgomeryElements() {
+        MontgomeryPrimeField field = (MontgomeryPrimeField) ring;
+        assertTrue(field.buildElement().setValue(5L).build().orElseThrow() instanceof MontgomeryPrimeFieldElement);
+        assertTrue(field.getRandomElement() instanceof MontgomeryPrimeFieldElement);
+        assertEquals(field.toElement(BigInteger.valueOf(3L)), field.THREE());
+    }
+
+    @Test
+    void ofInternsFields() {
+        MontgomeryPrimeField field = MontgomeryPrimeField.of(BigInteger.valueOf(37L));
+        assertSame(field, MontgomeryPrimeField.of(BigInteger.valueOf(37L)));
+        assertSame(field.THREE(), field.THREE());
+        assertEquals(ring, field);
+    }
+}
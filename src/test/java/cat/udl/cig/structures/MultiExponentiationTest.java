@@ -0,0 +1,61 @@
+package cat.udl.cig.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiExponentiationTest {
+
+    private final PrimeField field = new PrimeField(new BigInteger("6277101735386680763835789423207666416083908700390324961279"));
+
+    // Subgroup of order q = 1019 of Z_p^*, p = 2 * 1019 + 1
+    private final IntegerPrimeOrderSubgroup subgroup = new IntegerPrimeOrderSubgroup(
+            BigInteger.valueOf(2039), BigInteger.valueOf(1019), BigInteger.valueOf(4));
+
+    @Test
+    void testMultiExpEqualsProductOfPows() {
+        SecureRandom random = new SecureRandom();
+        List<PrimeFieldElement> bases = new ArrayList<>();
+        List<BigInteger> exponents = new ArrayList<>();
+        PrimeFieldElement expected = field.getMultiplicativeIdentity();
+        for (int i = 0; i < 40; i++) {
+            PrimeFieldElement base = field.getRandomElement();
+            BigInteger k = new BigInteger(192, random);
+            if (i % 3 == 0) {
+                k = k.negate();
+            }
+            bases.add(base);
+            exponents.add(k);
+            expected = expected.multiply(base.pow(k));
+            assertEquals(expected, field.multiExp(bases, exponents), "with " + (i + 1) + " terms");
+        }
+    }
+
+    @Test
+    void testSubgroupReducesExponents() {
+        PrimeFieldElement g = subgroup.getGenerator();
+        PrimeFieldElement h = g.pow(BigInteger.valueOf(77));
+        List<PrimeFieldElement> bases = List.of(g, h);
+        List<BigInteger> exponents = List.of(BigInteger.valueOf(-5), BigInteger.valueOf(1019L * 3 + 2));
+        assertEquals(g.pow(BigInteger.valueOf(1019 - 5 + 77 * 2)), subgroup.multiExp(bases, exponents));
+    }
+
+    @Test
+    void testEmptyAndZeroExponents() {
+        assertEquals(field.getMultiplicativeIdentity(), field.multiExp(List.of(), List.of()));
+        assertEquals(field.getMultiplicativeIdentity(),
+                field.multiExp(List.of(field.getRandomElement()), List.of(BigInteger.ZERO)));
+    }
+
+    @Test
+    void testDifferentSizes() {
+        assertThrows(IllegalArgumentException.class,
+                () -> field.multiExp(List.of(field.getRandomElement()), List.of()));
+    }
+}
@@ -94,6 +94,18 @@ class PrimeFieldElementTest extends RingElementTemplateTest {
         assertTrue(field.buildElement().setValue(10).build().orElseThrow().isQuadraticNonResidue());
     }
 
+    @Test
+    void isQuadraticResidueAgreesWithSquareRootSearch() {
+        for (PrimeField F : new PrimeField[]{field, new PrimeField(BigInteger.valueOf(1009))}) {
+            for (long i = 0; i < F.getSize().longValue(); i++) {
+                PrimeFieldElement el = F.toElement(BigInteger.valueOf(i));
+                boolean expected = el.squareOfQuadraticResidue().isPresent();
+                assertEquals(expected, el.isQuadraticResidue(), "x = " + i);
+                assertEquals(!expected, el.isQuadraticNonResidue(), "x = " + i);
+            }
+        }
+    }
+
     @Test
     public void testCompareTo() {
         PrimeFieldElement op1 = (PrimeFieldElement) returnOperand1(); // op1 = 10
@@ -1,7 +1,13 @@
 package cat.udl.cig.structures;
 
+import org.junit.jupiter.api.Test;
+
 import java.math.BigInteger;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 class PrimeFieldTest extends RingTemplateTest {
 
 
@@ -13,4 +19,19 @@ class PrimeFieldTest extends RingTemplateTest {
         operandB = new PrimeFieldElement(field, BigInteger.valueOf(5L));;
         power = BigInteger.valueOf(3L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void constantsAreCached() {
+        assertSame(ring.ZERO(), ring.getAdditiveIdentity());
+        assertSame(ring.ONE(), ring.getMultiplicativeIdentity());
+        assertSame(ring.THREE(), ring.THREE());
+    }
+
+    @Test
+    void ofInternsFields() {
+        PrimeField field = PrimeField.of(BigInteger.valueOf(37L));
+        assertSame(field, PrimeField.of(BigInteger.valueOf(37L)));
+        assertNotSame(field, PrimeField.of(BigInteger.valueOf(41L)));
+        assertEquals(ring, field);
+    }
+}
@@ -0,0 +1,113 @@
+package cat.udl.cig.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QuadraticExtensionFieldElementTest extends RingElementTemplateTest {
+
+    QuadraticExtensionField field;
+
+    @Override
+    protected Ring returnRing() {
+        field = QuadraticExtensionField.of(BigInteger.valueOf(11));
+        return field;
+    }
+
+    private QuadraticExtensionFieldElement element(long a, long b) {
+        return field.buildElement().setValue(a, b).build().orElseThrow();
+    }
+
+    @Override
+    protected RingElement returnOperand1() {
+        return element(7, 1);
+    }
+
+    @Override
+    protected RingElement returnOperand2() {
+        return element(2, 5);
+    }
+
+    @Override
+    protected RingElement returnResultAddition() {
+        return element(9, 6);
+    }
+
+    @Override
+    protected RingElement returnResultSubtraction() {
+        return element(5, 7);
+    }
+
+    @Override
+    protected RingElement returnExpectedOpposite1() {
+        return element(4, 10);
+    }
+
+    @Override
+    protected RingElement returnExpectedInverse1() {
+        return element(3, 9);
+    }
+
+    @Override
+    protected BigInteger returnPower() {
+        return BigInteger.valueOf(6);
+    }
+
+    @Override
+    protected RingElement returnExpectedPower() {
+        return element(0, 7);
+    }
+
+    @Override
+    protected ArrayList<RingElement> returnSquaresRootOfOp1() {
+        return new ArrayList<>();
+    }
+
+    @Override
+    protected RingElement expectedResultMultiplication() {
+        return element(9, 4);
+    }
+
+    @Override
+    protected RingElement expectedResultDivision() {
+        return element(9, 0);
+    }
+
+    @Test
+    void squareRootsOfSquares() {
+        for (int i = 0; i < 20; i++) {
+            QuadraticExtensionFieldElement x = field.getRandomElement();
+            QuadraticExtensionFieldElement square = x.square();
+            assertEquals(x.multiply(x), square);
+            HashSet<QuadraticExtensionFieldElement> expected = new HashSet<>();
+            expected.add(x);
+            expected.add(x.opposite());
+            assertEquals(expected, new HashSet<>(square.squareRoot()));
+        }
+        QuadraticExtensionFieldElement real = element(2, 0);
+        for (QuadraticExtensionFieldElement root : real.squareRoot()) {
+            assertEquals(real, root.square());
+        }
+    }
+
+    @Test
+    void frobeniusIsPowerOfCharacteristic() {
+        for (int i = 0; i < 10; i++) {
+            QuadraticExtensionFieldElement x = field.getRandomElement();
+            assertEquals(x.pow(field.getCharacteristic()), x.frobenius());
+            assertTrue(field.getField().containsElement(x.norm()));
+            assertEquals(x.multiply(x.conjugate()), field.toElement(x.norm().getValue(), BigInteger.ZERO));
+        }
+    }
+
+    @Test
+    void inverseOfZero() {
+        assertThrows(ArithmeticException.class, () -> field.getAdditiveIdentity().inverse());
+    }
+}
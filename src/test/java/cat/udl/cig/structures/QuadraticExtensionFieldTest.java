@@ -0,0 +1,78 @@
+package cat.udl.cig.structures;
+
+import cat.udl.cig.exceptions.ConstructionException;
+import cat.udl.cig.structures.ecc.EllipticCurve;
+import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import cat.udl.cig.utils.Polynomial;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuadraticExtensionFieldTest extends RingTemplateTest {
+
+    @Override
+    public void setUpRing() {
+        QuadraticExtensionField field = QuadraticExtensionField.of(BigInteger.valueOf(1009L));
+        ring = field;
+        operandA = field.toElement(BigInteger.valueOf(4L), BigInteger.valueOf(7L));
+        operandB = field.toElement(BigInteger.valueOf(5L), BigInteger.valueOf(1008L));
+        power = BigInteger.valueOf(3L);
+    }
+
+    private static ExtensionFieldElement toExtensionField(ExtensionField extensionField, QuadraticExtensionFieldElement x) {
+        PrimeField primeField = extensionField.getField();
+        Polynomial polynomial = new Polynomial.PolynomialBuilder()
+                .addTerm(0, primeField.toElement(x.getA()))
+                .addTerm(1, primeField.toElement(x.getB()))
+                .build();
+        return new ExtensionFieldElement(extensionField, polynomial);
+    }
+
+    @Test
+    void ofInternsFields() {
+        assertSame(ring, QuadraticExtensionField.of(BigInteger.valueOf(1009L)));
+        assertEquals(BigInteger.valueOf(1009L * 1009L), ring.getSize());
+    }
+
+    @Test
+    void matchesExtensionFieldP2() {
+        QuadraticExtensionField field = (QuadraticExtensionField) ring;
+        ExtensionField extensionField = ExtensionField.ExtensionFieldP2(field.getCharacteristic());
+        for (int i = 0; i < 20; i++) {
+            QuadraticExtensionFieldElement x = field.getRandomElement();
+            QuadraticExtensionFieldElement y = field.getRandomElement();
+            assertEquals(toExtensionField(extensionField, x).multiply(toExtensionField(extensionField, y)),
+                    toExtensionField(extensionField, x.multiply(y)));
+            if (!x.equals(field.getAdditiveIdentity())) {
+                assertEquals(toExtensionField(extensionField, x).inverse(),
+                        toExtensionField(extensionField, x.inverse()));
+            }
+        }
+    }
+
+    @Test
+    void nonResidueIsChecked() {
+        assertThrows(ConstructionException.class,
+                () -> new QuadraticExtensionField(BigInteger.valueOf(11L), BigInteger.valueOf(4L)));
+        assertThrows(ConstructionException.class, () -> new QuadraticExtensionField(BigInteger.TWO));
+    }
+
+    @Test
+    void supersingularCurve() {
+        // y^2 = x^3 + x is supersingular for p = 3 mod 4, so it has (p + 1)^2 points over F_{p^2}
+        BigInteger p = BigInteger.valueOf(1019L);
+        QuadraticExtensionField field = QuadraticExtensionField.of(p);
+        EllipticCurve curve = new EllipticCurve(field, field.ONE(), field.ZERO());
+        BigInteger size = p.add(BigInteger.ONE).pow(2);
+        for (int i = 0; i < 5; i++) {
+            EllipticCurvePoint point = curve.getRandomElement();
+            assertTrue(curve.isOnCurve(point));
+            assertTrue(point.pow(size).isInfinity());
+        }
+    }
+}
@@ -46,6 +46,24 @@ public abstract class RingTemplateTest {
         assertEquals(randomElement, result);
     }
 
+    @Test
+    public void constantsTest() {
+        RingElement one = ring.ONE();
+        assertEquals(ring.getAdditiveIdentity(), ring.ZERO());
+        assertEquals(ring.getMultiplicativeIdentity(), one);
+        assertEquals(one.add(one).add(one), ring.THREE());
+    }
+
+    @Test
+    public void encodingTest() {
+        for (RingElement element : new RingElement[]{ring.getRandomElement(), ring.ZERO(), ring.ONE(), operandA}) {
+            byte[] bytes = element.toBytes();
+            assertEquals(ring.getEncodingLength(), bytes.length);
+            assertEquals(element, ring.fromBytes(bytes).orElseThrow());
+        }
+        assertTrue(ring.fromBytes(new byte[ring.getEncodingLength() + 1]).isEmpty());
+    }
+
     @Test
     public void multiplicationTest() {
         RingElement result = ring.multiply(operandA, operandB);
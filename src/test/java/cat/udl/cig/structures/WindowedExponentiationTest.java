@@ -0,0 +1,77 @@
+package cat.udl.cig.structures;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WindowedExponentiationTest {
+
+    private final SecureRandom random = new SecureRandom();
+
+    private final PrimeField field = new PrimeField(new BigInteger("6277101735386680763835789423207666416083908700390324961279"));
+
+    @Test
+    void testWnafDigits() {
+        for (int w = 2; w <= 8; w++) {
+            for (int t = 0; t < 50; t++) {
+                BigInteger k = new BigInteger(1 + random.nextInt(300), random).add(BigInteger.ONE);
+                int[] digits = WindowedExponentiation.wnaf(k, w);
+                BigInteger value = BigInteger.ZERO;
+                int last = -w;
+                for (int i = digits.length - 1; i >= 0; i--) {
+                    value = value.shiftLeft(1).add(BigInteger.valueOf(digits[i]));
+                }
+                for (int i = 0; i < digits.length; i++) {
+                    if (digits[i] != 0) {
+                        assertTrue(Math.abs(digits[i]) < 1 << (w - 1) && (digits[i] & 1) == 1);
+                        assertTrue(i - last >= w, "nonzero digits closer than " + w);
+                        last = i;
+                    }
+                }
+                assertEquals(k, value);
+            }
+        }
+    }
+
+    @Test
+    void testSlidingWindowDigits() {
+        for (int w = 1; w <= 7; w++) {
+            BigInteger k = new BigInteger(200, random).setBit(199);
+            int[] digits = WindowedExponentiation.slidingWindow(k, w);
+            BigInteger value = BigInteger.ZERO;
+            for (int i = digits.length - 1; i >= 0; i--) {
+                assertTrue(digits[i] == 0 || (digits[i] & 1) == 1 && digits[i] < 1 << w);
+                value = value.shiftLeft(1).add(BigInteger.valueOf(digits[i]));
+            }
+            assertEquals(k, value);
+        }
+    }
+
+    @Test
+    void testPowMatchesModPow() {
+        for (int bits : new int[]{1, 5, 30, 100, 192, 700}) {
+            PrimeFieldElement g = field.getRandomElement();
+            BigInteger k = new BigInteger(bits, random).setBit(bits - 1);
+            int w = WindowedExponentiation.window(bits);
+            GroupElement[] powers = WindowedExponentiation.oddPowers(g, 1 << (w - 1));
+            assertEquals(g.pow(k), WindowedExponentiation.pow(powers,
+                    WindowedExponentiation.slidingWindow(k, w), field.getMultiplicativeIdentity()));
+            int width = WindowedExponentiation.wnafWidth(bits);
+            powers = WindowedExponentiation.oddPowers(g, 1 << (width - 2));
+            assertEquals(g.pow(k), WindowedExponentiation.pow(powers,
+                    WindowedExponentiation.wnaf(k, width), field.getMultiplicativeIdentity()));
+        }
+    }
+
+    @Test
+    void testWindowGrowsWithBits() {
+        assertEquals(1, WindowedExponentiation.window(1));
+        assertEquals(4, WindowedExponentiation.window(160));
+        assertEquals(5, WindowedExponentiation.window(256));
+        assertEquals(7, WindowedExponentiation.window(4096));
+    }
+}
@@ -0,0 +1,196 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.exceptions.ConstructionException;
+import cat.udl.cig.structures.BinaryField;
+import cat.udl.cig.structures.BinaryFieldElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryECTest {
+
+    private BinaryField field;
+    private BinaryEC curve;
+    private BinaryECPoint generator;
+    private BigInteger order;
+
+    private BinaryFieldElement element(final String hex) {
+        BigInteger value = new BigInteger(hex, 16);
+        BitSet bits = new BitSet(field.getDimension());
+        for (int i = 0; i < value.bitLength(); i++) {
+            bits.set(i, value.testBit(i));
+        }
+        return new BinaryFieldElement(field, bits);
+    }
+
+    private static BinaryECPoint affinePow(final BinaryECPoint point, final BigInteger k) {
+        BinaryECPoint result = point.getCurve().getMultiplicativeIdentity();
+        for (int i = k.bitLength() - 1; i >= 0; i--) {
+            result = result.square();
+            if (k.testBit(i)) {
+                result = result.multiply(point);
+            }
+        }
+        return result;
+    }
+
+    @BeforeEach
+    void setUp() {
+        // NIST B-163
+        BitSet f = new BitSet(164);
+        for (int i : new int[]{163, 7, 6, 3, 0}) {
+            f.set(i);
+        }
+        field = new BinaryField(f);
+        order = new BigInteger("040000000000000000000292FE77E70C12A4234C33", 16);
+        curve = new BinaryEC(field, field.getMultiplicativeIdentity(),
+                element("020A601907B8C953CA1481EB10512F78744A3205FD"), order.shiftLeft(1));
+        generator = new BinaryECPoint(curve, element("03F0EBA16286A2D57EA0991168D4994637E8343E36"),
+                element("00D51FBC6C71A0094FA2CDD545B11C5C0C797324F1"));
+    }
+
+    @Test
+    void testStandardCurve() {
+        assertTrue(!curve.isSuperSingularEC());
+        assertTrue(generator.pow(order).isInfinity());
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 5; i++) {
+            BigInteger k = new BigInteger(order.bitLength(), random).mod(order);
+            BigInteger l = new BigInteger(order.bitLength(), random).mod(order);
+            assertEquals(generator.pow(k.add(l)), generator.pow(k).multiply(generator.pow(l)));
+        }
+    }
+
+    @Test
+    void testEncoding() {
+        byte[] compressed = generator.toBytes(true);
+        assertEquals(new BigInteger("0303F0EBA16286A2D57EA0991168D4994637E8343E36", 16),
+                new BigInteger(1, compressed));
+        assertEquals(generator, curve.fromBytes(compressed).orElseThrow());
+        assertEquals(generator.inverse(), curve.fromBytes(generator.inverse().toBytes(true)).orElseThrow());
+        assertEquals(generator, curve.fromBytes(generator.toBytes()).orElseThrow());
+        assertEquals(curve.getEncodingLength(false), generator.toBytes().length);
+        BinaryECPoint point = generator.pow(BigInteger.valueOf(12345));
+        assertEquals(point, curve.fromBytes(point.toBytes(true)).orElseThrow());
+    }
+
+    @Test
+    void testLadderPowEqualsWnafPow() {
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 5; i++) {
+            BigInteger k = new BigInteger(order.bitLength(), random);
+            assertEquals(generator.wnafPow(k), generator.ladderPow(k), "G * " + k);
+        }
+        assertEquals(generator, generator.ladderPow(BigInteger.ONE));
+        assertEquals(generator.inverse(), generator.ladderPow(order.subtract(BigInteger.ONE)));
+        assertTrue(generator.ladderPow(order).isInfinity());
+        assertEquals(generator, generator.ladderPow(order.add(BigInteger.ONE)));
+    }
+
+    @Test
+    void testLadderPowThroughInfinity() {
+        for (int i = 0; i < 3; i++) {
+            BigInteger k = order.shiftLeft(8 * i + 1).add(BigInteger.valueOf(i + 5));
+            assertEquals(generator.wnafPow(BigInteger.valueOf(i + 5)), generator.ladderPow(k), "G * " + k);
+        }
+    }
+
+    @Test
+    void testLopezDahabPowEqualsAffinePow() {
+        BinaryECPoint point = generator.pow(BigInteger.valueOf(12345));
+        for (int i = 1; i < 20; i++) {
+            BigInteger k = BigInteger.valueOf(i).multiply(BigInteger.valueOf(7919)).add(BigInteger.valueOf(i));
+            assertEquals(affinePow(point, k), point.wnafPow(k), "P * " + k);
+        }
+        assertTrue(point.wnafPow(BigInteger.ZERO).isInfinity());
+        assertEquals(point.inverse(), point.wnafPow(BigInteger.ONE.negate()));
+    }
+
+    @Test
+    void testMultiExpEqualsSumOfPows() {
+        List<BinaryECPoint> points = new ArrayList<>();
+        List<BigInteger> scalars = new ArrayList<>();
+        BinaryECPoint expected = curve.getMultiplicativeIdentity();
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 6; i++) {
+            BinaryECPoint point = generator.pow(BigInteger.valueOf(i + 1));
+            BigInteger k = new BigInteger(order.bitLength(), random).subtract(order.shiftRight(1));
+            points.add(point);
+            scalars.add(k);
+            expected = expected.multiply(point.pow(k.mod(order)));
+            assertEquals(expected, curve.multiExp(points, scalars), "with " + (i + 1) + " terms");
+        }
+    }
+
+    @Test
+    void testKoblitzCurve() {
+        // NIST K-163
+        BigInteger koblitzOrder = new BigInteger("04000000000000000000020108A2E0CC0D99F8A5EF", 16);
+        BinaryEC koblitz = new BinaryEC(field, field.getMultiplicativeIdentity(), field.getMultiplicativeIdentity(),
+                koblitzOrder.shiftLeft(1));
+        BinaryECPoint point = new BinaryECPoint(koblitz, element("02FE13C0537BBC11ACAA07D793DE4E6D5E5C94EEE8"),
+                element("0289070FB05D38FF58321F2E800536D538CCDAA3D9"));
+        assertTrue(koblitz.isKoblitz());
+        assertTrue(!curve.isKoblitz());
+        assertTrue(point.pow(koblitzOrder).isInfinity());
+        SecureRandom random = new SecureRandom();
+        BinaryECPoint other = koblitz.getRandomElement();
+        for (int i = 0; i < 5; i++) {
+            BigInteger k = new BigInteger(koblitzOrder.bitLength() + 8, random);
+            assertEquals(point.wnafPow(k), point.pow(k), "P * " + k);
+            assertEquals(other.wnafPow(k), other.tauAdicPow(k), "Q * " + k);
+        }
+        assertEquals(point.inverse(), point.pow(BigInteger.ONE.negate()));
+    }
+
+    @Test
+    void testRandomElement() {
+        BinaryECPoint point = curve.getRandomElement();
+        assertTrue(curve.isOnCurve(point));
+        assertTrue(point.pow(order.shiftLeft(1)).isInfinity());
+    }
+
+    @Test
+    void testSingularCurve() {
+        assertThrows(ConstructionException.class, () -> new BinaryEC(field, field.getMultiplicativeIdentity(),
+                field.getAdditiveIdentity(), order.shiftLeft(1)));
+    }
+
+    @Test
+    void testSupersingularOrder() {
+        // q + 1 - #E is even, so the curve would be supersingular
+        assertThrows(ConstructionException.class, () -> new BinaryEC(field, field.getMultiplicativeIdentity(),
+                (BinaryFieldElement) curve.getB(), order.shiftLeft(1).add(BigInteger.ONE)));
+    }
+
+    @Test
+    void testDiscriminant() {
+        assertEquals(curve.getB(), curve.getDiscriminant());
+    }
+
+    @Test
+    void testLiftXKeepsTheOrder() {
+        ArrayList<? extends BinaryECPoint> points = curve.liftX(generator.getX());
+        assertEquals(1, points.size());
+        BinaryECPoint point = points.get(0);
+        assertTrue(point.equals(generator) || point.equals(generator.inverse()));
+        assertEquals(point, point.pow(BigInteger.ONE));
+        assertTrue(point.pow(order).isInfinity());
+    }
+
+    @Test
+    void testPowReachingInfinity() {
+        assertEquals(generator.inverse(), generator.pow(order.subtract(BigInteger.ONE)));
+        assertTrue(generator.pow(order).isInfinity());
+        assertEquals(generator, generator.pow(order.add(BigInteger.ONE)));
+    }
+}
@@ -0,0 +1,54 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.operations.wrapper.data.Pair;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ECFixedBaseTableTest {
+
+    private EllipticCurvePoint generator;
+    private BigInteger order;
+
+    @BeforeEach
+    void setUp() {
+        // NIST P-192
+        BigInteger p = new BigInteger("6277101735386680763835789423207666416083908700390324961279");
+        order = new BigInteger("6277101735386680763835789423176059013767194773182842284081");
+        BigInteger b = new BigInteger("64210519e59c80e70fa7e9ab72243049feb8deecc146b9b1", 16);
+        BigInteger gx = new BigInteger("188da80eb03090f67cbf20eb43a18800f4ff0afd82ff1012", 16);
+        BigInteger gy = new BigInteger("07192b95ffc8da78631011ed6b24cdd573f977a11e794811", 16);
+        PrimeField field = new PrimeField(p);
+        Pair<EllipticCurve, EllipticCurvePoint> pair = EllipticCurve.EllipticCurveGeneratorOnlyOneSubgroup(field,
+                new PrimeFieldElement(field, BigInteger.valueOf(-3)), new PrimeFieldElement(field, b), order,
+                new PrimeFieldElement(field, gx), new PrimeFieldElement(field, gy));
+        generator = pair.getValue();
+    }
+
+    @Test
+    void testPowEqualsPointPow() {
+        ECFixedBaseTable table = new ECFixedBaseTable(generator, order.bitLength());
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 20; i++) {
+            BigInteger k = new BigInteger(order.bitLength(), random).mod(order);
+            assertEquals(generator.pow(k), table.pow(k), "P * " + k);
+        }
+        assertTrue(table.pow(BigInteger.ZERO).isInfinity());
+        assertTrue(table.pow(order).isInfinity());
+    }
+
+    @Test
+    void testPrecomputedSubgroup() {
+        ECPrimeOrderSubgroup subgroup = new ECPrimeOrderSubgroup(generator.getCurve(), order, generator);
+        subgroup.precomputeGenerator();
+        BigInteger k = subgroup.getRandomExponent();
+        assertEquals(generator.pow(k), subgroup.powGenerator(k));
+    }
+}
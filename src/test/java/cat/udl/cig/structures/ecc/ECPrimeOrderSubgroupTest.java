@@ -0,0 +1,79 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.operations.wrapper.data.Pair;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ECPrimeOrderSubgroupTest {
+
+    private ECPrimeOrderSubgroup subgroup;
+    private EllipticCurvePoint generator;
+    private BigInteger order;
+
+    @BeforeEach
+    void setUp() {
+        // NIST P-192
+        BigInteger p = new BigInteger("6277101735386680763835789423207666416083908700390324961279");
+        order = new BigInteger("6277101735386680763835789423176059013767194773182842284081");
+        BigInteger b = new BigInteger("64210519e59c80e70fa7e9ab72243049feb8deecc146b9b1", 16);
+        BigInteger gx = new BigInteger("188da80eb03090f67cbf20eb43a18800f4ff0afd82ff1012", 16);
+        BigInteger gy = new BigInteger("07192b95ffc8da78631011ed6b24cdd573f977a11e794811", 16);
+        PrimeField field = new PrimeField(p);
+        Pair<EllipticCurve, EllipticCurvePoint> pair = EllipticCurve.EllipticCurveGeneratorOnlyOneSubgroup(field,
+                new PrimeFieldElement(field, BigInteger.valueOf(-3)), new PrimeFieldElement(field, b), order,
+                new PrimeFieldElement(field, gx), new PrimeFieldElement(field, gy));
+        generator = pair.getValue();
+        subgroup = new ECPrimeOrderSubgroup(generator.getCurve(), order, generator);
+    }
+
+    @Test
+    void testMontgomeryLadderEqualsPow() {
+        subgroup.setMontgomeryLadder(true);
+        assertTrue(subgroup.usesMontgomeryLadder());
+        EllipticCurvePoint point = subgroup.getRandomElement();
+        for (int i = 0; i < 10; i++) {
+            BigInteger k = subgroup.getRandomExponent();
+            assertEquals(generator.pow(k), subgroup.powGenerator(k), "G * " + k);
+            assertEquals(point.pow(k), subgroup.pow(point, k), "P * " + k);
+        }
+        assertTrue(subgroup.powGenerator(BigInteger.ZERO).isInfinity());
+        assertTrue(subgroup.powGenerator(order).isInfinity());
+        assertEquals(generator.inverse(), subgroup.powGenerator(BigInteger.ONE.negate()));
+    }
+
+    @Test
+    void testRegularScalarHasFixedLength() {
+        BigInteger[] scalars = {BigInteger.ZERO, BigInteger.ONE, order.shiftRight(1),
+                order.subtract(BigInteger.ONE), order, order.shiftLeft(3).add(BigInteger.TEN)};
+        for (BigInteger k : scalars) {
+            BigInteger padded = subgroup.regularScalar(k);
+            assertEquals(order.bitLength() + 1, padded.bitLength(), "k = " + k);
+            assertEquals(k.mod(order), padded.mod(order), "k = " + k);
+        }
+    }
+
+    @Test
+    void testMontgomeryLadderExceptionalScalars() {
+        EllipticCurvePoint regular = new EllipticCurvePoint(generator.getCurve(), generator.x, generator.y) {
+            @Override
+            public EllipticCurvePoint jacobianPow(final BigInteger k) {
+                throw new AssertionError("the ladder must not use the wNAF method");
+            }
+        };
+        for (long i = -3; i <= 3; i++) {
+            BigInteger k = BigInteger.valueOf(i);
+            EllipticCurvePoint expected = generator.pow(k.mod(order));
+            assertEquals(expected, regular.ladderPow(subgroup.regularScalar(k), order), "G * " + k);
+            assertEquals(expected, regular.ladderPow(k.mod(order), order), "G * " + k);
+        }
+        assertThrows(ArithmeticException.class, () -> regular.ladderPow(order, null));
+    }
+}
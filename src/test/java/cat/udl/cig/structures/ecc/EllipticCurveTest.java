@@ -8,6 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -88,6 +90,25 @@ abstract class EllipticCurveTest {
 
     }
 
+    @Test
+    void testEncoding() {
+        EllipticCurvePoint infinity = ellipticCurve.getMultiplicativeIdentity();
+        for (EllipticCurvePoint point : List.of(point1, point2, point1.inverse(), point2.inverse(), infinity)) {
+            for (boolean compressed : new boolean[]{true, false}) {
+                byte[] bytes = point.toBytes(compressed);
+                if (!point.isInfinity()) {
+                    assertEquals(ellipticCurve.getEncodingLength(compressed), bytes.length);
+                }
+                assertEquals(point, ellipticCurve.fromBytes(bytes).orElseThrow(), "P" + point);
+            }
+        }
+        assertArrayEquals(new byte[]{0}, infinity.toBytes());
+        byte[] bytes = point1.toBytes(false);
+        bytes[0] = 5;
+        assertTrue(ellipticCurve.fromBytes(bytes).isEmpty());
+        assertTrue(ellipticCurve.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)).isEmpty());
+    }
+
     @Test
     void testElementPlusAnotherElement() {
         EllipticCurvePoint plus = ellipticCurve.multiply(point1, point2);
@@ -204,6 +225,43 @@ abstract class EllipticCurveTest {
         assertEquals(doublePoint, point1.pow(BigInteger.TWO));
     }
 
+    @Test
+    void testJacobianPowEqualsAffinePow() {
+        for (int i = 0; i < 40; i++) {
+            BigInteger k = BigInteger.valueOf(i).multiply(BigInteger.valueOf(7919)).add(BigInteger.valueOf(i));
+            assertEquals(point1.peasantRussianPow(k), point1.jacobianPow(k), "P1 * " + k);
+            assertEquals(point2.peasantRussianPow(k), point2.jacobianPow(k), "P2 * " + k);
+        }
+    }
+
+    @Test
+    void testLadderPowEqualsAffinePow() {
+        for (int i = 0; i < 40; i++) {
+            BigInteger k = BigInteger.valueOf(i).multiply(BigInteger.valueOf(7919)).add(BigInteger.valueOf(i));
+            assertEquals(point1.peasantRussianPow(k), point1.ladderPow(k), "P1 * " + k);
+            assertEquals(point2.peasantRussianPow(k), point2.ladderPow(k), "P2 * " + k);
+        }
+        assertEquals(point1.inverse(), point1.ladderPow(BigInteger.ONE.negate()));
+    }
+
+    @Test
+    void testMultiExpEqualsSumOfPows() {
+        List<EllipticCurvePoint> points = new ArrayList<>();
+        List<BigInteger> scalars = new ArrayList<>();
+        EllipticCurvePoint expected = ellipticCurve.getMultiplicativeIdentity();
+        for (int i = 0; i < 8; i++) {
+            EllipticCurvePoint point = i % 2 == 0 ? point1.peasantRussianPow(BigInteger.valueOf(i + 1)) : point2;
+            BigInteger k = BigInteger.valueOf(7919L * i - 13L * i * i);
+            points.add(point);
+            scalars.add(k);
+            EllipticCurvePoint term = k.signum() < 0
+                    ? point.inverse().peasantRussianPow(k.negate())
+                    : point.peasantRussianPow(k);
+            expected = expected.multiply(term);
+            assertEquals(expected, ellipticCurve.multiExp(points, scalars), "with " + (i + 1) + " terms");
+        }
+    }
+
     @Test
     void testInfinityElement() {
         EllipticCurvePoint infinity = ellipticCurve.getMultiplicativeIdentity();
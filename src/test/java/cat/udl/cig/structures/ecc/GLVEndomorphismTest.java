@@ -0,0 +1,126 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.operations.wrapper.data.Pair;
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GLVEndomorphismTest {
+
+    private EllipticCurvePoint secp256k1;
+    private BigInteger secp256k1Order;
+    private EllipticCurvePoint j1728;
+    private BigInteger j1728Order;
+
+    @BeforeEach
+    void setUp() {
+        // secp256k1: y^2 = x^3 + 7, j = 0
+        BigInteger p = new BigInteger("fffffffffffffffffffffffffffffffffffffffffffffffffffffffefffffc2f", 16);
+        secp256k1Order = new BigInteger("fffffffffffffffffffffffffffffffebaaedce6af48a03bbfd25e8cd0364141", 16);
+        BigInteger gx = new BigInteger("79be667ef9dcbbac55a06295ce870b07029bfcdb2dce28d959f2815b16f81798", 16);
+        BigInteger gy = new BigInteger("483ada7726a3c4655da4fbfc0e1108a8fd17b448a68554199c47d08ffb10d4b8", 16);
+        PrimeField field = new PrimeField(p);
+        Pair<EllipticCurve, EllipticCurvePoint> pair = EllipticCurve.EllipticCurveGeneratorOnlyOneSubgroup(field,
+                field.getAdditiveIdentity(), new PrimeFieldElement(field, BigInteger.valueOf(7)), secp256k1Order,
+                new PrimeFieldElement(field, gx), new PrimeFieldElement(field, gy));
+        secp256k1 = pair.getValue();
+
+        // y^2 = x^3 + x, j = 1728, with cofactor 4
+        PrimeField small = new PrimeField(new BigInteger("2305843009213693973"));
+        j1728Order = new BigInteger("576460752944418257");
+        EllipticCurve curve = new EllipticCurve(small, small.getMultiplicativeIdentity(), small.getAdditiveIdentity(),
+                new BigInteger("2305843011777673028"));
+        j1728 = new EllipticCurvePoint(curve, new PrimeFieldElement(small, new BigInteger("2283848541162745592")),
+                new PrimeFieldElement(small, new BigInteger("1353769147207391545")), j1728Order);
+    }
+
+    @Test
+    void testEigenvalue() {
+        assertTrue(secp256k1.getCurve().hasGLVEndomorphism());
+        GLVEndomorphism endomorphism = secp256k1.getCurve().getGLVEndomorphism(secp256k1, secp256k1Order).orElseThrow();
+        BigInteger lambda = endomorphism.getEigenvalue();
+        assertEquals(BigInteger.ZERO, lambda.multiply(lambda).add(lambda).add(BigInteger.ONE).mod(secp256k1Order));
+        assertEquals(secp256k1.jacobianPow(lambda), endomorphism.apply(secp256k1));
+
+        assertTrue(j1728.getCurve().hasGLVEndomorphism());
+        endomorphism = j1728.getCurve().getGLVEndomorphism(j1728, j1728Order).orElseThrow();
+        lambda = endomorphism.getEigenvalue();
+        assertEquals(BigInteger.ZERO, lambda.multiply(lambda).add(BigInteger.ONE).mod(j1728Order));
+        assertEquals(j1728.jacobianPow(lambda), endomorphism.apply(j1728));
+    }
+
+    @Test
+    void testDecompose() {
+        GLVEndomorphism endomorphism = secp256k1.getCurve().getGLVEndomorphism(secp256k1, secp256k1Order).orElseThrow();
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 20; i++) {
+            BigInteger k = new BigInteger(secp256k1Order.bitLength(), random).mod(secp256k1Order);
+            BigInteger[] scalars = endomorphism.decompose(k);
+            assertEquals(k, scalars[0].add(scalars[1].multiply(endomorphism.getEigenvalue())).mod(secp256k1Order));
+            assertTrue(scalars[0].bitLength() <= 129 && scalars[1].bitLength() <= 129, "k = " + k);
+        }
+    }
+
+    @Test
+    void testGLVPowEqualsJacobianPow() {
+        for (EllipticCurvePoint point : new EllipticCurvePoint[]{secp256k1, j1728}) {
+            BigInteger order = point.order;
+            EllipticCurvePoint other = point.jacobianPow(BigInteger.valueOf(12345));
+            SecureRandom random = new SecureRandom();
+            for (int i = 0; i < 10; i++) {
+                BigInteger k = new BigInteger(order.bitLength() + 8, random);
+                assertEquals(point.jacobianPow(k), point.pow(k), "k = " + k);
+                assertEquals(other.jacobianPow(k), other.pow(k, order), "k = " + k);
+                assertEquals(point.jacobianPow(k.negate()), point.pow(k.negate()), "k = -" + k);
+            }
+            assertTrue(point.pow(BigInteger.ZERO).isInfinity());
+            assertTrue(point.pow(order).isInfinity());
+            assertEquals(point, point.pow(order.add(BigInteger.ONE)));
+        }
+    }
+
+    @Test
+    void testCurveWithoutEndomorphism() {
+        PrimeField field = new PrimeField(BigInteger.valueOf(1019));
+        EllipticCurve curve = new EllipticCurve(field, new PrimeFieldElement(field, BigInteger.valueOf(2)),
+                new PrimeFieldElement(field, BigInteger.valueOf(3)));
+        assertFalse(curve.hasGLVEndomorphism());
+        // p = 3 (mod 4) has no fourth roots of unity
+        EllipticCurve j1728Curve = new EllipticCurve(field, field.getMultiplicativeIdentity(), field.getAdditiveIdentity());
+        assertFalse(j1728Curve.hasGLVEndomorphism());
+        Optional<GLVEndomorphism> endomorphism = secp256k1.getCurve().getGLVEndomorphism(secp256k1, BigInteger.valueOf(7));
+        assertFalse(endomorphism.isPresent());
+    }
+
+    @Test
+    void testPointOutsideTheSubgroup() {
+        EllipticCurve curve = j1728.getCurve();
+        PrimeField field = (PrimeField) curve.getRing();
+        ECPrimeOrderSubgroup subgroup = new ECPrimeOrderSubgroup(curve, j1728Order, j1728);
+        // (0, 0) has order 2, so P + (0, 0) has order 2n
+        EllipticCurvePoint torsion = new EllipticCurvePoint(curve, field.getAdditiveIdentity(), field.getAdditiveIdentity());
+        EllipticCurvePoint sum = j1728.multiply(torsion);
+        EllipticCurvePoint outside = new EllipticCurvePoint(curve, sum.getX(), sum.getY());
+        assertFalse(outside.isKnownInSubgroup(j1728Order));
+        assertFalse(outside.pow(j1728Order).isInfinity());
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 10; i++) {
+            BigInteger k = new BigInteger(j1728Order.bitLength(), random).mod(j1728Order);
+            EllipticCurvePoint expected = j1728.jacobianPow(k).multiply(torsion.jacobianPow(k));
+            assertEquals(expected, outside.jacobianPow(k), "k = " + k);
+            subgroup.setMontgomeryLadder(false);
+            assertEquals(expected, subgroup.pow(outside, k), "k = " + k);
+            subgroup.setMontgomeryLadder(true);
+            assertEquals(expected, subgroup.pow(outside, k), "ladder, k = " + k);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package cat.udl.cig.structures.ecc;
+
+import cat.udl.cig.structures.PrimeField;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PointCountingTest {
+
+    private static EllipticCurve curve(BigInteger p, long a, long b) {
+        PrimeField field = new PrimeField(p);
+        return new EllipticCurve(field, field.toElement(BigInteger.valueOf(a)), field.toElement(BigInteger.valueOf(b)));
+    }
+
+    private static void assertAnnihilates(EllipticCurve curve, BigInteger size) {
+        BigInteger p = curve.getRing().getSize();
+        BigInteger trace = p.add(BigInteger.ONE).subtract(size);
+        assertTrue(trace.pow(2).compareTo(p.shiftLeft(2)) <= 0, "Not valid size for Hasse Theorem");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(curve.getRandomElement().pow(size).isInfinity());
+        }
+    }
+
+    @Test
+    void testNaive() {
+        assertEquals(BigInteger.valueOf(2186), PointCounting.naive(curve(BigInteger.valueOf(2213), 1, 49)));
+    }
+
+    @Test
+    void testTraceModulo() {
+        BigInteger p = BigInteger.valueOf(10007);
+        for (long b = 1; b < 5; b++) {
+            EllipticCurve curve = curve(p, 3, b);
+            BigInteger trace = p.add(BigInteger.ONE).subtract(PointCounting.naive(curve));
+            for (int l : new int[]{2, 3, 5, 7, 11, 13}) {
+                assertEquals(trace.mod(BigInteger.valueOf(l)).intValue(), PointCounting.traceModulo(curve, l));
+            }
+        }
+    }
+
+    @Test
+    void testMestreEqualsNaive() {
+        BigInteger p = BigInteger.valueOf(1000003);
+        for (long b : new long[]{1, 3, 4, 5}) {
+            EllipticCurve curve = curve(p, -3, b);
+            assertEquals(PointCounting.naive(curve), PointCounting.mestre(curve));
+        }
+    }
+
+    @Test
+    void testSchoofEqualsMestre() {
+        BigInteger p = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE);
+        EllipticCurve curve = curve(p, -3, 5);
+        BigInteger size = PointCounting.schoof(curve, 16);
+        assertEquals(PointCounting.mestre(curve), size);
+        assertAnnihilates(curve, size);
+    }
+
+    @Test
+    void testLargeField() {
+        BigInteger p = BigInteger.ONE.shiftLeft(100).nextProbablePrime();
+        EllipticCurve curve = curve(p, 2, 7);
+        BigInteger size = curve.getSize();
+        assertEquals(size, PointCounting.schoof(curve, 30));
+        assertAnnihilates(curve, size);
+    }
+
+    @Test
+    void testNotPrime() {
+        EllipticCurve curve = curve(BigInteger.valueOf(10007), 3, 1);
+        assertThrows(IllegalArgumentException.class, () -> PointCounting.traceModulo(curve, 9));
+    }
+}
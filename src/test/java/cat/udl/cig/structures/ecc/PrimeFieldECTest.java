@@ -148,4 +148,26 @@ public class PrimeFieldECTest extends EllipticCurveTest {
         assertEquals(builder.setValue(601).build().orElseThrow(), discriminant);
     }
 
+    @Test
+    void testTwoTorsionPoint() {
+        EllipticCurvePoint point = new EllipticCurvePoint(curve, builder.setValue(757).build().orElseThrow(),
+                primeField.getAdditiveIdentity());
+        assertTrue(curve.isOnCurve(point));
+        assertTrue(point.square().isInfinity());
+        assertTrue(point.multiply(point).isInfinity());
+        assertTrue(point.pow(BigInteger.TWO).isInfinity());
+        assertEquals(point, point.pow(BigInteger.valueOf(1093)));
+    }
+
+    @Test
+    void testOddMultiplesAreKeptFromTheSecondUse() {
+        EllipticCurvePoint point = returnGeneralECPoint1();
+        EllipticCurvePoint[] first = point.oddMultiples(4);
+        EllipticCurvePoint[] second = point.oddMultiples(4);
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+        assertSame(second, point.oddMultiples(4));
+        assertNotSame(second, returnGeneralECPoint1().oddMultiples(4));
+        assertEquals(point.pow(BigInteger.valueOf(7)), second[3]);
+    }
 }
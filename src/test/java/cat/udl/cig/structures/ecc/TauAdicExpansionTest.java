@@ -0,0 +1,79 @@
+package cat.udl.cig.structures.ecc;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TauAdicExpansionTest {
+
+    private static BigInteger[] multiply(final BigInteger[] a, final BigInteger[] b, final int mu) {
+        BigInteger a1b1 = a[1].multiply(b[1]);
+        return new BigInteger[]{a[0].multiply(b[0]).subtract(a1b1.shiftLeft(1)),
+                a[0].multiply(b[1]).add(a[1].multiply(b[0])).add(a1b1.multiply(BigInteger.valueOf(mu)))};
+    }
+
+    private static BigInteger[] evaluate(final TauAdicExpansion expansion, final int[] digits, final int w) {
+        BigInteger[][] alphas = expansion.representatives(w);
+        BigInteger[] result = {BigInteger.ZERO, BigInteger.ZERO};
+        BigInteger[] tau = {BigInteger.ZERO, BigInteger.ONE};
+        for (int i = digits.length - 1; i >= 0; i--) {
+            result = multiply(result, tau, expansion.getMu());
+            if (digits[i] != 0) {
+                BigInteger[] alpha = alphas[Math.abs(digits[i]) >>> 1];
+                BigInteger sign = BigInteger.valueOf(Integer.signum(digits[i]));
+                result = new BigInteger[]{result[0].add(sign.multiply(alpha[0])),
+                        result[1].add(sign.multiply(alpha[1]))};
+            }
+        }
+        return result;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 163, 2", "1, 163, 2", "0, 233, 5", "1, 163, 5", "1, 283, 6"})
+    void testWindowTauNAFRepresentsTheElement(final int a, final int m, final int w) {
+        TauAdicExpansion expansion = new TauAdicExpansion(a, m);
+        Random random = new Random(a + m + w);
+        for (int i = 0; i < 10; i++) {
+            BigInteger[] rho = expansion.reduce(new BigInteger(m + 20, random));
+            int[] digits = expansion.windowTauNAF(rho, w);
+            assertArrayEquals(rho, evaluate(expansion, digits, w));
+            assertTrue(digits.length <= m + 2 * w + 4, "length " + digits.length);
+            int last = -w;
+            for (int j = 0; j < digits.length; j++) {
+                if (digits[j] != 0) {
+                    assertTrue(j - last >= w, "adjacent digits at " + j);
+                    assertTrue(Math.abs(digits[j]) < 1 << (w - 1));
+                    last = j;
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 163", "1, 163", "0, 7"})
+    void testReduceIsCongruentModuloFrobeniusKernel(final int a, final int m) {
+        TauAdicExpansion expansion = new TauAdicExpansion(a, m);
+        BigInteger[] power = expansion.tauPower(m);
+        BigInteger[] kernel = {power[0].subtract(BigInteger.ONE), power[1]};
+        // #E = N(tau^m - 1) = 2^m + 1 - t, where t^2 <= 4 2^m
+        BigInteger size = expansion.norm(kernel);
+        BigInteger trace = BigInteger.ONE.shiftLeft(m).add(BigInteger.ONE).subtract(size);
+        assertTrue(trace.pow(2).compareTo(BigInteger.ONE.shiftLeft(m + 2)) <= 0);
+        BigInteger k = BigInteger.ONE.shiftLeft(2 * m).add(BigInteger.valueOf(12345));
+        BigInteger[] rho = expansion.reduce(k);
+        BigInteger[] difference = {k.subtract(rho[0]), rho[1].negate()};
+        // (k - rho) / (tau^m - 1) belongs to Z[tau] iff N(tau^m - 1) divides (k - rho) conj(tau^m - 1)
+        BigInteger[] conjugate = {kernel[0].add(kernel[1].multiply(BigInteger.valueOf(expansion.getMu()))),
+                kernel[1].negate()};
+        BigInteger[] numerator = multiply(difference, conjugate, expansion.getMu());
+        assertEquals(BigInteger.ZERO, numerator[0].mod(size));
+        assertEquals(BigInteger.ZERO, numerator[1].mod(size));
+        assertTrue(expansion.norm(rho).compareTo(size.shiftLeft(2)) <= 0);
+    }
+}
@@ -8,9 +8,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.util.HashMap;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PolynomialTest {
 
@@ -137,6 +142,63 @@ class PolynomialTest {
         assertEquals(expected, opA.euclideanMultiplication(opB));
     }
 
+    @Test
+    void testEqualsDoesNotChangeTheOperands() {
+        Polynomial linear = new Polynomial.PolynomialBuilder()
+                .addTerm(1, primeBuilder.setValue(1).build().orElseThrow())
+                .addTerm(0, primeBuilder.setValue(3).build().orElseThrow())
+                .build();
+        int hash = linear.hashCode();
+        assertNotEquals(polynomial, linear);
+        assertNotEquals(linear, polynomial);
+        assertEquals(hash, linear.hashCode());
+        assertEquals(1, linear.getDegree());
+    }
+
+    private Polynomial randomPolynomial(final int degree, final SecureRandom random) {
+        BigInteger[] values = new BigInteger[degree + 1];
+        for (int i = 0; i < degree; i++) {
+            values[i] = BigInteger.valueOf(random.nextInt(11));
+        }
+        values[degree] = BigInteger.valueOf(1 + random.nextInt(10));
+        return new Polynomial(values, field);
+    }
+
+    @Test
+    void testArrayConstructorReducesAndTrims() {
+        Polynomial linear = new Polynomial(new BigInteger[]{BigInteger.valueOf(14), BigInteger.valueOf(-1),
+                BigInteger.valueOf(22), BigInteger.ZERO}, field);
+        assertEquals(1, linear.getDegree());
+        assertEquals(new PrimeFieldElement(field, BigInteger.TEN), linear.getCoefficient(1));
+        assertArrayEquals(new BigInteger[]{BigInteger.valueOf(3), BigInteger.TEN}, linear.toArray());
+        assertEquals(0, new Polynomial(new BigInteger[]{BigInteger.valueOf(11)}, field).toArray().length);
+    }
+
+    @Test
+    void testEuclideanDivisionOfLongPolynomials() {
+        SecureRandom random = new SecureRandom();
+        Polynomial u = randomPolynomial(90, random);
+        Polynomial v = randomPolynomial(40, random);
+        Pair<Polynomial, Polynomial> division = u.euclideanDivision(v, field);
+        assertEquals(50, division.getKey().getDegree());
+        assertTrue(division.getValue().getDegree() < v.getDegree());
+        assertEquals(u, division.getKey().euclideanMultiplication(v).add(division.getValue()));
+        Polynomial zero = new Polynomial(new BigInteger[]{BigInteger.ZERO}, field);
+        assertThrows(ArithmeticException.class, () -> u.euclideanDivision(zero, field));
+    }
+
+    @Test
+    void testPowModuloLongPolynomial() {
+        SecureRandom random = new SecureRandom();
+        Polynomial modulus = randomPolynomial(40, random);
+        Polynomial base = randomPolynomial(39, random);
+        Polynomial expected = new Polynomial(new BigInteger[]{BigInteger.ONE}, field);
+        for (int i = 0; i < 13; i++) {
+            expected = expected.multiply(base, modulus);
+        }
+        assertEquals(expected, base.pow(BigInteger.valueOf(13), modulus));
+    }
+
     @Test
     void testSquaresRoots() {
         field = new PrimeField(BigInteger.valueOf(3));
@@ -1,11 +1,18 @@
 package cat.udl.cig.utils.discretelogarithm;
 
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
 import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BabyStepGiantStepTest extends LogarithmAlgorithmTest {
 
@@ -17,5 +24,30 @@ public class BabyStepGiantStepTest extends LogarithmAlgorithmTest {
         return algorithms;
     }
 
+    @Test
+    void testLargeGroup() {
+        PrimeField field = new PrimeField(BigInteger.ONE.shiftLeft(36).nextProbablePrime());
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(3));
+        BabyStepGiantStep bsgs = new BabyStepGiantStep(alpha);
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 5; i++) {
+            BigInteger k = new BigInteger(35, random);
+            PrimeFieldElement beta = alpha.pow(k);
+            Optional<BigInteger> x = bsgs.algorithm(beta);
+            assertTrue(x.isPresent(), "Power not found for " + k);
+            assertEquals(beta, alpha.pow(x.get()));
+        }
+    }
 
+    @Test
+    void testNotInSubgroup() {
+        EllipticCurvePoint alpha = (EllipticCurvePoint) returnGenerator().get(1);
+        BigInteger order = BigInteger.valueOf(1093);
+        EllipticCurvePoint outside = new EllipticCurvePoint(alpha.getCurve(),
+                EllipticCurvePrimeFieldGenerator.builder.setValue(757).build().orElseThrow(),
+                EllipticCurvePrimeFieldGenerator.primeField.getAdditiveIdentity());
+        assertTrue(outside.pow(BigInteger.TWO).isInfinity());
+        assertFalse(outside.pow(order).isInfinity());
+        assertTrue(new BabyStepGiantStep(alpha, order).algorithm(outside).isEmpty());
+    }
 }
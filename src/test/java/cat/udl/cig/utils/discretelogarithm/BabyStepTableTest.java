@@ -0,0 +1,55 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.PrimeField;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BabyStepTableTest {
+
+    @Test
+    void testPutAndFind() {
+        BabyStepTable table = new BabyStepTable(1000);
+        for (int i = 0; i < 1000; i++) {
+            table.put(i * 0x9e3779b97f4a7c15L, i);
+        }
+        assertEquals(1000, table.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, table.find(i * 0x9e3779b97f4a7c15L, index -> true));
+        }
+        assertEquals(-1, table.find(0x123456789L, index -> true));
+    }
+
+    @Test
+    void testSameFingerprint() {
+        BabyStepTable table = new BabyStepTable(4);
+        table.put(42L, 1);
+        table.put(42L, 2);
+        table.put(42L, 3);
+        assertEquals(1, table.find(42L, index -> true));
+        assertEquals(3, table.find(42L, index -> index > 2));
+        assertEquals(-1, table.find(42L, index -> index > 3));
+    }
+
+    @Test
+    void testFull() {
+        BabyStepTable table = new BabyStepTable(1);
+        for (int i = 0; i < table.capacity() - 1; i++) {
+            table.put(i, i);
+        }
+        assertThrows(ArithmeticException.class, () -> table.put(7L, 7));
+    }
+
+    @Test
+    void testFingerprint() {
+        PrimeField field = new PrimeField(BigInteger.valueOf(2213));
+        assertEquals(BabyStepTable.fingerprint(field.toElement(BigInteger.valueOf(17))),
+                BabyStepTable.fingerprint(field.toElement(BigInteger.valueOf(17))));
+        assertNotEquals(BabyStepTable.fingerprint(field.toElement(BigInteger.valueOf(17))),
+                BabyStepTable.fingerprint(field.toElement(BigInteger.valueOf(18))));
+    }
+}
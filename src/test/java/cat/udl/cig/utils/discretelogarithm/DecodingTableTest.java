@@ -0,0 +1,66 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DecodingTableTest extends LogarithmAlgorithmTest {
+
+    @Override
+    protected ArrayList<LogarithmAlgorithm> returnAlgorithm() {
+        ArrayList<LogarithmAlgorithm> algorithms = new ArrayList<>();
+        algorithms.add(new DecodingTable(returnGenerator().get(0), 100));
+        algorithms.add(new DecodingTable(returnGenerator().get(1), 1093, 10));
+        return algorithms;
+    }
+
+    @Test
+    void testRange() {
+        PrimeField field = new PrimeField(BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE));
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(37));
+        DecodingTable table = new DecodingTable(alpha, 1L << 24, 1 << 12);
+        assertEquals(1 << 12, table.getBabySteps());
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 10; i++) {
+            long x = random.nextInt(1 << 24);
+            Optional<BigInteger> actual = table.algorithm(alpha.pow(BigInteger.valueOf(x)));
+            assertTrue(actual.isPresent(), "Power not found for " + x);
+            assertEquals(BigInteger.valueOf(x), actual.get());
+        }
+        assertEquals(BigInteger.ZERO, table.algorithm(field.getMultiplicativeIdentity()).orElseThrow());
+        assertTrue(table.algorithm(alpha.pow(BigInteger.valueOf(1L << 24))).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new DecodingTable(alpha, 0));
+    }
+
+    @Test
+    void testLoad(@TempDir Path directory) throws IOException {
+        PrimeField field = new PrimeField(BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE));
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(37));
+        Path file = directory.resolve("decoding.bsgs");
+        DecodingTable built = DecodingTable.load(alpha, 1L << 20, 1 << 10, file);
+        assertTrue(Files.exists(file));
+        DecodingTable mapped = DecodingTable.load(alpha, 1L << 16, 1 << 10, file);
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 10; i++) {
+            long x = random.nextInt(1 << 16);
+            PrimeFieldElement beta = alpha.pow(BigInteger.valueOf(x));
+            assertEquals(BigInteger.valueOf(x), built.algorithm(beta).orElseThrow());
+            assertEquals(BigInteger.valueOf(x), mapped.algorithm(beta).orElseThrow());
+        }
+        assertTrue(mapped.algorithm(alpha.pow(BigInteger.valueOf(1L << 16))).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> DecodingTable.load(alpha, 1L << 16, 1 << 9, file));
+    }
+}
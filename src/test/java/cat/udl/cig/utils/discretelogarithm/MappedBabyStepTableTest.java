@@ -0,0 +1,130 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedBabyStepTableTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCreateAndOpen() throws IOException {
+        Path file = directory.resolve("table.bsgs");
+        byte[] key = new byte[MappedBabyStepTable.KEY_BYTES];
+        key[0] = 1;
+        MappedBabyStepTable table = MappedBabyStepTable.create(file, key, 1000);
+        for (int i = 0; i < 1000; i++) {
+            table.put(i * 0x9e3779b97f4a7c15L, i);
+        }
+        table.put(0L, 1000);
+        table.finish();
+
+        MappedBabyStepTable mapped = MappedBabyStepTable.open(file, key);
+        assertFalse(mapped.isWritable());
+        assertEquals(1001, mapped.size());
+        assertEquals(2048, mapped.capacity());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, mapped.find(i * 0x9e3779b97f4a7c15L, index -> true));
+        }
+        assertEquals(1000, mapped.find(0L, index -> index > 0));
+        assertEquals(-1, mapped.find(0x123456789L, index -> true));
+        assertThrows(IllegalStateException.class, () -> mapped.put(7L, 7));
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedBabyStepTable.open(file, new byte[MappedBabyStepTable.KEY_BYTES]));
+    }
+
+    @Test
+    void testNotATable() throws IOException {
+        Path file = Files.write(directory.resolve("other.bin"), new byte[100]);
+        assertThrows(IOException.class,
+                () -> MappedBabyStepTable.open(file, new byte[MappedBabyStepTable.KEY_BYTES]));
+    }
+
+    @Test
+    void testBabySteps() throws IOException {
+        PrimeField field = new PrimeField(BigInteger.valueOf(2213));
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(2));
+        Path file = directory.resolve("babysteps.bsgs");
+        MappedBabyStepTable table = MappedBabyStepTable.babySteps(alpha, 50, file);
+        assertEquals(50, table.size());
+        for (int j = 0; j < 50; j++) {
+            final PrimeFieldElement step = alpha.pow(BigInteger.valueOf(j));
+            assertEquals(j, table.find(BabyStepTable.fingerprint(step),
+                    index -> alpha.pow(BigInteger.valueOf(index)).equals(step)));
+        }
+        assertEquals(50, MappedBabyStepTable.babySteps(alpha, 50, file).size());
+        assertThrows(IllegalArgumentException.class, () -> MappedBabyStepTable.babySteps(alpha, 40, file));
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedBabyStepTable.babySteps(field.toElement(BigInteger.valueOf(3)), 50, file));
+    }
+
+    private static void write(final Path file, final long position, final ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes.flip(), position);
+        }
+    }
+
+    @Test
+    void testCorruptedTable() throws IOException {
+        Path file = directory.resolve("corrupted.bsgs");
+        byte[] key = new byte[MappedBabyStepTable.KEY_BYTES];
+        MappedBabyStepTable table = MappedBabyStepTable.create(file, key, 1);
+        table.put(7L, 0);
+        table.finish();
+        assertEquals(2, table.capacity());
+        // every slot is written, but the header still says one entry
+        for (int slot = 0; slot < 2; slot++) {
+            write(file, 64 + 12 * slot, ByteBuffer.allocate(12).putLong(slot).putInt(slot + 1));
+        }
+        MappedBabyStepTable full = MappedBabyStepTable.open(file, key);
+        assertEquals(-1, assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> full.find(0x123456789L, index -> true)));
+        // the header says that every slot is written
+        write(file, 12, ByteBuffer.allocate(Integer.BYTES).putInt(2));
+        assertThrows(IOException.class, () -> MappedBabyStepTable.open(file, key));
+        write(file, 12, ByteBuffer.allocate(Integer.BYTES).putInt(-1));
+        assertThrows(IOException.class, () -> MappedBabyStepTable.open(file, key));
+    }
+
+    @Test
+    void testOtherVersion() throws IOException {
+        Path file = directory.resolve("version.bsgs");
+        byte[] key = new byte[MappedBabyStepTable.KEY_BYTES];
+        MappedBabyStepTable.create(file, key, 10).finish();
+        write(file, 8, ByteBuffer.allocate(Integer.BYTES).putInt(1));
+        IOException exception = assertThrows(IOException.class, () -> MappedBabyStepTable.open(file, key));
+        assertTrue(exception.getMessage().contains("version 1"));
+    }
+
+    @Test
+    void testElementsWithoutEncoding() {
+        PrimeField field = new PrimeField(BigInteger.valueOf(2213));
+        PrimeFieldElement alpha = new PrimeFieldElement(field, BigInteger.TWO) {
+            @Override
+            public byte[] toBytes() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Path file = directory.resolve("unencoded.bsgs");
+        assertThrows(IllegalArgumentException.class, () -> MappedBabyStepTable.babySteps(alpha, 50, file));
+        assertFalse(Files.exists(file));
+    }
+}
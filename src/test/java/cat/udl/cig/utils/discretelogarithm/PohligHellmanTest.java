@@ -0,0 +1,60 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PohligHellmanTest extends LogarithmAlgorithmTest {
+
+    @Override
+    protected ArrayList<LogarithmAlgorithm> returnAlgorithm() {
+        ArrayList<LogarithmAlgorithm> algorithms = new ArrayList<>();
+        algorithms.add(new PohligHellman(returnGenerator().get(0), BigInteger.valueOf(100)));
+        algorithms.add(new PohligHellman(returnGenerator().get(1), BigInteger.valueOf(1093)));
+        return algorithms;
+    }
+
+    @Test
+    void testSmoothOrder() {
+        // 2^61 - 2 = 2 * 3^2 * 5^2 * 7 * 11 * 13 * 31 * 41 * 61 * 151 * 331 * 1321
+        BigInteger p = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE);
+        PrimeField field = new PrimeField(p);
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(37));
+        BigInteger order = PohligHellman.orderFromMultiple(alpha, p.subtract(BigInteger.ONE));
+        assertTrue(alpha.pow(order).equals(field.getMultiplicativeIdentity()));
+        PohligHellman algorithm = new PohligHellman(alpha, order, PollardsRho::new);
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < 10; i++) {
+            BigInteger x = new BigInteger(order.bitLength(), random).mod(order);
+            Optional<BigInteger> actual = algorithm.algorithm(alpha.pow(x));
+            assertTrue(actual.isPresent(), "Power not found");
+            assertEquals(x, actual.get());
+        }
+    }
+
+    @Test
+    void testOrderFromMultiple() {
+        PrimeFieldElement alpha = (PrimeFieldElement) returnGenerator().get(0);
+        assertEquals(BigInteger.valueOf(100), PohligHellman.orderFromMultiple(alpha, BigInteger.valueOf(100)));
+        assertEquals(BigInteger.valueOf(25),
+                PohligHellman.orderFromMultiple(alpha.pow(BigInteger.valueOf(4)), BigInteger.valueOf(100)));
+        assertEquals(BigInteger.valueOf(1093),
+                PohligHellman.orderFromMultiple(returnGenerator().get(1), BigInteger.valueOf(2186)));
+    }
+
+    @Test
+    void testNotInSubgroup() {
+        PrimeFieldElement alpha = (PrimeFieldElement) returnGenerator().get(0);
+        PohligHellman algorithm = new PohligHellman(alpha.pow(BigInteger.TWO), BigInteger.valueOf(50));
+        assertTrue(algorithm.algorithm(alpha).isEmpty());
+        assertEquals(Optional.of(BigInteger.valueOf(3)), algorithm.algorithm(alpha.pow(BigInteger.valueOf(6))));
+    }
+}
@@ -0,0 +1,59 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PollardsKangarooTest extends LogarithmAlgorithmTest {
+
+    @Override
+    protected ArrayList<LogarithmAlgorithm> returnAlgorithm() {
+        ArrayList<LogarithmAlgorithm> algorithms = new ArrayList<>();
+        algorithms.add(new PollardsKangaroo(returnGenerator().get(0), BigInteger.ZERO,
+                BigInteger.valueOf(100), BigInteger.valueOf(100)));
+        algorithms.add(new PollardsKangaroo(returnGenerator().get(1), BigInteger.ZERO,
+                BigInteger.valueOf(1093), BigInteger.valueOf(1093)));
+        return algorithms;
+    }
+
+    @Test
+    void testInterval() {
+        PrimeField field = new PrimeField(BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE));
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(37));
+        BigInteger lower = BigInteger.ONE.shiftLeft(40);
+        BigInteger upper = lower.add(BigInteger.ONE.shiftLeft(28));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PollardsKangaroo kangaroo = new PollardsKangaroo(alpha, lower, upper, pool);
+            BigInteger x = lower.add(new BigInteger(28, new SecureRandom()));
+            Optional<BigInteger> actual = kangaroo.algorithm(alpha.pow(x));
+            assertTrue(actual.isPresent(), "Power not found");
+            assertEquals(x, actual.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testOutOfInterval() {
+        PrimeFieldElement alpha = (PrimeFieldElement) returnGenerator().get(0);
+        PollardsKangaroo kangaroo = new PollardsKangaroo(alpha, BigInteger.valueOf(10), BigInteger.valueOf(20));
+        assertTrue(kangaroo.algorithm(alpha.pow(BigInteger.valueOf(50))).isEmpty());
+    }
+
+    @Test
+    void testEmptyInterval() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PollardsKangaroo(returnGenerator().get(0), BigInteger.TEN, BigInteger.TEN));
+    }
+}
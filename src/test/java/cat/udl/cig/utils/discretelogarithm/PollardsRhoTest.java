@@ -0,0 +1,59 @@
+package cat.udl.cig.utils.discretelogarithm;
+
+import cat.udl.cig.structures.PrimeField;
+import cat.udl.cig.structures.PrimeFieldElement;
+import cat.udl.cig.structures.ecc.EllipticCurvePoint;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PollardsRhoTest extends LogarithmAlgorithmTest {
+
+    @Override
+    protected ArrayList<LogarithmAlgorithm> returnAlgorithm() {
+        ArrayList<LogarithmAlgorithm> algorithms = new ArrayList<>();
+        algorithms.add(new PollardsRho(returnGenerator().get(0)));
+        algorithms.add(new PollardsRho(returnGenerator().get(1), BigInteger.valueOf(1093)));
+        return algorithms;
+    }
+
+    @Test
+    void testPrimeOrderSubgroup() {
+        // p = k * q + 1, where q is a 32-bit prime
+        BigInteger q = BigInteger.ONE.shiftLeft(31).nextProbablePrime();
+        BigInteger k = BigInteger.TWO;
+        while (!k.multiply(q).add(BigInteger.ONE).isProbablePrime(50)) {
+            k = k.add(BigInteger.TWO);
+        }
+        PrimeField field = new PrimeField(k.multiply(q).add(BigInteger.ONE));
+        PrimeFieldElement alpha = field.toElement(BigInteger.valueOf(3)).pow(k);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PollardsRho rho = new PollardsRho(alpha, q, pool);
+            BigInteger x = new BigInteger(31, new SecureRandom());
+            Optional<BigInteger> actual = rho.algorithm(alpha.pow(x));
+            assertTrue(actual.isPresent(), "Power not found");
+            assertEquals(x, actual.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSeveralWalksOverCurve() {
+        EllipticCurvePoint alpha = (EllipticCurvePoint) returnGenerator().get(1);
+        PollardsRho rho = new PollardsRho(alpha, BigInteger.valueOf(1093), ForkJoinPool.commonPool(), 8);
+        for (int i = 0; i < 1093; i += 97) {
+            Optional<BigInteger> actual = rho.algorithm(alpha.pow(BigInteger.valueOf(i)));
+            assertTrue(actual.isPresent(), "Power not found");
+            assertEquals(BigInteger.valueOf(i), actual.get());
+        }
+    }
+}
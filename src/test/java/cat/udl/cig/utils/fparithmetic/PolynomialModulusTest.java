@@ -0,0 +1,70 @@
+package cat.udl.cig.utils.fparithmetic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialModulusTest {
+
+    private final Random random = new Random(11L);
+
+    @ParameterizedTest
+    @CsvSource({"1000003,3", "1000003,40", "1000003,300",
+            "340282366920938463463374607431768211507,50"})
+    void remainderMatchesLongDivision(String pStr, int degree) {
+        BigInteger p = new BigInteger(pStr);
+        BigInteger[] f = randomPolynomial(degree + 1, p);
+        PolynomialModulus modulus = new PolynomialModulus(f, p);
+        BigInteger[] u = PolynomialMultiplication.multiply(
+                randomPolynomial(degree, p), randomPolynomial(degree, p), p);
+        assertArrayEquals(PolynomialModulus.divide(u, f, p)[1], modulus.remainder(u));
+    }
+
+    @Test
+    void divideRecoversDividend() {
+        BigInteger p = BigInteger.valueOf(101L);
+        BigInteger[] u = randomPolynomial(20, p);
+        BigInteger[] v = randomPolynomial(7, p);
+        BigInteger[][] qr = PolynomialModulus.divide(u, v, p);
+        BigInteger[] product = PolynomialMultiplication.multiply(qr[0], v, p);
+        BigInteger[] result = new BigInteger[u.length];
+        for (int i = 0; i < u.length; i++) {
+            BigInteger a = i < product.length ? product[i] : BigInteger.ZERO;
+            BigInteger b = i < qr[1].length ? qr[1][i] : BigInteger.ZERO;
+            result[i] = a.add(b).mod(p);
+        }
+        assertArrayEquals(u, result);
+    }
+
+    @Test
+    void powFollowsFermat() {
+        // x = -5 modulo x + 5, and (-5)^p = -5
+        BigInteger p = BigInteger.valueOf(1000003L);
+        BigInteger[] x = {BigInteger.ZERO, BigInteger.ONE};
+        PolynomialModulus linear = new PolynomialModulus(new BigInteger[]{BigInteger.valueOf(5L), BigInteger.ONE}, p);
+        assertArrayEquals(new BigInteger[]{p.subtract(BigInteger.valueOf(5L))}, linear.pow(x, p));
+        PolynomialModulus big = new PolynomialModulus(randomPolynomial(60, p), p);
+        BigInteger[] xp = big.pow(x, p);
+        assertArrayEquals(big.pow(xp, BigInteger.TWO), big.pow(x, p.shiftLeft(1)));
+    }
+
+    @Test
+    void constantModulus() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PolynomialModulus(new BigInteger[]{BigInteger.ONE}, BigInteger.valueOf(7L)));
+    }
+
+    private BigInteger[] randomPolynomial(int length, BigInteger p) {
+        BigInteger[] result = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = new BigInteger(p.bitLength() + 8, random).mod(p);
+        }
+        result[length - 1] = BigInteger.ONE;
+        return result;
+    }
+}
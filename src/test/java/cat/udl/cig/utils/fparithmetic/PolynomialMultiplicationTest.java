@@ -0,0 +1,52 @@
+package cat.udl.cig.utils.fparithmetic;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PolynomialMultiplicationTest {
+
+    private final Random random = new Random(7L);
+
+    @ParameterizedTest
+    @CsvSource({"11,5,7", "1000003,40,33", "2147483647,300,290", "998244353,260,300",
+            "340282366920938463463374607431768211507,5,9",
+            "340282366920938463463374607431768211507,45,60",
+            "340282366920938463463374607431768211507,270,300"})
+    void multiplyMatchesSchoolbook(String pStr, int n, int m) {
+        BigInteger p = new BigInteger(pStr);
+        BigInteger[] u = randomPolynomial(n, p);
+        BigInteger[] v = randomPolynomial(m, p);
+        BigInteger[] expected = PolynomialMultiplication.schoolbook(u, v);
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = expected[i].mod(p);
+        }
+        assertArrayEquals(PolynomialMultiplication.trim(expected), PolynomialMultiplication.multiply(u, v, p));
+    }
+
+    @Test
+    void multiplyByZero() {
+        BigInteger p = BigInteger.valueOf(13L);
+        assertEquals(0, PolynomialMultiplication.multiply(randomPolynomial(10, p), new BigInteger[0], p).length);
+    }
+
+    @Test
+    void wideCharacteristicOnLongs() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PolynomialMultiplication.multiply(new long[]{1L}, new long[]{1L}, 1L << 31));
+    }
+
+    private BigInteger[] randomPolynomial(int length, BigInteger p) {
+        BigInteger[] result = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = new BigInteger(p.bitLength() + 8, random).mod(p);
+        }
+        result[length - 1] = BigInteger.ONE;
+        return result;
+    }
+}